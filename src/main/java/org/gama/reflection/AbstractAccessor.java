@@ -1,6 +1,7 @@
 package org.gama.reflection;
 
 import java.lang.reflect.InvocationTargetException;
+import java.util.List;
 
 /**
  * @author Guillaume Mary
@@ -18,6 +19,28 @@ public abstract class AbstractAccessor<C, T> extends AbstractReflector<C> implem
 		}
 	}
 	
+	/**
+	 * Implementation that handles exceptions once for the whole batch
+	 * 
+	 * @param beans the beans to be read
+	 * @param out array receiving values, must be at least as long as beans
+	 */
+	@Override
+	public void getAll(List<? extends C> beans, Object[] out) {
+		checkBulkSize(beans.size(), out.length);
+		int index = 0;
+		C current = null;
+		try {
+			for (C c : beans) {
+				current = c;
+				out[index] = doGet(c);
+				index++;
+			}
+		} catch (Throwable t) {
+			handleBulkException(t, index, current);
+		}
+	}
+	
 	protected abstract T doGet(C c) throws IllegalAccessException, InvocationTargetException;
 	
 	@Override
@@ -1,6 +1,7 @@
 package org.gama.reflection;
 
 import java.lang.reflect.InvocationTargetException;
+import java.util.List;
 
 /**
  * @author Guillaume Mary
@@ -16,6 +17,28 @@ public abstract class AbstractMutator<C, T> extends AbstractReflector<C> impleme
 		}
 	}
 	
+	/**
+	 * Implementation that handles exceptions once for the whole batch
+	 * 
+	 * @param beans the beans to be modified
+	 * @param values values to be set, must be at least as long as beans
+	 */
+	@Override
+	public void setAll(List<? extends C> beans, Object[] values) {
+		checkBulkSize(beans.size(), values.length);
+		int index = 0;
+		C current = null;
+		try {
+			for (C c : beans) {
+				current = c;
+				doSet(c, (T) values[index]);
+				index++;
+			}
+		} catch (Throwable throwable) {
+			handleBulkException(throwable, index, current, values[index]);
+		}
+	}
+	
 	protected abstract void doSet(C c, T t) throws IllegalAccessException, InvocationTargetException;
 	
 	@Override
@@ -1,5 +1,11 @@
 package org.gama.reflection;
 
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.util.function.Supplier;
+
 import org.gama.lang.Reflections;
 
 /**
@@ -7,21 +13,145 @@ import org.gama.lang.Reflections;
  */
 public abstract class AbstractReflector<C> {
 	
-	private final ExceptionConverter exceptionConverter;
+	/** Number of changes of the state of this instance taken into account by its hashCode(), see {@link #modificationCount()} */
+	private volatile int modificationCount;
+	
+	/**
+	 * Gives a number that changes each time this instance changes its state taken into account by its hashCode() (index, parameter, chained
+	 * accessors, ...). Composite instances, such as {@link AccessorChain}, can then cache their hash code as long as the ones of their
+	 * components don't change.
+	 * 
+	 * @return current modification count of this instance
+	 */
+	int modificationCount() {
+		return modificationCount;
+	}
 	
-	protected AbstractReflector() {
-		this.exceptionConverter = new ExceptionConverter();
+	/**
+	 * Must be called by this instance when its state taken into account by its hashCode() changes, so that composite ones containing it
+	 * recompute their hash code
+	 */
+	void structureChanged() {
+		// NB: increment is not atomic, but concurrent changes of a same instance make count change anyway, which is all that matters
+		modificationCount++;
 	}
 	
+	/** Definition of this instance, computed on first demand by {@link AccessorDefinition#giveDefinition(ValueAccessPoint)} */
+	private volatile AccessorDefinition accessorDefinition;
+	
 	protected void handleException(Throwable t, C target, Object... args) {
-		RuntimeException convertedException = exceptionConverter.convertException(t, target, this, args);
+		throw buildException(t, target, "", args);
+	}
+	
+	/**
+	 * Same as {@link #handleException(Throwable, Object, Object...)} for bulk operations : message contains the index of the culprit element
+	 * 
+	 * @param t the exception thrown while applying this instance on target
+	 * @param index index of target in the bulk operation
+	 * @param target the culprit element
+	 * @param args optional arguments, such as value given to a mutator
+	 */
+	protected void handleBulkException(Throwable t, int index, C target, Object... args) {
+		throw buildException(t, target, " at index " + index, args);
+	}
+	
+	/**
+	 * Same as {@link #handleBulkException(Throwable, int, Object, Object...)} for composite instances that apply their components without
+	 * their exception handling, so that exceptions are wrapped only once : given exception is converted against the failing component, as
+	 * the latter would have done.
+	 * 
+	 * @param t the exception thrown by culprit
+	 * @param index index of target in the bulk operation
+	 * @param target the culprit element
+	 * @param value value given to this instance for target, may be null
+	 * @param culprit the failing component of this instance
+	 * @param culpritTarget instance on which culprit was applied
+	 * @param culpritArgs arguments given to culprit member
+	 */
+	<X> void handleBulkException(Throwable t, int index, C target, Object value,
+								 AbstractReflector<X> culprit, X culpritTarget, Object... culpritArgs) {
+		throw buildException(t, () -> buildMessage(target, " at index " + index, value), culprit, culpritTarget, culpritArgs);
+	}
+	
+	private RuntimeException buildException(Throwable t, C target, String location, Object... args) {
+		return buildException(t, () -> buildMessage(target, location, args), this, target, args);
+	}
+	
+	/**
+	 * Wraps given exception into one which message is only built on demand, since callers may catch it without reading it.
+	 * In {@link Accessors#isFastFail() fast-fail mode}, given exception is not converted (but unwrapped from {@link InvocationTargetException}
+	 * as in normal mode, so that callers always get the exception thrown by the member) and no stack trace is filled.
+	 */
+	private static <X> RuntimeException buildException(Throwable t, Supplier<String> messageBuilder,
+													   AbstractReflector<X> reflector, X target, Object... args) {
+		if (Accessors.isFastFail()) {
+			return new ReflectorException(messageBuilder, t instanceof InvocationTargetException ? t.getCause() : t, false);
+		} else {
+			return new ReflectorException(messageBuilder, ExceptionConverter.INSTANCE.convertException(t, target, reflector, args), true);
+		}
+	}
+	
+	private String buildMessage(C target, String location, Object... args) {
 		String message = "Error while applying " + getDescription()
-				+ " on instance " + (target == null ? "null" : ("of " + Reflections.toString(target.getClass())));
+				+ " on instance " + (target == null ? "null" : ("of " + Reflections.toString(target.getClass()))) + location;
 		if (args != null && args.length > 0) {
 			message = message.concat(" with value " + args[0]);
 		}
-		throw new RuntimeException(message, convertedException);
+		return message;
+	}
+	
+	/**
+	 * Checks that an array given to a bulk operation can contain as many values as beans
+	 * 
+	 * @param beanCount number of beans of the bulk operation
+	 * @param arrayLength length of the values array
+	 * @throws IllegalArgumentException if array is shorter than bean count
+	 */
+	static void checkBulkSize(int beanCount, int arrayLength) {
+		if (arrayLength < beanCount) {
+			throw new IllegalArgumentException("Array of length " + arrayLength + " can't match " + beanCount + " beans");
+		}
 	}
 	
 	protected abstract String getDescription();
+	
+	@Nullable
+	AccessorDefinition getAccessorDefinition() {
+		return accessorDefinition;
+	}
+	
+	void setAccessorDefinition(AccessorDefinition accessorDefinition) {
+		this.accessorDefinition = accessorDefinition;
+	}
+	
+	/**
+	 * Exception thrown by reflectors : its message is computed on first demand
+	 */
+	static class ReflectorException extends RuntimeException {
+		
+		private transient Supplier<String> messageBuilder;
+		
+		private String message;
+		
+		ReflectorException(Supplier<String> messageBuilder, Throwable cause, boolean writableStackTrace) {
+			super(null, cause, true, writableStackTrace);
+			this.messageBuilder = messageBuilder;
+		}
+		
+		@Override
+		public synchronized String getMessage() {
+			if (messageBuilder != null) {
+				message = messageBuilder.get();
+				// releasing target and arguments
+				messageBuilder = null;
+			}
+			return message;
+		}
+		
+		private void writeObject(ObjectOutputStream out) throws IOException {
+			// message must be computed since its builder is not serialized
+			getMessage();
+			out.defaultWriteObject();
+		}
+	}
 }
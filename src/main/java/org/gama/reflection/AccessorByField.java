@@ -1,20 +1,94 @@
 package org.gama.reflection;
 
+import javax.annotation.Nullable;
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Field;
+import java.util.List;
+import java.util.function.Function;
 
 import org.gama.lang.Reflections;
+import org.gama.lang.exception.Exceptions;
 
 /**
  * @author Guillaume Mary
  */
 public class AccessorByField<C, T> extends AbstractAccessor<C, T>
-		implements AccessorByMember<C, T, Field>, IReversibleAccessor<C, T>, ValueAccessPointByField {
+		implements AccessorByMember<C, T, Field>, IReversibleAccessor<C, T>, ValueAccessPointByField,
+		IntAccessor<C>, LongAccessor<C>, DoubleAccessor<C> {
 	
 	private final Field field;
 	
+	/** {@link MethodHandle} equivalent of {@link Field#get(Object)}, null if reflection is enforced or if handle couldn't be resolved */
+	private final MethodHandle getterHandle;
+	
+	/**
+	 * Generated equivalent of {@link Field#get(Object)}, at runtime ({@link MemberAccessMode#GENERATED} mode) or at compile time
+	 * ({@code GenerateAccessorsProcessor}), null in other cases or if generation failed
+	 */
+	private final Function<Object, Object> generatedGetter;
+	
+	/**
+	 * Reader of an int without boxing, relying on {@link #generatedGetter} if available, null if field type is not a primitive type that can
+	 * be widened to int, or if reflection is enforced
+	 */
+	private final MethodHandle intGetter;
+	
+	/** Same as {@link #intGetter} for long */
+	private final MethodHandle longGetter;
+	
+	/** Same as {@link #intGetter} for double */
+	private final MethodHandle doubleGetter;
+	
+	/** True once {@link #field} has been made accessible for reflection, which is only needed by erroneous cases and fallbacks */
+	private boolean accessible = false;
+	
 	public AccessorByField(Field field) {
+		this(field, Accessors.getDefaultMemberAccessMode());
+	}
+	
+	/**
+	 * Constructor with a chosen way of accessing the field, mainly for comparison purpose
+	 * 
+	 * @param field the field to be read
+	 * @param accessMode {@link MemberAccessMode#REFLECTION} to enforce {@link Field#get(Object)} usage
+	 */
+	public AccessorByField(Field field, MemberAccessMode accessMode) {
 		this.field = field;
 		Reflections.ensureAccessible(field);
+		this.generatedGetter = accessMode == MemberAccessMode.GENERATED ? AccessorClassGenerator.generateGetter(field) : null;
+		this.getterHandle = accessMode != MemberAccessMode.REFLECTION && generatedGetter == null ? MemberHandles.findGetter(field) : null;
+		boolean useHandles = accessMode != MemberAccessMode.REFLECTION;
+		this.intGetter = useHandles ? findGetter(field, generatedGetter, int.class) : null;
+		this.longGetter = useHandles ? findGetter(field, generatedGetter, long.class) : null;
+		this.doubleGetter = useHandles ? findGetter(field, generatedGetter, double.class) : null;
+	}
+	
+	/**
+	 * Constructor for an already compiled field reader, mainly dedicated to classes generated by {@code GenerateAccessorsProcessor}.
+	 * Given {@link Function} is used whatever {@link MemberAccessMode} is, and field is made accessible only if reflection is needed
+	 * (erroneous calls).
+	 * 
+	 * @param field the field to be read
+	 * @param compiledGetter a {@link Function} reading the field of its argument
+	 */
+	public AccessorByField(Field field, Function<? super C, ? extends T> compiledGetter) {
+		this.field = field;
+		this.generatedGetter = (Function<Object, Object>) (Function) compiledGetter;
+		this.getterHandle = null;
+		this.intGetter = findGetter(field, generatedGetter, int.class);
+		this.longGetter = findGetter(field, generatedGetter, long.class);
+		this.doubleGetter = findGetter(field, generatedGetter, double.class);
+	}
+	
+	/**
+	 * Gives a primitive reader of given field, made of given generated reader if any (which avoids to make field accessible), else of a
+	 * {@link MethodHandle} on the field
+	 */
+	@Nullable
+	private static MethodHandle findGetter(Field field, @Nullable Function<Object, Object> generatedGetter, Class<?> primitiveType) {
+		return generatedGetter != null
+				? MemberHandles.findGetter(generatedGetter, field.getType(), primitiveType)
+				: MemberHandles.findGetter(field, primitiveType);
 	}
 	
 	@Override
@@ -34,7 +108,198 @@ public class AccessorByField<C, T> extends AbstractAccessor<C, T>
 	
 	@Override
 	protected T doGet(C c) throws IllegalAccessException {
-		return (T) getGetter().get(c);
+		if (generatedGetter != null && MemberHandles.isCompatibleTarget(field, c)) {
+			return (T) generatedGetter.apply(c);
+		} else if (getterHandle != null && MemberHandles.isCompatibleTarget(field, c)) {
+			return (T) MemberHandles.invokeGetter(getterHandle, c);
+		} else {
+			// reflection is also used for erroneous cases because its exceptions are well known by ExceptionConverter
+			return (T) getAccessibleField().get(c);
+		}
+	}
+	
+	/**
+	 * Reads an int field, or a field which type can be widened to int, without boxing
+	 * 
+	 * @param c the target of the field
+	 * @return field value
+	 */
+	@Override
+	public int getInt(C c) {
+		try {
+			return doGetInt(c);
+		} catch (Throwable t) {
+			handleException(t, c);
+			// shouldn't happen
+			return 0;
+		}
+	}
+	
+	/**
+	 * Bulk version of {@link #getInt(Object)} that handles exceptions once for the whole batch
+	 * 
+	 * @param beans the beans to be read
+	 * @param out array receiving values, must be at least as long as beans
+	 */
+	@Override
+	public void getAllInt(List<? extends C> beans, int[] out) {
+		checkBulkSize(beans.size(), out.length);
+		int index = 0;
+		C current = null;
+		try {
+			for (C c : beans) {
+				current = c;
+				out[index] = doGetInt(c);
+				index++;
+			}
+		} catch (Throwable t) {
+			handleBulkException(t, index, current);
+		}
+	}
+	
+	private int doGetInt(C c) throws IllegalAccessException {
+		if (intGetter != null && MemberHandles.isCompatibleTarget(field, c)) {
+			try {
+				return (int) intGetter.invokeExact((Object) c);
+			} catch (Throwable t) {
+				throw Exceptions.asRuntimeException(t);
+			}
+		} else {
+			// reflection is also used for erroneous cases and non primitive fields because its exceptions are well known by ExceptionConverter
+			// NB: Field.getInt(..) doesn't box values, contrary to Field.get(..)
+			return getAccessibleField().getInt(c);
+		}
+	}
+	
+	/**
+	 * Reads a long field, or a field which type can be widened to long, without boxing
+	 *
+	 * @param c the target of the field
+	 * @return field value
+	 */
+	@Override
+	public long getLong(C c) {
+		try {
+			return doGetLong(c);
+		} catch (Throwable t) {
+			handleException(t, c);
+			// shouldn't happen
+			return 0;
+		}
+	}
+	
+	/**
+	 * Bulk version of {@link #getLong(Object)} that handles exceptions once for the whole batch
+	 * 
+	 * @param beans the beans to be read
+	 * @param out array receiving values, must be at least as long as beans
+	 */
+	@Override
+	public void getAllLong(List<? extends C> beans, long[] out) {
+		checkBulkSize(beans.size(), out.length);
+		int index = 0;
+		C current = null;
+		try {
+			for (C c : beans) {
+				current = c;
+				out[index] = doGetLong(c);
+				index++;
+			}
+		} catch (Throwable t) {
+			handleBulkException(t, index, current);
+		}
+	}
+	
+	private long doGetLong(C c) throws IllegalAccessException {
+		if (longGetter != null && MemberHandles.isCompatibleTarget(field, c)) {
+			try {
+				return (long) longGetter.invokeExact((Object) c);
+			} catch (Throwable t) {
+				throw Exceptions.asRuntimeException(t);
+			}
+		} else {
+			// reflection is also used for erroneous cases and non primitive fields because its exceptions are well known by ExceptionConverter
+			return getAccessibleField().getLong(c);
+		}
+	}
+	
+	/**
+	 * Reads a double field, or a field which type can be widened to double, without boxing
+	 *
+	 * @param c the target of the field
+	 * @return field value
+	 */
+	@Override
+	public double getDouble(C c) {
+		try {
+			return doGetDouble(c);
+		} catch (Throwable t) {
+			handleException(t, c);
+			// shouldn't happen
+			return 0;
+		}
+	}
+	
+	/**
+	 * Bulk version of {@link #getDouble(Object)} that handles exceptions once for the whole batch
+	 * 
+	 * @param beans the beans to be read
+	 * @param out array receiving values, must be at least as long as beans
+	 */
+	@Override
+	public void getAllDouble(List<? extends C> beans, double[] out) {
+		checkBulkSize(beans.size(), out.length);
+		int index = 0;
+		C current = null;
+		try {
+			for (C c : beans) {
+				current = c;
+				out[index] = doGetDouble(c);
+				index++;
+			}
+		} catch (Throwable t) {
+			handleBulkException(t, index, current);
+		}
+	}
+	
+	private double doGetDouble(C c) throws IllegalAccessException {
+		if (doubleGetter != null && MemberHandles.isCompatibleTarget(field, c)) {
+			try {
+				return (double) doubleGetter.invokeExact((Object) c);
+			} catch (Throwable t) {
+				throw Exceptions.asRuntimeException(t);
+			}
+		} else {
+			// reflection is also used for erroneous cases and non primitive fields because its exceptions are well known by ExceptionConverter
+			return getAccessibleField().getDouble(c);
+		}
+	}
+	
+	/**
+	 * Gives the fastest available reader of the field, without any check nor exception handling, for {@link FlattenedAccessorChain}.
+	 * Given {@link Function} expects an instance of field declaring class (any object for static fields).
+	 * 
+	 * @return null if reflection is enforced
+	 */
+	@Nullable
+	Function<Object, Object> giveCompiledGetter() {
+		if (generatedGetter != null) {
+			return generatedGetter;
+		} else if (getterHandle != null) {
+			MethodHandle handle = getterHandle;
+			return target -> MemberHandles.invokeGetter(handle, target);
+		} else {
+			return null;
+		}
+	}
+	
+	private Field getAccessibleField() {
+		if (!accessible) {
+			// field may have been given with an already compiled reader
+			Reflections.ensureAccessible(field);
+			accessible = true;
+		}
+		return field;
 	}
 	
 	@Override
@@ -49,10 +314,9 @@ public class AccessorByField<C, T> extends AbstractAccessor<C, T>
 	
 	@Override
 	public boolean equals(Object other) {
-		// we base our implementation on the getter String because a setAccessible() call on the member changes its internal state
-		// and I don't think it sould be taken into account for comparison
+		// NB: Field.equals() doesn't take setAccessible() state into account, and contrary to comparing toString() it doesn't allocate anything
 		return this == other
-				|| (other instanceof AccessorByField && getGetter().toString().equals(((AccessorByField) other).getGetter().toString()));
+				|| (other instanceof AccessorByField && getGetter().equals(((AccessorByField) other).getGetter()));
 	}
 	
 	@Override
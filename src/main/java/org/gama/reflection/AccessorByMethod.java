@@ -2,10 +2,14 @@ package org.gama.reflection;
 
 import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Member;
 import java.lang.reflect.Method;
 import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
 
 import org.gama.lang.Reflections;
 import org.gama.lang.Reflections.MemberNotFoundException;
@@ -14,20 +18,77 @@ import org.gama.lang.Reflections.MemberNotFoundException;
  * @author Guillaume Mary
  */
 public class AccessorByMethod<C, T> extends AbstractAccessor<C, T>
-		implements AccessorByMember<C, T, Method>, IReversibleAccessor<C, T>, ValueAccessPointByMethod {
+		implements AccessorByMember<C, T, Method>, IReversibleAccessor<C, T>, ValueAccessPointByMethod,
+		IntAccessor<C>, LongAccessor<C>, DoubleAccessor<C> {
+	
+	private static final Object[] NO_ARGUMENT = new Object[0];
 	
 	private final Method getter;
 	
 	private final Object[] methodParameters;
 	
+	/** Getter compiled as a {@link Function}, null if reflection is enforced or if getter couldn't be compiled (non public, with arguments) */
+	private final Function<Object, Object> compiledGetter;
+	
+	/** Getter returning an int without boxing, null if getter doesn't return a primitive type that can be widened to int, or if reflection is enforced */
+	private final MethodHandle intGetter;
+	
+	/** Same as {@link #intGetter} for long */
+	private final MethodHandle longGetter;
+	
+	/** Same as {@link #intGetter} for double */
+	private final MethodHandle doubleGetter;
+	
+	/** True once {@link #getter} has been made accessible for reflection, which is only needed by erroneous cases and fallbacks */
+	private boolean accessible = false;
+	
+	/** True if this instance is shared between callers (canonical instance), in which case its parameters can't be modified */
+	private boolean shared = false;
+	
 	public AccessorByMethod(Method getter) {
 		this(getter, new Object[getter.getParameterTypes().length]);
 	}
 	
+	/**
+	 * Constructor with a chosen way of invoking the getter, mainly for comparison purpose
+	 *
+	 * @param getter a no-arg method
+	 * @param accessMode {@link MemberAccessMode#REFLECTION} to enforce {@link Method#invoke(Object, Object...)} usage
+	 */
+	public AccessorByMethod(Method getter, MemberAccessMode accessMode) {
+		this(getter, accessMode, new Object[getter.getParameterTypes().length]);
+	}
+	
 	public AccessorByMethod(Method getter, Object ... arguments) {
+		this(getter, Accessors.getDefaultMemberAccessMode(), arguments);
+	}
+	
+	private AccessorByMethod(Method getter, MemberAccessMode accessMode, Object[] arguments) {
 		this.getter = getter;
 		Reflections.ensureAccessible(getter);
 		this.methodParameters = arguments;
+		this.compiledGetter = MemberHandles.compileGetter(getter, accessMode);
+		boolean useHandles = accessMode != MemberAccessMode.REFLECTION;
+		this.intGetter = useHandles ? MemberHandles.findGetter(getter, int.class) : null;
+		this.longGetter = useHandles ? MemberHandles.findGetter(getter, long.class) : null;
+		this.doubleGetter = useHandles ? MemberHandles.findGetter(getter, double.class) : null;
+	}
+	
+	/**
+	 * Constructor for an already compiled getter, mainly dedicated to classes generated by {@code GenerateAccessorsProcessor}.
+	 * Given {@link Function} is used whatever {@link MemberAccessMode} is, and getter is made accessible only if reflection is needed
+	 * (erroneous calls).
+	 * 
+	 * @param getter a no-arg method
+	 * @param compiledGetter a {@link Function} invoking the getter on its argument
+	 */
+	public AccessorByMethod(Method getter, Function<? super C, ? extends T> compiledGetter) {
+		this.getter = getter;
+		this.methodParameters = NO_ARGUMENT;
+		this.compiledGetter = (Function<Object, Object>) (Function) compiledGetter;
+		this.intGetter = MemberHandles.findGetter(getter, int.class);
+		this.longGetter = MemberHandles.findGetter(getter, long.class);
+		this.doubleGetter = MemberHandles.findGetter(getter, double.class);
 	}
 	
 	/**
@@ -92,9 +153,15 @@ public class AccessorByMethod<C, T> extends AbstractAccessor<C, T>
 	 * @param index the parameter index to be set
 	 * @param value value of the parameter
 	 * @return this
+	 * @throws UnsupportedOperationException if this instance is shared, see {@link Accessors#setCanonicalInstances(boolean)}
 	 */
 	public AccessorByMethod<C, T> setParameter(int index, Object value) {
+		if (shared) {
+			throw new UnsupportedOperationException("Parameters of shared " + getGetterDescription() + " can't be modified,"
+					+ " use a dedicated instance instead");
+		}
 		this.methodParameters[index] = value;
+		structureChanged();
 		return this;
 	}
 	
@@ -106,6 +173,23 @@ public class AccessorByMethod<C, T> extends AbstractAccessor<C, T>
 		return methodParameters[index];
 	}
 	
+	/**
+	 * Marks this instance as shared between callers, which makes its parameters unmodifiable
+	 * 
+	 * @return this
+	 */
+	AccessorByMethod<C, T> share() {
+		this.shared = true;
+		return this;
+	}
+	
+	/**
+	 * @return parameters given to getter by {@link #get(Object)}, not a copy
+	 */
+	Object[] getParameters() {
+		return methodParameters;
+	}
+	
 	/**
 	 * Applies this getter on the given bean, with params.
 	 * Parameters already set with {@link #setParameter(int, Object)} or {@link #setParameters(Object...)} won't be used.
@@ -124,14 +208,259 @@ public class AccessorByMethod<C, T> extends AbstractAccessor<C, T>
 		}
 	}
 	
+	/**
+	 * Overriden to take parameters into account, as {@link #get(Object)} does
+	 * 
+	 * @param beans the beans to be read
+	 * @param out array receiving values, must be at least as long as beans
+	 */
+	@Override
+	public void getAll(List<? extends C> beans, Object[] out) {
+		checkBulkSize(beans.size(), out.length);
+		int index = 0;
+		C current = null;
+		try {
+			for (C c : beans) {
+				current = c;
+				out[index] = doGet(c, methodParameters);
+				index++;
+			}
+		} catch (ReflectiveOperationException | RuntimeException t) {
+			handleBulkException(t, index, current, methodParameters);
+		}
+	}
+	
 	@Override
 	// NB: set final to force override doGet(C, Object ...) and so to avoid mistake
 	protected final T doGet(C c) throws IllegalAccessException, InvocationTargetException {
-		return doGet(c, new Object[0]);
+		// same as get(C)
+		return doGet(c, methodParameters);
 	}
 	
 	protected T doGet(C c, Object ... args) throws IllegalAccessException, InvocationTargetException {
-		return (T) getGetter().invoke(c, args);
+		if (compiledGetter != null && (args == null || args.length == 0) && getGetter().getDeclaringClass().isInstance(c)) {
+			try {
+				return (T) compiledGetter.apply(c);
+			} catch (Throwable t) {
+				// we mimic Method.invoke(..) so exceptions are handled the same way whatever the invocation mode is
+				throw new InvocationTargetException(t);
+			}
+		} else {
+			// reflection is also used for erroneous cases because its exceptions are well known by ExceptionConverter
+			if (!accessible) {
+				// getter may have been given with an already compiled version
+				Reflections.ensureAccessible(getGetter());
+				accessible = true;
+			}
+			return (T) getGetter().invoke(c, args);
+		}
+	}
+	
+	/**
+	 * Invokes getter and gives its result as an int, without boxing if getter returns a primitive type that can be widened to int.
+	 * Other getters (returning an {@link Integer} for instance, or in {@link MemberAccessMode#REFLECTION} mode) are invoked by reflection and
+	 * their result is unboxed and widened.
+	 * 
+	 * @param c the target of the getter
+	 * @return getter result
+	 */
+	@Override
+	public int getInt(C c) {
+		try {
+			return doGetInt(c);
+		} catch (Throwable t) {
+			handleException(t, c, methodParameters);
+			// shouldn't happen
+			return 0;
+		}
+	}
+	
+	/**
+	 * Bulk version of {@link #getInt(Object)} that handles exceptions once for the whole batch
+	 * 
+	 * @param beans the beans to be read
+	 * @param out array receiving values, must be at least as long as beans
+	 */
+	@Override
+	public void getAllInt(List<? extends C> beans, int[] out) {
+		checkBulkSize(beans.size(), out.length);
+		int index = 0;
+		C current = null;
+		try {
+			for (C c : beans) {
+				current = c;
+				out[index] = doGetInt(c);
+				index++;
+			}
+		} catch (Throwable t) {
+			handleBulkException(t, index, current, methodParameters);
+		}
+	}
+	
+	private int doGetInt(C c) throws IllegalAccessException, InvocationTargetException {
+		if (intGetter != null && getGetter().getDeclaringClass().isInstance(c)) {
+			try {
+				return (int) intGetter.invokeExact((Object) c);
+			} catch (Throwable t) {
+				// we mimic Method.invoke(..) so exceptions are handled the same way whatever the invocation mode is
+				throw new InvocationTargetException(t);
+			}
+		} else {
+			return toInt(doGet(c, methodParameters));
+		}
+	}
+	
+	/**
+	 * Same as {@link #getInt(Object)} for long
+	 *
+	 * @param c the target of the getter
+	 * @return getter result
+	 */
+	@Override
+	public long getLong(C c) {
+		try {
+			return doGetLong(c);
+		} catch (Throwable t) {
+			handleException(t, c, methodParameters);
+			// shouldn't happen
+			return 0;
+		}
+	}
+	
+	/**
+	 * Bulk version of {@link #getLong(Object)} that handles exceptions once for the whole batch
+	 * 
+	 * @param beans the beans to be read
+	 * @param out array receiving values, must be at least as long as beans
+	 */
+	@Override
+	public void getAllLong(List<? extends C> beans, long[] out) {
+		checkBulkSize(beans.size(), out.length);
+		int index = 0;
+		C current = null;
+		try {
+			for (C c : beans) {
+				current = c;
+				out[index] = doGetLong(c);
+				index++;
+			}
+		} catch (Throwable t) {
+			handleBulkException(t, index, current, methodParameters);
+		}
+	}
+	
+	private long doGetLong(C c) throws IllegalAccessException, InvocationTargetException {
+		if (longGetter != null && getGetter().getDeclaringClass().isInstance(c)) {
+			try {
+				return (long) longGetter.invokeExact((Object) c);
+			} catch (Throwable t) {
+				throw new InvocationTargetException(t);
+			}
+		} else {
+			return toLong(doGet(c, methodParameters));
+		}
+	}
+	
+	/**
+	 * Same as {@link #getInt(Object)} for double
+	 *
+	 * @param c the target of the getter
+	 * @return getter result
+	 */
+	@Override
+	public double getDouble(C c) {
+		try {
+			return doGetDouble(c);
+		} catch (Throwable t) {
+			handleException(t, c, methodParameters);
+			// shouldn't happen
+			return 0;
+		}
+	}
+	
+	/**
+	 * Bulk version of {@link #getDouble(Object)} that handles exceptions once for the whole batch
+	 * 
+	 * @param beans the beans to be read
+	 * @param out array receiving values, must be at least as long as beans
+	 */
+	@Override
+	public void getAllDouble(List<? extends C> beans, double[] out) {
+		checkBulkSize(beans.size(), out.length);
+		int index = 0;
+		C current = null;
+		try {
+			for (C c : beans) {
+				current = c;
+				out[index] = doGetDouble(c);
+				index++;
+			}
+		} catch (Throwable t) {
+			handleBulkException(t, index, current, methodParameters);
+		}
+	}
+	
+	private double doGetDouble(C c) throws IllegalAccessException, InvocationTargetException {
+		if (doubleGetter != null && getGetter().getDeclaringClass().isInstance(c)) {
+			try {
+				return (double) doubleGetter.invokeExact((Object) c);
+			} catch (Throwable t) {
+				throw new InvocationTargetException(t);
+			}
+		} else {
+			return toDouble(doGet(c, methodParameters));
+		}
+	}
+	
+	/**
+	 * Gives the compiled version of the getter, without any check nor exception handling, for {@link FlattenedAccessorChain}.
+	 * Given {@link Function} expects an instance of getter declaring class.
+	 * 
+	 * @return null if reflection is enforced, if getter couldn't be compiled, or if getter takes some arguments
+	 */
+	@Nullable
+	Function<Object, Object> giveCompiledGetter() {
+		return methodParameters.length == 0 ? compiledGetter : null;
+	}
+	
+	/**
+	 * Unboxes given value as an int, widening it if necessary as {@link java.lang.reflect.Field#getInt(Object)} does
+	 */
+	private static int toInt(Object value) {
+		if (value instanceof Character) {
+			return (Character) value;
+		} else if (value instanceof Short || value instanceof Byte) {
+			return ((Number) value).intValue();
+		} else {
+			// NB: null values and incompatible types will throw an exception as expected
+			return (Integer) value;
+		}
+	}
+	
+	/**
+	 * Unboxes given value as a long, widening it if necessary as {@link java.lang.reflect.Field#getLong(Object)} does
+	 */
+	private static long toLong(Object value) {
+		if (value instanceof Character) {
+			return (Character) value;
+		} else if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+			return ((Number) value).longValue();
+		} else {
+			return (Long) value;
+		}
+	}
+	
+	/**
+	 * Unboxes given value as a double, widening it if necessary as {@link java.lang.reflect.Field#getDouble(Object)} does
+	 */
+	private static double toDouble(Object value) {
+		if (value instanceof Character) {
+			return (Character) value;
+		} else if (value instanceof Float || value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+			return ((Number) value).doubleValue();
+		} else {
+			return (Double) value;
+		}
 	}
 	
 	@Override
@@ -161,12 +490,10 @@ public class AccessorByMethod<C, T> extends AbstractAccessor<C, T>
 	
 	@Override
 	public boolean equals(Object other) {
-		// We base our implementation on the getter String because a setAccessible() call on the member changes its internal state
-		// and I don't think it sould be taken into account for comparison
-		// We could base it on getGetterDescription() but it requires more computation
+		// NB: Method.equals() doesn't take setAccessible() state into account, and contrary to comparing toString() it doesn't allocate anything
 		return this == other || 
 				(other instanceof AccessorByMethod
-						&& getGetter().toString().equals(((AccessorByMethod) other).getGetter().toString())
+						&& getGetter().equals(((AccessorByMethod) other).getGetter())
 						&& Arrays.equals(methodParameters, ((AccessorByMethod) other).methodParameters));
 	}
 	
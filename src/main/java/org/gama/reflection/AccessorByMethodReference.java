@@ -5,6 +5,7 @@ import java.lang.invoke.SerializedLambda;
 import org.danekja.java.util.function.serializable.SerializableBiConsumer;
 import org.danekja.java.util.function.serializable.SerializableFunction;
 import org.gama.lang.Reflections;
+import org.gama.reflection.MethodReferenceCapturer.MethodDefinition;
 
 /**
  * Accessor constructed with a method reference to a getter ({@link java.util.function.Function}).
@@ -15,7 +16,6 @@ import org.gama.lang.Reflections;
  * @see Accessors#accessorByMethodReference(SerializableFunction)
  * @see Accessors#accessorByMethodReference(SerializableFunction, SerializableBiConsumer) 
  */
-@SuppressWarnings("squid:S2160")	// because super.equals() is based on getDescription() it doesn't need to be overriden in this class
 public class AccessorByMethodReference<C, T> extends AbstractAccessor<C, T> implements ValueAccessPointByMethodReference {
 	
 	private final SerializableFunction<C, T> methodReference;
@@ -25,6 +25,9 @@ public class AccessorByMethodReference<C, T> extends AbstractAccessor<C, T> impl
 	private final SerializedLambda serializedLambda;
 	private final Class propertyType;
 	
+	/** Hash code computed once from declaring class and method name, as {@link #equals(Object)} is */
+	private final int hashCode;
+	
 	/**
 	 * 
 	 * @param methodReference a getter
@@ -36,12 +39,14 @@ public class AccessorByMethodReference<C, T> extends AbstractAccessor<C, T> impl
 		serializedLambda = MethodReferences.buildSerializedLambda(methodReference);
 		// our description is made of SerializedLambda's one
 		methodName = serializedLambda.getImplMethodName();
-		String implementationClass = serializedLambda.getImplClass().replace('/', '.');
-		this.declaringClass = Reflections.forName(implementationClass);
-		this.propertyType = MethodReferenceCapturer.giveArgumentTypes(serializedLambda).getReturnType();
+		// NB: classes are resolved with the class loader of the method reference, not the one of this class, and memoized per lambda class
+		MethodDefinition methodDefinition = LambdaClassMetadata.of(methodReference).giveMethodDefinition(methodReference);
+		this.declaringClass = methodDefinition.getDeclaringClass();
+		this.propertyType = methodDefinition.getReturnType();
 		this.methodReferenceSignature = Reflections.toString(declaringClass)
 				.concat("::")
 				.concat(methodName);	// we cut the method signature before return type because it doesn't seem necessary and ugly with arrays
+		this.hashCode = 31 * declaringClass.hashCode() + methodName.hashCode();
 	}
 	
 	public SerializableFunction<C, T> getMethodReference() {
@@ -77,4 +82,22 @@ public class AccessorByMethodReference<C, T> extends AbstractAccessor<C, T> impl
 	public Class<T> getPropertyType() {
 		return propertyType;
 	}
+	
+	/**
+	 * Implementation based on declaring class and method name, as description is, without comparing description {@link String}s
+	 * 
+	 * @param other any object
+	 * @return true if other is an AccessorByMethodReference of a method with same name and declaring class
+	 */
+	@Override
+	public boolean equals(Object other) {
+		return this == other || (other instanceof AccessorByMethodReference
+				&& declaringClass == ((AccessorByMethodReference) other).declaringClass
+				&& methodName.equals(((AccessorByMethodReference) other).methodName));
+	}
+	
+	@Override
+	public int hashCode() {
+		return hashCode;
+	}
 }
@@ -17,7 +17,7 @@ import org.gama.lang.collection.Arrays;
 import org.gama.lang.collection.Collections;
 import org.gama.lang.collection.Iterables;
 
-import static org.gama.reflection.Accessors.giveInputType;
+import static org.gama.reflection.Accessors.giveGenericInputType;
 
 /**
  * Chain of {@link IAccessor}s that behaves as a {@link IAccessor}
@@ -89,6 +89,15 @@ public class AccessorChain<C, T> extends AbstractAccessor<C, T> implements IReve
 	
 	private NullValueHandler nullValueHandler = THROW_NULLPOINTEREXCEPTION;
 	
+	/**
+	 * Hash code of {@link #accessors} with the modification count (plus one, so that 0 marks an uncomputed value) it was computed for in
+	 * high bits, see {@link #modificationCount()}
+	 */
+	private volatile long accessorsHashCode;
+	
+	/** Definition of this chain with the modification count it was computed for, see {@link #giveAccessorDefinition()} */
+	private volatile StampedDefinition stampedDefinition;
+	
 	public AccessorChain() {
 		this(new ArrayList<>(5));
 	}
@@ -107,6 +116,7 @@ public class AccessorChain<C, T> extends AbstractAccessor<C, T> implements IReve
 	
 	public void add(IAccessor accessor) {
 		accessors.add(accessor);
+		structureChanged();
 	}
 	
 	public void add(IAccessor ... accessors) {
@@ -115,6 +125,7 @@ public class AccessorChain<C, T> extends AbstractAccessor<C, T> implements IReve
 	
 	public void add(Iterable<IAccessor> accessors) {
 		this.accessors.addAll((Collection<IAccessor>) accessors);
+		structureChanged();
 	}
 	
 	public AccessorChain<C, T> setNullValueHandler(NullValueHandler nullValueHandler) {
@@ -122,6 +133,23 @@ public class AccessorChain<C, T> extends AbstractAccessor<C, T> implements IReve
 		return this;
 	}
 	
+	public NullValueHandler getNullValueHandler() {
+		return nullValueHandler;
+	}
+	
+	/**
+	 * Gives a flattened form of this chain, dedicated to intensive reading : links are read in a single loop, without going through their
+	 * exception handling when they can be invoked without reflection, and null values are checked inline. Links are not fused into a single
+	 * generated method, see {@link FlattenedAccessorChain}. Behavior, null value handling and thrown exceptions are the same as this instance
+	 * ones.
+	 * Result is a snapshot of this chain : it won't see accessors added to it nor {@link NullValueHandler} change afterward.
+	 * 
+	 * @return a new {@link FlattenedAccessorChain} reading the same path as this instance
+	 */
+	public FlattenedAccessorChain<C, T> flatten() {
+		return new FlattenedAccessorChain<>(this);
+	}
+	
 	@Override
 	public T doGet(C c) {
 		Object target = c;
@@ -173,12 +201,71 @@ public class AccessorChain<C, T> extends AbstractAccessor<C, T> implements IReve
 	
 	@Override
 	public boolean equals(Object other) {
-		return this == other || (other instanceof AccessorChain && accessors.equals(((AccessorChain) other).accessors));
+		// comparing hash codes first is cheap since they're cached, and most of the time avoids list comparison of different chains
+		// NB: an AccessorChainMutator is never equal to a simple chain, whatever the side of comparison is
+		return this == other || (other instanceof AccessorChain
+				&& (other instanceof AccessorChainMutator) == (this instanceof AccessorChainMutator)
+				&& accessorsHashCode() == ((AccessorChain) other).accessorsHashCode()
+				&& accessors.equals(((AccessorChain) other).accessors));
 	}
 	
+	/**
+	 * Implementation based on accessors, computed again only if they changed since last call.
+	 * NB: accessors list modifications that don't go through {@link #add(IAccessor)} methods can't be detected.
+	 * 
+	 * @return hash code of accessors
+	 */
 	@Override
 	public int hashCode() {
-		return accessors.hashCode();
+		return accessorsHashCode();
+	}
+	
+	private int accessorsHashCode() {
+		// count is read before computation so that a concurrent change makes cached value outdated
+		int stamp = modificationCount() + 1;
+		long cachedHashCode = accessorsHashCode;
+		if ((int) (cachedHashCode >>> 32) == stamp) {
+			return (int) cachedHashCode;
+		}
+		int result = accessors.hashCode();
+		accessorsHashCode = ((long) stamp << 32) | (result & 0xFFFFFFFFL);
+		return result;
+	}
+	
+	/**
+	 * Gives the definition of this chain, computed again only if its accessors changed since last call, as {@link #hashCode()} does.
+	 * Hence, contrary to an external cache keyed by this chain, it follows chain modifications.
+	 * 
+	 * @return the definition of this chain, see {@link AccessorDefinition#giveDefinition(ValueAccessPoint)}
+	 */
+	AccessorDefinition giveAccessorDefinition() {
+		// count is read before computation so that a concurrent change makes cached value outdated
+		int stamp = modificationCount();
+		StampedDefinition cachedDefinition = stampedDefinition;
+		if (cachedDefinition != null && cachedDefinition.stamp == stamp) {
+			return cachedDefinition.definition;
+		}
+		AccessorDefinition result = AccessorDefinition.giveChainDefinition(accessors);
+		stampedDefinition = new StampedDefinition(stamp, result);
+		return result;
+	}
+	
+	/**
+	 * Overridden to take into account modifications of accessors, so that a chain containing this one also sees them
+	 * 
+	 * @return number of modifications of this chain and of its accessors
+	 */
+	@Override
+	int modificationCount() {
+		int result = super.modificationCount();
+		// NB: index loop avoids Iterator creation, accessors are expected to be a random access List
+		for (int i = 0, size = accessors.size(); i < size; i++) {
+			IAccessor accessor = accessors.get(i);
+			if (accessor instanceof AbstractReflector) {
+				result += ((AbstractReflector) accessor).modificationCount();
+			}
+		}
+		return result;
 	}
 	
 	@Override
@@ -186,6 +273,21 @@ public class AccessorChain<C, T> extends AbstractAccessor<C, T> implements IReve
 		return accessors.toString();
 	}
 	
+	/**
+	 * An {@link AccessorDefinition} with the modification count of the chain it was computed for
+	 */
+	private static class StampedDefinition {
+		
+		private final int stamp;
+		
+		private final AccessorDefinition definition;
+		
+		private StampedDefinition(int stamp, AccessorDefinition definition) {
+			this.stamp = stamp;
+			this.definition = definition;
+		}
+	}
+	
 	/**
 	 * Contract for handling null objects during accessor chaining
 	 */
@@ -242,7 +344,8 @@ public class AccessorChain<C, T> extends AbstractAccessor<C, T> implements IReve
 		public Object consume(Object srcBean, IAccessor accessor) {
 			if (accessor instanceof IReversibleAccessor) {
 				IMutator mutator = ((IReversibleAccessor) accessor).toMutator();
-				Class inputType = giveInputType(mutator);
+				// NB: generic type is resolved against bean class, so a property declared with a type variable is instanciated with its value
+				Class inputType = GenericTypes.rawType(giveGenericInputType(mutator, srcBean.getClass()));
 				// NB: will throw an exception if type is not instanciable
 				Object value = Reflections.newInstance(valueTypeDeterminer.apply(accessor, inputType));
 				mutator.set(srcBean, value);
@@ -6,10 +6,8 @@ import java.util.List;
 
 import org.gama.lang.Reflections;
 import org.gama.lang.StringAppender;
-import org.gama.lang.ThreadLocals;
 import org.gama.lang.VisibleForTesting;
 import org.gama.lang.collection.Iterables;
-import org.gama.lang.function.ThrowingRunnable;
 
 /**
  * @param <C> source bean type
@@ -19,13 +17,6 @@ import org.gama.lang.function.ThrowingRunnable;
  */
 public class AccessorChainMutator<C, X, T> extends AccessorChain<C, X> implements IReversibleMutator<C, T> {
 	
-	/**
-	 * Keeps track of the mutator that returned null during the {@link #get(Object)} phase, if any.
-	 * Will be used to give better exception message when {@link NullPointerException} will be thrown by {@link #set(Object, Object)}.
-	 * Using a ThreadLocal is quite an overkill design, but can't find a less intrusive & thread-safe way to do it. 
-	 */
-	private static final ThreadLocal<IAccessor> CURRENT_NULL_RETURNING_MUTATOR = new ThreadLocal<>();
-	
 	private final IMutator<X, T> mutator;
 	
 	public AccessorChainMutator(List<IAccessor> accessors, IMutator<X, T> mutator) {
@@ -44,33 +35,131 @@ public class AccessorChainMutator<C, X, T> extends AccessorChain<C, X> implement
 	
 	@Override
 	public void set(C c, T t) {
-		final Object[] finalTarget = new Object[1];
-		ThreadLocals.doWithThreadLocal(CURRENT_NULL_RETURNING_MUTATOR, () -> null, (ThrowingRunnable<NullPointerException>) () -> {
-			X target = get(c);	// Warn : this line changes state of CURRENT_NULL_RETURNING_MUTATOR by invoking onNullValue()
-			if (target == null) {
-				throwNullPointerException(c);
+		mutator.set(giveTarget(c), t);
+	}
+	
+	/**
+	 * Equivalent of {@link #get(Object)} that keeps track of the accessor that returned null, if any, to give a better exception message.
+	 * The culprit is kept in a local variable so this method is thread-safe without allocating anything.
+	 * 
+	 * @param c the source bean
+	 * @return the bean on which {@link #getMutator()} must be applied
+	 * @throws NullPointerException if the path returned null
+	 */
+	private X giveTarget(C c) {
+		Object target = c;
+		IAccessor nullReturningAccessor = null;
+		try {
+			List<IAccessor> accessors = getAccessors();
+			// NB: index loop avoids Iterator creation, accessors are expected to be a random access List
+			for (int i = 0, size = accessors.size(); i < size; i++) {
+				IAccessor accessor = accessors.get(i);
+				Object previousTarget = target;
+				target = accessor.get(target);
+				if (target == null) {
+					target = onNullValue(previousTarget, accessor);
+					if (target == null) {
+						nullReturningAccessor = accessor;
+						break;
+					}
+				}
 			}
-			finalTarget[0] = target;
-		});
-		mutator.set((X) finalTarget[0], t);
+		} catch (Throwable t) {
+			// same handling as get(..)
+			handleException(t, c);
+		}
+		if (target == null) {
+			throwNullPointerException(c, nullReturningAccessor);
+		}
+		return (X) target;
 	}
 	
 	/**
-	 * Overriden to keep track of the culprit mutator that returned null
+	 * Implementation that walks the path of each bean without intermediary exception handling : components of this package are applied
+	 * without their own exception handling, so that exceptions, those of {@link #getMutator()} included, are wrapped once and reported with
+	 * the index of the culprit bean. As with {@link #set(Object, Object)}, a null value on path makes a {@link NullPointerException} be thrown,
+	 * which stops the batch.
 	 * 
-	 * @param targetBean bean on which accessor was invoked
-	 * @param accessor accessor that returned null when invoked on targetBean
-	 * @return super.onNullValue(targetBean, accessor)
+	 * @param beans the beans to be modified
+	 * @param values values to be set, must be at least as long as beans
 	 */
 	@Override
-	protected Object onNullValue(Object targetBean, IAccessor accessor) {
-		CURRENT_NULL_RETURNING_MUTATOR.set(accessor);
-		return super.onNullValue(targetBean, accessor);
+	public void setAll(List<? extends C> beans, Object[] values) {
+		checkBulkSize(beans.size(), values.length);
+		List<IAccessor> accessors = getAccessors();
+		int index = 0;
+		C current = null;
+		boolean nullValueOnPath = false;
+		IAccessor nullReturningAccessor = null;
+		// component being applied, null when it handles its exceptions itself, so that exception is converted against this instance
+		AbstractReflector culprit = null;
+		Object culpritTarget = null;
+		try {
+			for (C c : beans) {
+				current = c;
+				Object target = c;
+				for (int i = 0, size = accessors.size(); i < size; i++) {
+					IAccessor accessor = accessors.get(i);
+					Object previousTarget = target;
+					if (accessor instanceof AbstractAccessor) {
+						culprit = (AbstractReflector) accessor;
+						culpritTarget = target;
+						target = ((AbstractAccessor) accessor).doGet(target);
+					} else {
+						culprit = null;
+						target = accessor.get(target);
+					}
+					if (target == null) {
+						// exceptions of null value handler are not the ones of the accessor
+						culprit = null;
+						target = onNullValue(previousTarget, accessor);
+						if (target == null) {
+							nullReturningAccessor = accessor;
+							break;
+						}
+					}
+				}
+				if (target == null) {
+					nullValueOnPath = true;
+					break;
+				}
+				if (mutator instanceof AbstractMutator) {
+					culprit = (AbstractReflector) mutator;
+					culpritTarget = target;
+					((AbstractMutator) mutator).doSet(target, values[index]);
+				} else {
+					culprit = null;
+					mutator.set((X) target, (T) values[index]);
+				}
+				index++;
+			}
+		} catch (Throwable t) {
+			if (culprit == null) {
+				handleBulkException(t, index, current, values[index]);
+			} else {
+				handleBulkException(t, index, current, values[index], culprit, culpritTarget, giveArguments(culprit, values[index]));
+			}
+		}
+		if (nullValueOnPath) {
+			throwNullPointerException(current, nullReturningAccessor);
+		}
+	}
+	
+	/**
+	 * Gives arguments that given component gives to its member, as its own exception handling would do
+	 */
+	private Object[] giveArguments(AbstractReflector component, Object value) {
+		if (component == mutator) {
+			return new Object[] { value };
+		} else if (component instanceof AccessorByMethod) {
+			return ((AccessorByMethod) component).getParameters();
+		} else {
+			return new Object[0];
+		}
 	}
 	
-	private void throwNullPointerException(Object srcBean) {
+	private void throwNullPointerException(Object srcBean, IAccessor nullReturningMutator) {
 		String accessorDescription = new AccessorPathBuilder().ccat(getAccessors(), ".").toString();
-		IAccessor nullReturningMutator = CURRENT_NULL_RETURNING_MUTATOR.get();
 		List<IAccessor> pathToNullPointerException = Iterables.head(getAccessors(), nullReturningMutator);
 		pathToNullPointerException.add(nullReturningMutator);
 		String nullProviderDescription = new AccessorPathBuilder().ccat(pathToNullPointerException, ".").toString();
@@ -98,7 +187,8 @@ public class AccessorChainMutator<C, X, T> extends AccessorChain<C, X> implement
 	
 	@Override
 	public boolean equals(Object other) {
-		return super.equals(other) && this.mutator.equals(((AccessorChainMutator) other).mutator);
+		// NB: super.equals(..) checks that other is also an AccessorChainMutator
+		return super.equals(other) && (this == other || this.mutator.equals(((AccessorChainMutator) other).mutator));
 	}
 	
 	@Override
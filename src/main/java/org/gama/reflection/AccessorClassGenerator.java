@@ -0,0 +1,839 @@
+package org.gama.reflection;
+
+import javax.annotation.Nullable;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import org.gama.reflection.MethodReferenceDispatcher.Redirection;
+
+/**
+ * Generates, at runtime, one small class per member that reads or writes it with a direct getfield / putfield / invokevirtual instruction,
+ * see {@link MemberAccessMode#GENERATED}. Also generates dispatcher classes for {@link MethodReferenceDispatcher#useGeneratedClass()}.
+ * Generated classes implement {@link Function} (getters) or {@link BiConsumer} (setters) and are defined as hidden classes nestmates of the
+ * member declaring class, hence they can access its private members and live in its class loader. As a consequence this is only supported
+ * from Java 15, on older JVMs every method of this class returns null so caller can fallback to another access mode.
+ * Classes are generated once per member and their (stateless) instance is shared.
+ *
+ * @author Guillaume Mary
+ */
+final class AccessorClassGenerator {
+	
+	/** MethodHandles.privateLookupIn(Class, Lookup) (Java 9), null if not available */
+	private static final Method PRIVATE_LOOKUP_IN;
+	
+	/** Lookup.defineHiddenClass(byte[], boolean, ClassOption...) (Java 15), null if not available */
+	private static final Method DEFINE_HIDDEN_CLASS;
+	
+	/** Options given to {@link #DEFINE_HIDDEN_CLASS} : { ClassOption.NESTMATE } */
+	private static final Object HIDDEN_CLASS_OPTIONS;
+	
+	static {
+		Method privateLookupIn = null;
+		Method defineHiddenClass = null;
+		Object hiddenClassOptions = null;
+		try {
+			privateLookupIn = MethodHandles.class.getMethod("privateLookupIn", Class.class, Lookup.class);
+			Class<Enum> classOptionType = (Class<Enum>) Class.forName("java.lang.invoke.MethodHandles$Lookup$ClassOption");
+			hiddenClassOptions = Array.newInstance(classOptionType, 1);
+			Array.set(hiddenClassOptions, 0, Enum.valueOf(classOptionType, "NESTMATE"));
+			defineHiddenClass = Lookup.class.getMethod("defineHiddenClass", byte[].class, boolean.class, hiddenClassOptions.getClass());
+		} catch (ReflectiveOperationException e) {
+			// JVM is older than Java 15 : generation is not supported
+			defineHiddenClass = null;
+		}
+		PRIVATE_LOOKUP_IN = privateLookupIn;
+		DEFINE_HIDDEN_CLASS = defineHiddenClass;
+		HIDDEN_CLASS_OPTIONS = hiddenClassOptions;
+	}
+	
+	/** Generated instances per member, held by member declaring class so they don't prevent it from being unloaded */
+	private static final ClassValue<ConcurrentMap<Member, Object>> GENERATED_INSTANCES = new ClassValue<ConcurrentMap<Member, Object>>() {
+		@Override
+		protected ConcurrentMap<Member, Object> computeValue(Class<?> type) {
+			return new ConcurrentHashMap<>();
+		}
+	};
+	
+	/** Constructors of generated dispatchers per redirection layout, held by implemented interface */
+	private static final ClassValue<ConcurrentMap<String, Object>> DISPATCHER_CONSTRUCTORS = new ClassValue<ConcurrentMap<String, Object>>() {
+		@Override
+		protected ConcurrentMap<String, Object> computeValue(Class<?> type) {
+			return new ConcurrentHashMap<>();
+		}
+	};
+	
+	/** Marker of members for which generation failed, to avoid trying again */
+	private static final Object NOT_GENERATED = new Object();
+	
+	private static final String OBJECT = "java/lang/Object";
+	private static final String GETTER_DESCRIPTOR = "(Ljava/lang/Object;)Ljava/lang/Object;";
+	private static final String SETTER_DESCRIPTOR = "(Ljava/lang/Object;Ljava/lang/Object;)V";
+	private static final String TO_STRING_KEY = "toString()Ljava/lang/String;";
+	
+	/**
+	 * @return true if current JVM supports class generation
+	 */
+	static boolean isSupported() {
+		return DEFINE_HIDDEN_CLASS != null;
+	}
+	
+	/**
+	 * Gives a {@link Function} reading the given field through a generated class
+	 *
+	 * @param field an instance field
+	 * @return null if generation is not supported for the field (static one) or by the JVM
+	 */
+	@Nullable
+	static Function<Object, Object> generateGetter(Field field) {
+		if (Modifier.isStatic(field.getModifiers())) {
+			return null;
+		}
+		return (Function<Object, Object>) generate(field, () -> new ClassWriter(field.getDeclaringClass(), "java/util/function/Function")
+				.addGetter(field.getDeclaringClass(), field.getName(), field.getType(), false, false));
+	}
+	
+	/**
+	 * Gives a {@link Function} invoking the given no-arg method through a generated class
+	 *
+	 * @param getter an instance no-arg method that returns a value
+	 * @return null if generation is not supported for the method or by the JVM
+	 */
+	@Nullable
+	static Function<Object, Object> generateGetter(Method getter) {
+		if (Modifier.isStatic(getter.getModifiers()) || getter.getParameterCount() != 0 || getter.getReturnType() == void.class) {
+			return null;
+		}
+		Class<?> declaringClass = getter.getDeclaringClass();
+		return (Function<Object, Object>) generate(getter, () -> new ClassWriter(declaringClass, "java/util/function/Function")
+				.addGetter(declaringClass, getter.getName(), getter.getReturnType(), true, declaringClass.isInterface()));
+	}
+	
+	/**
+	 * Gives a {@link BiConsumer} writing the given field through a generated class
+	 *
+	 * @param field an instance and non final field
+	 * @return null if generation is not supported for the field or by the JVM
+	 */
+	@Nullable
+	static BiConsumer<Object, Object> generateSetter(Field field) {
+		if (Modifier.isStatic(field.getModifiers()) || Modifier.isFinal(field.getModifiers())
+				|| !isReachableFrom(field.getType(), field.getDeclaringClass())) {
+			return null;
+		}
+		return (BiConsumer<Object, Object>) generate(field, () -> new ClassWriter(field.getDeclaringClass(), "java/util/function/BiConsumer")
+				.addSetter(field.getDeclaringClass(), field.getName(), field.getType(), null, false, false));
+	}
+	
+	/**
+	 * Gives a {@link BiConsumer} invoking the given one-arg method through a generated class
+	 *
+	 * @param setter an instance one-arg method, its returned value (if any) is ignored
+	 * @return null if generation is not supported for the method or by the JVM
+	 */
+	@Nullable
+	static BiConsumer<Object, Object> generateSetter(Method setter) {
+		if (Modifier.isStatic(setter.getModifiers()) || setter.getParameterCount() != 1
+				|| !isReachableFrom(setter.getParameterTypes()[0], setter.getDeclaringClass())) {
+			return null;
+		}
+		Class<?> declaringClass = setter.getDeclaringClass();
+		return (BiConsumer<Object, Object>) generate(setter, () -> new ClassWriter(declaringClass, "java/util/function/BiConsumer")
+				.addSetter(declaringClass, setter.getName(), setter.getParameterTypes()[0], setter.getReturnType(), true, declaringClass.isInterface()));
+	}
+	
+	/**
+	 * Indicates if generated class can cast a value to the given type : type must be visible from the package of the generated class which is
+	 * the one of the member declaring class
+	 */
+	private static boolean isReachableFrom(Class type, Class declaringClass) {
+		Class<?> componentType = type;
+		while (componentType.isArray()) {
+			componentType = componentType.getComponentType();
+		}
+		if (componentType.isPrimitive() || componentType == declaringClass) {
+			return true;
+		}
+		if (componentType.getClassLoader() == declaringClass.getClassLoader()
+				&& componentType.getPackage() == declaringClass.getPackage()) {
+			// same package : package-private access is enough, private nested classes are excluded because they are not nestmates
+			return !Modifier.isPrivate(componentType.getModifiers());
+		}
+		Class<?> enclosingClass = componentType;
+		while (enclosingClass != null) {
+			if (!Modifier.isPublic(enclosingClass.getModifiers())) {
+				return false;
+			}
+			enclosingClass = enclosingClass.getEnclosingClass();
+		}
+		return true;
+	}
+	
+	@Nullable
+	private static Object generate(Member member, ClassWriterSupplier classWriterSupplier) {
+		if (!isSupported()) {
+			return null;
+		}
+		Object result = GENERATED_INSTANCES.get(member.getDeclaringClass()).computeIfAbsent(member, m -> {
+			try {
+				byte[] classBytes = classWriterSupplier.get().toByteArray();
+				Lookup generatedClassLookup = defineHiddenClass(m.getDeclaringClass(), classBytes);
+				return generatedClassLookup.findConstructor(generatedClassLookup.lookupClass(), MethodType.methodType(void.class)).invoke();
+			} catch (Throwable t) {
+				// any failure (module not opened, linkage error) makes us fallback to another access mode
+				return NOT_GENERATED;
+			}
+		});
+		return result == NOT_GENERATED ? null : result;
+	}
+	
+	/**
+	 * Defines given class as a hidden class nestmate of given host, hence in its package and class loader
+	 * 
+	 * @return the lookup of the defined class
+	 */
+	private static Lookup defineHiddenClass(Class<?> hostClass, byte[] classBytes) throws Throwable {
+		Lookup hostLookup = hostClass == AccessorClassGenerator.class
+				? MethodHandles.lookup()
+				: (Lookup) PRIVATE_LOOKUP_IN.invoke(null, hostClass, MethodHandles.lookup());
+		return (Lookup) DEFINE_HIDDEN_CLASS.invoke(hostLookup, classBytes, true, HIDDEN_CLASS_OPTIONS);
+	}
+	
+	/**
+	 * Gives an instance of a class implementing given interface, generated for given redirections, see
+	 * {@link MethodReferenceDispatcher#useGeneratedClass()}. Intercepted methods invoke their redirection code directly, without argument array
+	 * (arguments are still boxed because redirection codes are generic functions). Other methods are invoked on fallback if it implements the
+	 * interface, else they throw an {@link IllegalArgumentException}.
+	 * Classes are generated once per interface and redirection layout, only redirection codes and fallback are given to each instance.
+	 * 
+	 * @param interfazz the interface to be implemented
+	 * @param redirections gives the {@link Redirection} of an interface method, null if method is not intercepted
+	 * @param fallback target of non intercepted methods, may be null
+	 * @param <X> interface type
+	 * @return null if generation is not supported for the interface (one of its redirections doesn't match its method for instance) or by the JVM
+	 */
+	@Nullable
+	static <X> X generateDispatcher(Class<X> interfazz, Function<Method, Redirection> redirections, @Nullable Object fallback) {
+		if (!isSupported() || !interfazz.isInterface()) {
+			return null;
+		}
+		boolean delegateToFallback = interfazz.isInstance(fallback);
+		// methods are sorted so that layout (and fields order) doesn't depend on Class.getMethods() order
+		Map<String, Method> methods = new TreeMap<>();
+		for (Method method : interfazz.getMethods()) {
+			if (!Modifier.isStatic(method.getModifiers())) {
+				// NB: methods overridden with a covariant return type are all kept since they all must be implemented
+				methods.putIfAbsent(method.getName() + MethodType.methodType(method.getReturnType(), method.getParameterTypes()).toMethodDescriptorString(), method);
+			}
+		}
+		Map<String, Redirection> methodRedirections = new TreeMap<>();
+		List<Object> codes = new ArrayList<>();
+		StringBuilder layout = new StringBuilder(delegateToFallback ? "delegate" : "throw");
+		for (Map.Entry<String, Method> method : methods.entrySet()) {
+			Redirection redirection = redirections.apply(method.getValue());
+			if (redirection != null) {
+				if (!isApplicable(redirection, method.getValue(), interfazz)) {
+					return null;
+				}
+				methodRedirections.put(method.getKey(), redirection);
+				codes.add(redirection.getCode());
+				layout.append(';').append(method.getKey()).append('>').append(redirection.getCodeType().getName())
+						.append(redirection.isReturnProxy() ? "!" : "");
+			}
+		}
+		Object constructor = DISPATCHER_CONSTRUCTORS.get(interfazz).computeIfAbsent(layout.toString(),
+				k -> defineDispatcher(interfazz, methods, methodRedirections, delegateToFallback));
+		if (constructor == NOT_GENERATED) {
+			return null;
+		}
+		try {
+			return (X) ((MethodHandle) constructor).invoke(codes.toArray(), fallback);
+		} catch (Throwable t) {
+			// generated constructor only assigns its fields, so this shouldn't happen
+			return null;
+		}
+	}
+	
+	/**
+	 * Indicates if given redirection code can be invoked by given method : its arguments must match the ones of the code, and returning the
+	 * dispatcher must be compatible with method return type
+	 */
+	private static boolean isApplicable(Redirection redirection, Method method, Class<?> interfazz) {
+		Method codeMethod = redirection.getCodeMethod();
+		if (codeMethod.getParameterCount() != method.getParameterCount()) {
+			return false;
+		} else if (redirection.isReturnProxy() || codeMethod.getReturnType() == void.class) {
+			return method.getReturnType() == void.class || method.getReturnType().isAssignableFrom(interfazz);
+		} else {
+			return true;
+		}
+	}
+	
+	/**
+	 * Generates the dispatcher class in the package of the interface, or in the one of this class if interface package is not accessible
+	 * (JDK ones for instance)
+	 * 
+	 * @return the constructor of the dispatcher, {@link #NOT_GENERATED} if generation failed
+	 */
+	private static Object defineDispatcher(Class<?> interfazz, Map<String, Method> methods, Map<String, Redirection> redirections,
+										   boolean delegateToFallback) {
+		List<Class> referencedTypes = new ArrayList<>();
+		referencedTypes.add(interfazz);
+		for (Map.Entry<String, Redirection> redirection : redirections.entrySet()) {
+			referencedTypes.add(redirection.getValue().getCodeType());
+			// redirection result may be cast to method return type
+			referencedTypes.add(methods.get(redirection.getKey()).getReturnType());
+		}
+		for (Class hostClass : new Class[] { interfazz, AccessorClassGenerator.class }) {
+			if (referencedTypes.stream().allMatch(type -> isReachableFrom(type, hostClass) && isVisibleFrom(type, hostClass))) {
+				try {
+					ClassWriter classWriter = new ClassWriter(ClassWriter.internalName(hostClass) + "$$GeneratedDispatcher", interfazz)
+							.addDispatcherFields(redirections.values());
+					int redirectionIndex = 0;
+					for (Map.Entry<String, Method> method : methods.entrySet()) {
+						Redirection redirection = redirections.get(method.getKey());
+						if (redirection != null) {
+							classWriter.addRedirection(method.getValue(), redirectionIndex++, redirection);
+						} else if (!method.getKey().equals(TO_STRING_KEY)) {
+							classWriter.addFallback(method.getValue(), delegateToFallback);
+						}
+					}
+					if (!redirections.containsKey(TO_STRING_KEY)) {
+						classWriter.addDispatcherToString();
+					}
+					Lookup generatedClassLookup = defineHiddenClass(hostClass, classWriter.toByteArray());
+					return generatedClassLookup.findConstructor(generatedClassLookup.lookupClass(),
+							MethodType.methodType(void.class, Object[].class, Object.class));
+				} catch (Throwable t) {
+					// any failure (module not opened, linkage error) makes us try next host, then fallback to proxy
+				}
+			}
+		}
+		return NOT_GENERATED;
+	}
+	
+	/**
+	 * Indicates if given type can be loaded by the class loader of given class, so that generated class can refer to it
+	 */
+	private static boolean isVisibleFrom(Class type, Class hostClass) {
+		Class<?> componentType = type;
+		while (componentType.isArray()) {
+			componentType = componentType.getComponentType();
+		}
+		if (componentType.isPrimitive() || componentType.getClassLoader() == hostClass.getClassLoader()) {
+			return true;
+		}
+		try {
+			return Class.forName(componentType.getName(), false, hostClass.getClassLoader()) == componentType;
+		} catch (ClassNotFoundException | LinkageError e) {
+			return false;
+		}
+	}
+	
+	@FunctionalInterface
+	private interface ClassWriterSupplier {
+		
+		ClassWriter get() throws IOException;
+	}
+	
+	private AccessorClassGenerator() {
+		// utility class
+	}
+	
+	/**
+	 * Minimal class file writer : generates a final class implementing a single interface, either an accessor (no-arg constructor and one
+	 * method) or a dispatcher (constructor taking redirection codes and fallback, one method per interface method).
+	 * Generated code has no branch, so no StackMapTable is needed.
+	 */
+	private static class ClassWriter {
+		
+		private static final int ACC_PUBLIC = 0x0001;
+		private static final int ACC_PRIVATE = 0x0002;
+		private static final int ACC_FINAL = 0x0010;
+		private static final int ACC_SUPER = 0x0020;
+		
+		private static final int ICONST_0 = 0x03;
+		private static final int BIPUSH = 0x10;
+		private static final int SIPUSH = 0x11;
+		private static final int LDC = 0x12;
+		private static final int LDC_W = 0x13;
+		/** First of ILOAD, LLOAD, FLOAD, DLOAD, ALOAD */
+		private static final int ILOAD = 0x15;
+		private static final int ALOAD_0 = 0x2a;
+		private static final int ALOAD_1 = 0x2b;
+		private static final int ALOAD_2 = 0x2c;
+		private static final int AALOAD = 0x32;
+		private static final int POP = 0x57;
+		private static final int POP2 = 0x58;
+		private static final int DUP = 0x59;
+		/** First of IRETURN, LRETURN, FRETURN, DRETURN, ARETURN */
+		private static final int IRETURN = 0xac;
+		private static final int ARETURN = 0xb0;
+		private static final int RETURN = 0xb1;
+		private static final int GETFIELD = 0xb4;
+		private static final int PUTFIELD = 0xb5;
+		private static final int INVOKEVIRTUAL = 0xb6;
+		private static final int INVOKESPECIAL = 0xb7;
+		private static final int INVOKESTATIC = 0xb8;
+		private static final int INVOKEINTERFACE = 0xb9;
+		private static final int NEW = 0xbb;
+		private static final int ATHROW = 0xbf;
+		private static final int CHECKCAST = 0xc0;
+		
+		private static final String FALLBACK_FIELD = "fallback";
+		private static final String OBJECT_DESCRIPTOR = "Ljava/lang/Object;";
+		
+		private final ByteArrayOutputStream constantPoolBytes = new ByteArrayOutputStream();
+		private final DataOutputStream constantPool = new DataOutputStream(constantPoolBytes);
+		private final Map<String, Integer> constantIndexes = new HashMap<>();
+		private int constantCount = 1;
+		
+		private final String className;
+		private final String interfaceName;
+		private final ByteArrayOutputStream methodBytes = new ByteArrayOutputStream();
+		private final DataOutputStream methods = new DataOutputStream(methodBytes);
+		private int methodCount = 0;
+		private final ByteArrayOutputStream fieldBytes = new ByteArrayOutputStream();
+		private final DataOutputStream fields = new DataOutputStream(fieldBytes);
+		private int fieldCount = 0;
+		
+		/** Interface implemented by a dispatcher, null for accessors */
+		private Class dispatchedInterface;
+		
+		/** Types of redirection codes of a dispatcher, one field per redirection */
+		private final List<Class> redirectionTypes = new ArrayList<>();
+		
+		private ClassWriter(Class hostClass, String interfaceName) throws IOException {
+			// hidden classes must be in the same package as their host
+			this.className = internalName(hostClass) + "$$GeneratedAccessor";
+			this.interfaceName = interfaceName;
+			// default constructor
+			ByteArrayOutputStream code = new ByteArrayOutputStream();
+			code.write(ALOAD_0);
+			writeInstruction(code, INVOKESPECIAL, methodRef(OBJECT, "<init>", "()V", false));
+			code.write(RETURN);
+			addMethod("<init>", "()V", 1, 1, code.toByteArray());
+		}
+		
+		/**
+		 * Constructor for dispatchers, which must be completed with {@link #addDispatcherFields(Iterable)}
+		 */
+		private ClassWriter(String className, Class dispatchedInterface) {
+			this.className = className;
+			this.interfaceName = internalName(dispatchedInterface);
+			this.dispatchedInterface = dispatchedInterface;
+		}
+		
+		/**
+		 * Adds one field per redirection code, plus one for the fallback, and the constructor that assigns them from its
+		 * (Object[] codes, Object fallback) arguments
+		 */
+		private ClassWriter addDispatcherFields(Iterable<Redirection> redirections) throws IOException {
+			ByteArrayOutputStream code = new ByteArrayOutputStream();
+			code.write(ALOAD_0);
+			writeInstruction(code, INVOKESPECIAL, methodRef(OBJECT, "<init>", "()V", false));
+			for (Redirection redirection : redirections) {
+				int index = redirectionTypes.size();
+				redirectionTypes.add(redirection.getCodeType());
+				addField("redirection" + index, descriptor(redirection.getCodeType()));
+				code.write(ALOAD_0);
+				code.write(ALOAD_1);
+				writeInt(code, index);
+				code.write(AALOAD);
+				writeInstruction(code, CHECKCAST, classRef(internalName(redirection.getCodeType())));
+				writeInstruction(code, PUTFIELD, fieldRef(className, "redirection" + index, descriptor(redirection.getCodeType())));
+			}
+			addField(FALLBACK_FIELD, OBJECT_DESCRIPTOR);
+			code.write(ALOAD_0);
+			code.write(ALOAD_2);
+			writeInstruction(code, PUTFIELD, fieldRef(className, FALLBACK_FIELD, OBJECT_DESCRIPTOR));
+			code.write(RETURN);
+			addMethod("<init>", "([Ljava/lang/Object;Ljava/lang/Object;)V", 3, 3, code.toByteArray());
+			return this;
+		}
+		
+		/**
+		 * Implements given interface method by invoking the redirection code stored in field of given index
+		 */
+		private ClassWriter addRedirection(Method method, int redirectionIndex, Redirection redirection) throws IOException {
+			Class codeType = redirectionTypes.get(redirectionIndex);
+			Method codeMethod = redirection.getCodeMethod();
+			ByteArrayOutputStream code = new ByteArrayOutputStream();
+			code.write(ALOAD_0);
+			writeInstruction(code, GETFIELD, fieldRef(className, "redirection" + redirectionIndex, descriptor(codeType)));
+			int slot = 1;
+			for (Class parameterType : method.getParameterTypes()) {
+				load(code, parameterType, slot);
+				if (parameterType.isPrimitive()) {
+					// boxing
+					Class wrapper = MemberHandles.wrap(parameterType);
+					writeInstruction(code, INVOKESTATIC,
+							methodRef(internalName(wrapper), "valueOf", "(" + descriptor(parameterType) + ")" + descriptor(wrapper), false));
+				}
+				slot += slotCount(parameterType);
+			}
+			// NB: code method is generic, hence erased to Object arguments and result
+			writeInstruction(code, INVOKEINTERFACE, methodRef(internalName(codeType), codeMethod.getName(),
+					MethodType.methodType(codeMethod.getReturnType(), codeMethod.getParameterTypes()).toMethodDescriptorString(), true));
+			code.write(1 + method.getParameterCount());
+			code.write(0);
+			Class returnType = method.getReturnType();
+			boolean codeReturnsValue = codeMethod.getReturnType() != void.class;
+			if (codeReturnsValue && !redirection.isReturnProxy() && returnType != void.class) {
+				if (returnType.isPrimitive()) {
+					// unboxing
+					Class wrapper = MemberHandles.wrap(returnType);
+					writeInstruction(code, CHECKCAST, classRef(internalName(wrapper)));
+					writeInstruction(code, INVOKEVIRTUAL,
+							methodRef(internalName(wrapper), returnType.getName() + "Value", "()" + descriptor(returnType), false));
+				} else if (returnType != Object.class) {
+					writeInstruction(code, CHECKCAST, classRef(returnType.isArray() ? descriptor(returnType) : internalName(returnType)));
+				}
+				code.write(returnOpCode(returnType));
+			} else {
+				if (codeReturnsValue) {
+					code.write(POP);
+				}
+				if (returnType == void.class) {
+					code.write(RETURN);
+				} else {
+					// dispatcher is returned, for chaining of fluent API methods
+					code.write(ALOAD_0);
+					code.write(ARETURN);
+				}
+			}
+			// stack: redirection code, boxed arguments, and a not yet boxed one (2 slots at most)
+			addMethod(method.getName(), MethodType.methodType(returnType, method.getParameterTypes()).toMethodDescriptorString(),
+					method.getParameterCount() + 3, slot, code.toByteArray());
+			return this;
+		}
+		
+		/**
+		 * Implements given interface method by invoking it on fallback, or by throwing an {@link IllegalArgumentException} if fallback doesn't
+		 * implement the interface
+		 */
+		private ClassWriter addFallback(Method method, boolean delegateToFallback) throws IOException {
+			ByteArrayOutputStream code = new ByteArrayOutputStream();
+			int slot = 1;
+			if (delegateToFallback) {
+				code.write(ALOAD_0);
+				writeInstruction(code, GETFIELD, fieldRef(className, FALLBACK_FIELD, OBJECT_DESCRIPTOR));
+				writeInstruction(code, CHECKCAST, classRef(interfaceName));
+				for (Class parameterType : method.getParameterTypes()) {
+					load(code, parameterType, slot);
+					slot += slotCount(parameterType);
+				}
+				invoke(code, dispatchedInterface, method.getName(),
+						MethodType.methodType(method.getReturnType(), method.getParameterTypes()).toMethodDescriptorString(), true, slot);
+				code.write(method.getReturnType() == void.class ? RETURN : returnOpCode(method.getReturnType()));
+			} else {
+				for (Class parameterType : method.getParameterTypes()) {
+					slot += slotCount(parameterType);
+				}
+				String illegalArgumentException = "java/lang/IllegalArgumentException";
+				writeInstruction(code, NEW, classRef(illegalArgumentException));
+				code.write(DUP);
+				writeConstant(code, stringConstant("Method " + method + " is not intercepted and no fallback implements it"));
+				writeInstruction(code, INVOKESPECIAL, methodRef(illegalArgumentException, "<init>", "(Ljava/lang/String;)V", false));
+				code.write(ATHROW);
+			}
+			// stack: fallback and arguments, or exception to be thrown, or returned value (2 slots at most)
+			addMethod(method.getName(), MethodType.methodType(method.getReturnType(), method.getParameterTypes()).toMethodDescriptorString(),
+					Math.max(slot, 3), slot, code.toByteArray());
+			return this;
+		}
+		
+		/**
+		 * Adds a toString() method as the one of proxies built by {@link org.gama.lang.reflect.MethodDispatcher}
+		 */
+		private ClassWriter addDispatcherToString() throws IOException {
+			ByteArrayOutputStream code = new ByteArrayOutputStream();
+			writeConstant(code, stringConstant("Dispatcher to "));
+			code.write(ALOAD_0);
+			writeInstruction(code, GETFIELD, fieldRef(className, FALLBACK_FIELD, OBJECT_DESCRIPTOR));
+			writeInstruction(code, INVOKESTATIC, methodRef("java/lang/String", "valueOf", "(Ljava/lang/Object;)Ljava/lang/String;", false));
+			writeInstruction(code, INVOKEVIRTUAL, methodRef("java/lang/String", "concat", "(Ljava/lang/String;)Ljava/lang/String;", false));
+			code.write(ARETURN);
+			addMethod("toString", "()Ljava/lang/String;", 2, 1, code.toByteArray());
+			return this;
+		}
+		
+		private ClassWriter addGetter(Class owner, String memberName, Class memberType, boolean isMethod, boolean isInterface) throws IOException {
+			ByteArrayOutputStream code = new ByteArrayOutputStream();
+			code.write(ALOAD_1);
+			writeInstruction(code, CHECKCAST, classRef(internalName(owner)));
+			if (isMethod) {
+				invoke(code, owner, memberName, "()" + descriptor(memberType), isInterface, 1);
+			} else {
+				writeInstruction(code, GETFIELD, fieldRef(internalName(owner), memberName, descriptor(memberType)));
+			}
+			if (memberType.isPrimitive()) {
+				// boxing
+				Class wrapper = MemberHandles.wrap(memberType);
+				writeInstruction(code, INVOKESTATIC,
+						methodRef(internalName(wrapper), "valueOf", "(" + descriptor(memberType) + ")" + descriptor(wrapper), false));
+			}
+			code.write(ARETURN);
+			addMethod("apply", GETTER_DESCRIPTOR, 2, 2, code.toByteArray());
+			return this;
+		}
+		
+		private ClassWriter addSetter(Class owner, String memberName, Class memberType, @Nullable Class methodReturnType, boolean isMethod,
+									  boolean isInterface) throws IOException {
+			ByteArrayOutputStream code = new ByteArrayOutputStream();
+			code.write(ALOAD_1);
+			writeInstruction(code, CHECKCAST, classRef(internalName(owner)));
+			code.write(ALOAD_2);
+			if (memberType.isPrimitive()) {
+				// unboxing
+				Class wrapper = MemberHandles.wrap(memberType);
+				writeInstruction(code, CHECKCAST, classRef(internalName(wrapper)));
+				writeInstruction(code, INVOKEVIRTUAL,
+						methodRef(internalName(wrapper), memberType.getName() + "Value", "()" + descriptor(memberType), false));
+			} else if (memberType != Object.class) {
+				writeInstruction(code, CHECKCAST, classRef(memberType.isArray() ? descriptor(memberType) : internalName(memberType)));
+			}
+			if (isMethod) {
+				invoke(code, owner, memberName, "(" + descriptor(memberType) + ")" + descriptor(methodReturnType), isInterface,
+						1 + slotCount(memberType));
+				// returned value is ignored
+				if (methodReturnType != void.class) {
+					code.write(slotCount(methodReturnType) == 2 ? POP2 : POP);
+				}
+			} else {
+				writeInstruction(code, PUTFIELD, fieldRef(internalName(owner), memberName, descriptor(memberType)));
+			}
+			code.write(RETURN);
+			// stack: target + value (2 slots if long or double), returned value of method never exceeds it
+			addMethod("accept", SETTER_DESCRIPTOR, 3, 3, code.toByteArray());
+			return this;
+		}
+		
+		private void invoke(ByteArrayOutputStream code, Class owner, String methodName, String descriptor, boolean isInterface, int argumentSlots)
+				throws IOException {
+			if (isInterface) {
+				writeInstruction(code, INVOKEINTERFACE, methodRef(internalName(owner), methodName, descriptor, true));
+				code.write(argumentSlots);
+				code.write(0);
+			} else {
+				writeInstruction(code, INVOKEVIRTUAL, methodRef(internalName(owner), methodName, descriptor, false));
+			}
+		}
+		
+		private static void load(ByteArrayOutputStream code, Class type, int slot) throws IOException {
+			if (slot > 0xff) {
+				// wide instructions are not supported
+				throw new IOException("Too many arguments");
+			}
+			code.write(ILOAD + typeOffset(type));
+			code.write(slot);
+		}
+		
+		private static int returnOpCode(Class type) {
+			return IRETURN + typeOffset(type);
+		}
+		
+		/**
+		 * Gives the offset of the instruction dedicated to given type in the families of load and return instructions
+		 */
+		private static int typeOffset(Class type) {
+			if (type == long.class) {
+				return 1;
+			} else if (type == float.class) {
+				return 2;
+			} else if (type == double.class) {
+				return 3;
+			} else if (type.isPrimitive()) {
+				// int, short, byte, char, boolean
+				return 0;
+			} else {
+				return 4;
+			}
+		}
+		
+		private static void writeInt(ByteArrayOutputStream code, int value) {
+			if (value <= 5) {
+				code.write(ICONST_0 + value);
+			} else if (value <= Byte.MAX_VALUE) {
+				code.write(BIPUSH);
+				code.write(value);
+			} else {
+				code.write(SIPUSH);
+				code.write(value >> 8);
+				code.write(value);
+			}
+		}
+		
+		private static void writeConstant(ByteArrayOutputStream code, int constantIndex) {
+			if (constantIndex <= 0xff) {
+				code.write(LDC);
+				code.write(constantIndex);
+			} else {
+				writeInstruction(code, LDC_W, constantIndex);
+			}
+		}
+		
+		private static void writeInstruction(ByteArrayOutputStream code, int opCode, int constantIndex) {
+			code.write(opCode);
+			code.write(constantIndex >> 8);
+			code.write(constantIndex);
+		}
+		
+		private void addField(String name, String descriptor) throws IOException {
+			fields.writeShort(ACC_PRIVATE | ACC_FINAL);
+			fields.writeShort(utf8(name));
+			fields.writeShort(utf8(descriptor));
+			fields.writeShort(0);	// attributes count
+			fieldCount++;
+		}
+		
+		private void addMethod(String name, String descriptor, int maxStack, int maxLocals, byte[] code) throws IOException {
+			methodCount++;
+			methods.writeShort(ACC_PUBLIC);
+			methods.writeShort(utf8(name));
+			methods.writeShort(utf8(descriptor));
+			methods.writeShort(1);	// attributes count : Code only
+			methods.writeShort(utf8("Code"));
+			methods.writeInt(2 + 2 + 4 + code.length + 2 + 2);
+			methods.writeShort(maxStack);
+			methods.writeShort(maxLocals);
+			methods.writeInt(code.length);
+			methods.write(code);
+			methods.writeShort(0);	// exception table length
+			methods.writeShort(0);	// attributes count
+		}
+		
+		private byte[] toByteArray() throws IOException {
+			// constant pool must be completed before being written
+			int thisClass = classRef(className);
+			int superClass = classRef(OBJECT);
+			int interfaceClass = classRef(interfaceName);
+			
+			ByteArrayOutputStream result = new ByteArrayOutputStream();
+			DataOutputStream out = new DataOutputStream(result);
+			out.writeInt(0xCAFEBABE);
+			out.writeShort(0);	// minor version
+			out.writeShort(52);	// major version : Java 8
+			out.writeShort(constantCount);
+			constantPool.flush();
+			constantPoolBytes.writeTo(out);
+			out.writeShort(ACC_PUBLIC | ACC_FINAL | ACC_SUPER);
+			out.writeShort(thisClass);
+			out.writeShort(superClass);
+			out.writeShort(1);	// interfaces count
+			out.writeShort(interfaceClass);
+			out.writeShort(fieldCount);
+			fields.flush();
+			fieldBytes.writeTo(out);
+			out.writeShort(methodCount);
+			methods.flush();
+			methodBytes.writeTo(out);
+			out.writeShort(0);	// attributes count
+			out.flush();
+			return result.toByteArray();
+		}
+		
+		private int utf8(String value) throws IOException {
+			Integer index = constantIndexes.get("UTF8:" + value);
+			if (index == null) {
+				constantPool.writeByte(1);
+				constantPool.writeUTF(value);
+				index = register("UTF8:" + value);
+			}
+			return index;
+		}
+		
+		private int stringConstant(String value) throws IOException {
+			Integer index = constantIndexes.get("String:" + value);
+			if (index == null) {
+				int valueIndex = utf8(value);
+				constantPool.writeByte(8);
+				constantPool.writeShort(valueIndex);
+				index = register("String:" + value);
+			}
+			return index;
+		}
+		
+		private int classRef(String internalName) throws IOException {
+			Integer index = constantIndexes.get("Class:" + internalName);
+			if (index == null) {
+				int nameIndex = utf8(internalName);
+				constantPool.writeByte(7);
+				constantPool.writeShort(nameIndex);
+				index = register("Class:" + internalName);
+			}
+			return index;
+		}
+		
+		private int nameAndType(String name, String descriptor) throws IOException {
+			Integer index = constantIndexes.get("NameAndType:" + name + descriptor);
+			if (index == null) {
+				int nameIndex = utf8(name);
+				int descriptorIndex = utf8(descriptor);
+				constantPool.writeByte(12);
+				constantPool.writeShort(nameIndex);
+				constantPool.writeShort(descriptorIndex);
+				index = register("NameAndType:" + name + descriptor);
+			}
+			return index;
+		}
+		
+		private int fieldRef(String owner, String name, String descriptor) throws IOException {
+			return memberRef(9, owner, name, descriptor);
+		}
+		
+		private int methodRef(String owner, String name, String descriptor, boolean isInterface) throws IOException {
+			return memberRef(isInterface ? 11 : 10, owner, name, descriptor);
+		}
+		
+		private int memberRef(int tag, String owner, String name, String descriptor) throws IOException {
+			String key = tag + ":" + owner + "." + name + descriptor;
+			Integer index = constantIndexes.get(key);
+			if (index == null) {
+				int classIndex = classRef(owner);
+				int nameAndTypeIndex = nameAndType(name, descriptor);
+				constantPool.writeByte(tag);
+				constantPool.writeShort(classIndex);
+				constantPool.writeShort(nameAndTypeIndex);
+				index = register(key);
+			}
+			return index;
+		}
+		
+		private int register(String key) {
+			int index = constantCount++;
+			constantIndexes.put(key, index);
+			return index;
+		}
+		
+		private static String internalName(Class clazz) {
+			return clazz.getName().replace('.', '/');
+		}
+		
+		private static String descriptor(Class clazz) {
+			return MethodType.methodType(clazz).toMethodDescriptorString().substring(2);
+		}
+		
+		private static int slotCount(Class clazz) {
+			return clazz == long.class || clazz == double.class ? 2 : 1;
+		}
+	}
+}
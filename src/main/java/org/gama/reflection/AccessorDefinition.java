@@ -10,7 +10,6 @@ import java.util.List;
 
 import org.gama.lang.Reflections;
 import org.gama.lang.StringAppender;
-import org.gama.lang.bean.ClassIterator;
 import org.gama.lang.collection.Iterables;
 
 /**
@@ -23,7 +22,28 @@ import org.gama.lang.collection.Iterables;
  */
 public class AccessorDefinition implements Comparable<AccessorDefinition> {
 	
-	private static final MethodReferenceCapturer METHOD_REFERENCE_CAPTURER = new MethodReferenceCapturer();
+	/** Top class of the hierarchy of classes, {@link Object} excluded, see {@link #giveHierarchyRoot(Class)} */
+	private static final ClassValue<Class> HIERARCHY_ROOTS = new ClassValue<Class>() {
+		@Override
+		protected Class computeValue(Class<?> type) {
+			Class result = type;
+			while (result.getSuperclass() != null && result.getSuperclass() != Object.class) {
+				result = result.getSuperclass();
+			}
+			return result;
+		}
+	};
+	
+	/**
+	 * Gives the top class of the hierarchy of given one, {@link Object} excluded. Two classes have a common ancestor (other than {@link Object})
+	 * if and only if they have the same root, which is the criteria for {@link AccessorDefinition}s declaring class comparison.
+	 * 
+	 * @param type any class
+	 * @return type itself if it directly inherits from {@link Object}, or if it's {@link Object} or an interface
+	 */
+	static Class giveHierarchyRoot(Class type) {
+		return HIERARCHY_ROOTS.get(type);
+	}
 	
 	/**
 	 * Gives a {@link AccessorDefinition} that are similar if they access the same property, whatever type they are : doesn't make difference
@@ -36,11 +56,21 @@ public class AccessorDefinition implements Comparable<AccessorDefinition> {
 	public static AccessorDefinition giveDefinition(@Nullable ValueAccessPoint o) {
 		AccessorDefinition result;
 		if (o instanceof AccessorChain) {
-			result = giveDefinition((AccessorChain) o);
+			// memoized by the chain as long as its accessors don't change
+			result = ((AccessorChain<?, ?>) o).giveAccessorDefinition();
+		} else if (o instanceof FlattenedAccessorChain) {
+			// not memoized as other reflectors since accessors may change (index, parameter)
+			result = giveChainDefinition(((FlattenedAccessorChain<?, ?>) o).getAccessors());
 		} else if (o instanceof PropertyAccessor) {
 			result = giveDefinition(((PropertyAccessor) o).getAccessor());
 		} else if (o instanceof AbstractReflector) {
-			result = giveDefinition((AbstractReflector) o);
+			// definition is memoized by the instance since it only depends on its member which can't change
+			AbstractReflector reflector = (AbstractReflector) o;
+			result = reflector.getAccessorDefinition();
+			if (result == null) {
+				result = giveDefinition(reflector);
+				reflector.setAccessorDefinition(result);
+			}
 		} else {
 			throw new UnsupportedOperationException("Don't know how find out member definition for " + (o == null ? "null" : Reflections.toString(o.getClass())));
 		}
@@ -73,23 +103,19 @@ public class AccessorDefinition implements Comparable<AccessorDefinition> {
 		} else if (o instanceof ValueAccessPointByMethodReference) {
 			memberName = Reflections.propertyName(((ValueAccessPointByMethodReference) o).getMethodName());
 			declarator = ((ValueAccessPointByMethodReference) o).getDeclaringClass();
-			Method method = METHOD_REFERENCE_CAPTURER.findMethod(((ValueAccessPointByMethodReference) o).getSerializedLambda());
-			if (o instanceof IAccessor) {
-				memberType = method.getReturnType();
-			} else {
-				memberType = method.getParameterTypes()[0];
-			}
+			// NB: property type is the return type of getters and the argument type of setters, already resolved with method reference class loader
+			memberType = ((ValueAccessPointByMethodReference) o).getPropertyType();
 		}
 		
 		return new AccessorDefinition(declarator, memberName, memberType);
 	}
 	
 	/**
-	 * Dedicated to {@link AccessorChain}
-	 * @param o an {@link AccessorChain}
+	 * Dedicated to {@link AccessorChain} and {@link FlattenedAccessorChain}
+	 * @param accessors accessors of the chain
 	 * @return a {@link AccessorDefinition} describing input
 	 */
-	private static AccessorDefinition giveDefinition(AccessorChain o) {
+	static AccessorDefinition giveChainDefinition(List<IAccessor> accessors) {
 		StringAppender stringAppender = new StringAppender() {
 			@Override
 			public StringAppender cat(Object s) {
@@ -100,9 +126,9 @@ public class AccessorDefinition implements Comparable<AccessorDefinition> {
 				}
 			}
 		};
-		stringAppender.ccat(o.getAccessors(), ".");
-		IAccessor firstAccessor = (IAccessor) Iterables.first(o.getAccessors());
-		IAccessor lastAccessor = (IAccessor) Iterables.last(o.getAccessors());
+		stringAppender.ccat(accessors, ".");
+		IAccessor firstAccessor = Iterables.first(accessors);
+		IAccessor lastAccessor = Iterables.last(accessors);
 		return new AccessorDefinition(
 				giveDefinition(firstAccessor).getDeclaringClass(),
 				stringAppender.toString(),
@@ -146,9 +172,12 @@ public class AccessorDefinition implements Comparable<AccessorDefinition> {
 			result = MethodReferences.toMethodReferenceString(((MutatorByMethodReference) o).getMethodReference());
 		} else if (o instanceof PropertyAccessor) {
 			result = toString(((PropertyAccessor) o).getAccessor());
-		} else if (o instanceof AccessorChain) {
+		} else if (o instanceof AccessorChain || o instanceof FlattenedAccessorChain) {
+			List<IAccessor> accessors = o instanceof AccessorChain
+					? ((AccessorChain<?, ?>) o).getAccessors()
+					: ((FlattenedAccessorChain<?, ?>) o).getAccessors();
 			StringAppender chainPrint = new StringAppender();
-			((AccessorChain) o).getAccessors().forEach(accessor -> chainPrint.cat(toString((IAccessor) accessor)).cat(" > "));
+			accessors.forEach(accessor -> chainPrint.cat(toString(accessor)).cat(" > "));
 			result = chainPrint.cutTail(3).toString();
 		} else {
 			throw new UnsupportedOperationException("Don't know how find out member definition for " + Reflections.toString(o.getClass()));
@@ -201,22 +230,25 @@ public class AccessorDefinition implements Comparable<AccessorDefinition> {
 		}
 	}
 	
+	/**
+	 * Implementation consistent with {@link #equals(Object)} : based on name and hierarchy root of declaring class (because definitions
+	 * declared in a class and in one of its ancestors are equal), so {@link AccessorDefinition}s can be used as {@link java.util.HashMap} keys
+	 * 
+	 * @return a hash code of name and declaring class hierarchy
+	 */
 	@Override
 	public int hashCode() {
-		int result = declaringClass.hashCode();
-		result = 31 * result + name.hashCode();
-		result = 31 * result + memberType.hashCode();
-		return result;
+		return 31 * giveHierarchyRoot(declaringClass).hashCode() + name.hashCode();
 	}
 	
 	@Override
 	public int compareTo(@Nonnull AccessorDefinition o) {
 		if (name.equals(o.name)) {
-			ClassIterator classIterator1 = new ClassIterator(declaringClass);
-			ClassIterator classIterator2 = new ClassIterator(o.declaringClass);
-			List<Class> copy1 = Iterables.copy(classIterator1);
-			List<Class> copy2 = Iterables.copy(classIterator2);
-			return Iterables.intersect(copy1, copy2).isEmpty() ? (o.declaringClass.getName().compareTo(declaringClass.getName())) : 0;
+			// declaring classes are considered equal if they have a common ancestor, which is the case when they have the same hierarchy root,
+			// comparing them that way doesn't allocate anything contrary to comparing their whole hierarchy
+			return giveHierarchyRoot(declaringClass) == giveHierarchyRoot(o.declaringClass)
+					? 0
+					: o.declaringClass.getName().compareTo(declaringClass.getName());
 		} else {
 			return o.name.compareTo(name);
 		}
@@ -5,6 +5,8 @@ import javax.annotation.ParametersAreNonnullByDefault;
 import java.lang.reflect.Field;
 import java.lang.reflect.Member;
 import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
 import java.util.List;
 
 import org.danekja.java.util.function.serializable.SerializableBiConsumer;
@@ -28,6 +30,107 @@ public final class Accessors {
 	 */
 	private static final MethodReferenceCapturer methodCapturer = new MethodReferenceCapturer();
 	
+	/** Way of accessing members used by default by {@link AccessorByField}, {@link MutatorByField}, {@link AccessorByMethod} and {@link MutatorByMethod} */
+	private static volatile MemberAccessMode defaultMemberAccessMode = MemberAccessMode.METHOD_HANDLE;
+	
+	/**
+	 * @return the {@link MemberAccessMode} used by accessors and mutators by field or method created without explicit one
+	 */
+	public static MemberAccessMode getDefaultMemberAccessMode() {
+		return defaultMemberAccessMode;
+	}
+	
+	/**
+	 * Changes the {@link MemberAccessMode} used by accessors and mutators by field or method created without explicit one, mainly
+	 * for comparison purpose or to opt in for {@link MemberAccessMode#GENERATED} one. Already created instances are not impacted.
+	 *
+	 * @param memberAccessMode the new default mode, {@link MemberAccessMode#METHOD_HANDLE} by default
+	 */
+	public static void setDefaultMemberAccessMode(MemberAccessMode memberAccessMode) {
+		defaultMemberAccessMode = memberAccessMode;
+	}
+	
+	/** Indicates if factory methods give shared instances per member, see {@link #setCanonicalInstances(boolean)} */
+	private static volatile boolean canonicalInstances = false;
+	
+	/**
+	 * @return true if accessors and mutators by field or method created by this class are shared per member
+	 */
+	public static boolean isCanonicalInstances() {
+		return canonicalInstances;
+	}
+	
+	/**
+	 * Makes factory methods of this class give a single instance of {@link AccessorByField}, {@link MutatorByField}, {@link AccessorByMethod}
+	 * and {@link MutatorByMethod} per member (and {@link MemberAccessMode}), so that memory is shared between callers, and comparison of those
+	 * instances, as {@link java.util.Map} keys for instance, mainly is an identity one.
+	 * Already created instances are not impacted. Instances created through constructors are never shared.
+	 *
+	 * @param canonicalInstances true to share instances, false by default
+	 */
+	public static void setCanonicalInstances(boolean canonicalInstances) {
+		Accessors.canonicalInstances = canonicalInstances;
+	}
+	
+	/** Indicates if reflector failures are thrown without conversion nor stack trace, see {@link #setFastFail(boolean)} */
+	private static volatile boolean fastFail = false;
+	
+	/**
+	 * @return true if accessors and mutators failures are thrown without conversion nor stack trace
+	 */
+	public static boolean isFastFail() {
+		return fastFail;
+	}
+	
+	/**
+	 * Makes accessors and mutators of this package throw their failures as a {@link RuntimeException} without stack trace, which cause is the
+	 * original exception (not converted to a clearer one by {@link ExceptionConverter}). Aimed at code that uses failures as control flow (such as
+	 * probing some beans), for which building a stack trace and a detailed message is a waste. Message is still available, computed on demand.
+	 *
+	 * @param fastFail true to throw stackless exceptions, false by default
+	 */
+	public static void setFastFail(boolean fastFail) {
+		Accessors.fastFail = fastFail;
+	}
+	
+	/** Persistent cache of members found by property name, see {@link #setMetadataCache(MetadataCache)} */
+	@Nullable
+	private static volatile MetadataCache metadataCache;
+	
+	/**
+	 * @return the persistent cache given to {@link #setMetadataCache(MetadataCache)}, null if none
+	 */
+	@Nullable
+	public static MetadataCache getMetadataCache() {
+		return metadataCache;
+	}
+	
+	/**
+	 * Makes factory methods of this class, that find members by property name, consult given cache before looking up classes, and fill it with
+	 * members they find. Aimed at being given at application startup, and saved (see {@link MetadataCache#save()}) once application is warm.
+	 * Already looked up properties are not impacted.
+	 *
+	 * @param metadataCache a persistent cache, null to stop using one (default)
+	 */
+	public static void setMetadataCache(@Nullable MetadataCache metadataCache) {
+		Accessors.metadataCache = metadataCache;
+	}
+	
+	/**
+	 * Releases everything cached by this library about classes loaded by given {@link ClassLoader} or one of its children, so that it can be
+	 * garbage collected. Should be called when an application is undeployed from a container sharing this library between applications.
+	 * Per class caches (property models, method references metadata, generated accessors) don't need it since they're held by their class
+	 * (see {@link ClassValue}), only global ones are concerned.
+	 *
+	 * @param classLoader a {@link ClassLoader} about to be released
+	 */
+	public static void purge(ClassLoader classLoader) {
+		methodCapturer.purge(classLoader);
+		MethodReferences.purge(classLoader);
+		MethodReferenceDispatcher.purge(classLoader);
+		ValueAccessPointComparator.purge(classLoader);
+	}
+	
 	public static <C, T> AccessorByMethod<C, T> accessorByMethod(Field field) {
 		return accessorByMethod(field.getDeclaringClass(), field.getName());
 	}
@@ -36,6 +139,7 @@ public final class Accessors {
 	 * Shortcut to create a {@link AccessorByMethod} from a class and a property name.
 	 * Java bean naming convention will be applied to find out property getter name : prefixed with "get" or "is".
 	 * Returns null is getter method is not found.
+	 * Accessors generated for the class (see {@link GenerateAccessors}) are used if they exist.
 	 *
 	 * @param clazz any class 
 	 * @param propertyName a property name owned by the class or one of its parent
@@ -44,16 +148,13 @@ public final class Accessors {
 	 * @return null if getter method is not found
 	 */
 	public static <C, T> AccessorByMethod<C, T> accessorByMethod(Class clazz, String propertyName) {
-		String capitalizedProperty = Strings.capitalize(propertyName);
-		Method getter = Reflections.findMethod(clazz, "get" + capitalizedProperty);
-		if (getter == null) {
-			// try for boolean
-			Field field = Reflections.findField(clazz, propertyName);
-			if (field != null && (boolean.class.isAssignableFrom(field.getType()) || Boolean.class.isAssignableFrom(field.getType()))) {
-				getter = Reflections.findMethod(clazz, "is" + capitalizedProperty);
-			} // nothing found : neither get nor is => return null
+		GeneratedAccessors<C> generatedAccessors = GeneratedAccessorsRegistry.find((Class<C>) clazz);
+		AccessorByMethod<C, ?> generatedAccessor = generatedAccessors == null ? null : generatedAccessors.giveAccessorByMethod(propertyName);
+		if (generatedAccessor != null) {
+			return (AccessorByMethod<C, T>) generatedAccessor;
 		}
-		return getter == null ? null : new AccessorByMethod<>(getter);
+		Method getter = PropertyModel.of(clazz).findGetter(propertyName);
+		return getter == null ? null : newAccessorByMethod(getter);
 	}
 	
 	public static <C, T> AccessorByMethodReference<C, T> accessorByMethodReference(SerializableFunction<C, T> getter) {
@@ -81,11 +182,16 @@ public final class Accessors {
 	}
 	
 	public static <C, T> AccessorByField<C, T> accessorByField(Field field) {
-		return new AccessorByField<>(field);
+		return newAccessorByField(field);
 	}
 	
 	public static <C, T> AccessorByField<C, T> accessorByField(Class<C> clazz, String propertyName) {
-		Field propertyField = Reflections.getField(clazz, propertyName);
+		GeneratedAccessors<C> generatedAccessors = GeneratedAccessorsRegistry.find(clazz);
+		AccessorByField<C, ?> generatedAccessor = generatedAccessors == null ? null : generatedAccessors.giveAccessorByField(propertyName);
+		if (generatedAccessor != null) {
+			return (AccessorByField<C, T>) generatedAccessor;
+		}
+		Field propertyField = getField(clazz, propertyName);
 		return accessorByField(propertyField);
 	}
 	
@@ -106,20 +212,20 @@ public final class Accessors {
 	 */
 	@Nullable
 	public static <C, T> MutatorByMethod<C, T> mutatorByMethod(Class<C> clazz, String propertyName) {
-		Field propertyField;
-		try {
-			propertyField = Reflections.getField(clazz, propertyName);
-		} catch (MemberNotFoundException e) {
-			propertyField = null;
+		GeneratedAccessors<C> generatedAccessors = GeneratedAccessorsRegistry.find(clazz);
+		MutatorByMethod<C, ?> generatedMutator = generatedAccessors == null ? null : generatedAccessors.giveMutatorByMethod(propertyName);
+		if (generatedMutator != null) {
+			return (MutatorByMethod<C, T>) generatedMutator;
 		}
 		
+		Field propertyField = PropertyModel.of(clazz).findField(propertyName);
 		if (propertyField != null) {
 			// a matching field exists, we benefit from it to have a better method definition
 			Class<T> inputType = (Class<T>) propertyField.getType();
 			return mutatorByMethod(clazz, propertyName, inputType);
 		} else {
 			// we do our best : no argument is given because we couldn't determine it
-			return new MutatorByMethod<>(Reflections.getMethod(clazz, "set" + Strings.capitalize(propertyName)));
+			return newMutatorByMethod(Reflections.getMethod(clazz, "set" + Strings.capitalize(propertyName)));
 		}
 	}
 	
@@ -137,9 +243,14 @@ public final class Accessors {
 	 */
 	@Nullable
 	public static <C, T> MutatorByMethod<C, T> mutatorByMethod(Class<C> clazz, String propertyName, Class<T> inputType) {
-		String capitalizedProperty = Strings.capitalize(propertyName);
-		Method setter = Reflections.findMethod(clazz, "set" + capitalizedProperty, inputType);
-		return setter == null ? null : new MutatorByMethod<>(setter);
+		GeneratedAccessors<C> generatedAccessors = GeneratedAccessorsRegistry.find(clazz);
+		MutatorByMethod<C, ?> generatedMutator = generatedAccessors == null ? null : generatedAccessors.giveMutatorByMethod(propertyName);
+		// generated setter is the one that takes field type as argument : it can only be used if it matches expected one
+		if (generatedMutator != null && generatedMutator.getSetter().getParameterTypes()[0] == inputType) {
+			return (MutatorByMethod<C, T>) generatedMutator;
+		}
+		Method setter = PropertyModel.of(clazz).findSetter(propertyName, inputType);
+		return setter == null ? null : newMutatorByMethod(setter);
 	}
 	
 	public static <C, T> MutatorByMethodReference<C, T> mutatorByMethodReference(SerializableBiConsumer<C, T> setter) {
@@ -147,21 +258,115 @@ public final class Accessors {
 	}
 	
 	public static <C, T> MutatorByField<C, T> mutatorByField(Field field) {
-		return new MutatorByField<>(field);
+		return newMutatorByField(field);
 	}
 	
 	public static <C, T> MutatorByField<C, T> mutatorByField(Class clazz, String propertyName) {
-		Field propertyField = Reflections.getField(clazz, propertyName);
+		GeneratedAccessors<C> generatedAccessors = GeneratedAccessorsRegistry.find((Class<C>) clazz);
+		MutatorByField<C, ?> generatedMutator = generatedAccessors == null ? null : generatedAccessors.giveMutatorByField(propertyName);
+		if (generatedMutator != null) {
+			return (MutatorByField<C, T>) generatedMutator;
+		}
+		Field propertyField = getField(clazz, propertyName);
 		return mutatorByField(propertyField);
 	}
 	
+	private static <C, T> AccessorByField<C, T> newAccessorByField(Field field) {
+		return newAccessorByField(field, canonicalInstances);
+	}
+	
+	private static <C, T> AccessorByField<C, T> newAccessorByField(Field field, boolean canonical) {
+		return canonical
+				? PropertyModel.of(field.getDeclaringClass()).giveCanonicalReflector(field, false, defaultMemberAccessMode, AccessorByField::new)
+				: new AccessorByField<>(field);
+	}
+	
+	private static <C, T> MutatorByField<C, T> newMutatorByField(Field field) {
+		return newMutatorByField(field, canonicalInstances);
+	}
+	
+	private static <C, T> MutatorByField<C, T> newMutatorByField(Field field, boolean canonical) {
+		return canonical
+				? PropertyModel.of(field.getDeclaringClass()).giveCanonicalReflector(field, true, defaultMemberAccessMode, MutatorByField::new)
+				: new MutatorByField<>(field);
+	}
+	
+	private static <C, T> AccessorByMethod<C, T> newAccessorByMethod(Method getter) {
+		return newAccessorByMethod(getter, canonicalInstances);
+	}
+	
+	/**
+	 * @param getter a no-arg method, so created instance can be shared since it has no parameter, which is enforced by
+	 * {@link AccessorByMethod#share()}
+	 * @param canonical true to get the instance shared per getter
+	 */
+	private static <C, T> AccessorByMethod<C, T> newAccessorByMethod(Method getter, boolean canonical) {
+		return canonical
+				? PropertyModel.of(getter.getDeclaringClass()).giveCanonicalReflector(getter, false, defaultMemberAccessMode,
+						(method, accessMode) -> new AccessorByMethod<C, T>(method, accessMode).share())
+				: new AccessorByMethod<>(getter);
+	}
+	
+	private static <C, T> MutatorByMethod<C, T> newMutatorByMethod(Method setter) {
+		return newMutatorByMethod(setter, canonicalInstances);
+	}
+	
+	private static <C, T> MutatorByMethod<C, T> newMutatorByMethod(Method setter, boolean canonical) {
+		return canonical
+				? PropertyModel.of(setter.getDeclaringClass()).giveCanonicalReflector(setter, true, defaultMemberAccessMode, MutatorByMethod::new)
+				: new MutatorByMethod<>(setter);
+	}
+	
+	/**
+	 * Same as {@link #propertyAccessor(Class, String)} with shared instances, whatever {@link #setCanonicalInstances(boolean)} is, so that
+	 * {@link WarmUp} exercises the instances given to callers when canonical instances are enabled. Properties of classes having generated
+	 * accessors are left as is since generated accessors are new instances on each call.
+	 * 
+	 * @param clazz the class owning the property
+	 * @param propertyName the name of the property
+	 * @return accessor and mutator shared per member and {@link MemberAccessMode}
+	 */
+	static <C, T> PropertyAccessor<C, T> canonicalPropertyAccessor(Class<C> clazz, String propertyName) {
+		PropertyAccessor<C, T> result = propertyAccessor(clazz, propertyName);
+		if (canonicalInstances || GeneratedAccessorsRegistry.find(clazz) != null) {
+			return result;
+		}
+		IAccessor<C, T> accessor = result.getAccessor();
+		if (accessor instanceof AccessorByField) {
+			accessor = newAccessorByField(((AccessorByField<C, T>) accessor).getGetter(), true);
+		} else if (accessor instanceof AccessorByMethod) {
+			accessor = newAccessorByMethod(((AccessorByMethod<C, T>) accessor).getGetter(), true);
+		}
+		IMutator<C, T> mutator = result.getMutator();
+		if (mutator instanceof MutatorByField) {
+			mutator = newMutatorByField(((MutatorByField<C, T>) mutator).getSetter(), true);
+		} else if (mutator instanceof MutatorByMethod) {
+			mutator = newMutatorByMethod(((MutatorByMethod<C, T>) mutator).getSetter(), true);
+		}
+		return new PropertyAccessor<>(accessor, mutator);
+	}
+	
+	/**
+	 * Same as {@link Reflections#getField(Class, String)} but looked up through {@link PropertyModel} so that repeated calls are cheap
+	 * 
+	 * @throws MemberNotFoundException if field is not found
+	 */
+	private static Field getField(Class clazz, String propertyName) {
+		Field result = PropertyModel.of(clazz).findField(propertyName);
+		if (result == null) {
+			// we let Reflections throw its usual exception
+			result = Reflections.getField(clazz, propertyName);
+		}
+		return result;
+	}
+	
 	public static Field wrappedField(AccessorByMethod accessorByMethod) {
 		Method getter = accessorByMethod.getGetter();
 		return Reflections.wrappedField(getter);
 	}
 	
 	public static <C, T> PropertyAccessor<C, T> propertyAccessor(Field field) {
-		return new PropertyAccessor<>(new AccessorByField<>(field), new MutatorByField<>(field));
+		return new PropertyAccessor<>(newAccessorByField(field), newMutatorByField(field));
 	}
 	
 	public static <C, T> PropertyAccessor<C, T> propertyAccessor(Class<C> clazz, String propertyName) {
@@ -182,9 +387,9 @@ public final class Accessors {
 	public static <C, T, M extends Member> AccessorByMember<C, T, M> accessor(Class<C> clazz, String propertyName) {
 		AccessorByMember<C, T, ?> propertyGetter = accessorByMethod(clazz, propertyName);
 		if (propertyGetter == null) {
-			// NB: we use getField instead of findField because the latest returns null if field wasn't found
-			// so AccessorByField will throw a NPE later
-			propertyGetter = new AccessorByField<>(Reflections.getField(clazz, propertyName));
+			// NB: accessorByField(..) uses getField instead of findField because the latest returns null if field wasn't found
+			// so AccessorByField would throw a NPE later
+			propertyGetter = accessorByField(clazz, propertyName);
 		}
 		return (AccessorByMember<C, T, M>) propertyGetter;
 	}
@@ -203,12 +408,12 @@ public final class Accessors {
 		if (propertyGetter == null) {
 			// NB: we use getField instead of findField because the latest returns null if field wasn't found
 			// so AccessorByField will throw a NPE later
-			Field foundField = Reflections.getField(clazz, propertyName);
+			Field foundField = getField(clazz, propertyName);
 			if (!Reflections.isAssignableFrom(propertyType, foundField.getType())) {
 				throw new MemberNotFoundException("Member type doesn't match expected one for field " + Reflections.toString(foundField)
 						+ ": expected " + Reflections.toString(propertyType) + " but is " + Reflections.toString(foundField.getType()) );
 			}
-			propertyGetter = new AccessorByField<>(foundField);
+			propertyGetter = newAccessorByField(foundField);
 		}
 		return (AccessorByMember<C, T, M>) propertyGetter;
 	}
@@ -225,9 +430,9 @@ public final class Accessors {
 	public static <C, T, M extends Member> MutatorByMember<C, T, M> mutator(Class<C> clazz, String propertyName) {
 		MutatorByMember<C, T, ?> propertySetter = mutatorByMethod(clazz, propertyName);
 		if (propertySetter == null) {
-			// NB: we use getField instead of findField because the latest returns null if field wasn't found
-			// so AccessorByField will throw a NPE later
-			propertySetter = new MutatorByField<>(Reflections.getField(clazz, propertyName));
+			// NB: mutatorByField(..) uses getField instead of findField because the latest returns null if field wasn't found
+			// so MutatorByField would throw a NPE later
+			propertySetter = mutatorByField(clazz, propertyName);
 		}
 		return (MutatorByMember<C, T, M>) propertySetter;
 	}
@@ -246,16 +451,100 @@ public final class Accessors {
 		if (propertySetter == null) {
 			// NB: we use getField instead of findField because the latest returns null if field wasn't found
 			// so AccessorByField will throw a NPE later
-			Field foundField = Reflections.getField(clazz, propertyName);
+			Field foundField = getField(clazz, propertyName);
 			if (!Reflections.isAssignableFrom(propertyType, foundField.getType())) {
 				throw new MemberNotFoundException("Member type doesn't match expected one for field " + Reflections.toString(foundField)
 						+ ": expected " + Reflections.toString(propertyType) + " but is " + Reflections.toString(foundField.getType()) );
 			}
-			propertySetter = new MutatorByField<>(foundField);
+			propertySetter = newMutatorByField(foundField);
 		}
 		return (MutatorByMember<C, T, M>) propertySetter;
 	}
 	
+	/**
+	 * Creates an {@link IntAccessor} for the given int property of the given class, which reads it without boxing.
+	 * Does it with conventional getter or a direct access to the field, as {@link #accessor(Class, String, Class)} does.
+	 *
+	 * @param clazz the class owning the property
+	 * @param propertyName the name of the property
+	 * @param <C> the type of the class owning the property
+	 * @return a new {@link IntAccessor}
+	 */
+	public static <C> IntAccessor<C> intAccessor(Class<C> clazz, String propertyName) {
+		// NB: AccessorByMethod and AccessorByField, which are returned by accessor(..), implement IntAccessor
+		return (IntAccessor<C>) accessor(clazz, propertyName, int.class);
+	}
+	
+	/**
+	 * Creates an {@link IntMutator} for the given int property of the given class, which writes it without boxing.
+	 * Does it with conventional setter or a direct access to the field, as {@link #mutator(Class, String, Class)} does.
+	 *
+	 * @param clazz the class owning the property
+	 * @param propertyName the name of the property
+	 * @param <C> the type of the class owning the property
+	 * @return a new {@link IntMutator}
+	 */
+	public static <C> IntMutator<C> intMutator(Class<C> clazz, String propertyName) {
+		// NB: MutatorByMethod and MutatorByField, which are returned by mutator(..), implement IntMutator
+		return (IntMutator<C>) mutator(clazz, propertyName, int.class);
+	}
+	
+	/**
+	 * Creates an {@link LongAccessor} for the given long property of the given class, which reads it without boxing.
+	 * Does it with conventional getter or a direct access to the field, as {@link #accessor(Class, String, Class)} does.
+	 *
+	 * @param clazz the class owning the property
+	 * @param propertyName the name of the property
+	 * @param <C> the type of the class owning the property
+	 * @return a new {@link LongAccessor}
+	 */
+	public static <C> LongAccessor<C> longAccessor(Class<C> clazz, String propertyName) {
+		// NB: AccessorByMethod and AccessorByField, which are returned by accessor(..), implement LongAccessor
+		return (LongAccessor<C>) accessor(clazz, propertyName, long.class);
+	}
+	
+	/**
+	 * Creates an {@link LongMutator} for the given long property of the given class, which writes it without boxing.
+	 * Does it with conventional setter or a direct access to the field, as {@link #mutator(Class, String, Class)} does.
+	 *
+	 * @param clazz the class owning the property
+	 * @param propertyName the name of the property
+	 * @param <C> the type of the class owning the property
+	 * @return a new {@link LongMutator}
+	 */
+	public static <C> LongMutator<C> longMutator(Class<C> clazz, String propertyName) {
+		// NB: MutatorByMethod and MutatorByField, which are returned by mutator(..), implement LongMutator
+		return (LongMutator<C>) mutator(clazz, propertyName, long.class);
+	}
+	
+	/**
+	 * Creates an {@link DoubleAccessor} for the given double property of the given class, which reads it without boxing.
+	 * Does it with conventional getter or a direct access to the field, as {@link #accessor(Class, String, Class)} does.
+	 *
+	 * @param clazz the class owning the property
+	 * @param propertyName the name of the property
+	 * @param <C> the type of the class owning the property
+	 * @return a new {@link DoubleAccessor}
+	 */
+	public static <C> DoubleAccessor<C> doubleAccessor(Class<C> clazz, String propertyName) {
+		// NB: AccessorByMethod and AccessorByField, which are returned by accessor(..), implement DoubleAccessor
+		return (DoubleAccessor<C>) accessor(clazz, propertyName, double.class);
+	}
+	
+	/**
+	 * Creates an {@link DoubleMutator} for the given double property of the given class, which writes it without boxing.
+	 * Does it with conventional setter or a direct access to the field, as {@link #mutator(Class, String, Class)} does.
+	 *
+	 * @param clazz the class owning the property
+	 * @param propertyName the name of the property
+	 * @param <C> the type of the class owning the property
+	 * @return a new {@link DoubleMutator}
+	 */
+	public static <C> DoubleMutator<C> doubleMutator(Class<C> clazz, String propertyName) {
+		// NB: MutatorByMethod and MutatorByField, which are returned by mutator(..), implement DoubleMutator
+		return (DoubleMutator<C>) mutator(clazz, propertyName, double.class);
+	}
+	
 	public static <C, E> PropertyAccessor<C, E> accessor(SerializableFunction<C, E> getter) {
 		AccessorByMethodReference<C, E> methodReference = accessorByMethodReference(getter);
 		return new PropertyAccessor<>(
@@ -355,12 +644,110 @@ public final class Accessors {
 			return giveReturnType(((PropertyAccessor) accessor).getAccessor());
 		} else if (accessor instanceof AccessorChain) {
 			return giveReturnType(Iterables.last((List<IAccessor>) ((AccessorChain) accessor).getAccessors()));
+		} else if (accessor instanceof FlattenedAccessorChain) {
+			return giveReturnType(Iterables.last((List<IAccessor>) ((FlattenedAccessorChain) accessor).getAccessors()));
 		} else {
 			// for future new MutatorByMember that are neither a Field nor a Method ... should not happen 
 			throw new UnsupportedOperationException("Accessor type is not implemented : " + accessor);
 		}
 	}
 	
+	/**
+	 * Gives the generic type of values read by an accessor, as declared by its member : a {@link ParameterizedType} for a field declared as
+	 * List&lt;String&gt; for instance. Implementation is based on well-known accessor classes, as {@link #giveReturnType(IAccessor)} is.
+	 * 
+	 * @param accessor any {@link IAccessor}
+	 * @return generic type of the value returned by accessor
+	 * @see #giveGenericReturnType(IAccessor, Type)
+	 */
+	public static Type giveGenericReturnType(IAccessor accessor) {
+		return giveGenericReturnType(accessor, null);
+	}
+	
+	/**
+	 * Same as {@link #giveGenericReturnType(IAccessor)} with type variables replaced by their value in given owner type : {@link List#get(int)}
+	 * accessor gives Address for a List&lt;Address&gt; owner, and accessor of a field declared as T in Parent&lt;T&gt; gives String for a
+	 * class extending Parent&lt;String&gt;. Resolution along class hierarchy is computed once per member and owner class.
+	 * For an {@link AccessorChain}, owner type is the one of its first accessor, next ones are resolved against the type of previous link,
+	 * hence a chain ending by a {@link ListAccessor} gives the element type of the list.
+	 * 
+	 * @param accessor any {@link IAccessor}
+	 * @param ownerType a class or a parameterized type of the instances on which accessor is applied, null means member declaring class
+	 * @return generic type of the value returned by accessor
+	 */
+	public static Type giveGenericReturnType(IAccessor accessor, @Nullable Type ownerType) {
+		if (accessor instanceof AccessorByMember) {
+			return giveMemberType(((AccessorByMember) accessor).getGetter(), ownerType, false);
+		} else if (accessor instanceof AccessorByMethodReference) {
+			return giveMemberType(methodCapturer.findMethod(((AccessorByMethodReference) accessor).getMethodReference()), ownerType, false);
+		} else if (accessor instanceof PropertyAccessor) {
+			return giveGenericReturnType(((PropertyAccessor) accessor).getAccessor(), ownerType);
+		} else if (accessor instanceof AccessorChain || accessor instanceof FlattenedAccessorChain) {
+			List<IAccessor> links = accessor instanceof AccessorChain
+					? ((AccessorChain) accessor).getAccessors()
+					: ((FlattenedAccessorChain) accessor).getAccessors();
+			Type result = ownerType;
+			for (IAccessor link : links) {
+				result = giveGenericReturnType(link, result);
+			}
+			return result;
+		} else {
+			// for future new MutatorByMember that are neither a Field nor a Method ... should not happen 
+			throw new UnsupportedOperationException("Accessor type is not implemented : " + accessor);
+		}
+	}
+	
+	/**
+	 * Gives the generic type of values written by a mutator, as declared by its member. Implementation is based on well-known mutator classes,
+	 * as {@link #giveInputType(IMutator)} is.
+	 * 
+	 * @param mutator any {@link IMutator}
+	 * @return generic type of input value of a setter and type of a field
+	 * @see #giveGenericInputType(IMutator, Type)
+	 */
+	public static Type giveGenericInputType(IMutator mutator) {
+		return giveGenericInputType(mutator, null);
+	}
+	
+	/**
+	 * Same as {@link #giveGenericInputType(IMutator)} with type variables replaced by their value in given owner type, see
+	 * {@link #giveGenericReturnType(IAccessor, Type)}
+	 * 
+	 * @param mutator any {@link IMutator}
+	 * @param ownerType a class or a parameterized type of the instances on which mutator is applied, null means member declaring class
+	 * @return generic type of input value of a setter and type of a field
+	 */
+	public static Type giveGenericInputType(IMutator mutator, @Nullable Type ownerType) {
+		if (mutator instanceof MutatorByMember) {
+			return giveMemberType(((MutatorByMember) mutator).getSetter(), ownerType, true);
+		} else if (mutator instanceof MutatorByMethodReference) {
+			return giveMemberType(methodCapturer.findMethod(((MutatorByMethodReference) mutator).getMethodReference()), ownerType, true);
+		} else if (mutator instanceof PropertyAccessor) {
+			return giveGenericInputType(((PropertyAccessor) mutator).getMutator(), ownerType);
+		} else if (mutator instanceof AccessorChainMutator) {
+			// mutator is applied on the value returned by the chain
+			Type mutatorOwnerType = giveGenericReturnType((AccessorChainMutator) mutator, ownerType);
+			return giveGenericInputType(((AccessorChainMutator) mutator).getMutator(), mutatorOwnerType);
+		} else {
+			// for future new MutatorByMember that are neither a Field nor a Method ... should not happen 
+			throw new UnsupportedOperationException("Mutator type is not implemented : " + mutator);
+		}
+	}
+	
+	private static Type giveMemberType(Member member, @Nullable Type ownerType, boolean input) {
+		if (!(member instanceof Field || member instanceof Method)) {
+			// for future new MutatorByMember that are neither a Field nor a Method ... should not happen 
+			throw new UnsupportedOperationException("Member type is not implemented : " + member);
+		}
+		Type owner = ownerType == null ? member.getDeclaringClass() : ownerType;
+		PropertyModel propertyModel = PropertyModel.of(GenericTypes.rawType(owner));
+		Type result = input ? propertyModel.giveInputType(member) : propertyModel.giveAccessedType(member);
+		if (owner instanceof ParameterizedType) {
+			result = GenericTypes.substitute(result, GenericTypes.giveTypeVariableBindings((ParameterizedType) owner));
+		}
+		return result;
+	}
+	
 	private Accessors() {
 		// utility class
 	}
@@ -3,10 +3,15 @@ package org.gama.reflection;
 import java.lang.reflect.Array;
 
 /**
+ * Accessor to an array element. Access is specialized according to the array type (Object[], int[], long[], double[], byte[] and char[])
+ * to avoid {@link Array} reflective methods, and primitive elements can be read without boxing through {@link #getInt(Object)},
+ * {@link #getLong(Object)}, {@link #getDouble(Object)}, {@link #getByte(Object)} and {@link #getChar(Object)}.
+ * 
  * @author Guillaume Mary
  */
 // NB: I didn't manage to create AbstractAccessor<C[], C> without having a "C cannot be cast to Object[]" from MetaModelAccessorBuilder
-public class ArrayAccessor<C> extends AbstractAccessor<C, C> implements IReversibleAccessor<C, C> {
+public class ArrayAccessor<C> extends AbstractAccessor<C, C> implements IReversibleAccessor<C, C>,
+		IntAccessor<C>, LongAccessor<C>, DoubleAccessor<C> {
 	
 	private int index;
 	
@@ -23,6 +28,7 @@ public class ArrayAccessor<C> extends AbstractAccessor<C, C> implements IReversi
 	
 	public void setIndex(int index) {
 		this.index = index;
+		structureChanged();
 	}
 	
 	/**
@@ -45,7 +51,119 @@ public class ArrayAccessor<C> extends AbstractAccessor<C, C> implements IReversi
 	
 	@Override
 	protected C doGet(C cs) {
-		return (C) Array.get(cs, getIndex());
+		// NB: most common array types are accessed directly, others (and erroneous cases) go through Array.get(..)
+		if (cs instanceof Object[]) {
+			return (C) ((Object[]) cs)[getIndex()];
+		} else if (cs instanceof int[]) {
+			return (C) (Integer) ((int[]) cs)[getIndex()];
+		} else if (cs instanceof long[]) {
+			return (C) (Long) ((long[]) cs)[getIndex()];
+		} else if (cs instanceof double[]) {
+			return (C) (Double) ((double[]) cs)[getIndex()];
+		} else if (cs instanceof byte[]) {
+			return (C) (Byte) ((byte[]) cs)[getIndex()];
+		} else if (cs instanceof char[]) {
+			return (C) (Character) ((char[]) cs)[getIndex()];
+		} else {
+			return (C) Array.get(cs, getIndex());
+		}
+	}
+	
+	/**
+	 * Reads an element of an int[] without boxing. Other arrays are supported if their elements can be widened to int, as with
+	 * {@link Array#getInt(Object, int)}.
+	 * 
+	 * @param cs an array
+	 * @return element at {@link #getIndex()}
+	 */
+	@Override
+	public int getInt(C cs) {
+		try {
+			return cs instanceof int[] ? ((int[]) cs)[getIndex()] : Array.getInt(cs, getIndex());
+		} catch (RuntimeException t) {
+			handleException(t, cs);
+			// shouldn't happen
+			return 0;
+		}
+	}
+	
+	/**
+	 * Same as {@link #getInt(Object)} for long[]
+	 * 
+	 * @param cs an array
+	 * @return element at {@link #getIndex()}
+	 */
+	@Override
+	public long getLong(C cs) {
+		try {
+			return cs instanceof long[] ? ((long[]) cs)[getIndex()] : Array.getLong(cs, getIndex());
+		} catch (RuntimeException t) {
+			handleException(t, cs);
+			// shouldn't happen
+			return 0;
+		}
+	}
+	
+	/**
+	 * Same as {@link #getInt(Object)} for double[]
+	 *
+	 * @param cs an array
+	 * @return element at {@link #getIndex()}
+	 */
+	@Override
+	public double getDouble(C cs) {
+		try {
+			return cs instanceof double[] ? ((double[]) cs)[getIndex()] : Array.getDouble(cs, getIndex());
+		} catch (RuntimeException t) {
+			handleException(t, cs);
+			// shouldn't happen
+			return 0;
+		}
+	}
+	
+	/**
+	 * Same as {@link #getInt(Object)} for byte[]
+	 *
+	 * @param cs an array
+	 * @return element at {@link #getIndex()}
+	 */
+	public byte getByte(C cs) {
+		try {
+			return cs instanceof byte[] ? ((byte[]) cs)[getIndex()] : Array.getByte(cs, getIndex());
+		} catch (RuntimeException t) {
+			handleException(t, cs);
+			// shouldn't happen
+			return 0;
+		}
+	}
+	
+	/**
+	 * Same as {@link #getInt(Object)} for char[]
+	 *
+	 * @param cs an array
+	 * @return element at {@link #getIndex()}
+	 */
+	public char getChar(C cs) {
+		try {
+			return cs instanceof char[] ? ((char[]) cs)[getIndex()] : Array.getChar(cs, getIndex());
+		} catch (RuntimeException t) {
+			handleException(t, cs);
+			// shouldn't happen
+			return 0;
+		}
+	}
+	
+	/**
+	 * Implementation based on index, which is equivalent to description comparison without building it
+	 */
+	@Override
+	public boolean equals(Object other) {
+		return this == other || (other instanceof ArrayAccessor && index == ((ArrayAccessor) other).index);
+	}
+	
+	@Override
+	public int hashCode() {
+		return index;
 	}
 	
 	@Override
@@ -3,10 +3,15 @@ package org.gama.reflection;
 import java.lang.reflect.Array;
 
 /**
+ * Mutator of an array element. Access is specialized according to the array type (Object[], int[], long[], double[], byte[] and char[])
+ * to avoid {@link Array} reflective methods, and primitive elements can be written without boxing through {@link #setInt(Object, int)},
+ * {@link #setLong(Object, long)}, {@link #setDouble(Object, double)}, {@link #setByte(Object, byte)} and {@link #setChar(Object, char)}.
+ * 
  * @author Guillaume Mary
  */
 // NB: I didn't manage to create AbstractMutator<C[], C> without having a "C cannot be cast to Object[]" from MetaModelAccessorBuilder
-public class ArrayMutator<C> extends AbstractMutator<C, C> implements IReversibleMutator<C, C> {
+public class ArrayMutator<C> extends AbstractMutator<C, C> implements IReversibleMutator<C, C>,
+		IntMutator<C>, LongMutator<C>, DoubleMutator<C> {
 	
 	private int index;
 	
@@ -23,6 +28,7 @@ public class ArrayMutator<C> extends AbstractMutator<C, C> implements IReversibl
 	
 	public void setIndex(int index) {
 		this.index = index;
+		structureChanged();
 	}
 	
 	/**
@@ -36,14 +42,142 @@ public class ArrayMutator<C> extends AbstractMutator<C, C> implements IReversibl
 	public void set(C c, C other) {
 		try {
 			doSet(c, other);
-		} catch (Throwable throwable) {
-			handleException(throwable, c);
+		} catch (RuntimeException t) {
+			handleException(t, c, other);
 		}
 	}
 	
 	@Override
 	protected void doSet(C cs, C c) {
-		Array.set(cs, getIndex(), c);
+		// NB: most common array types are accessed directly, others (and erroneous cases, as well as values that need widening) go through
+		// Array.set(..)
+		if (cs instanceof Object[]) {
+			try {
+				((Object[]) cs)[getIndex()] = c;
+			} catch (ArrayStoreException e) {
+				// we mimic Array.set(..)
+				throw new IllegalArgumentException("array element type mismatch", e);
+			}
+		} else if (cs instanceof int[] && c instanceof Integer) {
+			((int[]) cs)[getIndex()] = (Integer) c;
+		} else if (cs instanceof long[] && c instanceof Long) {
+			((long[]) cs)[getIndex()] = (Long) c;
+		} else if (cs instanceof double[] && c instanceof Double) {
+			((double[]) cs)[getIndex()] = (Double) c;
+		} else if (cs instanceof byte[] && c instanceof Byte) {
+			((byte[]) cs)[getIndex()] = (Byte) c;
+		} else if (cs instanceof char[] && c instanceof Character) {
+			((char[]) cs)[getIndex()] = (Character) c;
+		} else {
+			Array.set(cs, getIndex(), c);
+		}
+	}
+	
+	/**
+	 * Writes an element of an int[] without boxing. Other arrays are supported if int can be widened to their element type, as with
+	 * {@link Array#setInt(Object, int, int)}.
+	 * 
+	 * @param cs an array
+	 * @param value the value to be set at {@link #getIndex()}
+	 */
+	@Override
+	public void setInt(C cs, int value) {
+		try {
+			if (cs instanceof int[]) {
+				((int[]) cs)[getIndex()] = value;
+			} else {
+				Array.setInt(cs, getIndex(), value);
+			}
+		} catch (RuntimeException t) {
+			handleException(t, cs, value);
+		}
+	}
+	
+	/**
+	 * Same as {@link #setInt(Object, int)} for long[]
+	 *
+	 * @param cs an array
+	 * @param value the value to be set at {@link #getIndex()}
+	 */
+	@Override
+	public void setLong(C cs, long value) {
+		try {
+			if (cs instanceof long[]) {
+				((long[]) cs)[getIndex()] = value;
+			} else {
+				Array.setLong(cs, getIndex(), value);
+			}
+		} catch (RuntimeException t) {
+			handleException(t, cs, value);
+		}
+	}
+	
+	/**
+	 * Same as {@link #setInt(Object, int)} for double[]
+	 *
+	 * @param cs an array
+	 * @param value the value to be set at {@link #getIndex()}
+	 */
+	@Override
+	public void setDouble(C cs, double value) {
+		try {
+			if (cs instanceof double[]) {
+				((double[]) cs)[getIndex()] = value;
+			} else {
+				Array.setDouble(cs, getIndex(), value);
+			}
+		} catch (RuntimeException t) {
+			handleException(t, cs, value);
+		}
+	}
+	
+	/**
+	 * Same as {@link #setInt(Object, int)} for byte[]
+	 *
+	 * @param cs an array
+	 * @param value the value to be set at {@link #getIndex()}
+	 */
+	public void setByte(C cs, byte value) {
+		try {
+			if (cs instanceof byte[]) {
+				((byte[]) cs)[getIndex()] = value;
+			} else {
+				Array.setByte(cs, getIndex(), value);
+			}
+		} catch (RuntimeException t) {
+			handleException(t, cs, value);
+		}
+	}
+	
+	/**
+	 * Same as {@link #setInt(Object, int)} for char[]
+	 *
+	 * @param cs an array
+	 * @param value the value to be set at {@link #getIndex()}
+	 */
+	public void setChar(C cs, char value) {
+		try {
+			if (cs instanceof char[]) {
+				((char[]) cs)[getIndex()] = value;
+			} else {
+				Array.setChar(cs, getIndex(), value);
+			}
+		} catch (RuntimeException t) {
+			handleException(t, cs, value);
+		}
+	}
+	
+	/**
+	 * Implementation based on index, which is equivalent to description comparison without building it
+	 */
+	@Override
+	public boolean equals(Object other) {
+		return this == other || (other instanceof ArrayMutator && index == ((ArrayMutator) other).index);
+	}
+	
+	@Override
+	public int hashCode() {
+		return index;
 	}
 	
 	@Override
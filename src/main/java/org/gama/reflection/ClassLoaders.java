@@ -0,0 +1,48 @@
+package org.gama.reflection;
+
+import javax.annotation.Nullable;
+
+/**
+ * Helper to make caches aware of {@link ClassLoader}s, so they don't keep classes of a {@link ClassLoader} that must be unloaded
+ * (on application redeployment in a container for instance)
+ * 
+ * @author Guillaume Mary
+ */
+final class ClassLoaders {
+	
+	/**
+	 * Indicates if given {@link ClassLoader} is the given child one or one of its ancestors : classes it loads can't be unloaded before the
+	 * child ones
+	 * 
+	 * @param classLoader any {@link ClassLoader}, null means bootstrap one
+	 * @param child any {@link ClassLoader}, null means bootstrap one
+	 * @return true if classLoader is child or one of its parents
+	 */
+	static boolean isParentOrSame(@Nullable ClassLoader classLoader, @Nullable ClassLoader child) {
+		ClassLoader current = child;
+		while (current != null) {
+			if (current == classLoader) {
+				return true;
+			}
+			current = current.getParent();
+		}
+		// bootstrap class loader is the parent of all
+		return classLoader == null;
+	}
+	
+	/**
+	 * Indicates if given class was loaded by given {@link ClassLoader} or one of its children, in which case it must be released when the
+	 * {@link ClassLoader} is
+	 * 
+	 * @param type any class, null accepted
+	 * @param classLoader a non bootstrap {@link ClassLoader}
+	 * @return true if type was loaded by classLoader or one of its children
+	 */
+	static boolean isLoadedBy(@Nullable Class<?> type, ClassLoader classLoader) {
+		return type != null && type.getClassLoader() != null && isParentOrSame(classLoader, type.getClassLoader());
+	}
+	
+	private ClassLoaders() {
+		// utility class
+	}
+}
@@ -0,0 +1,33 @@
+package org.gama.reflection;
+
+import java.util.List;
+
+/**
+ * Accessor dedicated to double values, avoiding boxing of {@link IAccessor#get(Object)}.
+ * Implemented by {@link AccessorByField} and {@link AccessorByMethod}, which support member types that can be widened to double, as
+ * {@link java.lang.reflect.Field#getDouble(Object)} does.
+ * 
+ * @param <C> the owning type of the value to be accessed
+ * @author Guillaume Mary
+ * @see Accessors#doubleAccessor(Class, String)
+ */
+@FunctionalInterface
+public interface DoubleAccessor<C> extends ValueAccessPoint {
+	
+	double getDouble(C c);
+	
+	/**
+	 * Bulk version of {@link #getDouble(Object)}, see {@link IAccessor#getAll(List, Object[])}
+	 * 
+	 * @param beans the beans to be read
+	 * @param out array receiving values, must be at least as long as beans
+	 * @throws IllegalArgumentException if out is shorter than beans
+	 */
+	default void getAllDouble(List<? extends C> beans, double[] out) {
+		AbstractReflector.checkBulkSize(beans.size(), out.length);
+		int index = 0;
+		for (C c : beans) {
+			out[index++] = getDouble(c);
+		}
+	}
+}
@@ -0,0 +1,33 @@
+package org.gama.reflection;
+
+import java.util.List;
+
+/**
+ * Mutator dedicated to double values, avoiding boxing of {@link IMutator#set(Object, Object)}.
+ * Implemented by {@link MutatorByField} and {@link MutatorByMethod}, which support member types to which double can be widened, as
+ * {@link java.lang.reflect.Field#setDouble(Object, double)} does.
+ * 
+ * @param <C> the owning type of the value to be modified
+ * @author Guillaume Mary
+ * @see Accessors#doubleMutator(Class, String)
+ */
+@FunctionalInterface
+public interface DoubleMutator<C> extends ValueAccessPoint {
+	
+	void setDouble(C c, double value);
+	
+	/**
+	 * Bulk version of {@link #setDouble(Object, double)}, see {@link IMutator#setAll(List, Object[])}
+	 * 
+	 * @param beans the beans to be modified
+	 * @param values values to be set, must be at least as long as beans
+	 * @throws IllegalArgumentException if values is shorter than beans
+	 */
+	default void setAllDouble(List<? extends C> beans, double[] values) {
+		AbstractReflector.checkBulkSize(beans.size(), values.length);
+		int index = 0;
+		for (C c : beans) {
+			setDouble(c, values[index++]);
+		}
+	}
+}
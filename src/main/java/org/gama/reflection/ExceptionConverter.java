@@ -1,9 +1,12 @@
 package org.gama.reflection;
 
+import javax.annotation.Nullable;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Member;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 
 import org.gama.lang.Reflections;
 import org.gama.lang.StringAppender;
@@ -14,11 +17,26 @@ import org.gama.lang.exception.NotImplementedException;
 
 /**
  * A tool class to convert some exceptions from default JDK to a clearer one, well ... hope so !
+ * Stateless, hence shared by all reflectors, see {@link #INSTANCE}.
  *
  * @author Guillaume Mary
  */
 public class ExceptionConverter {
 	
+	/** Instance used by reflectors of this package */
+	static final ExceptionConverter INSTANCE = new ExceptionConverter();
+	
+	/**
+	 * Converts given exception thrown by given reflector.
+	 * Cases of {@link IllegalArgumentException} are determined by checking target and arguments against reflector member (with
+	 * {@link Class#isInstance(Object)}) rather than by JDK messages, which are not specified (and may even be null).
+	 * 
+	 * @param t exception thrown by reflector
+	 * @param target instance on which reflector was applied
+	 * @param reflector the failing reflector
+	 * @param args arguments given to reflector member, such as value given to a mutator
+	 * @return a {@link RuntimeException} which message is clearer than JDK one
+	 */
 	protected RuntimeException convertException(Throwable t, Object target, AbstractReflector reflector, Object... args) {
 		if (t instanceof NullPointerException) {
 			NullPointerException nullPointerException = new NullPointerException(
@@ -28,13 +46,24 @@ public class ExceptionConverter {
 		} else if (t instanceof InvocationTargetException || t instanceof IllegalAccessException) {
 			return Exceptions.asRuntimeException(t.getCause());
 		} else if (t instanceof IllegalArgumentException) {
-			if ("wrong number of arguments".equals(t.getMessage())) {
-				return convertWrongNumberOfArguments(reflector, args);
-			} else if ("object is not an instance of declaring class".equals(t.getMessage())) {
+			if (reflector instanceof AccessorByField || reflector instanceof MutatorByField) {
+				// Field.get(..) and Field.set(..) only throw IllegalArgumentException for a wrong target, an incompatible value or an impossible
+				// widening of primitive types
+				return convertFieldException((IllegalArgumentException) t, target, reflector, args);
+			}
+			if ((reflector instanceof ArrayAccessor || reflector instanceof ArrayMutator)
+					&& target != null && target.getClass().isArray() && target.getClass().getComponentType().isPrimitive()) {
+				// Array.getXXX(..) and Array.setXXX(..) only throw IllegalArgumentException on a primitive array for incompatible element type
+				return convertArrayElementTypeMismatch(target, reflector, args);
+			}
+			Method method = giveMethod(reflector);
+			if (method == null) {
+				return Exceptions.asRuntimeException(t);
+			} else if (!Modifier.isStatic(method.getModifiers()) && target != null && !method.getDeclaringClass().isInstance(target)) {
 				return convertObjectIsNotAnInstanceOfDeclaringClass(target, reflector);
-			} else if (t.getMessage().startsWith("Can not set")) {
-				return convertCannotSetFieldToObject(target, reflector, args.length > 0 ? args[0] : null);
-			} else if ("argument type mismatch".equals(t.getMessage())) {
+			} else if (reflector instanceof AccessorByMethod && method.getParameterCount() != args.length) {
+				return convertWrongNumberOfArguments(reflector, args);
+			} else if (reflector instanceof MutatorByMethod && !isCompatible(method.getParameterTypes(), args)) {
 				return convertArgumentTypeMismatch((IllegalArgumentException) t, reflector, args);
 			} else {
 				return Exceptions.asRuntimeException(t);
@@ -44,6 +73,33 @@ public class ExceptionConverter {
 		}
 	}
 	
+	@Nullable
+	private static Method giveMethod(AbstractReflector reflector) {
+		Member member = null;
+		if (reflector instanceof AccessorByMember) {
+			member = ((AccessorByMember) reflector).getGetter();
+		} else if (reflector instanceof MutatorByMember) {
+			member = ((MutatorByMember) reflector).getSetter();
+		}
+		return member instanceof Method ? (Method) member : null;
+	}
+	
+	/**
+	 * Indicates if given arguments can be given to a method having given parameter types, as {@link Method#invoke(Object, Object...)} expects
+	 * (widening of primitive types excepted)
+	 */
+	private static boolean isCompatible(Class<?>[] parameterTypes, Object[] args) {
+		if (parameterTypes.length != args.length) {
+			return false;
+		}
+		for (int i = 0; i < args.length; i++) {
+			if (!MemberHandles.isCompatibleValue(parameterTypes[i], MemberHandles.wrap(parameterTypes[i]), args[i])) {
+				return false;
+			}
+		}
+		return true;
+	}
+	
 	private IllegalArgumentException convertWrongNumberOfArguments(AbstractReflector reflector, Object... args) {
 		String message = "wrong number of arguments for " + getReflectorDescription(reflector);
 		if (reflector instanceof AccessorByMethod) {
@@ -79,26 +135,32 @@ public class ExceptionConverter {
 		return ": expected " + Reflections.toString(declaringClass) + " but " + Reflections.toString(target.getClass()) + " was given";
 	}
 	
-	private RuntimeException convertCannotSetFieldToObject(Object target, AbstractReflector reflector, Object arg) {
+	private RuntimeException convertFieldException(IllegalArgumentException t, Object target, AbstractReflector reflector, Object... args) {
 		// Modifying default message because it's not really understandable "Can not set ... to ... "
-		Field getter;
+		Field field;
 		if (reflector instanceof AccessorByField) {
-			getter = ((AccessorByField) reflector).getGetter();
+			field = ((AccessorByField) reflector).getGetter();
 		} else if (reflector instanceof MutatorByField) {
-			getter = ((MutatorByField) reflector).getSetter();
+			field = ((MutatorByField) reflector).getSetter();
 		} else {
 			// this should never happen because this method only handle field access which are handled by previous ifs
 			throw new NotImplementedException(reflector.getClass() + " is not handled by this convertor");
 		}
-		// 2 cases happen here: Object is of wrong type and has no matching field, or boxing of value is wrong
-		// (cf https://docs.oracle.com/javase/tutorial/reflect/member/fieldTrouble.html) but we can't distinguish cases
-		if (Reflections.findField(target.getClass(), getter.getName()) == null) {
-			return new IllegalArgumentException("Field " + Reflections.toString(getter) + " doesn't exist in " + Reflections.toString(target.getClass()));
-		} else if (!getter.getType().isInstance(arg)) {
-			return new IllegalArgumentException("Field " + Reflections.toString(getter)
-					+ " of type " + Reflections.toString(getter.getType()) + " is not compatible with " + (arg == null ? "null" : Reflections.toString(arg.getClass())));
+		// cases are distinguished by operation and value since JDK messages are not specified
+		// (cf https://docs.oracle.com/javase/tutorial/reflect/member/fieldTrouble.html)
+		Object value = args.length > 0 ? args[0] : null;
+		if (!Modifier.isStatic(field.getModifiers()) && !field.getDeclaringClass().isInstance(target)) {
+			return new IllegalArgumentException("Field " + Reflections.toString(field) + " doesn't exist in " + Reflections.toString(target.getClass()));
+		} else if (reflector instanceof AccessorByField
+				|| (field.getType().isPrimitive() && value != null && MethodType.methodType(value.getClass()).hasWrappers())) {
+			// reading with Field.getXXX(..) or writing a primitive value : field type can't be widened to requested one (or the opposite),
+			// JDK message is kept since it mentions both types
+			return t;
+		} else if (!MemberHandles.isCompatibleValue(field.getType(), MemberHandles.wrap(field.getType()), value)) {
+			return new IllegalArgumentException("Field " + Reflections.toString(field)
+					+ " of type " + Reflections.toString(field.getType()) + " is not compatible with " + (value == null ? "null" : Reflections.toString(value.getClass())));
 		} else {
-			return new RuntimeException("Can not set " + arg + " to " + target);
+			return new RuntimeException("Can not set " + value + " to " + target);
 		}
 	}
 	
@@ -110,11 +172,22 @@ public class ExceptionConverter {
 					.cat(" as argument, but ")
 					.ccat(Iterables.collectToList(Arrays.asList(args), Object::getClass), ", ")
 					.cat(" was given");
-			throw new IllegalArgumentException(parameterFormatter.toString());
+			return new IllegalArgumentException(parameterFormatter.toString());
 		} else {
 			// actually I'm not sure that something else than a MutatorByMethod can raise an "argument type mismatch" exception
 			// so this code may be never get called
-			throw t;
+			return t;
+		}
+	}
+	
+	private IllegalArgumentException convertArrayElementTypeMismatch(Object array, AbstractReflector reflector, Object... args) {
+		String elementType = Reflections.toString(array.getClass().getComponentType());
+		if (reflector instanceof ArrayMutator) {
+			Object value = args.length > 0 ? args[0] : null;
+			return new IllegalArgumentException(getReflectorDescription(reflector) + " expects " + elementType + " as element, but "
+					+ (value == null ? "null" : Reflections.toString(value.getClass())) + " was given");
+		} else {
+			return new IllegalArgumentException(getReflectorDescription(reflector) + " can't convert " + elementType + " element to requested type");
 		}
 	}
 	
@@ -0,0 +1,203 @@
+package org.gama.reflection;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Flattened form of an {@link AccessorChain}, dedicated to intensive reading of deep paths, see {@link AccessorChain#flatten()}.
+ * Links of the chain are read in a single loop : members that can be read without reflection (see {@link MemberAccessMode}) are invoked
+ * through the readers their accessor already holds, without going through {@link IAccessor#get(Object)} and its exception handling, and null
+ * values are checked inline according to chain {@link AccessorChain.NullValueHandler}. This is a flattened loop, not a fused reader : no code
+ * is generated for the chain itself, each link remains a {@link Function#apply(Object)} call, which is megamorphic as soon as readers of
+ * different members go through it. Gain comes from skipped indirections (exception handling, null value handler invocation), not from
+ * inlining of the whole path.
+ * Other links, and erroneous calls, are delegated to their {@link IAccessor#get(Object)} so thrown exceptions are the same as the chain ones.
+ *
+ * Chain is taken as a snapshot : modifications made to it after flattening (added accessors, null value handler) are not taken into account.
+ *
+ * @author Guillaume Mary
+ * @see AccessorChain#flatten()
+ */
+public class FlattenedAccessorChain<C, T> extends AbstractAccessor<C, T> implements IReversibleAccessor<C, T> {
+	
+	private final AccessorChain<C, T> source;
+	
+	private final IAccessor[] accessors;
+	
+	/** Read-only view of {@link #accessors}, see {@link #getAccessors()} */
+	private final List<IAccessor> accessorList;
+	
+	/** Direct readers of {@link #accessors}, null for those that must be invoked through {@link IAccessor#get(Object)} */
+	private final Function<Object, Object>[] readers;
+	
+	/** Types expected by {@link #readers}, other targets are given to {@link IAccessor#get(Object)} */
+	private final Class[] readerInputTypes;
+	
+	private final AccessorChain.NullValueHandler nullValueHandler;
+	
+	/** True when source chain overrides {@link AccessorChain#onNullValue(Object, IAccessor)}, which must then be invoked on null values */
+	private final boolean delegateNullValues;
+	
+	/** True when null values make the whole chain return null, which is checked inline to avoid handler invocation */
+	private final boolean returnNullOnNullValue;
+	
+	/**
+	 * Hash code of {@link #accessors} with the modification count (plus one, so that 0 marks an uncomputed value) it was computed for in
+	 * high bits : accessors can't be replaced but their state can change (index, parameter), see {@link #modificationCount()}
+	 */
+	private volatile long accessorsHashCode;
+	
+	FlattenedAccessorChain(AccessorChain<C, T> source) {
+		this.source = source;
+		List<IAccessor> sourceAccessors = source.getAccessors();
+		this.accessors = sourceAccessors.toArray(new IAccessor[0]);
+		this.accessorList = Collections.unmodifiableList(Arrays.asList(accessors));
+		this.readers = new Function[accessors.length];
+		this.readerInputTypes = new Class[accessors.length];
+		for (int i = 0; i < accessors.length; i++) {
+			IAccessor accessor = accessors[i];
+			// subclasses are excluded because they may override get(..) behavior (ListAccessor for instance)
+			if (accessor.getClass() == AccessorByField.class) {
+				AccessorByField accessorByField = (AccessorByField) accessor;
+				readers[i] = accessorByField.giveCompiledGetter();
+				readerInputTypes[i] = Modifier.isStatic(accessorByField.getGetter().getModifiers())
+						? Object.class
+						: accessorByField.getGetter().getDeclaringClass();
+			} else if (accessor.getClass() == AccessorByMethod.class) {
+				AccessorByMethod accessorByMethod = (AccessorByMethod) accessor;
+				readers[i] = accessorByMethod.giveCompiledGetter();
+				readerInputTypes[i] = accessorByMethod.getGetter().getDeclaringClass();
+			}
+		}
+		this.nullValueHandler = source.getNullValueHandler();
+		this.delegateNullValues = overridesOnNullValue(source.getClass());
+		this.returnNullOnNullValue = nullValueHandler == AccessorChain.RETURN_NULL && !delegateNullValues;
+	}
+	
+	/**
+	 * @return the chain this instance was flattened from
+	 */
+	public AccessorChain<C, T> getSource() {
+		return source;
+	}
+	
+	/**
+	 * @return accessors of source chain at flattening time, as an unmodifiable {@link List}
+	 */
+	public List<IAccessor> getAccessors() {
+		return accessorList;
+	}
+	
+	@Override
+	protected T doGet(C c) {
+		Object target = c;
+		Object previousTarget;
+		for (int i = 0; i < accessors.length; i++) {
+			previousTarget = target;
+			Function<Object, Object> reader = readers[i];
+			if (reader != null && readerInputTypes[i].isInstance(target)) {
+				target = read(i, reader, target);
+			} else {
+				// reflection is also used for erroneous cases because its exceptions are well known by ExceptionConverter
+				target = accessors[i].get(target);
+			}
+			if (target == null) {
+				if (returnNullOnNullValue) {
+					return null;
+				}
+				target = delegateNullValues
+						? source.onNullValue(previousTarget, accessors[i])
+						: nullValueHandler.consume(previousTarget, accessors[i]);
+				if (target == null) {
+					// no purpose to continue iteration
+					return null;
+				}
+			}
+		}
+		return (T) target;
+	}
+	
+	private Object read(int accessorIndex, Function<Object, Object> reader, Object target) {
+		try {
+			return reader.apply(target);
+		} catch (Throwable t) {
+			// we mimic accessor get(..) so exceptions are the same whatever the chain is flattened or not
+			((AbstractReflector) accessors[accessorIndex]).handleException(new InvocationTargetException(t), target);
+			// shouldn't happen
+			return null;
+		}
+	}
+	
+	/**
+	 * Indicates if given chain type overrides {@link AccessorChain#onNullValue(Object, IAccessor)}, in which case it must always be invoked
+	 */
+	private static boolean overridesOnNullValue(Class<?> chainType) {
+		Class<?> currentType = chainType;
+		while (currentType != AccessorChain.class) {
+			try {
+				currentType.getDeclaredMethod("onNullValue", Object.class, IAccessor.class);
+				return true;
+			} catch (NoSuchMethodException e) {
+				currentType = currentType.getSuperclass();
+			}
+		}
+		return false;
+	}
+	
+	/**
+	 * @return the mutator of the source chain, see {@link AccessorChain#toMutator()}
+	 */
+	@Override
+	public AccessorChainMutator<C, Object, T> toMutator() {
+		return source.toMutator();
+	}
+	
+	@Override
+	protected String getGetterDescription() {
+		// same as AccessorChain so error messages are identical
+		return Arrays.toString(accessors);
+	}
+	
+	@Override
+	public boolean equals(Object other) {
+		return this == other || (other instanceof FlattenedAccessorChain && Arrays.equals(accessors, ((FlattenedAccessorChain) other).accessors));
+	}
+	
+	/**
+	 * Implementation based on accessors, computed again only if their state changed since last call, as {@link AccessorChain#hashCode()} does
+	 * 
+	 * @return hash code of accessors
+	 */
+	@Override
+	public int hashCode() {
+		// count is read before computation so that a concurrent change makes cached value outdated
+		int stamp = modificationCount() + 1;
+		long cachedHashCode = accessorsHashCode;
+		if ((int) (cachedHashCode >>> 32) == stamp) {
+			return (int) cachedHashCode;
+		}
+		int result = Arrays.hashCode(accessors);
+		accessorsHashCode = ((long) stamp << 32) | (result & 0xFFFFFFFFL);
+		return result;
+	}
+	
+	/**
+	 * Overridden to take into account modifications of accessors, as {@link AccessorChain#modificationCount()} does
+	 * 
+	 * @return number of modifications of accessors
+	 */
+	@Override
+	int modificationCount() {
+		int result = super.modificationCount();
+		for (IAccessor accessor : accessors) {
+			if (accessor instanceof AbstractReflector) {
+				result += ((AbstractReflector) accessor).modificationCount();
+			}
+		}
+		return result;
+	}
+}
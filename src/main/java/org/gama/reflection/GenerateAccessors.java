@@ -0,0 +1,23 @@
+package org.gama.reflection;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a bean class for which accessors and mutators must be generated at compile time by {@code GenerateAccessorsProcessor}, so that
+ * {@link Accessors} factories don't have to look for members by reflection nor make them accessible.
+ * Processor must be declared to the compiler, for instance with javac option
+ * {@code -processor org.gama.reflection.processor.GenerateAccessorsProcessor}.
+ * 
+ * @author Guillaume Mary
+ * @see GeneratedAccessors
+ */
+@Documented
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface GenerateAccessors {
+	
+}
@@ -0,0 +1,46 @@
+package org.gama.reflection;
+
+import javax.annotation.Nullable;
+
+/**
+ * Contract of classes generated by {@code GenerateAccessorsProcessor} for beans marked with {@link GenerateAccessors}.
+ * Generated class is named as the bean class suffixed with {@link #CLASS_NAME_SUFFIX}, and is looked up by {@link Accessors} factories
+ * before using reflection. Each method returns a new instance (because accessors are mutable), or null if member is not supported by
+ * generation (private or inherited from another package for instance), then reflection is used as usual.
+ * 
+ * @param <C> bean type
+ * @author Guillaume Mary
+ */
+public interface GeneratedAccessors<C> {
+	
+	/** Suffix of generated class names, appended to bean class name */
+	String CLASS_NAME_SUFFIX = "_Accessors";
+	
+	/**
+	 * @param propertyName a property name
+	 * @return same as {@link Accessors#accessorByMethod(Class, String)}, null if getter is unknown to generated code
+	 */
+	@Nullable
+	AccessorByMethod<C, ?> giveAccessorByMethod(String propertyName);
+	
+	/**
+	 * @param propertyName a property name
+	 * @return same as {@link Accessors#mutatorByMethod(Class, String)}, null if setter is unknown to generated code
+	 */
+	@Nullable
+	MutatorByMethod<C, ?> giveMutatorByMethod(String propertyName);
+	
+	/**
+	 * @param propertyName a property name
+	 * @return same as {@link Accessors#accessorByField(Class, String)}, null if field is unknown to generated code
+	 */
+	@Nullable
+	AccessorByField<C, ?> giveAccessorByField(String propertyName);
+	
+	/**
+	 * @param propertyName a property name
+	 * @return same as {@link Accessors#mutatorByField(Class, String)}, null if field is unknown to generated code
+	 */
+	@Nullable
+	MutatorByField<C, ?> giveMutatorByField(String propertyName);
+}
@@ -0,0 +1,50 @@
+package org.gama.reflection;
+
+import javax.annotation.Nullable;
+
+/**
+ * Gives access to {@link GeneratedAccessors} of a class, if it has been generated.
+ * Lookup is done once per class and its result is held by the class itself (through a {@link ClassValue}) so it doesn't prevent class
+ * unloading.
+ * 
+ * @author Guillaume Mary
+ */
+final class GeneratedAccessorsRegistry {
+	
+	private static final ClassValue<GeneratedAccessors> GENERATED_ACCESSORS = new ClassValue<GeneratedAccessors>() {
+		@Override
+		protected GeneratedAccessors computeValue(Class<?> type) {
+			return load(type);
+		}
+	};
+	
+	/**
+	 * @param clazz any class
+	 * @param <C> class type
+	 * @return instance of the class generated for the given one, null if it doesn't exist
+	 */
+	@Nullable
+	static <C> GeneratedAccessors<C> find(Class<C> clazz) {
+		return GENERATED_ACCESSORS.get(clazz);
+	}
+	
+	@Nullable
+	private static GeneratedAccessors load(Class<?> type) {
+		if (type.isPrimitive() || type.isArray() || type.getClassLoader() == null) {
+			// JDK classes are never generated
+			return null;
+		}
+		try {
+			Class<?> generatedClass = Class.forName(type.getName() + GeneratedAccessors.CLASS_NAME_SUFFIX, true, type.getClassLoader());
+			return (GeneratedAccessors) generatedClass.getDeclaredConstructor().newInstance();
+		} catch (ClassNotFoundException e) {
+			return null;
+		} catch (ReflectiveOperationException | ClassCastException e) {
+			throw new IllegalStateException("Generated accessors of " + type.getName() + " can't be instantiated", e);
+		}
+	}
+	
+	private GeneratedAccessorsRegistry() {
+		// utility class
+	}
+}
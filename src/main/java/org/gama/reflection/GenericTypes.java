@@ -0,0 +1,298 @@
+package org.gama.reflection;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.StringJoiner;
+
+/**
+ * Helper to resolve generic types of members as seen from a subclass (or a parameterized type) : type variables of super types are replaced
+ * by their actual value.
+ *
+ * @author Guillaume Mary
+ * @see PropertyModel#giveAccessedType(java.lang.reflect.Member)
+ */
+final class GenericTypes {
+	
+	/**
+	 * Gives the actual values of type variables of super types (classes and interfaces) of given class, expressed with type variables of given
+	 * class when it's generic
+	 *
+	 * @param clazz any class
+	 * @return a {@link Map} of type variables of super types, empty if none is bound
+	 */
+	static Map<TypeVariable<?>, Type> giveTypeVariableBindings(Class<?> clazz) {
+		Map<TypeVariable<?>, Type> result = new HashMap<>();
+		collectTypeVariableBindings(clazz, result);
+		return result.isEmpty() ? Collections.emptyMap() : result;
+	}
+	
+	/**
+	 * @param parameterizedType any parameterized type
+	 * @return actual values of type variables of its raw type
+	 */
+	static Map<TypeVariable<?>, Type> giveTypeVariableBindings(ParameterizedType parameterizedType) {
+		TypeVariable<?>[] typeVariables = ((Class<?>) parameterizedType.getRawType()).getTypeParameters();
+		Type[] actualTypes = parameterizedType.getActualTypeArguments();
+		Map<TypeVariable<?>, Type> result = new HashMap<>();
+		for (int i = 0; i < typeVariables.length; i++) {
+			result.put(typeVariables[i], actualTypes[i]);
+		}
+		return result;
+	}
+	
+	private static void collectTypeVariableBindings(Class<?> clazz, Map<TypeVariable<?>, Type> bindings) {
+		Type[] superTypes = clazz.getGenericInterfaces();
+		if (clazz.getGenericSuperclass() != null) {
+			superTypes = Arrays.copyOf(superTypes, superTypes.length + 1);
+			superTypes[superTypes.length - 1] = clazz.getGenericSuperclass();
+		}
+		for (Type superType : superTypes) {
+			if (superType instanceof ParameterizedType) {
+				Class<?> rawSuperType = (Class<?>) ((ParameterizedType) superType).getRawType();
+				TypeVariable<?>[] typeVariables = rawSuperType.getTypeParameters();
+				Type[] actualTypes = ((ParameterizedType) superType).getActualTypeArguments();
+				for (int i = 0; i < typeVariables.length; i++) {
+					// NB: actual types are expressed with variables of current class, which are already bound if it is itself a super type
+					bindings.putIfAbsent(typeVariables[i], substitute(actualTypes[i], bindings));
+				}
+				collectTypeVariableBindings(rawSuperType, bindings);
+			} else {
+				collectTypeVariableBindings((Class<?>) superType, bindings);
+			}
+		}
+	}
+	
+	/**
+	 * Replaces type variables of given type by their value in given bindings, including those of wildcard bounds.
+	 *
+	 * @param type any type
+	 * @param bindings actual values of type variables
+	 * @return given type if it has no bound variable
+	 */
+	static Type substitute(Type type, Map<TypeVariable<?>, Type> bindings) {
+		if (bindings.isEmpty()) {
+			return type;
+		} else if (type instanceof TypeVariable) {
+			return bindings.getOrDefault(type, type);
+		} else if (type instanceof ParameterizedType) {
+			ParameterizedType parameterizedType = (ParameterizedType) type;
+			Type[] actualTypes = parameterizedType.getActualTypeArguments();
+			return substitute(actualTypes, bindings)
+					? new ParameterizedTypeImpl((Class<?>) parameterizedType.getRawType(), actualTypes, parameterizedType.getOwnerType())
+					: type;
+		} else if (type instanceof GenericArrayType) {
+			Type componentType = ((GenericArrayType) type).getGenericComponentType();
+			Type substitutedComponentType = substitute(componentType, bindings);
+			if (substitutedComponentType == componentType) {
+				return type;
+			} else if (substitutedComponentType instanceof Class) {
+				return Array.newInstance((Class<?>) substitutedComponentType, 0).getClass();
+			} else {
+				return new GenericArrayTypeImpl(substitutedComponentType);
+			}
+		} else if (type instanceof WildcardType) {
+			Type[] upperBounds = ((WildcardType) type).getUpperBounds();
+			Type[] lowerBounds = ((WildcardType) type).getLowerBounds();
+			// NB: non-short-circuit operator so that both bounds are substituted
+			return substitute(upperBounds, bindings) | substitute(lowerBounds, bindings)
+					? new WildcardTypeImpl(upperBounds, lowerBounds)
+					: type;
+		} else {
+			return type;
+		}
+	}
+	
+	/**
+	 * Substitutes given types in place
+	 *
+	 * @return true if one of the types was substituted
+	 */
+	private static boolean substitute(Type[] types, Map<TypeVariable<?>, Type> bindings) {
+		boolean substituted = false;
+		for (int i = 0; i < types.length; i++) {
+			Type substitutedType = substitute(types[i], bindings);
+			substituted |= substitutedType != types[i];
+			types[i] = substitutedType;
+		}
+		return substituted;
+	}
+	
+	/**
+	 * Gives the class of a type : raw type of parameterized ones, erasure of type variables and wildcards
+	 *
+	 * @param type any type
+	 * @return the class that a value of given type is an instance of
+	 */
+	static Class<?> rawType(Type type) {
+		if (type instanceof Class) {
+			return (Class<?>) type;
+		} else if (type instanceof ParameterizedType) {
+			return (Class<?>) ((ParameterizedType) type).getRawType();
+		} else if (type instanceof GenericArrayType) {
+			return Array.newInstance(rawType(((GenericArrayType) type).getGenericComponentType()), 0).getClass();
+		} else if (type instanceof TypeVariable) {
+			return rawType(((TypeVariable<?>) type).getBounds()[0]);
+		} else if (type instanceof WildcardType) {
+			return rawType(((WildcardType) type).getUpperBounds()[0]);
+		} else {
+			throw new UnsupportedOperationException("Type is not supported : " + type);
+		}
+	}
+	
+	/**
+	 * {@link ParameterizedType} built by substitution, equal to JDK ones representing the same type
+	 */
+	private static class ParameterizedTypeImpl implements ParameterizedType {
+		
+		private final Class<?> rawType;
+		
+		private final Type[] actualTypeArguments;
+		
+		private final Type ownerType;
+		
+		private ParameterizedTypeImpl(Class<?> rawType, Type[] actualTypeArguments, Type ownerType) {
+			this.rawType = rawType;
+			this.actualTypeArguments = actualTypeArguments;
+			this.ownerType = ownerType;
+		}
+		
+		@Override
+		public Type[] getActualTypeArguments() {
+			return actualTypeArguments.clone();
+		}
+		
+		@Override
+		public Type getRawType() {
+			return rawType;
+		}
+		
+		@Override
+		public Type getOwnerType() {
+			return ownerType;
+		}
+		
+		/**
+		 * Implemented as JDK's one to be symmetric with it
+		 */
+		@Override
+		public boolean equals(Object other) {
+			return other instanceof ParameterizedType
+					&& rawType.equals(((ParameterizedType) other).getRawType())
+					&& Objects.equals(ownerType, ((ParameterizedType) other).getOwnerType())
+					&& Arrays.equals(actualTypeArguments, ((ParameterizedType) other).getActualTypeArguments());
+		}
+		
+		/**
+		 * Implemented as JDK's one to be consistent with {@link #equals(Object)}
+		 */
+		@Override
+		public int hashCode() {
+			return Arrays.hashCode(actualTypeArguments) ^ Objects.hashCode(ownerType) ^ Objects.hashCode(rawType);
+		}
+		
+		@Override
+		public String toString() {
+			StringJoiner result = new StringJoiner(", ", rawType.getTypeName() + "<", ">");
+			for (Type actualTypeArgument : actualTypeArguments) {
+				result.add(actualTypeArgument.getTypeName());
+			}
+			return result.toString();
+		}
+	}
+	
+	/**
+	 * {@link GenericArrayType} built by substitution, equal to JDK ones representing the same type
+	 */
+	private static class GenericArrayTypeImpl implements GenericArrayType {
+		
+		private final Type genericComponentType;
+		
+		private GenericArrayTypeImpl(Type genericComponentType) {
+			this.genericComponentType = genericComponentType;
+		}
+		
+		@Override
+		public Type getGenericComponentType() {
+			return genericComponentType;
+		}
+		
+		@Override
+		public boolean equals(Object other) {
+			return other instanceof GenericArrayType && genericComponentType.equals(((GenericArrayType) other).getGenericComponentType());
+		}
+		
+		@Override
+		public int hashCode() {
+			return genericComponentType.hashCode();
+		}
+		
+		@Override
+		public String toString() {
+			return genericComponentType.getTypeName() + "[]";
+		}
+	}
+	
+	/**
+	 * {@link WildcardType} built by substitution, equal to JDK ones representing the same type
+	 */
+	private static class WildcardTypeImpl implements WildcardType {
+		
+		private final Type[] upperBounds;
+		
+		private final Type[] lowerBounds;
+		
+		private WildcardTypeImpl(Type[] upperBounds, Type[] lowerBounds) {
+			this.upperBounds = upperBounds;
+			this.lowerBounds = lowerBounds;
+		}
+		
+		@Override
+		public Type[] getUpperBounds() {
+			return upperBounds.clone();
+		}
+		
+		@Override
+		public Type[] getLowerBounds() {
+			return lowerBounds.clone();
+		}
+		
+		@Override
+		public boolean equals(Object other) {
+			return other instanceof WildcardType
+					&& Arrays.equals(upperBounds, ((WildcardType) other).getUpperBounds())
+					&& Arrays.equals(lowerBounds, ((WildcardType) other).getLowerBounds());
+		}
+		
+		/**
+		 * Implemented as JDK's one to be consistent with {@link #equals(Object)}
+		 */
+		@Override
+		public int hashCode() {
+			return Arrays.hashCode(lowerBounds) ^ Arrays.hashCode(upperBounds);
+		}
+		
+		@Override
+		public String toString() {
+			if (lowerBounds.length != 0) {
+				return "? super " + lowerBounds[0].getTypeName();
+			} else if (upperBounds.length == 0 || upperBounds[0] == Object.class) {
+				return "?";
+			} else {
+				return "? extends " + upperBounds[0].getTypeName();
+			}
+		}
+	}
+	
+	private GenericTypes() {
+		// utility class
+	}
+}
@@ -1,5 +1,7 @@
 package org.gama.reflection;
 
+import java.util.List;
+
 /**
  * @param <C> the owning type of the value to be accessed
  * @param <T> value type
@@ -9,4 +11,20 @@ package org.gama.reflection;
 public interface IAccessor<C, T> extends ValueAccessPoint {
 	
 	T get(C c);
+	
+	/**
+	 * Applies this accessor on each bean and puts result in given array, at the same index as the bean.
+	 * Default implementation invokes {@link #get(Object)} for each bean, implementations are expected to handle exceptions once per batch.
+	 * 
+	 * @param beans the beans to be read
+	 * @param out array receiving values, must be at least as long as beans
+	 * @throws IllegalArgumentException if out is shorter than beans
+	 */
+	default void getAll(List<? extends C> beans, Object[] out) {
+		AbstractReflector.checkBulkSize(beans.size(), out.length);
+		int index = 0;
+		for (C c : beans) {
+			out[index++] = get(c);
+		}
+	}
 }
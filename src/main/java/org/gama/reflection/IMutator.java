@@ -1,5 +1,7 @@
 package org.gama.reflection;
 
+import java.util.List;
+
 /**
  * @param <C> the owning type of the value to be modified
  * @param <T> value type
@@ -9,4 +11,21 @@ package org.gama.reflection;
 public interface IMutator<C, T> extends ValueAccessPoint {
 	
 	void set(C c, T t);
+	
+	/**
+	 * Applies this mutator on each bean with the value at the same index in given array.
+	 * Default implementation invokes {@link #set(Object, Object)} for each bean, implementations are expected to handle exceptions once per
+	 * batch.
+	 * 
+	 * @param beans the beans to be modified
+	 * @param values values to be set, must be at least as long as beans
+	 * @throws IllegalArgumentException if values is shorter than beans
+	 */
+	default void setAll(List<? extends C> beans, Object[] values) {
+		AbstractReflector.checkBulkSize(beans.size(), values.length);
+		int index = 0;
+		for (C c : beans) {
+			set(c, (T) values[index++]);
+		}
+	}
 }
@@ -0,0 +1,33 @@
+package org.gama.reflection;
+
+import java.util.List;
+
+/**
+ * Accessor dedicated to int values, avoiding boxing of {@link IAccessor#get(Object)}.
+ * Implemented by {@link AccessorByField} and {@link AccessorByMethod}, which support member types that can be widened to int, as
+ * {@link java.lang.reflect.Field#getInt(Object)} does.
+ * 
+ * @param <C> the owning type of the value to be accessed
+ * @author Guillaume Mary
+ * @see Accessors#intAccessor(Class, String)
+ */
+@FunctionalInterface
+public interface IntAccessor<C> extends ValueAccessPoint {
+	
+	int getInt(C c);
+	
+	/**
+	 * Bulk version of {@link #getInt(Object)}, see {@link IAccessor#getAll(List, Object[])}
+	 * 
+	 * @param beans the beans to be read
+	 * @param out array receiving values, must be at least as long as beans
+	 * @throws IllegalArgumentException if out is shorter than beans
+	 */
+	default void getAllInt(List<? extends C> beans, int[] out) {
+		AbstractReflector.checkBulkSize(beans.size(), out.length);
+		int index = 0;
+		for (C c : beans) {
+			out[index++] = getInt(c);
+		}
+	}
+}
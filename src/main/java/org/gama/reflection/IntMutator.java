@@ -0,0 +1,33 @@
+package org.gama.reflection;
+
+import java.util.List;
+
+/**
+ * Mutator dedicated to int values, avoiding boxing of {@link IMutator#set(Object, Object)}.
+ * Implemented by {@link MutatorByField} and {@link MutatorByMethod}, which support member types to which int can be widened, as
+ * {@link java.lang.reflect.Field#setInt(Object, int)} does.
+ * 
+ * @param <C> the owning type of the value to be modified
+ * @author Guillaume Mary
+ * @see Accessors#intMutator(Class, String)
+ */
+@FunctionalInterface
+public interface IntMutator<C> extends ValueAccessPoint {
+	
+	void setInt(C c, int value);
+	
+	/**
+	 * Bulk version of {@link #setInt(Object, int)}, see {@link IMutator#setAll(List, Object[])}
+	 * 
+	 * @param beans the beans to be modified
+	 * @param values values to be set, must be at least as long as beans
+	 * @throws IllegalArgumentException if values is shorter than beans
+	 */
+	default void setAllInt(List<? extends C> beans, int[] values) {
+		AbstractReflector.checkBulkSize(beans.size(), values.length);
+		int index = 0;
+		for (C c : beans) {
+			setInt(c, values[index++]);
+		}
+	}
+}
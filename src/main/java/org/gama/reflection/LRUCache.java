@@ -0,0 +1,204 @@
+package org.gama.reflection;
+
+import java.util.AbstractMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Thread-safe Least-Recently-Used cache, bounded to a given size.
+ * Entries are spread over some segments, each of them being an access-ordered {@link LinkedHashMap} guarded by its own
+ * {@link ReentrantLock}, so that concurrent accesses to different segments don't contend. {@link ReentrantLock} is preferred to
+ * synchronized blocks because it doesn't pin virtual threads to their carrier thread while waiting.
+ * Each segment is bounded to its share of cache size and evicts its least recently used entry on overflow : hence eviction is exact LRU
+ * for small caches (which have only one segment) and an approximation of it for big ones.
+ * No lock is held while computing a missing value (see {@link #computeIfAbsent(Object, Function)}), so concurrent threads may compute
+ * the same value, first stored one wins.
+ *
+ * @author Guillaume Mary
+ */
+@SuppressWarnings("squid:S2160") // right implementation of equals() doesn't matter
+class LRUCache<K, V> extends AbstractMap<K, V> {
+	
+	/** Maximum number of segments, must be a power of 2 */
+	private static final int MAX_SEGMENT_COUNT = 16;
+	
+	/** Minimum size of a segment, under which cache is not split, so that small caches keep an exact LRU eviction */
+	private static final int MIN_SEGMENT_SIZE = 256;
+	
+	private final Segment<K, V>[] segments;
+	
+	LRUCache(int cacheSize) {
+		int segmentCount = Integer.highestOneBit(Math.max(1, Math.min(MAX_SEGMENT_COUNT, cacheSize / MIN_SEGMENT_SIZE)));
+		this.segments = new Segment[segmentCount];
+		for (int i = 0; i < segmentCount; i++) {
+			// NB: rounding down segment size keeps cache under given size
+			segments[i] = new Segment<>(cacheSize / segmentCount);
+		}
+	}
+	
+	private Segment<K, V> segmentFor(Object key) {
+		int hash = key.hashCode();
+		// spreading high bits as HashMap does, since segment count is small
+		return segments[(hash ^ (hash >>> 16)) & (segments.length - 1)];
+	}
+	
+	@Override
+	public V get(Object key) {
+		Segment<K, V> segment = segmentFor(key);
+		segment.lock.lock();
+		try {
+			return segment.get(key);
+		} finally {
+			segment.lock.unlock();
+		}
+	}
+	
+	@Override
+	public V put(K key, V value) {
+		Segment<K, V> segment = segmentFor(key);
+		segment.lock.lock();
+		try {
+			return segment.put(key, value);
+		} finally {
+			segment.lock.unlock();
+		}
+	}
+	
+	@Override
+	public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+		V result = get(key);
+		if (result == null) {
+			// computation is made outside of any lock to let concurrent accesses run
+			V computed = mappingFunction.apply(key);
+			if (computed != null) {
+				Segment<K, V> segment = segmentFor(key);
+				segment.lock.lock();
+				try {
+					V existing = segment.putIfAbsent(key, computed);
+					result = existing == null ? computed : existing;
+				} finally {
+					segment.lock.unlock();
+				}
+			}
+		}
+		return result;
+	}
+	
+	@Override
+	public V remove(Object key) {
+		Segment<K, V> segment = segmentFor(key);
+		segment.lock.lock();
+		try {
+			return segment.remove(key);
+		} finally {
+			segment.lock.unlock();
+		}
+	}
+	
+	@Override
+	public int size() {
+		int result = 0;
+		for (Segment<K, V> segment : segments) {
+			segment.lock.lock();
+			try {
+				result += segment.size();
+			} finally {
+				segment.lock.unlock();
+			}
+		}
+		return result;
+	}
+	
+	@Override
+	public void clear() {
+		for (Segment<K, V> segment : segments) {
+			segment.lock.lock();
+			try {
+				segment.clear();
+			} finally {
+				segment.lock.unlock();
+			}
+		}
+	}
+	
+	/**
+	 * @return a snapshot of current keys
+	 */
+	@Override
+	public Set<K> keySet() {
+		Set<K> result = new HashSet<>();
+		for (Segment<K, V> segment : segments) {
+			segment.lock.lock();
+			try {
+				result.addAll(segment.keySet());
+			} finally {
+				segment.lock.unlock();
+			}
+		}
+		return result;
+	}
+	
+	/**
+	 * @return a snapshot of current entries
+	 */
+	@Override
+	public Set<Entry<K, V>> entrySet() {
+		Set<Entry<K, V>> result = new HashSet<>();
+		for (Segment<K, V> segment : segments) {
+			segment.lock.lock();
+			try {
+				segment.forEach((key, value) -> result.add(new SimpleImmutableEntry<>(key, value)));
+			} finally {
+				segment.lock.unlock();
+			}
+		}
+		return result;
+	}
+	
+	/**
+	 * Removes entries which value matches given filter
+	 *
+	 * @param valueFilter a filter on values
+	 */
+	void removeIf(Predicate<? super V> valueFilter) {
+		for (Segment<K, V> segment : segments) {
+			segment.lock.lock();
+			try {
+				segment.values().removeIf(valueFilter);
+			} finally {
+				segment.lock.unlock();
+			}
+		}
+	}
+	
+	/**
+	 * A part of the cache : a {@link LinkedHashMap} in access order that removes its eldest entry when its size overflows.
+	 * Not thread-safe, callers must hold its {@link #lock}.
+	 */
+	private static class Segment<K, V> extends LinkedHashMap<K, V> {
+		
+		private final ReentrantLock lock = new ReentrantLock();
+		
+		private final int segmentSize;
+		
+		private Segment(int segmentSize) {
+			super(16, 0.75f, true);
+			this.segmentSize = segmentSize;
+		}
+		
+		/**
+		 * Implemented to remove the given entry if segment size overflows : not depending on entry, only on segment size
+		 * @param eldest the least recently accessed entry (computed by caller)
+		 * @return true if current segment size overflows expected one (given at construction time)
+		 */
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+			return size() > segmentSize;
+		}
+	}
+}
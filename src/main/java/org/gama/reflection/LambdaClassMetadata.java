@@ -0,0 +1,125 @@
+package org.gama.reflection;
+
+import java.io.Serializable;
+import java.lang.invoke.SerializedLambda;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.function.Function;
+
+import org.gama.lang.Reflections;
+import org.gama.lang.exception.Exceptions;
+import org.gama.reflection.MethodReferenceCapturer.MethodDefinition;
+
+/**
+ * Metadata of a method reference, memoized per lambda class : since each method reference call site produces a single synthetic class,
+ * repeated usages of the same method reference cost a single {@link ClassValue} lookup.
+ * {@link SerializedLambda} is only kept for non-capturing lambdas, because captured arguments differ between instances of the same class,
+ * whereas other metadata only depend on the target method hence are kept whatever the lambda is.
+ *
+ * @author Guillaume Mary
+ */
+final class LambdaClassMetadata {
+	
+	private static final ClassValue<LambdaClassMetadata> METADATA = new ClassValue<LambdaClassMetadata>() {
+		@Override
+		protected LambdaClassMetadata computeValue(Class<?> lambdaClass) {
+			return new LambdaClassMetadata(lambdaClass);
+		}
+	};
+	
+	/**
+	 * @param methodReference any method reference
+	 * @return the metadata shared by all instances of the method reference class
+	 */
+	static LambdaClassMetadata of(Serializable methodReference) {
+		return METADATA.get(methodReference.getClass());
+	}
+	
+	private final Method writeReplace;
+	
+	/* Implementation note: fields below are lazily computed without lock, hence they may be computed several times concurrently, which is
+	 * harmless since they're deterministic */
+	
+	private volatile SerializedLambda serializedLambda;
+	
+	private volatile String targetMethodRawSignature;
+	
+	private volatile MethodDefinition methodDefinition;
+	
+	private volatile Executable executable;
+	
+	private volatile Method method;
+	
+	private volatile Constructor constructor;
+	
+	private LambdaClassMetadata(Class<?> lambdaClass) {
+		// algorithm made possible thanks to https://stackoverflow.com/a/25625761
+		// (https://stackoverflow.com/questions/21887358/reflection-type-inference-on-java-8-lambdas)
+		this.writeReplace = Reflections.getMethod(lambdaClass, "writeReplace");
+		this.writeReplace.setAccessible(true);
+	}
+	
+	SerializedLambda giveSerializedLambda(Serializable methodReference) {
+		SerializedLambda result = serializedLambda;
+		if (result == null) {
+			try {
+				result = (SerializedLambda) writeReplace.invoke(methodReference);
+			} catch (IllegalAccessException | InvocationTargetException e) {
+				// Considered as will never happen
+				throw Exceptions.asRuntimeException(e);
+			}
+			if (result.getCapturedArgCount() == 0) {
+				serializedLambda = result;
+			}
+		}
+		return result;
+	}
+	
+	String giveTargetMethodRawSignature(Serializable methodReference) {
+		String result = targetMethodRawSignature;
+		if (result == null) {
+			result = MethodReferences.getTargetMethodRawSignature(giveSerializedLambda(methodReference));
+			targetMethodRawSignature = result;
+		}
+		return result;
+	}
+	
+	MethodDefinition giveMethodDefinition(Serializable methodReference) {
+		MethodDefinition result = methodDefinition;
+		if (result == null) {
+			result = MethodReferenceCapturer.giveArgumentTypes(giveSerializedLambda(methodReference),
+					methodReference.getClass().getClassLoader());
+			methodDefinition = result;
+		}
+		return result;
+	}
+	
+	Executable giveExecutable(Serializable methodReference, Function<SerializedLambda, Executable> resolver) {
+		Executable result = executable;
+		if (result == null) {
+			result = resolver.apply(giveSerializedLambda(methodReference));
+			executable = result;
+		}
+		return result;
+	}
+	
+	Method giveMethod(Serializable methodReference, Function<SerializedLambda, Method> resolver) {
+		Method result = method;
+		if (result == null) {
+			result = resolver.apply(giveSerializedLambda(methodReference));
+			method = result;
+		}
+		return result;
+	}
+	
+	Constructor giveConstructor(Serializable methodReference, Function<SerializedLambda, Constructor> resolver) {
+		Constructor result = constructor;
+		if (result == null) {
+			result = resolver.apply(giveSerializedLambda(methodReference));
+			constructor = result;
+		}
+		return result;
+	}
+}
@@ -0,0 +1,33 @@
+package org.gama.reflection;
+
+import java.util.List;
+
+/**
+ * Mutator dedicated to long values, avoiding boxing of {@link IMutator#set(Object, Object)}.
+ * Implemented by {@link MutatorByField} and {@link MutatorByMethod}, which support member types to which long can be widened, as
+ * {@link java.lang.reflect.Field#setLong(Object, long)} does.
+ * 
+ * @param <C> the owning type of the value to be modified
+ * @author Guillaume Mary
+ * @see Accessors#longMutator(Class, String)
+ */
+@FunctionalInterface
+public interface LongMutator<C> extends ValueAccessPoint {
+	
+	void setLong(C c, long value);
+	
+	/**
+	 * Bulk version of {@link #setLong(Object, long)}, see {@link IMutator#setAll(List, Object[])}
+	 * 
+	 * @param beans the beans to be modified
+	 * @param values values to be set, must be at least as long as beans
+	 * @throws IllegalArgumentException if values is shorter than beans
+	 */
+	default void setAllLong(List<? extends C> beans, long[] values) {
+		AbstractReflector.checkBulkSize(beans.size(), values.length);
+		int index = 0;
+		for (C c : beans) {
+			setLong(c, values[index++]);
+		}
+	}
+}
@@ -0,0 +1,38 @@
+package org.gama.reflection;
+
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+/**
+ * Describes how {@link AccessorByField}, {@link MutatorByField}, {@link AccessorByMethod} and {@link MutatorByMethod} reach their member.
+ * Default mode is given by {@link Accessors#getDefaultMemberAccessMode()} and can be changed to compare both modes.
+ *
+ * @author Guillaume Mary
+ * @see Accessors#setDefaultMemberAccessMode(MemberAccessMode)
+ */
+public enum MemberAccessMode {
+	
+	/** Members are accessed through {@link Field#get(Object)}, {@link Field#set(Object, Object)} or {@link Method#invoke(Object, Object...)} */
+	REFLECTION,
+	
+	/**
+	 * Members are accessed through a {@link MethodHandle} resolved once at construction time. Methods handles are furthermore compiled as
+	 * functional interfaces by {@link LambdaMetafactory} (only for public methods of public classes).
+	 * Reflection is still used as a fallback when the member can't be resolved that way (lookup denied) and to build exception messages
+	 * of erroneous calls (wrong target type, wrong value type) so that they remain the same as in {@link #REFLECTION} mode.
+	 */
+	METHOD_HANDLE,
+	
+	/**
+	 * Members are accessed through a class generated at runtime for each of them, which reads or writes the member with a plain bytecode
+	 * instruction (getfield, putfield, invokevirtual). Generated classes are defined as hidden nestmates of the member declaring class, so
+	 * private members are supported, but it requires Java 15 or later.
+	 * Falls back to {@link #METHOD_HANDLE} mode when generation is not possible (older JVM, static member, class of a non-opened module, etc.),
+	 * and to reflection for erroneous calls as in {@link #METHOD_HANDLE} mode.
+	 * 
+	 * @see AccessorClassGenerator
+	 */
+	GENERATED
+}
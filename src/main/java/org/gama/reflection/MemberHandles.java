@@ -0,0 +1,445 @@
+package org.gama.reflection;
+
+import javax.annotation.Nullable;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.WrongMethodTypeException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.gama.lang.exception.Exceptions;
+
+/**
+ * Helper to build and invoke {@link MethodHandle}s equivalent to some reflective calls, see {@link MemberAccessMode#METHOD_HANDLE}.
+ * Created {@link MethodHandle}s are adapted to erased signatures ({@link Object} in, {@link Object} out) so they can be invoked with
+ * {@link MethodHandle#invokeExact(Object...)} whatever the member type is.
+ * Methods are compiled into {@link Function} or {@link BiConsumer} thanks to {@link LambdaMetafactory} so that their invocation is a simple
+ * interface call. Compiled instances are shared by all reflectors of a same method.
+ *
+ * @author Guillaume Mary
+ */
+final class MemberHandles {
+	
+	private static final Lookup LOOKUP = MethodHandles.lookup();
+	
+	private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+	
+	private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+	
+	/**
+	 * Methods compiled by {@link LambdaMetafactory}, held by their declaring class, so that a method is compiled once whatever the number of
+	 * reflectors using it is : each compilation defines a new class
+	 */
+	private static final ClassValue<ConcurrentMap<Method, Object>> COMPILED_METHODS = new ClassValue<ConcurrentMap<Method, Object>>() {
+		@Override
+		protected ConcurrentMap<Method, Object> computeValue(Class<?> type) {
+			return new ConcurrentHashMap<>();
+		}
+	};
+	
+	/** Marker of methods which compilation failed, to avoid trying again */
+	private static final Object NOT_COMPILED = new Object();
+	
+	/** {@link Function#apply(Object)} as a {@link MethodHandle}, to adapt compiled getters to primitive types */
+	private static final MethodHandle FUNCTION_APPLY = findInterfaceMethod(Function.class, "apply", GETTER_TYPE);
+	
+	/** {@link BiConsumer#accept(Object, Object)} as a {@link MethodHandle}, to adapt compiled setters to primitive types */
+	private static final MethodHandle BICONSUMER_ACCEPT = findInterfaceMethod(BiConsumer.class, "accept", SETTER_TYPE);
+	
+	/**
+	 * Gives a {@link MethodHandle} reading given field. Field is expected to be already accessible.
+	 *
+	 * @param field any field
+	 * @return a {@link MethodHandle} of type (Object)Object, null if lookup is denied
+	 */
+	@Nullable
+	static MethodHandle findGetter(Field field) {
+		MethodHandle getter = unreflectGetter(field);
+		return getter == null ? null : getter.asType(GETTER_TYPE);
+	}
+	
+	/**
+	 * Gives a {@link MethodHandle} writing given field. Field is expected to be already accessible.
+	 *
+	 * @param field any field
+	 * @return a {@link MethodHandle} of type (Object, Object)void, null if lookup is denied (final field for instance)
+	 */
+	@Nullable
+	static MethodHandle findSetter(Field field) {
+		MethodHandle setter = unreflectSetter(field);
+		return setter == null ? null : setter.asType(SETTER_TYPE);
+	}
+	
+	/**
+	 * Gives a {@link MethodHandle} reading given field as given primitive type, so it can be read without boxing. Field is expected to be
+	 * already accessible.
+	 *
+	 * @param field any field
+	 * @param primitiveType expected read type
+	 * @return a {@link MethodHandle} of type (Object)primitiveType, null if field type is not a primitive type that can be widened to the
+	 * expected one, or if lookup is denied
+	 */
+	@Nullable
+	static MethodHandle findGetter(Field field, Class<?> primitiveType) {
+		MethodHandle getter = unreflectGetter(field);
+		return getter == null ? null : adaptGetter(getter, field.getType(), primitiveType);
+	}
+	
+	/**
+	 * Gives a {@link MethodHandle} writing given field with a value of given primitive type, so it can be written without boxing. Field is
+	 * expected to be already accessible.
+	 *
+	 * @param field any field
+	 * @param primitiveType type of written values
+	 * @return a {@link MethodHandle} of type (Object, primitiveType)void, null if field type is not a primitive type to which expected one can
+	 * be widened, or if lookup is denied (final field for instance)
+	 */
+	@Nullable
+	static MethodHandle findSetter(Field field, Class<?> primitiveType) {
+		MethodHandle setter = unreflectSetter(field);
+		return setter == null ? null : adaptSetter(setter, field.getType(), primitiveType);
+	}
+	
+	/**
+	 * @return a {@link MethodHandle} of type (declaring class)field type, or (Object)field type for static fields, null if lookup is denied
+	 */
+	@Nullable
+	private static MethodHandle unreflectGetter(Field field) {
+		MethodHandle getter;
+		try {
+			getter = LOOKUP.unreflectGetter(field);
+		} catch (IllegalAccessException e) {
+			return null;
+		}
+		if (Modifier.isStatic(field.getModifiers())) {
+			// static field handle doesn't take any argument, whereas Field.get(..) ignores its target : we mimic it
+			getter = MethodHandles.dropArguments(getter, 0, Object.class);
+		}
+		return getter;
+	}
+	
+	/**
+	 * @return a {@link MethodHandle} of type (declaring class, field type)void, or (Object, field type)void for static fields, null if lookup
+	 * is denied
+	 */
+	@Nullable
+	private static MethodHandle unreflectSetter(Field field) {
+		MethodHandle setter;
+		try {
+			setter = LOOKUP.unreflectSetter(field);
+		} catch (IllegalAccessException e) {
+			return null;
+		}
+		if (Modifier.isStatic(field.getModifiers())) {
+			setter = MethodHandles.dropArguments(setter, 0, Object.class);
+		}
+		return setter;
+	}
+	
+	/**
+	 * Gives a {@link MethodHandle} invoking given compiled getter and returning given primitive type, so that generated readers are also used
+	 * by primitive reads.
+	 *
+	 * @param getter a compiled reader, of a value of given type
+	 * @param valueType type of values returned by the getter
+	 * @param primitiveType expected returned type
+	 * @return a {@link MethodHandle} of type (Object)primitiveType, null if value type is not a primitive type that can be widened to the
+	 * expected one
+	 */
+	@Nullable
+	static MethodHandle findGetter(Function<Object, Object> getter, Class<?> valueType, Class<?> primitiveType) {
+		return adaptGetter(FUNCTION_APPLY.bindTo(getter), valueType, primitiveType);
+	}
+	
+	/**
+	 * Gives a {@link MethodHandle} invoking given compiled setter with a value of given primitive type, so that generated writers are also used
+	 * by primitive writes.
+	 *
+	 * @param setter a compiled writer, of a value of given type
+	 * @param valueType type of values expected by the setter
+	 * @param primitiveType type of values given to the returned handle
+	 * @return a {@link MethodHandle} of type (Object, primitiveType)void, null if value type is not a primitive type to which expected one can
+	 * be widened
+	 */
+	@Nullable
+	static MethodHandle findSetter(BiConsumer<Object, Object> setter, Class<?> valueType, Class<?> primitiveType) {
+		return adaptSetter(BICONSUMER_ACCEPT.bindTo(setter), valueType, primitiveType);
+	}
+	
+	/**
+	 * Converts a getter handle to one of type (Object)primitiveType
+	 * 
+	 * @param getter a {@link MethodHandle} taking a single argument and returning given value type, or {@link Object}
+	 * @param valueType type of values really returned by the handle
+	 * @param primitiveType expected returned type
+	 * @return null if value type is not a primitive type that can be widened to the expected one
+	 */
+	@Nullable
+	private static MethodHandle adaptGetter(MethodHandle getter, Class<?> valueType, Class<?> primitiveType) {
+		if (!valueType.isPrimitive()) {
+			return null;
+		}
+		try {
+			// NB: converting to value type first (unboxing for erased handles), then widening, because asType(..) doesn't widen boxed values
+			return getter.asType(MethodType.methodType(valueType, Object.class)).asType(MethodType.methodType(primitiveType, Object.class));
+		} catch (WrongMethodTypeException e) {
+			return null;
+		}
+	}
+	
+	/**
+	 * Converts a setter handle to one of type (Object, primitiveType)void
+	 * 
+	 * @param setter a {@link MethodHandle} taking a target and a value of given type, or {@link Object}, and returning void
+	 * @param valueType type of values really expected by the handle
+	 * @param primitiveType type of values given to returned handle
+	 * @return null if value type is not a primitive type to which expected one can be widened
+	 */
+	@Nullable
+	private static MethodHandle adaptSetter(MethodHandle setter, Class<?> valueType, Class<?> primitiveType) {
+		if (!valueType.isPrimitive()) {
+			return null;
+		}
+		try {
+			return setter.asType(MethodType.methodType(void.class, Object.class, valueType))
+					.asType(MethodType.methodType(void.class, Object.class, primitiveType));
+		} catch (WrongMethodTypeException e) {
+			return null;
+		}
+	}
+	
+	/**
+	 * Gives a {@link MethodHandle} invoking given getter and returning given primitive type, so it can be invoked without boxing.
+	 *
+	 * @param getter any method
+	 * @param primitiveType expected returned type
+	 * @return a {@link MethodHandle} of type (Object)primitiveType, null if getter doesn't return a primitive type that can be widened to
+	 * the expected one, or if lookup is denied
+	 */
+	@Nullable
+	static MethodHandle findGetter(Method getter, Class<?> primitiveType) {
+		if (getter.getParameterCount() != 0 || !getter.getReturnType().isPrimitive() || getter.getReturnType() == void.class) {
+			return null;
+		}
+		try {
+			return adaptTarget(LOOKUP.unreflect(getter), getter).asType(MethodType.methodType(primitiveType, Object.class));
+		} catch (IllegalAccessException | WrongMethodTypeException e) {
+			return null;
+		}
+	}
+	
+	/**
+	 * Gives a {@link MethodHandle} invoking given setter with a value of given primitive type, so it can be invoked without boxing.
+	 *
+	 * @param setter any method
+	 * @param primitiveType type of values given to the setter
+	 * @return a {@link MethodHandle} of type (Object, primitiveType)void, null if setter doesn't take a primitive type to which expected one
+	 * can be widened, or if lookup is denied
+	 */
+	@Nullable
+	static MethodHandle findSetter(Method setter, Class<?> primitiveType) {
+		if (setter.getParameterCount() != 1 || !setter.getParameterTypes()[0].isPrimitive()) {
+			return null;
+		}
+		try {
+			return adaptTarget(LOOKUP.unreflect(setter), setter).asType(MethodType.methodType(void.class, Object.class, primitiveType));
+		} catch (IllegalAccessException | WrongMethodTypeException e) {
+			return null;
+		}
+	}
+	
+	/**
+	 * Makes given handle take a first ignored argument if method is static, as {@link Method#invoke(Object, Object...)} does
+	 */
+	private static MethodHandle adaptTarget(MethodHandle handle, Method method) {
+		return Modifier.isStatic(method.getModifiers()) ? MethodHandles.dropArguments(handle, 0, Object.class) : handle;
+	}
+	
+	/**
+	 * Compiles given getter as a {@link Function} through {@link LambdaMetafactory}.
+	 * Only public instance no-arg methods of public classes visible from this class loader are supported, because generated class is hosted
+	 * by this class, hence it can't reach others.
+	 *
+	 * @param getter any method
+	 * @return a {@link Function} invoking the given method on its argument, null if method is not supported
+	 */
+	@Nullable
+	static Function<Object, Object> compileGetter(Method getter) {
+		if (getter.getParameterCount() != 0 || getter.getReturnType() == void.class || !isCompilable(getter)) {
+			return null;
+		}
+		return (Function<Object, Object>) compile(getter, "apply", Function.class, GETTER_TYPE,
+				() -> MethodType.methodType(wrap(getter.getReturnType()), getter.getDeclaringClass()));
+	}
+	
+	/**
+	 * Compiles given setter as a {@link BiConsumer} through {@link LambdaMetafactory}.
+	 * Only public instance one-arg methods of public classes visible from this class loader are supported, because generated class is hosted
+	 * by this class, hence it can't reach others.
+	 *
+	 * @param setter any method
+	 * @return a {@link BiConsumer} invoking the given method on its first argument with the second one, null if method is not supported
+	 */
+	@Nullable
+	static BiConsumer<Object, Object> compileSetter(Method setter) {
+		if (setter.getParameterCount() != 1 || !isCompilable(setter)) {
+			return null;
+		}
+		return (BiConsumer<Object, Object>) compile(setter, "accept", BiConsumer.class, SETTER_TYPE,
+				() -> MethodType.methodType(void.class, setter.getDeclaringClass(), wrap(setter.getParameterTypes()[0])));
+	}
+	
+	/**
+	 * Compiles given getter according to given access mode : through {@link AccessorClassGenerator} in {@link MemberAccessMode#GENERATED} mode
+	 * (falling back to {@link LambdaMetafactory} if generation fails), through {@link LambdaMetafactory} in {@link MemberAccessMode#METHOD_HANDLE}
+	 * mode
+	 *
+	 * @param getter any method
+	 * @param accessMode the way getter is expected to be invoked
+	 * @return null in {@link MemberAccessMode#REFLECTION} mode or if method is not supported
+	 */
+	@Nullable
+	static Function<Object, Object> compileGetter(Method getter, MemberAccessMode accessMode) {
+		Function<Object, Object> result = null;
+		if (accessMode == MemberAccessMode.GENERATED) {
+			result = AccessorClassGenerator.generateGetter(getter);
+		}
+		if (result == null && accessMode != MemberAccessMode.REFLECTION) {
+			result = compileGetter(getter);
+		}
+		return result;
+	}
+	
+	/**
+	 * Same as {@link #compileGetter(Method, MemberAccessMode)} for setters
+	 *
+	 * @param setter any method
+	 * @param accessMode the way setter is expected to be invoked
+	 * @return null in {@link MemberAccessMode#REFLECTION} mode or if method is not supported
+	 */
+	@Nullable
+	static BiConsumer<Object, Object> compileSetter(Method setter, MemberAccessMode accessMode) {
+		BiConsumer<Object, Object> result = null;
+		if (accessMode == MemberAccessMode.GENERATED) {
+			result = AccessorClassGenerator.generateSetter(setter);
+		}
+		if (result == null && accessMode != MemberAccessMode.REFLECTION) {
+			result = compileSetter(setter);
+		}
+		return result;
+	}
+	
+	/**
+	 * Gives the instance compiled for given method, compiling it on first demand
+	 *
+	 * @return null if method can't be compiled
+	 */
+	@Nullable
+	private static Object compile(Method method, String samMethodName, Class samType, MethodType samMethodType,
+								  Supplier<MethodType> instantiatedType) {
+		Object result = COMPILED_METHODS.get(method.getDeclaringClass()).computeIfAbsent(method, m -> {
+			try {
+				MethodHandle implementation = LOOKUP.unreflect(method);
+				return LambdaMetafactory.metafactory(LOOKUP, samMethodName, MethodType.methodType(samType), samMethodType, implementation,
+						instantiatedType.get())
+						.getTarget()
+						.invoke();
+			} catch (Throwable t) {
+				// any failure (access, linkage) makes us fallback to reflection
+				return NOT_COMPILED;
+			}
+		});
+		return result == NOT_COMPILED ? null : result;
+	}
+	
+	private static boolean isCompilable(Method method) {
+		if (Modifier.isStatic(method.getModifiers()) || !Modifier.isPublic(method.getModifiers())) {
+			return false;
+		}
+		Class<?> clazz = method.getDeclaringClass();
+		// class must be public as well as all its enclosing classes
+		Class<?> enclosingClass = clazz;
+		while (enclosingClass != null) {
+			if (!Modifier.isPublic(enclosingClass.getModifiers())) {
+				return false;
+			}
+			enclosingClass = enclosingClass.getEnclosingClass();
+		}
+		// generated class is resolved by our class loader : it must be able to see the method declaring class
+		try {
+			return Class.forName(clazz.getName(), false, MemberHandles.class.getClassLoader()) == clazz;
+		} catch (ClassNotFoundException | LinkageError e) {
+			return false;
+		}
+	}
+	
+	/**
+	 * Indicates if the given target can be given to a {@link MethodHandle} created from the given field without raising an exception.
+	 *
+	 * @param field the field from which a {@link MethodHandle} was created
+	 * @param target an object on which the field is read or written
+	 * @return true if target is an instance of field declaring class, or field is static
+	 */
+	static boolean isCompatibleTarget(Field field, Object target) {
+		return field.getDeclaringClass().isInstance(target) || Modifier.isStatic(field.getModifiers());
+	}
+	
+	/**
+	 * Indicates if the given value can be given to a {@link MethodHandle} expecting given type without raising an exception.
+	 * Wrapper type is expected to be given (instead of being computed) for performance reason since this method is invoked on each call.
+	 *
+	 * @param type expected type, may be primitive
+	 * @param wrappedType wrapper type of the primitive type, or type itself if it's not a primitive one, see {@link #wrap(Class)}
+	 * @param value any value, null included
+	 * @return true if value is an instance of wrapped type (no widening is done), or if value is null and type is not primitive
+	 */
+	static boolean isCompatibleValue(Class type, Class wrappedType, @Nullable Object value) {
+		return value == null ? !type.isPrimitive() : wrappedType.isInstance(value);
+	}
+	
+	/**
+	 * @param type any type
+	 * @return the wrapper type of given type if it's a primitive one, else type itself
+	 */
+	static Class wrap(Class type) {
+		return MethodType.methodType(type).wrap().returnType();
+	}
+	
+	static Object invokeGetter(MethodHandle getter, Object target) {
+		try {
+			return (Object) getter.invokeExact(target);
+		} catch (Throwable t) {
+			throw Exceptions.asRuntimeException(t);
+		}
+	}
+	
+	static void invokeSetter(MethodHandle setter, Object target, Object value) {
+		try {
+			setter.invokeExact(target, value);
+		} catch (Throwable t) {
+			throw Exceptions.asRuntimeException(t);
+		}
+	}
+	
+	private static MethodHandle findInterfaceMethod(Class<?> type, String name, MethodType methodType) {
+		try {
+			return LOOKUP.findVirtual(type, name, methodType);
+		} catch (ReflectiveOperationException e) {
+			// shouldn't happen since those are JDK interfaces
+			throw Exceptions.asRuntimeException(e);
+		}
+	}
+	
+	private MemberHandles() {
+		// utility class
+	}
+}
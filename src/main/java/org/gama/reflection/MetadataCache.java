@@ -0,0 +1,422 @@
+package org.gama.reflection;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.CodeSource;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.zip.CRC32;
+
+/**
+ * Persistent cache of class members found by property name (see {@link PropertyModel}), aimed at speeding up JVM warm starts : it's loaded
+ * from a file at startup, consulted before reflective lookups, and saved back with members resolved meanwhile.
+ * File is memory-mapped and entries of a class are only decoded on its first lookup. They're keyed by class name and location of its code
+ * source (jar or directory), so that classes of same name loaded from different places by different class loaders don't share entries.
+ * Entries are validated against size and modification time of code sources of the class and of its non-JDK super types, which doesn't
+ * require to read any class file : jars are checked as a whole, directories per class file. Hence entries of a modified class are ignored
+ * (and replaced on next save), as entries of every class of a rebuilt jar. Classes without a file code source (generated ones for instance)
+ * are not cached.
+ * A cached member is resolved by a direct lookup on its declaring class instead of a search in the class hierarchy, if it fails the member is
+ * looked up as if there was no cache.
+ *
+ * @author Guillaume Mary
+ * @see Accessors#setMetadataCache(MetadataCache)
+ */
+public final class MetadataCache {
+	
+	/** First line of the file, to be changed with file format */
+	private static final String HEADER = "#org.gama.reflection.MetadataCache 2";
+	
+	private static final char ENTRY_SEPARATOR = '\t';
+	
+	private static final char KEY_SEPARATOR = '=';
+	
+	private static final char MEMBER_SEPARATOR = '#';
+	
+	/** Separator of class name and code source location in class keys */
+	private static final char CODE_SOURCE_SEPARATOR = '@';
+	
+	/** Descriptor of a member that doesn't exist */
+	private static final String ABSENT = "-";
+	
+	/** Represents JDK types in checksums, see {@link #computeChecksum(Class)} */
+	private static final byte[] JDK_VERSION = System.getProperty("java.version").getBytes(StandardCharsets.UTF_8);
+	
+	/**
+	 * Code sources of types, shared by all instances since they don't depend on them, and kept as long as their type is.
+	 * Computed on first demand by {@link #computeCodeSource(Class)}.
+	 */
+	private static final ClassValue<TypeCodeSource> CODE_SOURCES = new ClassValue<TypeCodeSource>() {
+		@Override
+		protected TypeCodeSource computeValue(Class<?> type) {
+			return computeCodeSource(type);
+		}
+	};
+	
+	/** Stamps of jar files, so that each jar is checked once whatever the number of its classes */
+	private static final ConcurrentMap<Path, Optional<String>> JAR_STAMPS = new ConcurrentHashMap<>();
+	
+	/**
+	 * Loads the cache stored in given file. Its content is expected to have been written by {@link #save()}, unknown content is ignored.
+	 *
+	 * @param file file storing the cache, may not exist yet
+	 * @return a new cache, empty if file doesn't exist
+	 * @throws IOException if file can't be read
+	 */
+	public static MetadataCache load(Path file) throws IOException {
+		MetadataCache result = new MetadataCache(file);
+		if (Files.exists(file)) {
+			result.index();
+		}
+		return result;
+	}
+	
+	private final Path file;
+	
+	/** Lines of the file per class key (see {@link #giveKey(Class)}), decoded on first lookup of the class */
+	private final Map<String, ByteBuffer> storedLines = new ConcurrentHashMap<>();
+	
+	/** Entries per class key (see {@link #giveKey(Class)}), for classes that were looked up */
+	private final ConcurrentMap<String, ClassMetadata> classes = new ConcurrentHashMap<>();
+	
+	private MetadataCache(Path file) {
+		this.file = file;
+	}
+	
+	/**
+	 * Writes this cache to its file : entries of classes that were looked up replace stored ones, others are kept as is.
+	 * File is replaced atomically so a concurrent {@link #load(Path)} never reads a partial content.
+	 *
+	 * @throws IOException if file can't be written
+	 */
+	public void save() throws IOException {
+		Path absoluteFile = file.toAbsolutePath();
+		Path tempFile = Files.createTempFile(absoluteFile.getParent(), absoluteFile.getFileName().toString(), ".tmp");
+		try (Writer writer = Files.newBufferedWriter(tempFile, StandardCharsets.UTF_8)) {
+			writer.write(HEADER);
+			writer.write('\n');
+			for (Entry<String, ByteBuffer> storedLine : storedLines.entrySet()) {
+				if (!classes.containsKey(storedLine.getKey())) {
+					writer.write(StandardCharsets.UTF_8.decode(storedLine.getValue().duplicate()).toString());
+					writer.write('\n');
+				}
+			}
+			for (Entry<String, ClassMetadata> classMetadata : classes.entrySet()) {
+				ClassMetadata metadata = classMetadata.getValue();
+				if (metadata.checksum != null && !metadata.entries.isEmpty()) {
+					writer.write(classMetadata.getKey());
+					writer.write(ENTRY_SEPARATOR);
+					writer.write(metadata.checksum);
+					for (Entry<String, String> entry : metadata.entries.entrySet()) {
+						writer.write(ENTRY_SEPARATOR);
+						writer.write(entry.getKey());
+						writer.write(KEY_SEPARATOR);
+						writer.write(entry.getValue());
+					}
+					writer.write('\n');
+				}
+			}
+		}
+		Files.move(tempFile, absoluteFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+	}
+	
+	/**
+	 * @param clazz class on which method was looked up
+	 * @param key lookup key, unique per class
+	 * @return null if cache doesn't know the method (or it can't be resolved anymore), an empty {@link Optional} if method is known to not exist
+	 */
+	@Nullable
+	Optional<Method> findMethod(Class<?> clazz, String key) {
+		String descriptor = giveClassMetadata(clazz).entries.get(key);
+		if (descriptor == null) {
+			return null;
+		} else if (descriptor.equals(ABSENT)) {
+			return Optional.empty();
+		} else {
+			int memberSeparatorIndex = descriptor.indexOf(MEMBER_SEPARATOR);
+			int signatureIndex = descriptor.indexOf('(', memberSeparatorIndex);
+			try {
+				Class<?> declaringClass = Class.forName(descriptor.substring(0, memberSeparatorIndex), false, clazz.getClassLoader());
+				MethodType methodType = MethodType.fromMethodDescriptorString(descriptor.substring(signatureIndex), clazz.getClassLoader());
+				Method result = declaringClass.getDeclaredMethod(descriptor.substring(memberSeparatorIndex + 1, signatureIndex),
+						methodType.parameterArray());
+				return result.getReturnType() == methodType.returnType() ? Optional.of(result) : null;
+			} catch (ReflectiveOperationException | RuntimeException | LinkageError e) {
+				// stale entry : member will be looked up again
+				return null;
+			}
+		}
+	}
+	
+	/**
+	 * @param clazz class on which method was looked up
+	 * @param key lookup key, unique per class
+	 * @param method method found by key, null if it doesn't exist
+	 */
+	void putMethod(Class<?> clazz, String key, @Nullable Method method) {
+		put(clazz, key, method == null ? ABSENT : method.getDeclaringClass().getName() + MEMBER_SEPARATOR + method.getName()
+				+ MethodType.methodType(method.getReturnType(), method.getParameterTypes()).toMethodDescriptorString());
+	}
+	
+	/**
+	 * @param clazz class on which field was looked up
+	 * @param key lookup key, unique per class
+	 * @return null if cache doesn't know the field (or it can't be resolved anymore), an empty {@link Optional} if field is known to not exist
+	 */
+	@Nullable
+	Optional<Field> findField(Class<?> clazz, String key) {
+		String descriptor = giveClassMetadata(clazz).entries.get(key);
+		if (descriptor == null) {
+			return null;
+		} else if (descriptor.equals(ABSENT)) {
+			return Optional.empty();
+		} else {
+			int memberSeparatorIndex = descriptor.indexOf(MEMBER_SEPARATOR);
+			try {
+				Class<?> declaringClass = Class.forName(descriptor.substring(0, memberSeparatorIndex), false, clazz.getClassLoader());
+				return Optional.of(declaringClass.getDeclaredField(descriptor.substring(memberSeparatorIndex + 1)));
+			} catch (ReflectiveOperationException | RuntimeException | LinkageError e) {
+				// stale entry : member will be looked up again
+				return null;
+			}
+		}
+	}
+	
+	/**
+	 * @param clazz class on which field was looked up
+	 * @param key lookup key, unique per class
+	 * @param field field found by key, null if it doesn't exist
+	 */
+	void putField(Class<?> clazz, String key, @Nullable Field field) {
+		put(clazz, key, field == null ? ABSENT : field.getDeclaringClass().getName() + MEMBER_SEPARATOR + field.getName());
+	}
+	
+	private void put(Class<?> clazz, String key, String descriptor) {
+		ClassMetadata classMetadata = giveClassMetadata(clazz);
+		if (classMetadata.checksum != null) {
+			classMetadata.entries.put(key, descriptor);
+		}
+	}
+	
+	private ClassMetadata giveClassMetadata(Class<?> clazz) {
+		String key = giveKey(clazz);
+		ClassMetadata result = classes.get(key);
+		if (result == null) {
+			result = new ClassMetadata(computeChecksum(clazz));
+			ByteBuffer storedLine = storedLines.get(key);
+			if (storedLine != null && result.checksum != null) {
+				result.decode(StandardCharsets.UTF_8.decode(storedLine.duplicate()).toString());
+			}
+			ClassMetadata existing = classes.putIfAbsent(key, result);
+			if (existing != null) {
+				result = existing;
+			}
+		}
+		return result;
+	}
+	
+	/**
+	 * Gives the key of a class in this cache : its name and the location it was loaded from, because classes of same name may be loaded
+	 * from different places by different class loaders.
+	 * 
+	 * @return class name followed by its code source location, only class name if it has no code source (then it's not cached)
+	 */
+	static String giveKey(Class<?> clazz) {
+		String location = CODE_SOURCES.get(clazz).location;
+		return location == null ? clazz.getName() : clazz.getName() + CODE_SOURCE_SEPARATOR + location;
+	}
+	
+	/**
+	 * Maps the file and indexes its lines per class key, without decoding them
+	 */
+	private void index() throws IOException {
+		ByteBuffer content;
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			// NB: mapping stays valid after channel closing
+			content = channel.map(MapMode.READ_ONLY, 0, channel.size());
+		}
+		byte[] header = (HEADER + '\n').getBytes(StandardCharsets.UTF_8);
+		// NB: Buffer methods are called on Buffer type because their ByteBuffer overrides only exist since Java 9, so code compiled with a
+		// newer JDK would fail on Java 8 (NoSuchMethodError)
+		if (content.limit() < header.length || !ByteBuffer.wrap(header).equals(((Buffer) content.duplicate()).limit(header.length))) {
+			// unknown format : file will be overwritten on save
+			return;
+		}
+		int lineStart = header.length;
+		int classNameEnd = -1;
+		for (int i = lineStart; i < content.limit(); i++) {
+			byte b = content.get(i);
+			if (b == ENTRY_SEPARATOR && classNameEnd == -1) {
+				classNameEnd = i;
+			} else if (b == '\n') {
+				// NB: separators are ASCII characters, so they can't be confused with a byte of a multi-bytes UTF-8 character
+				if (classNameEnd != -1) {
+					String classKey = StandardCharsets.UTF_8.decode(slice(content, lineStart, classNameEnd)).toString();
+					storedLines.put(classKey, slice(content, lineStart, i));
+				}
+				lineStart = i + 1;
+				classNameEnd = -1;
+			}
+		}
+	}
+	
+	private static ByteBuffer slice(ByteBuffer buffer, int start, int end) {
+		ByteBuffer result = buffer.duplicate();
+		// NB: cast for Java 8 compatibility, see index()
+		((Buffer) result).position(start);
+		((Buffer) result).limit(end);
+		return result.slice();
+	}
+	
+	/**
+	 * Computes a checksum of code source stamps of given class and of its super types, since looked up members may be inherited.
+	 * JDK types are not checked : they're represented by JDK version, which is enough to detect their changes.
+	 *
+	 * @return null if one of the code sources can't be checked
+	 */
+	@Nullable
+	private static String computeChecksum(Class<?> clazz) {
+		CRC32 checksum = new CRC32();
+		checksum.update(JDK_VERSION);
+		Deque<Class<?>> typesToRead = new ArrayDeque<>();
+		Set<Class<?>> readTypes = new HashSet<>();
+		typesToRead.add(clazz);
+		while (!typesToRead.isEmpty()) {
+			Class<?> type = typesToRead.poll();
+			// NB: super types of JDK types are JDK ones too, so their hierarchy is not walked
+			if (!isJdkType(type) && readTypes.add(type)) {
+				String stamp = CODE_SOURCES.get(type).stamp;
+				if (stamp == null) {
+					return null;
+				}
+				checksum.update(stamp.getBytes(StandardCharsets.UTF_8));
+				if (type.getSuperclass() != null) {
+					typesToRead.add(type.getSuperclass());
+				}
+				typesToRead.addAll(Arrays.asList(type.getInterfaces()));
+			}
+		}
+		return Long.toHexString(checksum.getValue());
+	}
+	
+	private static boolean isJdkType(Class<?> type) {
+		return type.getClassLoader() == null || type.getName().startsWith("java.") || type.getName().startsWith("javax.");
+	}
+	
+	/**
+	 * Locates the code source of given type and computes its stamp : the one of its jar, or the one of its class file if it was loaded from a
+	 * directory, since a directory doesn't tell about changes of its content.
+	 * 
+	 * @return a {@link TypeCodeSource} with a null location if type has no code source, and a null stamp if it's not a file
+	 */
+	private static TypeCodeSource computeCodeSource(Class<?> type) {
+		CodeSource codeSource;
+		try {
+			codeSource = type.getProtectionDomain().getCodeSource();
+		} catch (SecurityException e) {
+			codeSource = null;
+		}
+		if (codeSource == null || codeSource.getLocation() == null) {
+			return new TypeCodeSource(null, null);
+		}
+		URL location = codeSource.getLocation();
+		Path path;
+		try {
+			path = Paths.get(location.toURI());
+		} catch (URISyntaxException | RuntimeException e) {
+			// not a file (remote or in-memory code source)
+			return new TypeCodeSource(location.toString(), null);
+		}
+		String stamp;
+		if (Files.isDirectory(path)) {
+			stamp = computeStamp(path.resolve(type.getName().replace('.', '/') + ".class")).orElse(null);
+		} else {
+			stamp = JAR_STAMPS.computeIfAbsent(path, MetadataCache::computeStamp).orElse(null);
+		}
+		return new TypeCodeSource(location.toString(), stamp);
+	}
+	
+	/**
+	 * @return size and modification time of given file, empty if it can't be read
+	 */
+	private static Optional<String> computeStamp(Path file) {
+		try {
+			BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+			return Optional.of(attributes.size() + "/" + attributes.lastModifiedTime().toMillis());
+		} catch (IOException | RuntimeException e) {
+			return Optional.empty();
+		}
+	}
+	
+	/**
+	 * Location of a type and stamp of the file it was loaded from
+	 */
+	private static class TypeCodeSource {
+		
+		/** Location of code source, null if type has none */
+		@Nullable
+		private final String location;
+		
+		/** Size and modification time of type file, null if it can't be read */
+		@Nullable
+		private final String stamp;
+		
+		private TypeCodeSource(@Nullable String location, @Nullable String stamp) {
+			this.location = location;
+			this.stamp = stamp;
+		}
+	}
+	
+	private static class ClassMetadata {
+		
+		/** Checksum of current class, null if class can't be cached */
+		@Nullable
+		private final String checksum;
+		
+		private final ConcurrentMap<String, String> entries = new ConcurrentHashMap<>();
+		
+		private ClassMetadata(@Nullable String checksum) {
+			this.checksum = checksum;
+		}
+		
+		/**
+		 * Fills entries from the given stored line if its checksum matches current one
+		 */
+		private void decode(String storedLine) {
+			String[] storedEntries = storedLine.split(String.valueOf(ENTRY_SEPARATOR));
+			if (storedEntries.length > 1 && storedEntries[1].equals(checksum)) {
+				for (int i = 2; i < storedEntries.length; i++) {
+					int keySeparatorIndex = storedEntries[i].indexOf(KEY_SEPARATOR);
+					if (keySeparatorIndex != -1) {
+						entries.put(storedEntries[i].substring(0, keySeparatorIndex), storedEntries[i].substring(keySeparatorIndex + 1));
+					}
+				}
+			}
+		}
+	}
+}
@@ -1,15 +1,16 @@
 package org.gama.reflection;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.Serializable;
 import java.lang.invoke.SerializedLambda;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Executable;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
-import java.util.ArrayList;
-import java.util.LinkedHashMap;
-import java.util.List;
-import java.util.Map;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.danekja.java.util.function.serializable.SerializableBiConsumer;
 import org.danekja.java.util.function.serializable.SerializableBiFunction;
@@ -25,7 +26,7 @@ import org.gama.lang.function.SerializableTriFunction;
 /**
  * Will help to find {@link Method}s behind method references.
  * Only works on Serializable forms of method references due to the way {@link Method}s are shelled.
- * Each instance caches its search.
+ * Each instance caches its search in a thread-safe bounded cache, so instances can be shared.
  * 
  * @author Guillaume Mary
  */
@@ -34,14 +35,25 @@ public class MethodReferenceCapturer {
 	/** A totally arbitrary value for cache size */
 	private static final int DEFAULT_CACHE_SIZE = 1000;
 	
-	private final Map<String, Executable> cache;
+	/** {@link ClassLoader} used to resolve classes of method references when their own one is not known */
+	private static final ClassLoader OWN_CLASS_LOADER = MethodReferenceCapturer.class.getClassLoader();
+	
+	private static final Class[] NO_ARGUMENT_TYPES = new Class[0];
+	
+	/** Types of method descriptors resolved with {@link #OWN_CLASS_LOADER}, see {@link #giveTypes(String, ClassLoader)} */
+	private static final ConcurrentMap<String, Class[]> DESCRIPTOR_TYPES = new ConcurrentHashMap<>();
+	
+	private final LRUCache<String, Executable> cache;
 	
 	public MethodReferenceCapturer() {
 		this(DEFAULT_CACHE_SIZE);
 	}
 	
+	/**
+	 * @param cacheSize maximum number of found {@link Executable}s kept, least recently used ones are evicted first
+	 */
 	public MethodReferenceCapturer(int cacheSize) {
-		cache = new LRUCache(cacheSize);
+		cache = new LRUCache<>(cacheSize);
 	}
 	
 	/**
@@ -53,7 +65,7 @@ public class MethodReferenceCapturer {
 	 * @return the found method
 	 */
 	public <I, O> Method findMethod(SerializableFunction<I, O> methodReference) {
-		return findMethod(MethodReferences.buildSerializedLambda(methodReference));
+		return findCachedMethod(methodReference);
 	}
 	
 	/**
@@ -66,7 +78,7 @@ public class MethodReferenceCapturer {
 	 * @return the found method
 	 */
 	public <I, A1, O> Method findMethod(SerializableBiFunction<I, A1, O> methodReference) {
-		return findMethod(MethodReferences.buildSerializedLambda(methodReference));
+		return findCachedMethod(methodReference);
 	}
 	
 	/**
@@ -80,7 +92,7 @@ public class MethodReferenceCapturer {
 	 * @return the found method
 	 */
 	public <I, A1, A2, O> Method findMethod(SerializableTriFunction<I, A1, A2, O> methodReference) {
-		return findMethod(MethodReferences.buildSerializedLambda(methodReference));
+		return findCachedMethod(methodReference);
 	}
 	
 	/**
@@ -91,7 +103,7 @@ public class MethodReferenceCapturer {
 	 * @return the found method
 	 */
 	public <I> Method findMethod(SerializableConsumer<I> methodReference) {
-		return findMethod(MethodReferences.buildSerializedLambda(methodReference));
+		return findCachedMethod(methodReference);
 	}
 	
 	/**
@@ -103,7 +115,7 @@ public class MethodReferenceCapturer {
 	 * @return the found method
 	 */
 	public <I, A1> Method findMethod(SerializableBiConsumer<I, A1> methodReference) {
-		return findMethod(MethodReferences.buildSerializedLambda(methodReference));
+		return findCachedMethod(methodReference);
 	}
 	
 	/**
@@ -116,7 +128,7 @@ public class MethodReferenceCapturer {
 	 * @return the found method
 	 */
 	public <I, A1, A2> Method findMethod(SerializableTriConsumer<I, A1, A2> methodReference) {
-		return findMethod(MethodReferences.buildSerializedLambda(methodReference));
+		return findCachedMethod(methodReference);
 	}
 	
 	/**
@@ -127,7 +139,7 @@ public class MethodReferenceCapturer {
 	 * @return the found method
 	 */
 	public <O> Constructor findConstructor(SerializableSupplier<O> methodReference) {
-		return findConstructor(MethodReferences.buildSerializedLambda(methodReference));
+		return findCachedConstructor(methodReference);
 	}
 	
 	/**
@@ -139,7 +151,7 @@ public class MethodReferenceCapturer {
 	 * @return the found method
 	 */
 	public <O, A1> Constructor findConstructor(SerializableFunction<A1, O> methodReference) {
-		return findConstructor(MethodReferences.buildSerializedLambda(methodReference));
+		return findCachedConstructor(methodReference);
 	}
 	
 	/**
@@ -152,7 +164,7 @@ public class MethodReferenceCapturer {
 	 * @return the found method
 	 */
 	public <A1, A2, O> Constructor findConstructor(SerializableBiFunction<A1, A2, O> methodReference) {
-		return findConstructor(MethodReferences.buildSerializedLambda(methodReference));
+		return findCachedConstructor(methodReference);
 	}
 	
 	/**
@@ -166,7 +178,7 @@ public class MethodReferenceCapturer {
 	 * @return the found method
 	 */
 	public <A1, A2, A3,O> Constructor findConstructor(SerializableTriFunction<A1, A2, A3, O> methodReference) {
-		return findConstructor(MethodReferences.buildSerializedLambda(methodReference));
+		return findCachedConstructor(methodReference);
 	}
 	
 	/**
@@ -175,8 +187,11 @@ public class MethodReferenceCapturer {
 	 * @return the found Method
 	 */
 	public Method findMethod(SerializedLambda serializedLambda) {
-		String targetMethodRawSignature = MethodReferences.getTargetMethodRawSignature(serializedLambda);
-		return handleMethodCast(findExecutable(serializedLambda, targetMethodRawSignature));
+		return findMethod(serializedLambda, OWN_CLASS_LOADER);
+	}
+	
+	private Method findMethod(SerializedLambda serializedLambda, @Nullable ClassLoader classLoader) {
+		return handleMethodCast(findExecutable(serializedLambda, classLoader));
 	}
 	
 	private Method handleMethodCast(Executable executable) {
@@ -195,7 +210,11 @@ public class MethodReferenceCapturer {
 	 * @return the found Method
 	 */
 	public Constructor findConstructor(SerializedLambda serializedLambda) {
-		return handleConstructorCast(findExecutable(serializedLambda));
+		return findConstructor(serializedLambda, OWN_CLASS_LOADER);
+	}
+	
+	private Constructor findConstructor(SerializedLambda serializedLambda, @Nullable ClassLoader classLoader) {
+		return handleConstructorCast(findExecutable(serializedLambda, classLoader));
 	}
 	
 	private Constructor handleConstructorCast(Executable executable) {
@@ -232,7 +251,7 @@ public class MethodReferenceCapturer {
 	 * @return the found method
 	 */
 	public <I, O> Executable findExecutable(SerializableFunction<I, O> methodReference) {
-		return findExecutable(MethodReferences.buildSerializedLambda(methodReference));
+		return findCachedExecutable(methodReference);
 	}
 	
 	/**
@@ -245,7 +264,7 @@ public class MethodReferenceCapturer {
 	 * @return the found {@link Executable}
 	 */
 	public <I, A1, O> Executable findExecutable(SerializableBiFunction<I, A1, O> methodReference) {
-		return findExecutable(MethodReferences.buildSerializedLambda(methodReference));
+		return findCachedExecutable(methodReference);
 	}
 	
 	/**
@@ -259,7 +278,7 @@ public class MethodReferenceCapturer {
 	 * @return the found {@link Executable}
 	 */
 	public <I, A1, A2, O> Executable findExecutable(SerializableTriFunction<I, A1, A2, O> methodReference) {
-		return findExecutable(MethodReferences.buildSerializedLambda(methodReference));
+		return findCachedExecutable(methodReference);
 	}
 	
 	/**
@@ -270,7 +289,7 @@ public class MethodReferenceCapturer {
 	 * @return the found {@link Executable}
 	 */
 	public <I> Executable findExecutable(SerializableConsumer<I> methodReference) {
-		return findExecutable(MethodReferences.buildSerializedLambda(methodReference));
+		return findCachedExecutable(methodReference);
 	}
 	
 	/**
@@ -282,7 +301,7 @@ public class MethodReferenceCapturer {
 	 * @return the found {@link Executable}
 	 */
 	public <I, A1> Executable findExecutable(SerializableBiConsumer<I, A1> methodReference) {
-		return findExecutable(MethodReferences.buildSerializedLambda(methodReference));
+		return findCachedExecutable(methodReference);
 	}
 	
 	/**
@@ -295,53 +314,81 @@ public class MethodReferenceCapturer {
 	 * @return the found {@link Executable}
 	 */
 	public <I, A1, A2> Executable findExecutable(SerializableTriConsumer<I, A1, A2> methodReference) {
-		return findExecutable(MethodReferences.buildSerializedLambda(methodReference));
+		return findCachedExecutable(methodReference);
+	}
+	
+	/* Methods below memoize their result per method reference class, see LambdaClassMetadata, hence they skip SerializedLambda building
+	 * and cache key computation from the second call with the same method reference. Classes are resolved with the method reference
+	 * ClassLoader so those of child ClassLoaders (web applications in a container for instance) can be found. */
+	
+	private Method findCachedMethod(Serializable methodReference) {
+		ClassLoader classLoader = methodReference.getClass().getClassLoader();
+		return LambdaClassMetadata.of(methodReference).giveMethod(methodReference, serializedLambda -> findMethod(serializedLambda, classLoader));
+	}
+	
+	private Constructor findCachedConstructor(Serializable methodReference) {
+		ClassLoader classLoader = methodReference.getClass().getClassLoader();
+		return LambdaClassMetadata.of(methodReference).giveConstructor(methodReference,
+				serializedLambda -> findConstructor(serializedLambda, classLoader));
+	}
+	
+	private Executable findCachedExecutable(Serializable methodReference) {
+		ClassLoader classLoader = methodReference.getClass().getClassLoader();
+		return LambdaClassMetadata.of(methodReference).giveExecutable(methodReference,
+				serializedLambda -> findExecutable(serializedLambda, classLoader));
 	}
 	
 	/**
-	 * Find any {@link Executable} behind the given {@link SerializedLambda}
+	 * Find any {@link Executable} behind the given {@link SerializedLambda}.
+	 * Result is only cached if it can't prevent its class from being unloaded, which means that it was loaded by the {@link ClassLoader} of
+	 * this class or one of its parents. Others are expected to be memoized by the caller per method reference class.
 	 *
 	 * @param serializedLambda any non null {@link SerializedLambda}
+	 * @param classLoader {@link ClassLoader} of the method reference, used to load classes of its signature
 	 * @return the {@link Executable} in the given {@link SerializedLambda}
 	 */
-	private Executable findExecutable(SerializedLambda serializedLambda) {
-		String targetMethodRawSignature = MethodReferences.getTargetMethodRawSignature(serializedLambda);
-		return findExecutable(serializedLambda, targetMethodRawSignature);
+	private Executable findExecutable(SerializedLambda serializedLambda, @Nullable ClassLoader classLoader) {
+		if (ClassLoaders.isParentOrSame(classLoader, OWN_CLASS_LOADER)) {
+			String targetMethodRawSignature = MethodReferences.getTargetMethodRawSignature(serializedLambda);
+			return cache.computeIfAbsent(targetMethodRawSignature, s -> resolveExecutable(serializedLambda, classLoader));
+		} else {
+			return resolveExecutable(serializedLambda, classLoader);
+		}
+	}
+	
+	private static Executable resolveExecutable(SerializedLambda serializedLambda, @Nullable ClassLoader classLoader) {
+		Class<?> clazz;
+		try {
+			clazz = Class.forName(serializedLambda.getImplClass().replace("/", "."), true, classLoader);
+		} catch (ClassNotFoundException e) {
+			// Should not happen since the class was Serialized so it exists !
+			throw Exceptions.asRuntimeException(e);
+		}
+		// looking for argument types
+		Class[] argsClasses;
+		try {
+			argsClasses = giveArgumentTypes(serializedLambda, classLoader).getArgumentTypes();
+		} catch (MemberNotFoundException e) {
+			throw new MemberNotFoundException("Can't find method reference for "
+					+ serializedLambda.getImplClass() + "." + serializedLambda.getImplMethodName(), e);
+		}
+		// Method or constructor case ?
+		// Note: we'll use getMethod(..) instead of findMethod(..) because we accept that it throws an exception in case of not found member
+		// due to that it can hardly happen
+		if (serializedLambda.getImplMethodName().equals("<init>")) {
+			return Reflections.getConstructor(clazz, argsClasses);
+		} else {
+			return Reflections.getMethod(clazz, serializedLambda.getImplMethodName(), argsClasses);
+		}
 	}
 	
 	/**
-	 * Find any {@link Executable} behind the given {@link SerializedLambda}
+	 * Removes from cache the {@link Executable}s of classes loaded by given {@link ClassLoader} or one of its children
 	 * 
-	 * @param serializedLambda any non null {@link SerializedLambda}
-	 * @param targetExecutableRawSignature the executable signature to be used for caching
-	 * @return the {@link Executable} in the given {@link SerializedLambda}
+	 * @param classLoader a {@link ClassLoader} about to be released
 	 */
-	private Executable findExecutable(SerializedLambda serializedLambda, String targetExecutableRawSignature) {
-		return cache.computeIfAbsent(targetExecutableRawSignature, s -> {
-			Class<?> clazz;
-			try {
-				clazz = Class.forName(serializedLambda.getImplClass().replace("/", "."));
-			} catch (ClassNotFoundException e) {
-				// Should not happen since the class was Serialized so it exists !
-				throw Exceptions.asRuntimeException(e);
-			}
-			// looking for argument types
-			Class[] argsClasses;
-			try {
-				argsClasses = giveArgumentTypes(serializedLambda).getArgumentTypes();
-			} catch (MemberNotFoundException e) {
-				throw new MemberNotFoundException("Can't find method reference for "
-						+ serializedLambda.getImplClass() + "." + serializedLambda.getImplMethodName(), e);
-			}
-			// Method or constructor case ?
-			// Note: we'll use getMethod(..) instead of findMethod(..) because we accept that it throws an exception in case of not found member
-			// due to that it can hardly happen
-			if (serializedLambda.getImplMethodName().equals("<init>")) {
-				return Reflections.getConstructor(clazz, argsClasses);
-			} else {
-				return Reflections.getMethod(clazz, serializedLambda.getImplMethodName(), argsClasses);
-			}
-		});
+	void purge(ClassLoader classLoader) {
+		cache.removeIf(executable -> ClassLoaders.isLoadedBy(executable.getDeclaringClass(), classLoader));
 	}
 	
 	/**
@@ -351,111 +398,130 @@ public class MethodReferenceCapturer {
 	 */
 	@Nonnull
 	public static MethodDefinition giveArgumentTypes(SerializedLambda serializedLambda) {
-		String methodSignature = serializedLambda.getImplMethodSignature();
-		Class declaringType = Reflections.forName(serializedLambda.getImplClass().replace('/', '.'));
-		String methodName = serializedLambda.getImplMethodName();
-		Class[] argTypes;
-		Class returnType;
-		int closeArgsIndex = methodSignature.indexOf(')');
-		if (closeArgsIndex != 1) {
-			String argumentTypeSignature = methodSignature.substring(1, closeArgsIndex);
-			argTypes = new ArgumentTypeSignatureParser(argumentTypeSignature).parse();
-		} else {
-			argTypes = new Class[0];
-		}
-		returnType = new ArgumentTypeSignatureParser(methodSignature.substring(closeArgsIndex+1)).parse()[0];
-		return MethodDefinition.methodDefinition(declaringType, methodName, argTypes, returnType);
+		return giveArgumentTypes(serializedLambda, OWN_CLASS_LOADER);
 	}
 	
 	/**
-	 * Very simple implementation of a Least-Recently-Used cache
+	 * Same as {@link #giveArgumentTypes(SerializedLambda)} with classes loaded by given {@link ClassLoader}
+	 * 
+	 * @param serializedLambda a {@link SerializedLambda}
+	 * @param classLoader {@link ClassLoader} of the method reference
+	 * @return an object describing the method of the given method reference
 	 */
-	@SuppressWarnings("squid:S2160") // right implementation of equals() doesn't matter
-	static class LRUCache extends LinkedHashMap<String, Executable> {
-		
-		private final int cacheSize;
-		
-		LRUCache(int cacheSize) {
-			this.cacheSize = cacheSize;
+	@Nonnull
+	static MethodDefinition giveArgumentTypes(SerializedLambda serializedLambda, @Nullable ClassLoader classLoader) {
+		Class declaringType = forName(serializedLambda.getImplClass().replace('/', '.'), classLoader);
+		Class[] types = giveTypes(serializedLambda.getImplMethodSignature(), classLoader);
+		// NB: argument types are copied because cached array must not be exposed
+		Class[] argTypes = types.length == 1 ? NO_ARGUMENT_TYPES : Arrays.copyOf(types, types.length - 1);
+		return MethodDefinition.methodDefinition(declaringType, serializedLambda.getImplMethodName(), argTypes, types[types.length - 1]);
+	}
+	
+	/**
+	 * Gives types of a method descriptor, parsing it on first call for the {@link ClassLoader} of this class. Descriptors of other
+	 * {@link ClassLoader}s are parsed on each call since caching them could prevent their classes from being unloaded, callers are expected
+	 * to memoize result per lambda class (see {@link LambdaClassMetadata})
+	 * 
+	 * @param methodDescriptor a method descriptor
+	 * @param classLoader {@link ClassLoader} used to resolve non primitive types
+	 * @return argument types followed by return type, must not be modified
+	 */
+	private static Class[] giveTypes(String methodDescriptor, @Nullable ClassLoader classLoader) {
+		if (classLoader != OWN_CLASS_LOADER) {
+			return MethodDescriptorParser.parse(methodDescriptor, classLoader);
 		}
-		
-		/**
-		 * Implemented to remove the given entry if cache size overflows : not depending on entry, only on cache size
-		 * @param eldest the least recently added entry (computed by caller)
-		 * @return true if current cache size overflows expected cache size (given at construction time)
-		 */
-		@Override
-		protected boolean removeEldestEntry(Map.Entry eldest) {
-			return size() > cacheSize;
+		Class[] result = DESCRIPTOR_TYPES.get(methodDescriptor);
+		if (result == null) {
+			result = MethodDescriptorParser.parse(methodDescriptor, classLoader);
+			DESCRIPTOR_TYPES.putIfAbsent(methodDescriptor, result);
+		}
+		return result;
+	}
+	
+	private static Class forName(String className, @Nullable ClassLoader classLoader) {
+		try {
+			return Class.forName(className, false, classLoader);
+		} catch (ClassNotFoundException e) {
+			// Should not happen since the class was Serialized so it exists !
+			throw Exceptions.asRuntimeException(e);
 		}
 	}
 	
 	/**
-	 * Small class aimed at parsing arguments types 
+	 * Small class aimed at parsing method descriptors, such as "(Ljava/lang/String;[I)V". Descriptor is scanned in place : only class names
+	 * are extracted as {@link String}s, to be given to {@link Class#forName(String, boolean, ClassLoader)}.
 	 */
-	private static class ArgumentTypeSignatureParser {
-		
-		private int currPos = 0;
-		private String className;
-		private int typeDefSize;
-		private final char[] signatureChars;
+	private static final class MethodDescriptorParser {
 		
-		private ArgumentTypeSignatureParser(String signature) {
-			this.signatureChars = signature.toCharArray();
-		}
-		
-		Class[] parse() {
-			List<Class> result = new ArrayList<>(5);
-			while(currPos < signatureChars.length) {
-				// 4 cases to take into account : a combination of 2
-				// - object vs primitive type : object starts with 'L' followed by class name which packages are separated with /, primitive is only 1 char
-				// - arrays are distincted by a '[' prefix
-				boolean typeIsArray = signatureChars[currPos] == '[';
-				boolean isObjectType = signatureChars[currPos + (typeIsArray ? /* add 1 for '[' */ 1 : 0)] == 'L';
-				lookAHeadForType(isObjectType, typeIsArray);
-				currPos += typeDefSize;
-				result.add(Reflections.forName(className));
+		/**
+		 * @param methodDescriptor a method descriptor
+		 * @param classLoader {@link ClassLoader} used to resolve non primitive types
+		 * @return argument types followed by return type
+		 */
+		private static Class[] parse(String methodDescriptor, @Nullable ClassLoader classLoader) {
+			int argumentsEnd = methodDescriptor.indexOf(')');
+			// counting types first lets us allocate result once
+			int typeCount = 1;	// return type
+			for (int i = 1; i < argumentsEnd; i = typeEnd(methodDescriptor, i)) {
+				typeCount++;
+			}
+			Class[] result = new Class[typeCount];
+			int typeIndex = 0;
+			for (int i = 1; i < argumentsEnd; ) {
+				int typeEnd = typeEnd(methodDescriptor, i);
+				result[typeIndex++] = resolve(methodDescriptor, i, typeEnd, classLoader);
+				i = typeEnd;
 			}
-			return result.toArray(new Class[0]);
+			result[typeIndex] = resolve(methodDescriptor, argumentsEnd + 1, methodDescriptor.length(), classLoader);
+			return result;
 		}
 		
 		/**
-		 * Consumes signature characters to find out object or primitive type definition.
-		 * Updates className and typeDefSize fields.
-		 * 
-		 * @param isObjectType indicates if type is an object one (vs primitive) : crucial for parsing
-		 * @param isArray indicates if type is an array : needed to compute typeDefSize in primitive case
+		 * @return index following the type definition starting at given index
 		 */
-		private void lookAHeadForType(boolean isObjectType, boolean isArray) {
-			if (isObjectType) {
-				// Object type ends with ';'
-				int typeDefEnd = currPos;
-				while(signatureChars[++typeDefEnd] != ';') {
-					// iteration is already done in condition, so ther's nothing to do here
-				}
-				typeDefSize = typeDefEnd - currPos + 1;
-				className = cleanClassName(new String(signatureChars, currPos, typeDefSize));
-			} else {
-				typeDefSize = 1 + (isArray ? /* add 1 for '[' */ 1 : 0);
-				className = new String(signatureChars, currPos, typeDefSize);
+		private static int typeEnd(String methodDescriptor, int typeStart) {
+			int i = typeStart;
+			// arrays are prefixed by '[', one per dimension
+			while (methodDescriptor.charAt(i) == '[') {
+				i++;
 			}
+			// object type starts with 'L' and ends with ';', primitive type is only 1 char
+			return methodDescriptor.charAt(i) == 'L' ? methodDescriptor.indexOf(';', i) + 1 : i + 1;
 		}
 		
-		/**
-		 * Cleans the given class name to comply with {@link Reflections#forName(String)} expected input
-		 * @param objectClass a class name with '/' and ;
-		 * @return
-		 */
-		private static String cleanClassName(String objectClass) {
-			if (objectClass.charAt(0) == 'L') {
+		private static Class resolve(String methodDescriptor, int typeStart, int typeEnd, @Nullable ClassLoader classLoader) {
+			if (typeEnd - typeStart == 1) {
+				return primitiveType(methodDescriptor.charAt(typeStart));
+			}
+			String className;
+			if (methodDescriptor.charAt(typeStart) == 'L') {
 				// class name : starts with 'L' and ends with ';' : we remove them
-				objectClass = objectClass.substring(1, objectClass.length() - 1);
+				className = methodDescriptor.substring(typeStart + 1, typeEnd - 1);
+			} else {
+				// arrays ([I, [Ljava/lang/String;) are accepted as is by Class.forName(..)
+				className = methodDescriptor.substring(typeStart, typeEnd);
 			}
-			// other case [L...; (object array) is accepted without modification
-			objectClass = objectClass.replace('/', '.');
-			return objectClass;
+			return forName(className.replace('/', '.'), classLoader);
 		}
 		
+		private static Class primitiveType(char typeCode) {
+			switch (typeCode) {
+				case 'Z': return boolean.class;
+				case 'B': return byte.class;
+				case 'C': return char.class;
+				case 'S': return short.class;
+				case 'I': return int.class;
+				case 'J': return long.class;
+				case 'F': return float.class;
+				case 'D': return double.class;
+				case 'V': return void.class;
+				default: throw new IllegalArgumentException("Unknown primitive type code " + typeCode);
+			}
+		}
+		
+		private MethodDescriptorParser() {
+			// utility class
+		}
 	}
 	
 	/**
@@ -2,6 +2,9 @@ package org.gama.reflection;
 
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.concurrent.Callable;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
@@ -13,6 +16,7 @@ import org.danekja.java.util.function.serializable.SerializableBiConsumer;
 import org.danekja.java.util.function.serializable.SerializableBiFunction;
 import org.danekja.java.util.function.serializable.SerializableConsumer;
 import org.danekja.java.util.function.serializable.SerializableFunction;
+import org.gama.lang.Reflections;
 import org.gama.lang.function.SerializableThrowingBiConsumer;
 import org.gama.lang.function.SerializableThrowingConsumer;
 import org.gama.lang.function.SerializableThrowingFunction;
@@ -31,7 +35,8 @@ import static org.gama.reflection.MethodReferences.buildSerializedLambda;
 /**
  * A specialized version of {@link MethodDispatcher} for single method to be redirected.
  * Can't be added directly to {@link MethodDispatcher} because its requires {@link MethodReferenceCapturer} which is not available from
- * {@link MethodDispatcher} module
+ * {@link MethodDispatcher} module.
+ * Built instances are JDK proxies, unless {@link #useGeneratedClass()} is called.
  * 
  * @author Guillaume Mary
  */
@@ -39,6 +44,84 @@ public class MethodReferenceDispatcher extends MethodDispatcher {
 	
 	private static final MethodReferenceCapturer METHOD_REFERENCE_CAPTURER = new MethodReferenceCapturer();
 	
+	/** Single abstract method of functional interfaces given as redirection code */
+	private static final ClassValue<Method> CODE_METHODS = new ClassValue<Method>() {
+		@Override
+		protected Method computeValue(Class<?> type) {
+			for (Method method : type.getMethods()) {
+				if (Modifier.isAbstract(method.getModifiers())) {
+					return method;
+				}
+			}
+			throw new IllegalArgumentException(Reflections.toString(type) + " is not a functional interface");
+		}
+	};
+	
+	/**
+	 * Removes from cache the members of classes loaded by given {@link ClassLoader}, see {@link Accessors#purge(ClassLoader)}
+	 */
+	static void purge(ClassLoader classLoader) {
+		METHOD_REFERENCE_CAPTURER.purge(classLoader);
+	}
+	
+	/** Redirections per signature of intercepted methods, used to generate a dispatcher class */
+	private final Map<String, Redirection> redirections = new HashMap<>();
+	
+	private boolean generatedClass = false;
+	
+	/**
+	 * Makes {@link #build(Class)} give an instance of a class generated for the redirections of this instance, instead of a JDK proxy : intercepted
+	 * methods directly invoke their redirection code, without argument array nor signature lookup, and non intercepted methods are directly
+	 * invoked on fallback. Generated classes are shared between instances that redirect the same methods, so that generation cost is only paid
+	 * once.
+	 * If generation is not possible (JVM older than Java 15, interface not accessible, interceptors added through
+	 * {@link #redirect(Class, Object)}, ...) a proxy is built.
+	 * Note that, as opposed to proxy, generated class {@code equals()} and {@code hashCode()} are not given to fallback but are the identity ones.
+	 * 
+	 * @return this
+	 */
+	public MethodReferenceDispatcher useGeneratedClass() {
+		this.generatedClass = true;
+		return this;
+	}
+	
+	/**
+	 * Overridden to give this class as result so that {@link #useGeneratedClass()} can be chained
+	 * 
+	 * @param target target of non intercepted methods
+	 * @return this
+	 */
+	@Override
+	public MethodReferenceDispatcher fallbackOn(Object target) {
+		super.fallbackOn(target);
+		return this;
+	}
+	
+	@Override
+	public <X> X build(Class<X> interfazz) {
+		if (generatedClass && isRedirectionsOnly()) {
+			X result = AccessorClassGenerator.generateDispatcher(interfazz, method -> redirections.get(giveSignature(method)),
+					defaultReturningMethodsTarget);
+			if (result != null) {
+				return result;
+			}
+		}
+		return super.build(interfazz);
+	}
+	
+	/**
+	 * @return true if all interceptors come from a redirect(..) method of this class (and not from {@link #redirect(Class, Object)})
+	 */
+	private boolean isRedirectionsOnly() {
+		for (Map.Entry<String, Interceptor> interceptor : interceptors.entrySet()) {
+			Redirection redirection = redirections.get(interceptor.getKey());
+			if (redirection == null || redirection.interceptor != interceptor.getValue()) {
+				return false;
+			}
+		}
+		return true;
+	}
+	
 	/**
 	 * Redirects a {@link Function} invokation (on the proxy built by {@link MethodReferenceDispatcher#build(Class)}) onto the given {@link Callable}
 	 * 
@@ -49,7 +132,7 @@ public class MethodReferenceDispatcher extends MethodDispatcher {
 	 * @return this
 	 */
 	public <X, R> MethodReferenceDispatcher redirect(SerializableFunction<X, R> methodToCapture, Supplier<R> codeToInvoke) {
-		addInterceptor(METHOD_REFERENCE_CAPTURER.findMethod(methodToCapture), (ArgsDigester) args -> codeToInvoke.get());
+		addInterceptor(METHOD_REFERENCE_CAPTURER.findMethod(methodToCapture), (ArgsDigester) args -> codeToInvoke.get(), Supplier.class, codeToInvoke);
 		return this;
 	}
 	
@@ -65,7 +148,7 @@ public class MethodReferenceDispatcher extends MethodDispatcher {
 	 * @return this
 	 */
 	public <X, R> MethodReferenceDispatcher redirect(SerializableFunction<X, R> methodToCapture, Runnable codeToInvoke) {
-		addInterceptor(METHOD_REFERENCE_CAPTURER.findMethod(methodToCapture), (ArgsConsumer) args -> codeToInvoke.run());
+		addInterceptor(METHOD_REFERENCE_CAPTURER.findMethod(methodToCapture), (ArgsConsumer) args -> codeToInvoke.run(), Runnable.class, codeToInvoke);
 		return this;
 	}
 	
@@ -79,7 +162,8 @@ public class MethodReferenceDispatcher extends MethodDispatcher {
 	 * @return this
 	 */
 	public <X, A, R> MethodReferenceDispatcher redirect(SerializableBiFunction<X, A, R> methodToCapture, Function<A, R> codeToInvoke) {
-		addInterceptor(METHOD_REFERENCE_CAPTURER.findMethod(methodToCapture), (ArgsDigester) args -> codeToInvoke.apply((A) args[0]));
+		addInterceptor(METHOD_REFERENCE_CAPTURER.findMethod(methodToCapture), (ArgsDigester) args -> codeToInvoke.apply((A) args[0]),
+				Function.class, codeToInvoke);
 		return this;
 	}
 	
@@ -96,7 +180,8 @@ public class MethodReferenceDispatcher extends MethodDispatcher {
 	 * @return this
 	 */
 	public <X, A, R> MethodReferenceDispatcher redirect(SerializableBiFunction<X, A, R> methodToCapture, Consumer<A> codeToInvoke) {
-		addInterceptor(METHOD_REFERENCE_CAPTURER.findMethod(methodToCapture), (ArgsConsumer) args -> ((Consumer) codeToInvoke).accept(args[0]));
+		addInterceptor(METHOD_REFERENCE_CAPTURER.findMethod(methodToCapture), (ArgsConsumer) args -> ((Consumer) codeToInvoke).accept(args[0]),
+				Consumer.class, codeToInvoke);
 		return this;
 	}
 	
@@ -110,7 +195,8 @@ public class MethodReferenceDispatcher extends MethodDispatcher {
 	 * @return this
 	 */
 	public <X, A, B, R> MethodReferenceDispatcher redirect(SerializableTriFunction<X, A, B, R> methodToCapture, BiFunction<A, B, R> codeToInvoke) {
-		addInterceptor(METHOD_REFERENCE_CAPTURER.findMethod(methodToCapture), (ArgsDigester) args -> codeToInvoke.apply((A) args[0], (B) args[1]));
+		addInterceptor(METHOD_REFERENCE_CAPTURER.findMethod(methodToCapture), (ArgsDigester) args -> codeToInvoke.apply((A) args[0], (B) args[1]),
+				BiFunction.class, codeToInvoke);
 		return this;
 	}
 	
@@ -128,24 +214,26 @@ public class MethodReferenceDispatcher extends MethodDispatcher {
 	 * @return this
 	 */
 	public <X, A, B, R> MethodReferenceDispatcher redirect(SerializableTriFunction<X, A, B, R> methodToCapture, BiConsumer<A, B> codeToInvoke) {
-		addInterceptor(METHOD_REFERENCE_CAPTURER.findMethod(methodToCapture), (ArgsConsumer) args -> ((BiConsumer) codeToInvoke).accept(args[0], args[1]));
+		addInterceptor(METHOD_REFERENCE_CAPTURER.findMethod(methodToCapture), (ArgsConsumer) args -> ((BiConsumer) codeToInvoke).accept(args[0], args[1]),
+				BiConsumer.class, codeToInvoke);
 		return this;
 	}
 	
 	public <X> MethodReferenceDispatcher redirect(SerializableConsumer<X> methodToCapture, Runnable codeToInvoke) {
 		addInterceptor(METHOD_REFERENCE_CAPTURER.findMethod(methodToCapture),
-				(proxy, m, args) -> { codeToInvoke.run(); return null; }, true);
+				(proxy, m, args) -> { codeToInvoke.run(); return null; }, true, Runnable.class, codeToInvoke);
 		return this;
 	}
 	
 	public <X, A> MethodReferenceDispatcher redirect(SerializableBiConsumer<X, A> methodToCapture, Consumer<A> codeToInvoke) {
 		addInterceptor(METHOD_REFERENCE_CAPTURER.findMethod(methodToCapture),
-				(proxy, m, args) -> { codeToInvoke.accept((A) args[0]); return null; }, true);
+				(proxy, m, args) -> { codeToInvoke.accept((A) args[0]); return null; }, true, Consumer.class, codeToInvoke);
 		return this;
 	}
 	
 	public <X, A, B> MethodReferenceDispatcher redirect(SerializableTriConsumer<X, A, B> methodToCapture, BiConsumer<A, B> codeToInvoke) {
-		addInterceptor(METHOD_REFERENCE_CAPTURER.findMethod(methodToCapture), (proxy, method1, args) -> { codeToInvoke.accept((A) args[0], (B) args[1]); return null; }, true);
+		addInterceptor(METHOD_REFERENCE_CAPTURER.findMethod(methodToCapture), (proxy, method1, args) -> { codeToInvoke.accept((A) args[0], (B) args[1]); return null; }, true,
+				BiConsumer.class, codeToInvoke);
 		return this;
 	}
 	
@@ -162,12 +250,14 @@ public class MethodReferenceDispatcher extends MethodDispatcher {
 	 * @return this
 	 */
 	public <X, R, E extends Throwable> MethodReferenceDispatcher redirectThrower(SerializableThrowingFunction<X, R, E> methodToCapture, Supplier<R> codeToInvoke) {
-		addInterceptor(METHOD_REFERENCE_CAPTURER.findMethod(buildSerializedLambda(methodToCapture)), (ArgsDigester) args -> codeToInvoke.get());
+		addInterceptor(METHOD_REFERENCE_CAPTURER.findMethod(buildSerializedLambda(methodToCapture)), (ArgsDigester) args -> codeToInvoke.get(),
+				Supplier.class, codeToInvoke);
 		return this;
 	}
 	
 	public <X, E extends Throwable> MethodReferenceDispatcher redirectThrower(SerializableThrowingConsumer<X, E> methodToCapture, Runnable codeToInvoke) {
-		addInterceptor(METHOD_REFERENCE_CAPTURER.findMethod(buildSerializedLambda(methodToCapture)), (ArgsConsumer) args -> codeToInvoke.run());
+		addInterceptor(METHOD_REFERENCE_CAPTURER.findMethod(buildSerializedLambda(methodToCapture)), (ArgsConsumer) args -> codeToInvoke.run(),
+				Runnable.class, codeToInvoke);
 		return this;
 	}
 	
@@ -184,7 +274,8 @@ public class MethodReferenceDispatcher extends MethodDispatcher {
 	 * @return this
 	 */
 	public <X, A, E extends Throwable> MethodReferenceDispatcher redirectThrower(SerializableThrowingBiConsumer<X, A, E> methodToCapture, ThrowingConsumer<A, E> codeToInvoke) {
-		addInterceptor(METHOD_REFERENCE_CAPTURER.findMethod(buildSerializedLambda(methodToCapture)), (ArgsConsumer) args -> codeToInvoke.accept((A) args[0]));
+		addInterceptor(METHOD_REFERENCE_CAPTURER.findMethod(buildSerializedLambda(methodToCapture)), (ArgsConsumer) args -> codeToInvoke.accept((A) args[0]),
+				ThrowingConsumer.class, codeToInvoke);
 		return this;
 	}
 	
@@ -202,25 +293,82 @@ public class MethodReferenceDispatcher extends MethodDispatcher {
 	 * @return this
 	 */
 	public <X, A, B, E extends Throwable> MethodReferenceDispatcher redirectThrower(SerializableThrowingTriConsumer<X, A, B, E> methodToCapture, ThrowingBiConsumer<A, B, E> codeToInvoke) {
-		addInterceptor(METHOD_REFERENCE_CAPTURER.findMethod(buildSerializedLambda(methodToCapture)), (ArgsConsumer) args -> codeToInvoke.accept((A) args[0], (B) args[1]));
+		addInterceptor(METHOD_REFERENCE_CAPTURER.findMethod(buildSerializedLambda(methodToCapture)), (ArgsConsumer) args -> codeToInvoke.accept((A) args[0], (B) args[1]),
+				ThrowingBiConsumer.class, codeToInvoke);
 		return this;
 	}
 	
 	/* Shortcut methods  */
 	
-	private void addInterceptor(Method method, ArgsDigester argsDigester) {
-		addInterceptor(method, (p, m, args) -> argsDigester.digest(args), false);
+	private void addInterceptor(Method method, ArgsDigester argsDigester, Class<?> codeType, Object code) {
+		addInterceptor(method, (p, m, args) -> argsDigester.digest(args), false, codeType, code);
 	}
 	
-	private void addInterceptor(Method method, ArgsConsumer argsConsumer) {
+	private void addInterceptor(Method method, ArgsConsumer argsConsumer, Class<?> codeType, Object code) {
 		addInterceptor(method, (p, m, args) -> {
 			argsConsumer.consume(args);
 			return PRIMITIVE_DEFAULT_VALUES.getOrDefault(method.getReturnType(), null);
-		}, true);
+		}, true, codeType, code);
 	}
 	
-	private void addInterceptor(Method method, InvocationHandler invocationHandler, boolean returnProxy) {
-		interceptors.put(giveSignature(method), new Interceptor(method, newProxy(method.getDeclaringClass(), invocationHandler), returnProxy));
+	/**
+	 * @param method the intercepted method
+	 * @param invocationHandler the handler of the proxy invoked by {@link MethodDispatcher}
+	 * @param returnProxy true if intercepted method returns the dispatcher
+	 * @param codeType the functional interface implemented by code, directly invoked by generated dispatcher
+	 * @param code the redirection code wrapped by handler
+	 */
+	private void addInterceptor(Method method, InvocationHandler invocationHandler, boolean returnProxy, Class<?> codeType, Object code) {
+		Interceptor interceptor = new Interceptor(method, newProxy(method.getDeclaringClass(), invocationHandler), returnProxy);
+		interceptors.put(giveSignature(method), interceptor);
+		redirections.put(giveSignature(method), new Redirection(interceptor, codeType, code, returnProxy));
+	}
+	
+	/**
+	 * Redirection of an intercepted method, as seen by a generated dispatcher
+	 */
+	static final class Redirection {
+		
+		/** Interceptor of the same redirection, to detect if it has been overwritten by another kind of interceptor */
+		private final Interceptor interceptor;
+		
+		private final Class<?> codeType;
+		
+		private final Object code;
+		
+		private final boolean returnProxy;
+		
+		private Redirection(Interceptor interceptor, Class<?> codeType, Object code, boolean returnProxy) {
+			this.interceptor = interceptor;
+			this.codeType = codeType;
+			this.code = code;
+			this.returnProxy = returnProxy;
+		}
+		
+		/**
+		 * @return the functional interface implemented by {@link #getCode()}
+		 */
+		Class<?> getCodeType() {
+			return codeType;
+		}
+		
+		/**
+		 * @return the single abstract method of {@link #getCodeType()}
+		 */
+		Method getCodeMethod() {
+			return CODE_METHODS.get(codeType);
+		}
+		
+		Object getCode() {
+			return code;
+		}
+		
+		/**
+		 * @return true if intercepted method returns the dispatcher (result of code, if any, is ignored)
+		 */
+		boolean isReturnProxy() {
+			return returnProxy;
+		}
 	}
 	
 	@FunctionalInterface
@@ -2,7 +2,6 @@ package org.gama.reflection;
 
 import java.io.Serializable;
 import java.lang.invoke.SerializedLambda;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.function.Function;
 
@@ -11,8 +10,6 @@ import org.danekja.java.util.function.serializable.SerializableBiFunction;
 import org.danekja.java.util.function.serializable.SerializableConsumer;
 import org.danekja.java.util.function.serializable.SerializableFunction;
 import org.danekja.java.util.function.serializable.SerializableSupplier;
-import org.gama.lang.Reflections;
-import org.gama.lang.exception.Exceptions;
 import org.gama.lang.function.SerializableTriConsumer;
 import org.gama.lang.function.SerializableTriFunction;
 
@@ -25,6 +22,13 @@ public class MethodReferences {
 	
 	private static final MethodReferenceCapturer SINGLETON  = new MethodReferenceCapturer();
 	
+	/**
+	 * Removes from cache the members of classes loaded by given {@link ClassLoader}, see {@link Accessors#purge(ClassLoader)}
+	 */
+	static void purge(ClassLoader classLoader) {
+		SINGLETON.purge(classLoader);
+	}
+	
 	public static <A, B> String toMethodReferenceString(SerializableFunction<A, B>  methodReference) {
 		Method method = SINGLETON.findMethod(methodReference);
 		return toMethodReferenceString(method);
@@ -69,9 +73,8 @@ public class MethodReferences {
 	 * @return a hashcode for the method reference
 	 */
 	public static int hashCodeMethodReference(Serializable methodReference) {
-		SerializedLambda serializedLambda = buildSerializedLambda(methodReference);
 		// Inspired by SerializedLambda#toString()
-		String lambdaSignature = getTargetMethodRawSignature(serializedLambda);
+		String lambdaSignature = LambdaClassMetadata.of(methodReference).giveTargetMethodRawSignature(methodReference);
 		return lambdaSignature.hashCode();
 	}
 	
@@ -184,17 +187,7 @@ public class MethodReferences {
 	 * @return a SerializedLambda, not null
 	 */
 	public static SerializedLambda buildSerializedLambda(Serializable methodReference) {
-		// algorithm made possible thanks to https://stackoverflow.com/a/25625761
-		// (https://stackoverflow.com/questions/21887358/reflection-type-inference-on-java-8-lambdas)
-		Method writeReplace = Reflections.getMethod(methodReference.getClass(), "writeReplace");
-		writeReplace.setAccessible(true);
-		Object serializedForm;
-		try {
-			serializedForm = writeReplace.invoke(methodReference);
-		} catch (IllegalAccessException | InvocationTargetException e) {
-			// Considered as will never happen
-			throw Exceptions.asRuntimeException(e);
-		}
-		return (SerializedLambda) serializedForm;
+		// NB: result is memoized per lambda class, see LambdaClassMetadata
+		return LambdaClassMetadata.of(methodReference).giveSerializedLambda(methodReference);
 	}
 }
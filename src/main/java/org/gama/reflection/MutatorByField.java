@@ -1,21 +1,101 @@
 package org.gama.reflection;
 
+import javax.annotation.Nullable;
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Field;
+import java.util.List;
+import java.util.function.BiConsumer;
 
 import org.gama.lang.Reflections;
+import org.gama.lang.exception.Exceptions;
 
 /**
  * @author mary
  */
 public class MutatorByField<C, T> extends AbstractMutator<C, T>
-		implements MutatorByMember<C, T, Field>, IReversibleMutator<C, T>, ValueAccessPointByField {
+		implements MutatorByMember<C, T, Field>, IReversibleMutator<C, T>, ValueAccessPointByField,
+		IntMutator<C>, LongMutator<C>, DoubleMutator<C> {
 	
 	private final Field field;
 	
+	/** {@link MethodHandle} equivalent of {@link Field#set(Object, Object)}, null if reflection is enforced or if handle couldn't be resolved */
+	private final MethodHandle setterHandle;
+	
+	/**
+	 * Generated equivalent of {@link Field#set(Object, Object)}, at runtime ({@link MemberAccessMode#GENERATED} mode) or at compile time
+	 * ({@code GenerateAccessorsProcessor}), null in other cases or if generation failed
+	 */
+	private final BiConsumer<Object, Object> generatedSetter;
+	
+	/**
+	 * Writer of an int without boxing, relying on {@link #generatedSetter} if available, null if field type is not a primitive type to which
+	 * int can be widened, or if reflection is enforced
+	 */
+	private final MethodHandle intSetter;
+	
+	/** Same as {@link #intSetter} for long */
+	private final MethodHandle longSetter;
+	
+	/** Same as {@link #intSetter} for double */
+	private final MethodHandle doubleSetter;
+	
+	/** Field type, wrapped if primitive, to check values compatibility with {@link #setterHandle} and {@link #generatedSetter} */
+	private final Class wrappedFieldType;
+	
+	/** True once {@link #field} has been made accessible for reflection, which is only needed by erroneous cases and fallbacks */
+	private boolean accessible = false;
+	
 	public MutatorByField(Field field) {
+		this(field, Accessors.getDefaultMemberAccessMode());
+	}
+	
+	/**
+	 * Constructor with a chosen way of accessing the field, mainly for comparison purpose
+	 *
+	 * @param field the field to be written
+	 * @param accessMode {@link MemberAccessMode#REFLECTION} to enforce {@link Field#set(Object, Object)} usage
+	 */
+	public MutatorByField(Field field, MemberAccessMode accessMode) {
 		super();
 		this.field = field;
 		Reflections.ensureAccessible(field);
+		this.generatedSetter = accessMode == MemberAccessMode.GENERATED ? AccessorClassGenerator.generateSetter(field) : null;
+		this.setterHandle = accessMode != MemberAccessMode.REFLECTION && generatedSetter == null ? MemberHandles.findSetter(field) : null;
+		this.wrappedFieldType = MemberHandles.wrap(field.getType());
+		boolean useHandles = accessMode != MemberAccessMode.REFLECTION;
+		this.intSetter = useHandles ? findSetter(field, generatedSetter, int.class) : null;
+		this.longSetter = useHandles ? findSetter(field, generatedSetter, long.class) : null;
+		this.doubleSetter = useHandles ? findSetter(field, generatedSetter, double.class) : null;
+	}
+	
+	/**
+	 * Constructor for an already compiled field writer, mainly dedicated to classes generated by {@code GenerateAccessorsProcessor}.
+	 * Given {@link BiConsumer} is used whatever {@link MemberAccessMode} is, and field is made accessible only if reflection is needed
+	 * (erroneous calls, widening of primitive values).
+	 *
+	 * @param field the field to be written
+	 * @param compiledSetter a {@link BiConsumer} writing the field of its first argument with the second one
+	 */
+	public MutatorByField(Field field, BiConsumer<? super C, ? super T> compiledSetter) {
+		super();
+		this.field = field;
+		this.generatedSetter = (BiConsumer<Object, Object>) (BiConsumer) compiledSetter;
+		this.setterHandle = null;
+		this.wrappedFieldType = MemberHandles.wrap(field.getType());
+		this.intSetter = findSetter(field, generatedSetter, int.class);
+		this.longSetter = findSetter(field, generatedSetter, long.class);
+		this.doubleSetter = findSetter(field, generatedSetter, double.class);
+	}
+	
+	/**
+	 * Gives a primitive writer of given field, made of given generated writer if any (which avoids to make field accessible), else of a
+	 * {@link MethodHandle} on the field
+	 */
+	@Nullable
+	private static MethodHandle findSetter(Field field, @Nullable BiConsumer<Object, Object> generatedSetter, Class<?> primitiveType) {
+		return generatedSetter != null
+				? MemberHandles.findSetter(generatedSetter, field.getType(), primitiveType)
+				: MemberHandles.findSetter(field, primitiveType);
 	}
 	
 	@Override
@@ -35,7 +115,180 @@ public class MutatorByField<C, T> extends AbstractMutator<C, T>
 	
 	@Override
 	protected void doSet(C c, T t) throws IllegalAccessException {
-		getSetter().set(c, t);
+		boolean compatibleArguments = (generatedSetter != null || setterHandle != null)
+				&& MemberHandles.isCompatibleTarget(field, c) && MemberHandles.isCompatibleValue(field.getType(), wrappedFieldType, t);
+		if (compatibleArguments && generatedSetter != null) {
+			generatedSetter.accept(c, t);
+		} else if (compatibleArguments) {
+			MemberHandles.invokeSetter(setterHandle, c, t);
+		} else {
+			// reflection is also used for erroneous cases (and widening of primitive values) because its exceptions are well known
+			// by ExceptionConverter
+			getAccessibleField().set(c, t);
+		}
+	}
+	
+	/**
+	 * Writes an int field, or a field to which type int can be widened, without boxing
+	 * 
+	 * @param c the target of the field
+	 * @param value the new field value
+	 */
+	@Override
+	public void setInt(C c, int value) {
+		try {
+			doSetInt(c, value);
+		} catch (Throwable t) {
+			handleException(t, c, value);
+		}
+	}
+	
+	/**
+	 * Bulk version of {@link #setInt(Object, int)} that handles exceptions once for the whole batch
+	 * 
+	 * @param beans the beans to be modified
+	 * @param values values to be set, must be at least as long as beans
+	 */
+	@Override
+	public void setAllInt(List<? extends C> beans, int[] values) {
+		checkBulkSize(beans.size(), values.length);
+		int index = 0;
+		C current = null;
+		try {
+			for (C c : beans) {
+				current = c;
+				doSetInt(c, values[index]);
+				index++;
+			}
+		} catch (Throwable t) {
+			// NB: index may be out of values bounds if beans were modified concurrently
+			handleBulkException(t, index, current, index < values.length ? values[index] : null);
+		}
+	}
+	
+	private void doSetInt(C c, int value) throws IllegalAccessException {
+		if (intSetter != null && MemberHandles.isCompatibleTarget(field, c)) {
+			try {
+				intSetter.invokeExact((Object) c, value);
+			} catch (Throwable t) {
+				throw Exceptions.asRuntimeException(t);
+			}
+		} else {
+			// reflection is also used for erroneous cases and non primitive fields because its exceptions are well known by ExceptionConverter
+			// NB: Field.setInt(..) doesn't need boxed values, contrary to Field.set(..)
+			getAccessibleField().setInt(c, value);
+		}
+	}
+	
+	/**
+	 * Writes a long field, or a field to which type long can be widened, without boxing
+	 *
+	 * @param c the target of the field
+	 * @param value the new field value
+	 */
+	@Override
+	public void setLong(C c, long value) {
+		try {
+			doSetLong(c, value);
+		} catch (Throwable t) {
+			handleException(t, c, value);
+		}
+	}
+	
+	/**
+	 * Bulk version of {@link #setLong(Object, long)} that handles exceptions once for the whole batch
+	 * 
+	 * @param beans the beans to be modified
+	 * @param values values to be set, must be at least as long as beans
+	 */
+	@Override
+	public void setAllLong(List<? extends C> beans, long[] values) {
+		checkBulkSize(beans.size(), values.length);
+		int index = 0;
+		C current = null;
+		try {
+			for (C c : beans) {
+				current = c;
+				doSetLong(c, values[index]);
+				index++;
+			}
+		} catch (Throwable t) {
+			// NB: index may be out of values bounds if beans were modified concurrently
+			handleBulkException(t, index, current, index < values.length ? values[index] : null);
+		}
+	}
+	
+	private void doSetLong(C c, long value) throws IllegalAccessException {
+		if (longSetter != null && MemberHandles.isCompatibleTarget(field, c)) {
+			try {
+				longSetter.invokeExact((Object) c, value);
+			} catch (Throwable t) {
+				throw Exceptions.asRuntimeException(t);
+			}
+		} else {
+			// reflection is also used for erroneous cases and non primitive fields because its exceptions are well known by ExceptionConverter
+			getAccessibleField().setLong(c, value);
+		}
+	}
+	
+	/**
+	 * Writes a double field, without boxing
+	 *
+	 * @param c the target of the field
+	 * @param value the new field value
+	 */
+	@Override
+	public void setDouble(C c, double value) {
+		try {
+			doSetDouble(c, value);
+		} catch (Throwable t) {
+			handleException(t, c, value);
+		}
+	}
+	
+	/**
+	 * Bulk version of {@link #setDouble(Object, double)} that handles exceptions once for the whole batch
+	 * 
+	 * @param beans the beans to be modified
+	 * @param values values to be set, must be at least as long as beans
+	 */
+	@Override
+	public void setAllDouble(List<? extends C> beans, double[] values) {
+		checkBulkSize(beans.size(), values.length);
+		int index = 0;
+		C current = null;
+		try {
+			for (C c : beans) {
+				current = c;
+				doSetDouble(c, values[index]);
+				index++;
+			}
+		} catch (Throwable t) {
+			// NB: index may be out of values bounds if beans were modified concurrently
+			handleBulkException(t, index, current, index < values.length ? values[index] : null);
+		}
+	}
+	
+	private void doSetDouble(C c, double value) throws IllegalAccessException {
+		if (doubleSetter != null && MemberHandles.isCompatibleTarget(field, c)) {
+			try {
+				doubleSetter.invokeExact((Object) c, value);
+			} catch (Throwable t) {
+				throw Exceptions.asRuntimeException(t);
+			}
+		} else {
+			// reflection is also used for erroneous cases and non primitive fields because its exceptions are well known by ExceptionConverter
+			getAccessibleField().setDouble(c, value);
+		}
+	}
+	
+	private Field getAccessibleField() {
+		if (!accessible) {
+			// field may have been given with an already compiled writer
+			Reflections.ensureAccessible(field);
+			accessible = true;
+		}
+		return field;
 	}
 	
 	@Override
@@ -50,10 +303,9 @@ public class MutatorByField<C, T> extends AbstractMutator<C, T>
 	
 	@Override
 	public boolean equals(Object other) {
-		// we base our implementation on the setter description because a setAccessible() call on the member changes its internal state
-		// and I don't think it sould be taken into account for comparison
+		// NB: Field.equals() doesn't take setAccessible() state into account, and contrary to comparing descriptions it doesn't allocate anything
 		return this == other
-				|| (other instanceof MutatorByField && getSetterDescription().equals(((MutatorByField) other).getSetterDescription()));
+				|| (other instanceof MutatorByField && getSetter().equals(((MutatorByField) other).getSetter()));
 	}
 	
 	@Override
@@ -1,8 +1,11 @@
 package org.gama.reflection;
 
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Member;
 import java.lang.reflect.Method;
+import java.util.List;
+import java.util.function.BiConsumer;
 
 import org.gama.lang.Reflections;
 import org.gama.lang.Reflections.MemberNotFoundException;
@@ -11,14 +14,72 @@ import org.gama.lang.Reflections.MemberNotFoundException;
  * @author mary
  */
 public class MutatorByMethod<C, T> extends AbstractMutator<C, T>
-		implements MutatorByMember<C, T, Method>, IReversibleMutator<C, T>, ValueAccessPointByMethod {
+		implements MutatorByMember<C, T, Method>, IReversibleMutator<C, T>, ValueAccessPointByMethod,
+		IntMutator<C>, LongMutator<C>, DoubleMutator<C> {
 	
 	private final Method setter;
 	
+	/** Setter compiled as a {@link BiConsumer}, null if reflection is enforced or if setter couldn't be compiled (non public, several arguments) */
+	private final BiConsumer<Object, Object> compiledSetter;
+	
+	/** Setter argument type, kept to check values compatibility with {@link #compiledSetter} without cloning method parameter types */
+	private final Class inputType;
+	
+	/** {@link #inputType}, wrapped if primitive */
+	private final Class wrappedInputType;
+	
+	/** Setter taking an int without boxing, null if setter doesn't take a primitive type to which int can be widened, or if reflection is enforced */
+	private final MethodHandle intSetter;
+	
+	/** Same as {@link #intSetter} for long */
+	private final MethodHandle longSetter;
+	
+	/** Same as {@link #intSetter} for double */
+	private final MethodHandle doubleSetter;
+	
+	/** True once {@link #setter} has been made accessible for reflection, which is only needed by erroneous cases and fallbacks */
+	private boolean accessible = false;
+	
 	public MutatorByMethod(Method setter) {
+		this(setter, Accessors.getDefaultMemberAccessMode());
+	}
+	
+	/**
+	 * Constructor with a chosen way of invoking the setter, mainly for comparison purpose
+	 *
+	 * @param setter a one-arg method
+	 * @param accessMode {@link MemberAccessMode#REFLECTION} to enforce {@link Method#invoke(Object, Object...)} usage
+	 */
+	public MutatorByMethod(Method setter, MemberAccessMode accessMode) {
 		super();
 		this.setter = setter;
 		Reflections.ensureAccessible(setter);
+		this.compiledSetter = MemberHandles.compileSetter(setter, accessMode);
+		this.inputType = compiledSetter == null ? null : setter.getParameterTypes()[0];
+		this.wrappedInputType = compiledSetter == null ? null : MemberHandles.wrap(inputType);
+		boolean useHandles = accessMode != MemberAccessMode.REFLECTION;
+		this.intSetter = useHandles ? MemberHandles.findSetter(setter, int.class) : null;
+		this.longSetter = useHandles ? MemberHandles.findSetter(setter, long.class) : null;
+		this.doubleSetter = useHandles ? MemberHandles.findSetter(setter, double.class) : null;
+	}
+	
+	/**
+	 * Constructor for an already compiled setter, mainly dedicated to classes generated by {@code GenerateAccessorsProcessor}.
+	 * Given {@link BiConsumer} is used whatever {@link MemberAccessMode} is, and setter is made accessible only if reflection is needed
+	 * (erroneous calls, widening of primitive values).
+	 *
+	 * @param setter a one-arg method
+	 * @param compiledSetter a {@link BiConsumer} invoking the setter on its first argument with the second one
+	 */
+	public MutatorByMethod(Method setter, BiConsumer<? super C, ? super T> compiledSetter) {
+		super();
+		this.setter = setter;
+		this.compiledSetter = (BiConsumer<Object, Object>) (BiConsumer) compiledSetter;
+		this.inputType = setter.getParameterTypes()[0];
+		this.wrappedInputType = MemberHandles.wrap(inputType);
+		this.intSetter = MemberHandles.findSetter(setter, int.class);
+		this.longSetter = MemberHandles.findSetter(setter, long.class);
+		this.doubleSetter = MemberHandles.findSetter(setter, double.class);
 	}
 	
 	/**
@@ -49,11 +110,177 @@ public class MutatorByMethod<C, T> extends AbstractMutator<C, T>
 	
 	@Override
 	protected void doSet(C c, T t) throws IllegalAccessException, InvocationTargetException {
+		if (compiledSetter != null && getSetter().getDeclaringClass().isInstance(c)
+				&& MemberHandles.isCompatibleValue(inputType, wrappedInputType, t)) {
+			try {
+				compiledSetter.accept(c, t);
+			} catch (Throwable throwable) {
+				// we mimic Method.invoke(..) so exceptions are handled the same way whatever the invocation mode is
+				throw new InvocationTargetException(throwable);
+			}
+		} else {
+			// reflection is also used for erroneous cases (and widening of primitive values) because its exceptions are well known
+			// by ExceptionConverter
+			if (!accessible) {
+				// setter may have been given with an already compiled version
+				Reflections.ensureAccessible(getSetter());
+				accessible = true;
+			}
+			try {
+				getSetter().invoke(c, t);
+			} catch (RuntimeException e) {
+				// converting "argument type mismatch" cases
+				throw ExceptionConverter.INSTANCE.convertException(e, c, this, t);
+			}
+		}
+	}
+	
+	/**
+	 * Invokes setter with an int, without boxing if setter takes a primitive type to which int can be widened.
+	 * Other setters (taking an {@link Integer} for instance) are invoked by reflection with a boxed value.
+	 * 
+	 * @param c the target of the setter
+	 * @param value the setter argument
+	 */
+	@Override
+	public void setInt(C c, int value) {
+		try {
+			doSetInt(c, value);
+		} catch (Throwable t) {
+			handleException(t, c, value);
+		}
+	}
+	
+	/**
+	 * Bulk version of {@link #setInt(Object, int)} that handles exceptions once for the whole batch
+	 * 
+	 * @param beans the beans to be modified
+	 * @param values values to be set, must be at least as long as beans
+	 */
+	@Override
+	public void setAllInt(List<? extends C> beans, int[] values) {
+		checkBulkSize(beans.size(), values.length);
+		int index = 0;
+		C current = null;
 		try {
-			getSetter().invoke(c, t);
-		} catch (RuntimeException e) {
-			// converting "argument type mismatch" cases
-			throw new ExceptionConverter().convertException(e, c, this, t);
+			for (C c : beans) {
+				current = c;
+				doSetInt(c, values[index]);
+				index++;
+			}
+		} catch (Throwable t) {
+			handleBulkException(t, index, current, values[index]);
+		}
+	}
+	
+	private void doSetInt(C c, int value) throws IllegalAccessException, InvocationTargetException {
+		if (intSetter != null && getSetter().getDeclaringClass().isInstance(c)) {
+			try {
+				intSetter.invokeExact((Object) c, value);
+			} catch (Throwable t) {
+				// we mimic Method.invoke(..) so exceptions are handled the same way whatever the invocation mode is
+				throw new InvocationTargetException(t);
+			}
+		} else {
+			doSet(c, (T) (Integer) value);
+		}
+	}
+	
+	/**
+	 * Same as {@link #setInt(Object, int)} for long
+	 *
+	 * @param c the target of the setter
+	 * @param value the setter argument
+	 */
+	@Override
+	public void setLong(C c, long value) {
+		try {
+			doSetLong(c, value);
+		} catch (Throwable t) {
+			handleException(t, c, value);
+		}
+	}
+	
+	/**
+	 * Bulk version of {@link #setLong(Object, long)} that handles exceptions once for the whole batch
+	 * 
+	 * @param beans the beans to be modified
+	 * @param values values to be set, must be at least as long as beans
+	 */
+	@Override
+	public void setAllLong(List<? extends C> beans, long[] values) {
+		checkBulkSize(beans.size(), values.length);
+		int index = 0;
+		C current = null;
+		try {
+			for (C c : beans) {
+				current = c;
+				doSetLong(c, values[index]);
+				index++;
+			}
+		} catch (Throwable t) {
+			handleBulkException(t, index, current, values[index]);
+		}
+	}
+	
+	private void doSetLong(C c, long value) throws IllegalAccessException, InvocationTargetException {
+		if (longSetter != null && getSetter().getDeclaringClass().isInstance(c)) {
+			try {
+				longSetter.invokeExact((Object) c, value);
+			} catch (Throwable t) {
+				throw new InvocationTargetException(t);
+			}
+		} else {
+			doSet(c, (T) (Long) value);
+		}
+	}
+	
+	/**
+	 * Same as {@link #setInt(Object, int)} for double
+	 *
+	 * @param c the target of the setter
+	 * @param value the setter argument
+	 */
+	@Override
+	public void setDouble(C c, double value) {
+		try {
+			doSetDouble(c, value);
+		} catch (Throwable t) {
+			handleException(t, c, value);
+		}
+	}
+	
+	/**
+	 * Bulk version of {@link #setDouble(Object, double)} that handles exceptions once for the whole batch
+	 * 
+	 * @param beans the beans to be modified
+	 * @param values values to be set, must be at least as long as beans
+	 */
+	@Override
+	public void setAllDouble(List<? extends C> beans, double[] values) {
+		checkBulkSize(beans.size(), values.length);
+		int index = 0;
+		C current = null;
+		try {
+			for (C c : beans) {
+				current = c;
+				doSetDouble(c, values[index]);
+				index++;
+			}
+		} catch (Throwable t) {
+			handleBulkException(t, index, current, values[index]);
+		}
+	}
+	
+	private void doSetDouble(C c, double value) throws IllegalAccessException, InvocationTargetException {
+		if (doubleSetter != null && getSetter().getDeclaringClass().isInstance(c)) {
+			try {
+				doubleSetter.invokeExact((Object) c, value);
+			} catch (Throwable t) {
+				throw new InvocationTargetException(t);
+			}
+		} else {
+			doSet(c, (T) (Double) value);
 		}
 	}
 	
@@ -85,10 +312,9 @@ public class MutatorByMethod<C, T> extends AbstractMutator<C, T>
 	
 	@Override
 	public boolean equals(Object other) {
-		// we base our implementation on the setter description because a setAccessible() call on the member changes its internal state
-		// and I don't think it sould be taken into account for comparison
+		// NB: Method.equals() doesn't take setAccessible() state into account, and contrary to comparing descriptions it doesn't allocate anything
 		return this == other ||
-				(other instanceof MutatorByMethod && getSetterDescription().equals(((MutatorByMethod) other).getSetterDescription()));
+				(other instanceof MutatorByMethod && getSetter().equals(((MutatorByMethod) other).getSetter()));
 	}
 	
 	@Override
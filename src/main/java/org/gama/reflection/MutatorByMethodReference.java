@@ -5,6 +5,7 @@ import java.lang.invoke.SerializedLambda;
 import org.danekja.java.util.function.serializable.SerializableBiConsumer;
 import org.danekja.java.util.function.serializable.SerializableFunction;
 import org.gama.lang.Reflections;
+import org.gama.reflection.MethodReferenceCapturer.MethodDefinition;
 
 /**
  * Mutator constructed with a method reference to a setter ({@link java.util.function.BiConsumer}).
@@ -15,7 +16,6 @@ import org.gama.lang.Reflections;
  * @see Accessors#mutatorByMethodReference(SerializableBiConsumer)
  * @see Accessors#accessorByMethodReference(SerializableFunction, SerializableBiConsumer)
  */
-@SuppressWarnings("squid:S2160")	// because super.equals() is based on getDescription() it doesn't need to be overriden in this class 
 public class MutatorByMethodReference<C, T> extends AbstractMutator<C, T> implements ValueAccessPointByMethodReference {
 	
 	private final SerializableBiConsumer<C, T> methodReference;
@@ -25,6 +25,9 @@ public class MutatorByMethodReference<C, T> extends AbstractMutator<C, T> implem
 	private final SerializedLambda serializedLambda;
 	private final Class propertyType;
 	
+	/** Hash code computed once from declaring class and method name, as {@link #equals(Object)} is */
+	private final int hashCode;
+	
 	/**
 	 * @param methodReference a setter, ANY ANONYMOUS LAMBDA IS NOT SUPPORTED
 	 * @throws RuntimeException with a compound {@link ReflectiveOperationException} in case of method reference dissect failure
@@ -35,12 +38,14 @@ public class MutatorByMethodReference<C, T> extends AbstractMutator<C, T> implem
 		serializedLambda = MethodReferences.buildSerializedLambda(methodReference);
 		// our description is made of SerializedLambda's one
 		methodName = serializedLambda.getImplMethodName();
-		String implementationClass = serializedLambda.getImplClass().replace('/', '.');
-		this.declaringClass = Reflections.forName(implementationClass);
-		this.propertyType = MethodReferenceCapturer.giveArgumentTypes(serializedLambda).getArgumentTypes()[0];
+		// NB: classes are resolved with the class loader of the method reference, not the one of this class, and memoized per lambda class
+		MethodDefinition methodDefinition = LambdaClassMetadata.of(methodReference).giveMethodDefinition(methodReference);
+		this.declaringClass = methodDefinition.getDeclaringClass();
+		this.propertyType = methodDefinition.getArgumentTypes()[0];
 		this.methodReferenceSignature = Reflections.toString(declaringClass)
 				.concat("::")
 				.concat(methodName);	// we cut the method signature before return type because it doesn't seem necessary and ugly with arrays
+		this.hashCode = 31 * declaringClass.hashCode() + methodName.hashCode();
 	}
 	
 	public SerializableBiConsumer<C, T> getMethodReference() {
@@ -76,4 +81,22 @@ public class MutatorByMethodReference<C, T> extends AbstractMutator<C, T> implem
 	public Class<T> getPropertyType() {
 		return propertyType;
 	}
+	
+	/**
+	 * Implementation based on declaring class and method name, as description is, without comparing description {@link String}s
+	 * 
+	 * @param other any object
+	 * @return true if other is a MutatorByMethodReference of a method with same name and declaring class
+	 */
+	@Override
+	public boolean equals(Object other) {
+		return this == other || (other instanceof MutatorByMethodReference
+				&& declaringClass == ((MutatorByMethodReference) other).declaringClass
+				&& methodName.equals(((MutatorByMethodReference) other).methodName));
+	}
+	
+	@Override
+	public int hashCode() {
+		return hashCode;
+	}
 }
@@ -0,0 +1,257 @@
+package org.gama.reflection;
+
+import javax.annotation.Nullable;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.gama.lang.Reflections;
+import org.gama.lang.Strings;
+
+/**
+ * Properties of a class, as resolved by {@link Accessors} factory methods : getters, setters and fields found by property name.
+ * Resolution is done once per property, on first demand, then kept in a per-class instance held by a {@link ClassValue}, so repeated lookups
+ * of the same property cost a couple of hash lookups. Absence of member is kept too, so negative lookups are as cheap as positive ones.
+ * Members may also be taken from the {@link MetadataCache} given to {@link Accessors#setMetadataCache(MetadataCache)}.
+ * Generic types of members are also resolved once per member, as seen from the class (see {@link #giveAccessedType(Member)}).
+ * It also keeps canonical accessors and mutators of class members, see {@link Accessors#setCanonicalInstances(boolean)}.
+ *
+ * @author Guillaume Mary
+ */
+final class PropertyModel {
+	
+	/** Number of {@link MemberAccessMode}s, kept since {@link MemberAccessMode#values()} clones its array on each call */
+	private static final int ACCESS_MODE_COUNT = MemberAccessMode.values().length;
+	
+	private static final ClassValue<PropertyModel> MODELS = new ClassValue<PropertyModel>() {
+		@Override
+		protected PropertyModel computeValue(Class<?> clazz) {
+			return new PropertyModel(clazz);
+		}
+	};
+	
+	/**
+	 * @param clazz any class
+	 * @return the property model of given class
+	 */
+	static PropertyModel of(Class<?> clazz) {
+		return MODELS.get(clazz);
+	}
+	
+	private final Class<?> clazz;
+	
+	private final ConcurrentMap<String, Optional<Method>> getters = new ConcurrentHashMap<>();
+	
+	private final ConcurrentMap<String, Optional<Field>> fields = new ConcurrentHashMap<>();
+	
+	/** Setters per property name, then per argument type */
+	private final ConcurrentMap<String, ConcurrentMap<Class<?>, Optional<Method>>> setters = new ConcurrentHashMap<>();
+	
+	/**
+	 * Canonical accessors and mutators per member : accessors are stored at {@link MemberAccessMode} ordinal index, mutators after them
+	 */
+	private final ConcurrentMap<Member, AtomicReferenceArray<Object>> canonicalReflectors = new ConcurrentHashMap<>();
+	
+	/** Values of type variables of super types, computed on first need, see {@link GenericTypes#giveTypeVariableBindings(Class)} */
+	private volatile Map<TypeVariable<?>, Type> typeVariableBindings;
+	
+	/** Generic types of members accessed by getter or field, as seen from the class */
+	private final ConcurrentMap<Member, Type> accessedTypes = new ConcurrentHashMap<>();
+	
+	/** Generic types of members accessed by setter or field, as seen from the class */
+	private final ConcurrentMap<Member, Type> inputTypes = new ConcurrentHashMap<>();
+	
+	private PropertyModel(Class<?> clazz) {
+		this.clazz = clazz;
+	}
+	
+	/**
+	 * Gives getter of a property according to Java bean naming convention : prefixed with "get", or with "is" for boolean properties
+	 *
+	 * @param propertyName a property name owned by the class or one of its parent
+	 * @return null if no getter was found
+	 */
+	@Nullable
+	Method findGetter(String propertyName) {
+		return resolve(getters, propertyName, name -> lookupMethod("getter:" + name, () -> lookupGetter(name)));
+	}
+	
+	/**
+	 * @param propertyName a field name owned by the class or one of its parent
+	 * @return null if no field was found
+	 */
+	@Nullable
+	Field findField(String propertyName) {
+		return resolve(fields, propertyName, name -> lookupField("field:" + name, () -> Reflections.findField(clazz, name)));
+	}
+	
+	/**
+	 * Gives setter of a property according to Java bean naming convention : prefixed with "set"
+	 *
+	 * @param propertyName a property name owned by the class or one of its parent
+	 * @param inputType setter argument type
+	 * @return null if no setter was found
+	 */
+	@Nullable
+	Method findSetter(String propertyName, Class<?> inputType) {
+		ConcurrentMap<Class<?>, Optional<Method>> settersPerType = setters.get(propertyName);
+		if (settersPerType == null) {
+			settersPerType = new ConcurrentHashMap<>();
+			ConcurrentMap<Class<?>, Optional<Method>> existing = setters.putIfAbsent(propertyName, settersPerType);
+			if (existing != null) {
+				settersPerType = existing;
+			}
+		}
+		return resolve(settersPerType, inputType, type -> lookupMethod("setter:" + propertyName + '(' + type.getName() + ')',
+				() -> Reflections.findMethod(clazz, "set" + Strings.capitalize(propertyName), type)));
+	}
+	
+	/**
+	 * Gives the instance shared by all callers of accessor (or mutator) of given member for given access mode. Instance is created with given
+	 * factory on first call.
+	 * 
+	 * @param member a member declared by the class
+	 * @param mutator true for a mutator, false for an accessor
+	 * @param accessMode the way member is expected to be accessed
+	 * @param factory creator of the instance
+	 * @param <M> member type
+	 * @param <R> accessor or mutator type
+	 * @return the same instance for same arguments
+	 */
+	<M extends Member, R> R giveCanonicalReflector(M member, boolean mutator, MemberAccessMode accessMode,
+												   BiFunction<M, MemberAccessMode, R> factory) {
+		AtomicReferenceArray<Object> reflectors = canonicalReflectors.get(member);
+		if (reflectors == null) {
+			reflectors = new AtomicReferenceArray<>(2 * ACCESS_MODE_COUNT);
+			AtomicReferenceArray<Object> existing = canonicalReflectors.putIfAbsent(member, reflectors);
+			if (existing != null) {
+				reflectors = existing;
+			}
+		}
+		int index = (mutator ? ACCESS_MODE_COUNT : 0) + accessMode.ordinal();
+		Object result = reflectors.get(index);
+		if (result == null) {
+			R created = factory.apply(member, accessMode);
+			// in case of concurrent creation, first one wins so all callers get the same instance
+			result = reflectors.compareAndSet(index, null, created) ? created : reflectors.get(index);
+		}
+		return (R) result;
+	}
+	
+	/**
+	 * Gives the generic type of a field or the one returned by a method, as seen from the class : type variables of its super types are
+	 * replaced by their value, so for instance a field declared as T in Parent&lt;T&gt; is of type String when seen from a class extending
+	 * Parent&lt;String&gt;.
+	 * 
+	 * @param member a field or a method of the class or one of its super types
+	 * @return the type of field or returned by method
+	 */
+	Type giveAccessedType(Member member) {
+		Type result = accessedTypes.get(member);
+		if (result == null) {
+			Type declaredType = member instanceof Field ? ((Field) member).getGenericType() : ((Method) member).getGenericReturnType();
+			result = GenericTypes.substitute(declaredType, giveTypeVariableBindings());
+			accessedTypes.putIfAbsent(member, result);
+		}
+		return result;
+	}
+	
+	/**
+	 * Same as {@link #giveAccessedType(Member)} for the value given to a field or to the first argument of a method
+	 * 
+	 * @param member a field or a method of the class or one of its super types
+	 * @return the type of field or of the first argument of method
+	 */
+	Type giveInputType(Member member) {
+		Type result = inputTypes.get(member);
+		if (result == null) {
+			Type declaredType = member instanceof Field ? ((Field) member).getGenericType() : ((Method) member).getGenericParameterTypes()[0];
+			result = GenericTypes.substitute(declaredType, giveTypeVariableBindings());
+			inputTypes.putIfAbsent(member, result);
+		}
+		return result;
+	}
+	
+	private Map<TypeVariable<?>, Type> giveTypeVariableBindings() {
+		Map<TypeVariable<?>, Type> result = typeVariableBindings;
+		if (result == null) {
+			result = GenericTypes.giveTypeVariableBindings(clazz);
+			typeVariableBindings = result;
+		}
+		return result;
+	}
+	
+	@Nullable
+	private Method lookupGetter(String propertyName) {
+		String capitalizedProperty = Strings.capitalize(propertyName);
+		Method getter = Reflections.findMethod(clazz, "get" + capitalizedProperty);
+		if (getter == null) {
+			// try for boolean
+			Field field = findField(propertyName);
+			if (field != null && (boolean.class.isAssignableFrom(field.getType()) || Boolean.class.isAssignableFrom(field.getType()))) {
+				getter = Reflections.findMethod(clazz, "is" + capitalizedProperty);
+			} // nothing found : neither get nor is => return null
+		}
+		return getter;
+	}
+	
+	/**
+	 * Looks up a method through the {@link MetadataCache} if there's one, falling back to given lookup (which result is then put in it)
+	 */
+	@Nullable
+	private Method lookupMethod(String key, Supplier<Method> lookup) {
+		MetadataCache metadataCache = Accessors.getMetadataCache();
+		if (metadataCache == null) {
+			return lookup.get();
+		}
+		Optional<Method> cached = metadataCache.findMethod(clazz, key);
+		if (cached != null) {
+			return cached.orElse(null);
+		}
+		Method result = lookup.get();
+		metadataCache.putMethod(clazz, key, result);
+		return result;
+	}
+	
+	/**
+	 * Same as {@link #lookupMethod(String, Supplier)} for fields
+	 */
+	@Nullable
+	private Field lookupField(String key, Supplier<Field> lookup) {
+		MetadataCache metadataCache = Accessors.getMetadataCache();
+		if (metadataCache == null) {
+			return lookup.get();
+		}
+		Optional<Field> cached = metadataCache.findField(clazz, key);
+		if (cached != null) {
+			return cached.orElse(null);
+		}
+		Field result = lookup.get();
+		metadataCache.putField(clazz, key, result);
+		return result;
+	}
+	
+	/**
+	 * Gives the value stored in given cache, computing it if absent. Computation is made outside of any lock, so it may be done several times
+	 * concurrently, which is harmless because it's deterministic.
+	 */
+	@Nullable
+	private static <K, V> V resolve(ConcurrentMap<K, Optional<V>> cache, K key, Function<K, V> lookup) {
+		Optional<V> result = cache.get(key);
+		if (result == null) {
+			result = Optional.ofNullable(lookup.apply(key));
+			cache.putIfAbsent(key, result);
+		}
+		return result.orElse(null);
+	}
+}
@@ -9,6 +9,23 @@ import java.util.Map;
  */
 public class ValueAccessPointComparator implements Comparator<ValueAccessPoint> {
 	
+	/** A totally arbitrary value for shared cache size */
+	private static final int SHARED_CACHE_SIZE = 10000;
+	
+	/**
+	 * Cache shared by instances created with {@link #ValueAccessPointComparator(boolean)} : thread-safe, and bounded so it doesn't grow
+	 * indefinitely (least recently used entries are evicted first)
+	 */
+	private static final LRUCache<ValueAccessPoint, AccessorDefinition> SHARED_CACHE = new LRUCache<>(SHARED_CACHE_SIZE);
+	
+	/**
+	 * Removes from shared cache the definitions of classes loaded by given {@link ClassLoader}, see {@link Accessors#purge(ClassLoader)}
+	 */
+	static void purge(ClassLoader classLoader) {
+		SHARED_CACHE.removeIf(definition -> ClassLoaders.isLoadedBy(definition.getDeclaringClass(), classLoader)
+				|| ClassLoaders.isLoadedBy(definition.getMemberType(), classLoader));
+	}
+	
 	/** Since {@link AccessorDefinition} computation can be costly we use a cache, it may be shared between instances */
 	private final Map<ValueAccessPoint, AccessorDefinition> cache;
 	
@@ -19,6 +36,16 @@ public class ValueAccessPointComparator implements Comparator<ValueAccessPoint>
 		this(new HashMap<>());
 	}
 	
+	/**
+	 * Constructor that opts in for a cache shared by all instances, so {@link AccessorDefinition}s are computed once for all of them, and
+	 * instance can be used concurrently.
+	 * 
+	 * @param useSharedCache true to use the shared cache, false to use a dedicated one as {@link #ValueAccessPointComparator()} does
+	 */
+	public ValueAccessPointComparator(boolean useSharedCache) {
+		this(useSharedCache ? SHARED_CACHE : new HashMap<>());
+	}
+	
 	/**
 	 * Constuctor that uses the given cache for {@link AccessorDefinition} computation.
 	 * 
@@ -30,9 +57,18 @@ public class ValueAccessPointComparator implements Comparator<ValueAccessPoint>
 	
 	@Override
 	public int compare(ValueAccessPoint o1, ValueAccessPoint o2) {
-		AccessorDefinition accessorDefinition1 = cache.computeIfAbsent(o1, AccessorDefinition::giveDefinition);
-		AccessorDefinition accessorDefinition2 = cache.computeIfAbsent(o2, AccessorDefinition::giveDefinition);
+		AccessorDefinition accessorDefinition1 = giveDefinition(o1);
+		AccessorDefinition accessorDefinition2 = giveDefinition(o2);
 		return accessorDefinition1.compareTo(accessorDefinition2);
 	}
 	
+	private AccessorDefinition giveDefinition(ValueAccessPoint valueAccessPoint) {
+		if (valueAccessPoint instanceof AbstractReflector || valueAccessPoint instanceof PropertyAccessor) {
+			// definition is memoized by the instance itself (or by its accessor), putting it in cache would only make it grow. Moreover hash code
+			// of chains and of accessors with index or parameter changes with them, so they would be lost in cache
+			return AccessorDefinition.giveDefinition(valueAccessPoint);
+		} else {
+			return cache.computeIfAbsent(valueAccessPoint, AccessorDefinition::giveDefinition);
+		}
+	}
 }
@@ -0,0 +1,90 @@
+package org.gama.reflection;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+import static org.gama.reflection.AccessorDefinition.giveDefinition;
+
+/**
+ * A {@link Map} dedicated to {@link ValueAccessPoint}s as key, with same semantic as {@link ValueAccessPointMap} : keys accessing the same
+ * property are considered equal whatever their kind is. But this one is based on {@link AccessorDefinition#hashCode()} instead of
+ * {@link ValueAccessPointComparator}, so lookups don't depend on map size. Contrary to {@link ValueAccessPointMap} iteration order is not
+ * sorted.
+ * Keys are kept as given on first insertion, as {@link ValueAccessPointMap} does.
+ * Definitions of keys are not cached since reflectors memoize them, and since hash code of chains (and accessors with index or parameter)
+ * changes with them.
+ *
+ * @author Guillaume Mary
+ * @see ValueAccessPointHashSet
+ */
+public class ValueAccessPointHashMap<V> extends AbstractMap<ValueAccessPoint, V> {
+	
+	private final Map<AccessorDefinition, Entry<ValueAccessPoint, V>> entries = new HashMap<>();
+	
+	public ValueAccessPointHashMap() {
+	}
+	
+	public ValueAccessPointHashMap(Map<? extends ValueAccessPoint, ? extends V> map) {
+		this();
+		putAll(map);
+	}
+	
+	@Override
+	public int size() {
+		return entries.size();
+	}
+	
+	@Override
+	public boolean containsKey(Object key) {
+		return key instanceof ValueAccessPoint && entries.containsKey(giveDefinition((ValueAccessPoint) key));
+	}
+	
+	@Override
+	public V get(Object key) {
+		Entry<ValueAccessPoint, V> entry = key instanceof ValueAccessPoint ? entries.get(giveDefinition((ValueAccessPoint) key)) : null;
+		return entry == null ? null : entry.getValue();
+	}
+	
+	@Override
+	public V put(ValueAccessPoint key, V value) {
+		AccessorDefinition definition = giveDefinition(key);
+		Entry<ValueAccessPoint, V> existingEntry = entries.get(definition);
+		if (existingEntry == null) {
+			entries.put(definition, new SimpleEntry<>(key, value));
+			return null;
+		} else {
+			return existingEntry.setValue(value);
+		}
+	}
+	
+	@Override
+	public V remove(Object key) {
+		Entry<ValueAccessPoint, V> entry = key instanceof ValueAccessPoint ? entries.remove(giveDefinition((ValueAccessPoint) key)) : null;
+		return entry == null ? null : entry.getValue();
+	}
+	
+	@Override
+	public void clear() {
+		entries.clear();
+	}
+	
+	@Override
+	public Set<Entry<ValueAccessPoint, V>> entrySet() {
+		return new AbstractSet<Entry<ValueAccessPoint, V>>() {
+			@Override
+			public Iterator<Entry<ValueAccessPoint, V>> iterator() {
+				// NB: removal is delegated to the iterator of the underlying map, which supports it
+				return entries.values().iterator();
+			}
+			
+			@Override
+			public int size() {
+				return entries.size();
+			}
+		};
+	}
+}
@@ -0,0 +1,56 @@
+package org.gama.reflection;
+
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Set;
+
+/**
+ * A {@link Set} dedicated to {@link ValueAccessPoint}s, with same semantic as {@link ValueAccessPointSet} : elements accessing the same
+ * property are considered equal whatever their kind is. But this one is based on hashing (see {@link ValueAccessPointHashMap}) instead of
+ * {@link ValueAccessPointComparator}, so lookups don't depend on set size. Iteration order is not sorted.
+ * 
+ * @author Guillaume Mary
+ */
+public class ValueAccessPointHashSet extends AbstractSet<ValueAccessPoint> {
+	
+	private final ValueAccessPointHashMap<Boolean> delegate = new ValueAccessPointHashMap<>();
+	
+	public ValueAccessPointHashSet() {
+	}
+	
+	public ValueAccessPointHashSet(Collection<? extends ValueAccessPoint> set) {
+		this();
+		addAll(set);
+	}
+	
+	@Override
+	public boolean add(ValueAccessPoint valueAccessPoint) {
+		return delegate.put(valueAccessPoint, Boolean.TRUE) == null;
+	}
+	
+	@Override
+	public boolean contains(Object o) {
+		return delegate.containsKey(o);
+	}
+	
+	@Override
+	public boolean remove(Object o) {
+		return delegate.remove(o) != null;
+	}
+	
+	@Override
+	public void clear() {
+		delegate.clear();
+	}
+	
+	@Override
+	public Iterator<ValueAccessPoint> iterator() {
+		return delegate.keySet().iterator();
+	}
+	
+	@Override
+	public int size() {
+		return delegate.size();
+	}
+}
@@ -8,6 +8,7 @@ import java.util.TreeMap;
  * {@link ValueAccessPointComparator}
  *
  * @author Guillaume Mary
+ * @see ValueAccessPointHashMap
  */
 public class ValueAccessPointMap<V> extends TreeMap<ValueAccessPoint, V> {
 	
@@ -15,6 +16,16 @@ public class ValueAccessPointMap<V> extends TreeMap<ValueAccessPoint, V> {
 		super(new ValueAccessPointComparator());
 	}
 	
+	/**
+	 * Constructor with a given comparator, for instance one sharing its cache with others (see
+	 * {@link ValueAccessPointComparator#ValueAccessPointComparator(boolean)})
+	 * 
+	 * @param comparator comparator of elements
+	 */
+	public ValueAccessPointMap(ValueAccessPointComparator comparator) {
+		super(comparator);
+	}
+	
 	public ValueAccessPointMap(Map<? extends ValueAccessPoint, ? extends V> map) {
 		this();
 		putAll(map);
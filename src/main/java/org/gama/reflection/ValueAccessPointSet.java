@@ -9,6 +9,7 @@ import java.util.TreeSet;
  * {@link ValueAccessPointComparator}
  * 
  * @author Guillaume Mary
+ * @see ValueAccessPointHashSet
  */
 public class ValueAccessPointSet extends TreeSet<ValueAccessPoint> {
 	
@@ -16,6 +17,16 @@ public class ValueAccessPointSet extends TreeSet<ValueAccessPoint> {
 		super(new ValueAccessPointComparator());
 	}
 	
+	/**
+	 * Constructor with a given comparator, for instance one sharing its cache with others (see
+	 * {@link ValueAccessPointComparator#ValueAccessPointComparator(boolean)})
+	 * 
+	 * @param comparator comparator of elements
+	 */
+	public ValueAccessPointSet(ValueAccessPointComparator comparator) {
+		super(comparator);
+	}
+	
 	public ValueAccessPointSet(Collection<? extends ValueAccessPoint> set) {
 		this();
 		addAll(set);
@@ -0,0 +1,269 @@
+package org.gama.reflection;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import org.danekja.java.util.function.serializable.SerializableBiConsumer;
+import org.danekja.java.util.function.serializable.SerializableFunction;
+
+/**
+ * Resolves ahead of time what {@link Accessors} and {@link AccessorDefinition} resolve lazily, so that first usages of accessors (after an
+ * application startup for instance) don't pay for it. Resolution is made in parallel on a {@link ForkJoinPool} :
+ * <ul>
+ * <li>properties of given classes : their {@link PropertyModel}, and their accessors and mutators (by method or field)</li>
+ * <li>given method references : their {@link java.lang.invoke.SerializedLambda}, target method and {@link AccessorDefinition}</li>
+ * <li>optionally, property accessors and method references getters are invoked on given samples to trigger their JIT compilation, and
+ * property mutators too if asked for ({@link #exerciseMutators()})</li>
+ * </ul>
+ * Resolved accessors and mutators of properties are the shared ones (see {@link Accessors#setCanonicalInstances(boolean)}), so that
+ * exercised instances are the ones given to callers when canonical instances are enabled. Otherwise callers get new instances, which
+ * still benefit from warm-up of what they share (compiled getters, generated classes, metadata).
+ *
+ * Usage :
+ * <pre>{@code
+ * WarmUp.Report report = new WarmUp()
+ *     .classes(Person.class, City.class)
+ *     .getter(Person::getName)
+ *     .exercise(10_000, new Person())
+ *     .run();
+ * }</pre>
+ *
+ * @author Guillaume Mary
+ */
+public class WarmUp {
+	
+	/** Steps of {@link #run()}, in their execution order */
+	public enum Phase {
+		PROPERTIES,
+		METHOD_REFERENCES,
+		EXERCISE
+	}
+	
+	private final Set<Class<?>> classes = new LinkedHashSet<>();
+	
+	private final List<SerializableFunction<?, ?>> getters = new ArrayList<>();
+	
+	private final List<SerializableBiConsumer<?, ?>> setters = new ArrayList<>();
+	
+	private final List<Object> samples = new ArrayList<>();
+	
+	private int iterationCount = 0;
+	
+	private boolean exerciseMutators = false;
+	
+	/**
+	 * Adds classes which properties must be resolved : those declared by their fields (static ones excepted), including inherited ones
+	 *
+	 * @param classes some classes
+	 * @return this
+	 */
+	public WarmUp classes(Class<?>... classes) {
+		this.classes.addAll(Arrays.asList(classes));
+		return this;
+	}
+	
+	/**
+	 * @param getter a method reference of a getter
+	 * @param <C> getter declaring class
+	 * @param <T> property type
+	 * @return this
+	 */
+	public <C, T> WarmUp getter(SerializableFunction<C, T> getter) {
+		this.getters.add(getter);
+		return this;
+	}
+	
+	/**
+	 * @param setter a method reference of a setter
+	 * @param <C> setter declaring class
+	 * @param <T> property type
+	 * @return this
+	 */
+	public <C, T> WarmUp setter(SerializableBiConsumer<C, T> setter) {
+		this.setters.add(setter);
+		return this;
+	}
+	
+	/**
+	 * Asks for invoking resolved accessors on given samples. Properties of samples are only read, unless {@link #exerciseMutators()} is
+	 * called. Method reference getters are invoked on samples of their declaring class. Sample classes are added to classes to be resolved.
+	 * Invocation failures are ignored since warm-up is a best effort : a failing accessor is simply not invoked anymore.
+	 *
+	 * @param iterationCount number of invocations of each accessor per sample, JIT compilation is usually triggered after some thousands
+	 * @param samples some instances of classes to warm up
+	 * @return this
+	 */
+	public WarmUp exercise(int iterationCount, Object... samples) {
+		this.iterationCount = iterationCount;
+		this.samples.addAll(Arrays.asList(samples));
+		for (Object sample : samples) {
+			this.classes.add(sample.getClass());
+		}
+		return this;
+	}
+	
+	/**
+	 * Asks for invoking property mutators too while exercising samples : properties are written back with their read value. Hence samples
+	 * are expected to be dedicated to warm-up (not instances in use by the application), and setters to be side-effect free.
+	 *
+	 * @return this
+	 */
+	public WarmUp exerciseMutators() {
+		this.exerciseMutators = true;
+		return this;
+	}
+	
+	/**
+	 * Runs the warm-up on the common {@link ForkJoinPool}
+	 *
+	 * @return the duration of each phase
+	 */
+	public Report run() {
+		return run(ForkJoinPool.commonPool());
+	}
+	
+	/**
+	 * Runs the warm-up on given {@link ForkJoinPool}. Resolution failures are propagated since they would happen at first usage.
+	 *
+	 * @param pool the pool on which resolutions are made
+	 * @return the duration of each phase
+	 */
+	public Report run(ForkJoinPool pool) {
+		Report result = new Report();
+		ConcurrentMap<Class<?>, List<PropertyAccessor<Object, Object>>> propertyAccessors = new ConcurrentHashMap<>();
+		List<AccessorByMethodReference<Object, Object>> getterAccessors = Collections.synchronizedList(new ArrayList<>());
+		
+		long start = System.nanoTime();
+		forEach(pool, classes, clazz -> propertyAccessors.put(clazz, resolveProperties(clazz)));
+		start = result.record(Phase.PROPERTIES, start);
+		
+		forEach(pool, getters, getter -> {
+			AccessorByMethodReference<Object, Object> accessor = Accessors.accessorByMethodReference((SerializableFunction<Object, Object>) getter);
+			AccessorDefinition.giveDefinition(accessor);
+			getterAccessors.add(accessor);
+		});
+		forEach(pool, setters, setter -> AccessorDefinition.giveDefinition(
+				Accessors.mutatorByMethodReference((SerializableBiConsumer<Object, Object>) setter)));
+		start = result.record(Phase.METHOD_REFERENCES, start);
+		
+		if (iterationCount > 0) {
+			forEach(pool, samples, sample -> {
+				List<PropertyAccessor<Object, Object>> sampleAccessors = propertyAccessors.get(sample.getClass());
+				sampleAccessors.forEach(accessor -> exercise(accessor, sample));
+				getterAccessors.stream()
+						.filter(getter -> getter.getDeclaringClass().isInstance(sample))
+						.forEach(getter -> exercise(getter, sample));
+			});
+		}
+		result.record(Phase.EXERCISE, start);
+		return result;
+	}
+	
+	private static List<PropertyAccessor<Object, Object>> resolveProperties(Class<?> clazz) {
+		List<PropertyAccessor<Object, Object>> result = new ArrayList<>();
+		Class<?> currentClass = clazz;
+		while (currentClass != null && currentClass != Object.class) {
+			for (Field field : currentClass.getDeclaredFields()) {
+				if (!Modifier.isStatic(field.getModifiers()) && !field.isSynthetic()) {
+					PropertyAccessor<Object, Object> propertyAccessor = Accessors.canonicalPropertyAccessor((Class<Object>) clazz, field.getName());
+					AccessorDefinition.giveDefinition(propertyAccessor.getAccessor());
+					AccessorDefinition.giveDefinition(propertyAccessor.getMutator());
+					result.add(propertyAccessor);
+				}
+			}
+			currentClass = currentClass.getSuperclass();
+		}
+		return result;
+	}
+	
+	private void exercise(PropertyAccessor<Object, Object> accessor, Object sample) {
+		if (exerciseMutators) {
+			try {
+				for (int i = 0; i < iterationCount; i++) {
+					accessor.set(sample, accessor.get(sample));
+				}
+			} catch (RuntimeException e) {
+				// warm-up is a best effort (final field for instance) : accessor is abandoned
+			}
+		} else {
+			exercise(accessor.getAccessor(), sample);
+		}
+	}
+	
+	private void exercise(IAccessor<Object, Object> accessor, Object sample) {
+		try {
+			for (int i = 0; i < iterationCount; i++) {
+				accessor.get(sample);
+			}
+		} catch (RuntimeException e) {
+			// warm-up is a best effort : accessor is abandoned
+		}
+	}
+	
+	/**
+	 * Applies given action on each element in parallel on given pool, waiting for all of them to complete
+	 */
+	private static <E> void forEach(ForkJoinPool pool, Collection<E> elements, Consumer<E> action) {
+		List<ForkJoinTask<?>> tasks = elements.stream()
+				.map(element -> ForkJoinTask.adapt(() -> action.accept(element)))
+				.collect(Collectors.toList());
+		pool.invoke(ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(tasks)));
+	}
+	
+	/**
+	 * Durations of {@link WarmUp} phases
+	 */
+	public static class Report {
+		
+		private final Map<Phase, Duration> durations = new EnumMap<>(Phase.class);
+		
+		private Report() {
+		}
+		
+		/**
+		 * @param phase a warm-up phase
+		 * @return the time spent in given phase
+		 */
+		public Duration getDuration(Phase phase) {
+			return durations.get(phase);
+		}
+		
+		/**
+		 * @return the total time spent in warm-up
+		 */
+		public Duration getTotalDuration() {
+			return durations.values().stream().reduce(Duration.ZERO, Duration::plus);
+		}
+		
+		private long record(Phase phase, long start) {
+			long end = System.nanoTime();
+			durations.put(phase, Duration.ofNanos(end - start));
+			return end;
+		}
+		
+		@Override
+		public String toString() {
+			StringJoiner result = new StringJoiner(", ", "WarmUp[", "]");
+			durations.forEach((phase, duration) -> result.add(phase + "=" + TimeUnit.NANOSECONDS.toMillis(duration.toNanos()) + "ms"));
+			return result.toString();
+		}
+	}
+}
@@ -0,0 +1,378 @@
+package org.gama.reflection.processor;
+
+import javax.annotation.Nullable;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic.Kind;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.gama.reflection.Accessors;
+import org.gama.reflection.GenerateAccessors;
+import org.gama.reflection.GeneratedAccessors;
+
+/**
+ * Annotation processor that generates, for each class marked with {@link GenerateAccessors}, an implementation of {@link GeneratedAccessors}
+ * which creates accessors and mutators with direct calls to getters, setters and fields instead of reflective ones.
+ * Members are resolved the same way {@link Accessors} does it with reflection (getter prefixed by "get" or "is" for booleans, setter taking
+ * field type as argument, members of the class or its ancestors), but only those that can be reached from the package of the bean are
+ * taken into account : private ones or non-public ones of another package are left to reflection.
+ *
+ * @author Guillaume Mary
+ */
+@SupportedAnnotationTypes("org.gama.reflection.GenerateAccessors")
+public class GenerateAccessorsProcessor extends AbstractProcessor {
+	
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+	
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+		for (Element element : roundEnv.getElementsAnnotatedWith(GenerateAccessors.class)) {
+			if (element.getKind() != ElementKind.CLASS) {
+				processingEnv.getMessager().printMessage(Kind.ERROR, "@" + GenerateAccessors.class.getSimpleName() + " only applies to classes", element);
+			} else if (!isReachable((TypeElement) element, getPackage(element))) {
+				processingEnv.getMessager().printMessage(Kind.ERROR, "Accessors can't be generated for private classes", element);
+			} else {
+				try {
+					generate((TypeElement) element);
+				} catch (IOException e) {
+					processingEnv.getMessager().printMessage(Kind.ERROR, "Accessors generation failed : " + e.getMessage(), element);
+				}
+			}
+		}
+		return true;
+	}
+	
+	private void generate(TypeElement beanType) throws IOException {
+		PackageElement beanPackage = getPackage(beanType);
+		Map<String, PropertyModel> properties = collectProperties(beanType);
+		// members types are the ones seen from bean type, which is used raw in generated code
+		DeclaredType rawBeanType = (DeclaredType) erasure(beanType.asType());
+		
+		String beanClassName = processingEnv.getElementUtils().getBinaryName(beanType).toString();
+		String generatedClassName = beanClassName + GeneratedAccessors.CLASS_NAME_SUFFIX;
+		String generatedSimpleName = generatedClassName.substring(generatedClassName.lastIndexOf('.') + 1);
+		String beanTypeName = sourceName(beanType.asType());
+		
+		try (Writer writer = processingEnv.getFiler().createSourceFile(generatedClassName, beanType).openWriter();
+			 PrintWriter out = new PrintWriter(writer)) {
+			if (!beanPackage.isUnnamed()) {
+				out.println("package " + beanPackage.getQualifiedName() + ";");
+				out.println();
+			}
+			out.println("/**");
+			out.println(" * Accessors of {@link " + beanTypeName + "}, generated by {@link " + getClass().getName() + "}");
+			out.println(" */");
+			out.println("public final class " + generatedSimpleName + " implements " + GeneratedAccessors.class.getName() + "<" + beanTypeName + "> {");
+			
+			out.println();
+			out.println("\t@Override");
+			out.println("\tpublic org.gama.reflection.AccessorByMethod<" + beanTypeName + ", ?> giveAccessorByMethod(String propertyName) {");
+			writeSwitch(out, properties, property -> {
+				if (property.getter == null) {
+					return null;
+				}
+				TypeMirror propertyType = ((ExecutableType) asMemberOf(rawBeanType, property.getter)).getReturnType();
+				return "new org.gama.reflection.AccessorByMethod<" + beanTypeName + ", " + boxedSourceName(propertyType) + ">("
+						+ methodLookup(property.getter) + ", bean -> bean." + property.getter.getSimpleName() + "())";
+			});
+			
+			out.println();
+			out.println("\t@Override");
+			out.println("\tpublic org.gama.reflection.MutatorByMethod<" + beanTypeName + ", ?> giveMutatorByMethod(String propertyName) {");
+			writeSwitch(out, properties, property -> {
+				if (property.setter == null) {
+					return null;
+				}
+				TypeMirror propertyType = ((ExecutableType) asMemberOf(rawBeanType, property.setter)).getParameterTypes().get(0);
+				return "new org.gama.reflection.MutatorByMethod<" + beanTypeName + ", " + boxedSourceName(propertyType) + ">("
+						+ methodLookup(property.setter) + ", (bean, value) -> bean." + property.setter.getSimpleName() + "(value))";
+			});
+			
+			out.println();
+			out.println("\t@Override");
+			out.println("\tpublic org.gama.reflection.AccessorByField<" + beanTypeName + ", ?> giveAccessorByField(String propertyName) {");
+			writeSwitch(out, properties, property -> {
+				if (property.field == null) {
+					return null;
+				}
+				return "new org.gama.reflection.AccessorByField<" + beanTypeName + ", " + boxedSourceName(asMemberOf(rawBeanType, property.field)) + ">("
+						+ fieldLookup(property.field) + ", bean -> bean." + property.field.getSimpleName() + ")";
+			});
+			
+			out.println();
+			out.println("\t@Override");
+			out.println("\tpublic org.gama.reflection.MutatorByField<" + beanTypeName + ", ?> giveMutatorByField(String propertyName) {");
+			writeSwitch(out, properties, property -> {
+				if (property.field == null || property.field.getModifiers().contains(Modifier.FINAL)) {
+					return null;
+				}
+				return "new org.gama.reflection.MutatorByField<" + beanTypeName + ", " + boxedSourceName(asMemberOf(rawBeanType, property.field)) + ">("
+						+ fieldLookup(property.field) + ", (bean, value) -> bean." + property.field.getSimpleName() + " = value)";
+			});
+			
+			out.println();
+			out.println("\tprivate static java.lang.reflect.Method method(Class<?> declaringClass, String name, Class<?>... parameterTypes) {");
+			out.println("\t\ttry {");
+			out.println("\t\t\treturn declaringClass.getDeclaredMethod(name, parameterTypes);");
+			out.println("\t\t} catch (NoSuchMethodException e) {");
+			out.println("\t\t\tthrow new IllegalStateException(\"Generated accessors are not up to date with \" + declaringClass.getName(), e);");
+			out.println("\t\t}");
+			out.println("\t}");
+			out.println();
+			out.println("\tprivate static java.lang.reflect.Field field(Class<?> declaringClass, String name) {");
+			out.println("\t\ttry {");
+			out.println("\t\t\treturn declaringClass.getDeclaredField(name);");
+			out.println("\t\t} catch (NoSuchFieldException e) {");
+			out.println("\t\t\tthrow new IllegalStateException(\"Generated accessors are not up to date with \" + declaringClass.getName(), e);");
+			out.println("\t\t}");
+			out.println("\t}");
+			out.println("}");
+		}
+	}
+	
+	private void writeSwitch(PrintWriter out, Map<String, PropertyModel> properties, PropertyCodeGenerator codeGenerator) {
+		out.println("\t\tswitch (propertyName) {");
+		properties.forEach((name, property) -> {
+			String instantiation = codeGenerator.generate(property);
+			if (instantiation != null) {
+				out.println("\t\t\tcase \"" + name + "\":");
+				out.println("\t\t\t\treturn " + instantiation + ";");
+			}
+		});
+		out.println("\t\t\tdefault:");
+		out.println("\t\t\t\treturn null;");
+		out.println("\t\t}");
+		out.println("\t}");
+	}
+	
+	private String methodLookup(ExecutableElement method) {
+		StringBuilder result = new StringBuilder("method(")
+				.append(sourceName(method.getEnclosingElement().asType())).append(".class, \"").append(method.getSimpleName()).append("\"");
+		method.getParameters().forEach(parameter -> result.append(", ").append(sourceName(parameter.asType())).append(".class"));
+		return result.append(")").toString();
+	}
+	
+	private String fieldLookup(VariableElement field) {
+		return "field(" + sourceName(field.getEnclosingElement().asType()) + ".class, \"" + field.getSimpleName() + "\")";
+	}
+	
+	/**
+	 * Collects properties of given type and its ancestors, members of subclasses taking precedence over ancestors ones as with
+	 * {@link org.gama.lang.Reflections#findField(Class, String)} and {@link org.gama.lang.Reflections#findMethod(Class, String, Class[])}.
+	 * Members that generated code can't reach are ignored.
+	 */
+	private Map<String, PropertyModel> collectProperties(TypeElement beanType) {
+		PackageElement beanPackage = getPackage(beanType);
+		// fields are collected first because getters and setters depend on them
+		Map<String, VariableElement> fields = new TreeMap<>();
+		List<ExecutableElement> methods = new ArrayList<>();
+		TypeElement currentType = beanType;
+		while (currentType != null) {
+			for (VariableElement field : ElementFilter.fieldsIn(currentType.getEnclosedElements())) {
+				fields.putIfAbsent(field.getSimpleName().toString(), field);
+			}
+			// NB: overridden methods of ancestors are kept but they are never used because subclasses ones come first
+			methods.addAll(ElementFilter.methodsIn(currentType.getEnclosedElements()));
+			currentType = getSuperclass(currentType);
+		}
+		
+		Map<String, PropertyModel> result = new TreeMap<>();
+		for (ExecutableElement method : methods) {
+			String methodName = method.getSimpleName().toString();
+			for (String prefix : new String[] { "get", "is", "set" }) {
+				if (methodName.length() > prefix.length() && methodName.startsWith(prefix)) {
+					result.computeIfAbsent(uncapitalize(methodName.substring(prefix.length())), PropertyModel::new);
+				}
+			}
+		}
+		fields.keySet().forEach(name -> result.computeIfAbsent(name, PropertyModel::new));
+		
+		for (PropertyModel property : result.values()) {
+			VariableElement field = fields.get(property.name);
+			String capitalizedName = capitalize(property.name);
+			ExecutableElement getter = findMethod(methods, "get" + capitalizedName, null);
+			if (getter == null && field != null && isBoolean(field.asType())) {
+				getter = findMethod(methods, "is" + capitalizedName, null);
+			}
+			if (getter != null && getter.getReturnType().getKind() != TypeKind.VOID && isReachable(getter, beanPackage)) {
+				property.getter = getter;
+			}
+			if (field != null) {
+				// setter must take field type as argument, as with Accessors.mutatorByMethod(..)
+				ExecutableElement setter = findMethod(methods, "set" + capitalizedName, field.asType());
+				if (setter != null && isReachable(setter, beanPackage)) {
+					property.setter = setter;
+				}
+				if (isReachable(field, beanPackage)) {
+					property.field = field;
+				}
+			}
+		}
+		return result;
+	}
+	
+	@Nullable
+	private ExecutableElement findMethod(Iterable<ExecutableElement> methods, String name, @Nullable TypeMirror argumentType) {
+		for (ExecutableElement method : methods) {
+			if (method.getSimpleName().contentEquals(name)
+					&& (argumentType == null
+						? method.getParameters().isEmpty()
+						: method.getParameters().size() == 1
+							&& processingEnv.getTypeUtils().isSameType(erasure(method.getParameters().get(0).asType()), erasure(argumentType)))) {
+				return method;
+			}
+		}
+		return null;
+	}
+	
+	@Nullable
+	private TypeElement getSuperclass(TypeElement type) {
+		TypeMirror superclass = type.getSuperclass();
+		if (superclass.getKind() != TypeKind.DECLARED) {
+			return null;
+		}
+		TypeElement result = (TypeElement) ((DeclaredType) superclass).asElement();
+		return result.getQualifiedName().contentEquals(Object.class.getName()) ? null : result;
+	}
+	
+	private boolean isBoolean(TypeMirror type) {
+		return type.getKind() == TypeKind.BOOLEAN || type.toString().equals(Boolean.class.getName());
+	}
+	
+	/**
+	 * Indicates if generated code, which is in given package, can use given member : it must be non-static, and either public or
+	 * package-private in same package, as well as its declaring class and their types.
+	 */
+	private boolean isReachable(Element member, PackageElement fromPackage) {
+		if (member.getModifiers().contains(Modifier.STATIC) || !isReachableModifiers(member, fromPackage)
+				|| !isReachable((TypeElement) member.getEnclosingElement(), fromPackage)) {
+			return false;
+		}
+		if (member instanceof VariableElement) {
+			return isReachable(member.asType(), fromPackage);
+		} else {
+			ExecutableElement method = (ExecutableElement) member;
+			return isReachable(method.getReturnType(), fromPackage)
+					&& method.getParameters().stream().allMatch(parameter -> isReachable(parameter.asType(), fromPackage));
+		}
+	}
+	
+	private boolean isReachable(TypeMirror type, PackageElement fromPackage) {
+		switch (type.getKind()) {
+			case ARRAY:
+				return isReachable(((ArrayType) type).getComponentType(), fromPackage);
+			case DECLARED:
+				return isReachable((TypeElement) ((DeclaredType) type).asElement(), fromPackage);
+			case TYPEVAR:
+				return isReachable(erasure(type), fromPackage);
+			default:
+				// primitive and void types
+				return true;
+		}
+	}
+	
+	private boolean isReachable(TypeElement type, PackageElement fromPackage) {
+		Element currentType = type;
+		while (currentType instanceof TypeElement) {
+			if (!isReachableModifiers(currentType, fromPackage)) {
+				return false;
+			}
+			currentType = currentType.getEnclosingElement();
+		}
+		return true;
+	}
+	
+	private boolean isReachableModifiers(Element element, PackageElement fromPackage) {
+		Set<Modifier> modifiers = element.getModifiers();
+		return modifiers.contains(Modifier.PUBLIC) || (!modifiers.contains(Modifier.PRIVATE) && getPackage(element).equals(fromPackage));
+	}
+	
+	private PackageElement getPackage(Element element) {
+		return processingEnv.getElementUtils().getPackageOf(element);
+	}
+	
+	private TypeMirror asMemberOf(DeclaredType containingType, Element member) {
+		return processingEnv.getTypeUtils().asMemberOf(containingType, member);
+	}
+	
+	private TypeMirror erasure(TypeMirror type) {
+		return processingEnv.getTypeUtils().erasure(type);
+	}
+	
+	/**
+	 * @return erased type name as it must be written in source code (nested classes separated by a dot)
+	 */
+	private String sourceName(TypeMirror type) {
+		return erasure(type).toString();
+	}
+	
+	private String boxedSourceName(TypeMirror type) {
+		if (type.getKind().isPrimitive()) {
+			return processingEnv.getTypeUtils().boxedClass((PrimitiveType) type).getQualifiedName().toString();
+		} else {
+			return sourceName(type);
+		}
+	}
+	
+	private static String capitalize(String s) {
+		return Character.toUpperCase(s.charAt(0)) + s.substring(1);
+	}
+	
+	private static String uncapitalize(String s) {
+		return Character.toLowerCase(s.charAt(0)) + s.substring(1);
+	}
+	
+	@FunctionalInterface
+	private interface PropertyCodeGenerator {
+		
+		/**
+		 * @return instantiation code of an accessor or a mutator of the property, null if property doesn't support it
+		 */
+		@Nullable
+		String generate(PropertyModel property);
+	}
+	
+	/**
+	 * Members of a property that generated code can use
+	 */
+	private static class PropertyModel {
+		
+		private final String name;
+		
+		private VariableElement field;
+		
+		private ExecutableElement getter;
+		
+		private ExecutableElement setter;
+		
+		private PropertyModel(String name) {
+			this.name = name;
+		}
+	}
+}
@@ -1,9 +1,14 @@
 package org.gama.reflection;
 
 import org.gama.lang.Reflections;
+import org.gama.lang.collection.Arrays;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.InstanceOfAssertFactories.THROWABLE;
 
 /**
  * @author Guillaume Mary
@@ -18,8 +23,122 @@ public class AccessorByFieldTest {
 		assertThat((int) testInstance.get(toto)).isEqualTo(42);
 	}
 	
+	@ParameterizedTest
+	@EnumSource(MemberAccessMode.class)
+	public void testGet_accessMode(MemberAccessMode accessMode) {
+		AccessorByField<Toto, Integer> testInstance = new AccessorByField<>(Reflections.findField(Toto.class, "a"), accessMode);
+		Toto toto = new Toto();
+		toto.a = 42;
+		assertThat((int) testInstance.get(toto)).isEqualTo(42);
+		
+		AccessorByField<Toto, String> staticFieldAccessor = new AccessorByField<>(Reflections.findField(Toto.class, "b"), accessMode);
+		assertThat(staticFieldAccessor.get(toto)).isEqualTo("Hello");
+	}
+	
+	@ParameterizedTest
+	@EnumSource(MemberAccessMode.class)
+	public void testGet_nullTarget_throwsSameExceptionWhateverAccessMode(MemberAccessMode accessMode) {
+		AccessorByField<Toto, Integer> testInstance = new AccessorByField<>(Reflections.findField(Toto.class, "a"), accessMode);
+		assertThatThrownBy(() -> testInstance.get(null))
+				.isInstanceOf(RuntimeException.class)
+				.hasMessage("Error while applying accessor for field o.g.r.AccessorByFieldTest$Toto.a on instance null")
+				.extracting(Throwable::getCause, THROWABLE)
+				.isInstanceOf(NullPointerException.class)
+				.hasMessage("Cannot invoke accessor for field o.g.r.AccessorByFieldTest$Toto.a on null instance");
+	}
+	
+	@Test
+	public void testGetPrimitive() {
+		AccessorByField<Toto, Integer> testInstance = new AccessorByField<>(Reflections.findField(Toto.class, "a"));
+		Toto toto = new Toto();
+		toto.a = 42;
+		assertThat(testInstance.getInt(toto)).isEqualTo(42);
+		// int is widened as with Field.getLong(..) and Field.getDouble(..)
+		assertThat(testInstance.getLong(toto)).isEqualTo(42L);
+		assertThat(testInstance.getDouble(toto)).isEqualTo(42d);
+	}
+	
+	@ParameterizedTest
+	@EnumSource(MemberAccessMode.class)
+	public void testGetPrimitive_accessMode(MemberAccessMode accessMode) {
+		AccessorByField<Toto, Character> testInstance = new AccessorByField<>(Reflections.findField(Toto.class, "c"), accessMode);
+		Toto toto = new Toto();
+		toto.c = 'A';
+		// char is widened as with Field.getInt(..), Field.getLong(..) and Field.getDouble(..)
+		assertThat(testInstance.getInt(toto)).isEqualTo(65);
+		assertThat(testInstance.getLong(toto)).isEqualTo(65L);
+		assertThat(testInstance.getDouble(toto)).isEqualTo(65d);
+		
+		AccessorByField<Toto, Long> longAccessor = new AccessorByField<>(Reflections.findField(Toto.class, "l"), accessMode);
+		toto.l = 17L;
+		// long can't be narrowed to int
+		assertThatThrownBy(() -> longAccessor.getInt(toto))
+				.isInstanceOf(RuntimeException.class)
+				.hasMessage("Error while applying accessor for field o.g.r.AccessorByFieldTest$Toto.l on instance of o.g.r.AccessorByFieldTest$Toto");
+		assertThat(longAccessor.getDouble(toto)).isEqualTo(17d);
+	}
+	
+	@Test
+	public void testGetPrimitive_compiledGetter_isUsed() {
+		// a compiled getter giving another value than the field one proves that reflection is not used
+		AccessorByField<Toto, Integer> testInstance = new AccessorByField<>(Reflections.findField(Toto.class, "a"), toto -> 17);
+		Toto toto = new Toto();
+		toto.a = 42;
+		assertThat(testInstance.getInt(toto)).isEqualTo(17);
+		assertThat(testInstance.getLong(toto)).isEqualTo(17L);
+		int[] ints = new int[1];
+		testInstance.getAllInt(Arrays.asList(toto), ints);
+		assertThat(ints).containsExactly(17);
+	}
+	
+	@Test
+	public void testGetPrimitive_nullTarget_throwsSameExceptionAsGet() {
+		AccessorByField<Toto, Integer> testInstance = new AccessorByField<>(Reflections.findField(Toto.class, "a"));
+		assertThatThrownBy(() -> testInstance.getInt(null))
+				.isInstanceOf(RuntimeException.class)
+				.hasMessage("Error while applying accessor for field o.g.r.AccessorByFieldTest$Toto.a on instance null")
+				.extracting(Throwable::getCause, THROWABLE)
+				.isInstanceOf(NullPointerException.class)
+				.hasMessage("Cannot invoke accessor for field o.g.r.AccessorByFieldTest$Toto.a on null instance");
+	}
+	
+	@Test
+	public void testGetAll() {
+		AccessorByField<Toto, Integer> testInstance = new AccessorByField<>(Reflections.findField(Toto.class, "a"));
+		Toto toto1 = new Toto();
+		toto1.a = 42;
+		Toto toto2 = new Toto();
+		toto2.a = 17;
+		Object[] values = new Object[2];
+		testInstance.getAll(Arrays.asList(toto1, toto2), values);
+		assertThat(values).containsExactly(42, 17);
+		int[] ints = new int[2];
+		testInstance.getAllInt(Arrays.asList(toto1, toto2), ints);
+		assertThat(ints).containsExactly(42, 17);
+		double[] doubles = new double[3];
+		testInstance.getAllDouble(Arrays.asList(toto1, toto2), doubles);
+		assertThat(doubles).containsExactly(42d, 17d, 0d);
+	}
+	
+	@Test
+	public void testGetAll_failureReportsIndex() {
+		AccessorByField<Toto, Integer> testInstance = new AccessorByField<>(Reflections.findField(Toto.class, "a"));
+		long[] longs = new long[3];
+		assertThatThrownBy(() -> testInstance.getAllLong(Arrays.asList(new Toto(), null, new Toto()), longs))
+				.isInstanceOf(RuntimeException.class)
+				.hasMessage("Error while applying accessor for field o.g.r.AccessorByFieldTest$Toto.a on instance null at index 1")
+				.extracting(Throwable::getCause, THROWABLE)
+				.isInstanceOf(NullPointerException.class);
+		assertThatThrownBy(() -> testInstance.getAll(Arrays.asList(new Toto(), new Toto()), new Object[1]))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage("Array of length 1 can't match 2 beans");
+	}
+	
 	private static class Toto {
+		private static final String b = "Hello";
 		private int a;
+		private char c;
+		private long l;
 	}
 	
-}
\ No newline at end of file
+}
@@ -1,5 +1,11 @@
 package org.gama.reflection;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.danekja.java.util.function.serializable.SerializableFunction;
+import org.gama.lang.collection.Arrays;
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -15,12 +21,21 @@ public class AccessorByMethodReferenceTest {
 		assertThat(testInstance.get(1)).isEqualTo("1");
 	}
 	
+	@Test
+	public void testGetAll() {
+		AccessorByMethodReference<Integer, String> testInstance = new AccessorByMethodReference<>(Number::toString);
+		Object[] values = new Object[3];
+		testInstance.getAll(Arrays.asList(1, 2, 3), values);
+		assertThat(values).containsExactly("1", "2", "3");
+	}
+	
 	@Test
 	public void testEquals() {
 		// usual case : 2 instances with same method reference should be equal
 		AccessorByMethodReference<Integer, String> testInstance1 = new AccessorByMethodReference<>(Number::toString);
 		AccessorByMethodReference<Integer, String> testInstance2 = new AccessorByMethodReference<>(Number::toString);
 		assertThat(testInstance2).isEqualTo(testInstance1);
+		assertThat(testInstance2.hashCode()).isEqualTo(testInstance1.hashCode());
 		
 		// still equals to Object::toString because Number::toString is not implemented and points to Object::toString
 		AccessorByMethodReference<Integer, String> testInstance3 = new AccessorByMethodReference<>(Object::toString);
@@ -39,7 +54,62 @@ public class AccessorByMethodReferenceTest {
 		assertThat(testInstance.toString()).isEqualTo("j.l.String::toCharArray");
 	}
 	
+	@Test
+	public void testDeclaringClass_isResolvedWithMethodReferenceClassLoader() throws ReflectiveOperationException {
+		// a class defined by a child-first ClassLoader : its name is also resolvable by this class loader, which must not be used
+		ClassLoader childFirstClassLoader = new ClassLoader(getClass().getClassLoader()) {
+			@Override
+			protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+				if (!name.equals(Isolated.class.getName())) {
+					return super.loadClass(name, resolve);
+				}
+				synchronized (getClassLoadingLock(name)) {
+					Class<?> result = findLoadedClass(name);
+					if (result == null) {
+						byte[] bytecode = readBytecode(getParent(), name);
+						result = defineClass(name, bytecode, 0, bytecode.length);
+					}
+					return result;
+				}
+			}
+		};
+		Class<?> isolatedClass = childFirstClassLoader.loadClass(Isolated.class.getName());
+		assertThat(isolatedClass).isNotSameAs(Isolated.class);
+		SerializableFunction<Object, String> getter = (SerializableFunction<Object, String>) isolatedClass.getMethod("getter").invoke(null);
+		
+		AccessorByMethodReference<Object, String> testInstance = new AccessorByMethodReference<>(getter);
+		assertThat(testInstance.getDeclaringClass()).isSameAs(isolatedClass);
+		assertThat(testInstance.getPropertyType()).isSameAs(String.class);
+		assertThat(AccessorDefinition.giveDefinition(testInstance).getDeclaringClass()).isSameAs(isolatedClass);
+		assertThat(testInstance.get(isolatedClass.getConstructor().newInstance())).isEqualTo("isolated");
+	}
+	
+	private static byte[] readBytecode(ClassLoader classLoader, String className) throws ClassNotFoundException {
+		try (InputStream bytecode = classLoader.getResourceAsStream(className.replace('.', '/') + ".class")) {
+			ByteArrayOutputStream result = new ByteArrayOutputStream();
+			byte[] buffer = new byte[4096];
+			int readCount;
+			while ((readCount = bytecode.read(buffer)) != -1) {
+				result.write(buffer, 0, readCount);
+			}
+			return result.toByteArray();
+		} catch (IOException e) {
+			throw new ClassNotFoundException(className, e);
+		}
+	}
+	
 	private static String myToString(Integer i) {
 		return String.valueOf(i);
 	}
+	
+	public static class Isolated {
+		
+		public String getName() {
+			return "isolated";
+		}
+		
+		public static SerializableFunction<Isolated, String> getter() {
+			return Isolated::getName;
+		}
+	}
 }
\ No newline at end of file
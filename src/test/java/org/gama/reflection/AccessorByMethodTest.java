@@ -1,10 +1,17 @@
 package org.gama.reflection;
 
+import java.lang.reflect.Method;
+
 import org.gama.lang.Reflections;
+import org.gama.lang.collection.Arrays;
+import org.gama.reflection.model.Person;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.InstanceOfAssertFactories.THROWABLE;
 
 /**
  * @author Guillaume Mary
@@ -25,6 +32,122 @@ public class AccessorByMethodTest {
 		assertThat(testInstance.get(toto)).isEqualTo((Object) 42);
 	}
 	
+	@ParameterizedTest
+	@EnumSource(MemberAccessMode.class)
+	public void testGet_accessMode(MemberAccessMode accessMode) {
+		AccessorByMethod<PublicToto, Integer> testInstance = new AccessorByMethod<>(Reflections.findMethod(PublicToto.class, "getA"), accessMode);
+		PublicToto toto = new PublicToto();
+		toto.a = 42;
+		assertThat(testInstance.get(toto)).isEqualTo((Object) 42);
+	}
+	
+	@ParameterizedTest
+	@EnumSource(MemberAccessMode.class)
+	public void testGet_getterThrowsException_exceptionIsTheSameWhateverAccessMode(MemberAccessMode accessMode) {
+		AccessorByMethod<PublicToto, Integer> testInstance = new AccessorByMethod<>(Reflections.findMethod(PublicToto.class, "getFailure"), accessMode);
+		assertThatThrownBy(() -> testInstance.get(new PublicToto()))
+				.isInstanceOf(RuntimeException.class)
+				.hasMessage("Error while applying o.g.r.AccessorByMethodTest$PublicToto.getFailure() on instance of o.g.r.AccessorByMethodTest$PublicToto")
+				.extracting(Throwable::getCause, THROWABLE)
+				.isInstanceOf(NullPointerException.class)
+				.hasMessage("failure from getter");
+	}
+	
+	@ParameterizedTest
+	@EnumSource(MemberAccessMode.class)
+	public void testGet_wrongTarget_exceptionIsTheSameWhateverAccessMode(MemberAccessMode accessMode) {
+		AccessorByMethod<Object, Integer> testInstance = new AccessorByMethod<>(Reflections.findMethod(PublicToto.class, "getA"), accessMode);
+		assertThatThrownBy(() -> testInstance.get("Hello"))
+				.isInstanceOf(RuntimeException.class)
+				.extracting(Throwable::getCause, THROWABLE)
+				.hasMessage("object is not an instance of declaring class: expected o.g.r.AccessorByMethodTest$PublicToto but j.l.String was given");
+	}
+	
+	@ParameterizedTest
+	@EnumSource(MemberAccessMode.class)
+	public void testGetPrimitive(MemberAccessMode accessMode) {
+		AccessorByMethod<PublicToto, Integer> testInstance = new AccessorByMethod<>(Reflections.findMethod(PublicToto.class, "getA"), accessMode);
+		PublicToto toto = new PublicToto();
+		toto.a = 42;
+		assertThat(testInstance.getInt(toto)).isEqualTo(42);
+		// int is widened as with Field.getLong(..) and Field.getDouble(..)
+		assertThat(testInstance.getLong(toto)).isEqualTo(42L);
+		assertThat(testInstance.getDouble(toto)).isEqualTo(42d);
+	}
+	
+	@ParameterizedTest
+	@EnumSource(MemberAccessMode.class)
+	public void testGetPrimitive_exceptionsAreTheSameAsGet(MemberAccessMode accessMode) {
+		AccessorByMethod<Object, Integer> testInstance = new AccessorByMethod<>(Reflections.findMethod(PublicToto.class, "getFailure"), accessMode);
+		assertThatThrownBy(() -> testInstance.getInt(new PublicToto()))
+				.isInstanceOf(RuntimeException.class)
+				.hasMessage("Error while applying o.g.r.AccessorByMethodTest$PublicToto.getFailure() on instance of o.g.r.AccessorByMethodTest$PublicToto")
+				.extracting(Throwable::getCause, THROWABLE)
+				.isInstanceOf(NullPointerException.class)
+				.hasMessage("failure from getter");
+		assertThatThrownBy(() -> testInstance.getLong("Hello"))
+				.isInstanceOf(RuntimeException.class)
+				.extracting(Throwable::getCause, THROWABLE)
+				.hasMessage("object is not an instance of declaring class: expected o.g.r.AccessorByMethodTest$PublicToto but j.l.String was given");
+	}
+	
+	@ParameterizedTest
+	@EnumSource(MemberAccessMode.class)
+	public void testGetPrimitive_getterWithParameter(MemberAccessMode accessMode) {
+		AccessorByMethod<PublicToto, Integer> testInstance = new AccessorByMethod<>(Reflections.getMethod(PublicToto.class, "getAt", int.class), accessMode);
+		testInstance.setParameter(0, 3);
+		PublicToto toto = new PublicToto();
+		toto.a = 10;
+		assertThat(testInstance.get(toto)).isEqualTo(30);
+		assertThat(testInstance.getInt(toto)).isEqualTo(30);
+		assertThat(testInstance.getLong(toto)).isEqualTo(30L);
+		assertThat(testInstance.getDouble(toto)).isEqualTo(30d);
+		int[] ints = new int[1];
+		testInstance.getAllInt(Arrays.asList(toto), ints);
+		assertThat(ints).containsExactly(30);
+	}
+	
+	@ParameterizedTest
+	@EnumSource(MemberAccessMode.class)
+	public void testGetAll(MemberAccessMode accessMode) {
+		AccessorByMethod<PublicToto, Integer> testInstance = new AccessorByMethod<>(Reflections.findMethod(PublicToto.class, "getA"), accessMode);
+		PublicToto toto1 = new PublicToto();
+		toto1.a = 42;
+		PublicToto toto2 = new PublicToto();
+		toto2.a = 17;
+		Object[] values = new Object[2];
+		testInstance.getAll(Arrays.asList(toto1, toto2), values);
+		assertThat(values).containsExactly(42, 17);
+		long[] longs = new long[2];
+		testInstance.getAllLong(Arrays.asList(toto1, toto2), longs);
+		assertThat(longs).containsExactly(42L, 17L);
+	}
+	
+	@ParameterizedTest
+	@EnumSource(MemberAccessMode.class)
+	public void testGetAll_failureReportsIndex(MemberAccessMode accessMode) {
+		AccessorByMethod<Object, Integer> testInstance = new AccessorByMethod<>(Reflections.findMethod(PublicToto.class, "getA"), accessMode);
+		assertThatThrownBy(() -> testInstance.getAll(Arrays.asList(new PublicToto(), new PublicToto(), "Hello"), new Object[3]))
+				.isInstanceOf(RuntimeException.class)
+				.hasMessage("Error while applying o.g.r.AccessorByMethodTest$PublicToto.getA() on instance of j.l.String at index 2")
+				.extracting(Throwable::getCause, THROWABLE)
+				.hasMessage("object is not an instance of declaring class: expected o.g.r.AccessorByMethodTest$PublicToto but j.l.String was given");
+		assertThatThrownBy(() -> testInstance.getAllInt(Arrays.asList(new PublicToto(), "Hello"), new int[2]))
+				.isInstanceOf(RuntimeException.class)
+				.hasMessage("Error while applying o.g.r.AccessorByMethodTest$PublicToto.getA() on instance of j.l.String at index 1");
+	}
+	
+	@Test
+	public void testCompiledGetterIsSharedBetweenInstances() {
+		// compilation defines a new class, hence it must be done once per method
+		Method getName = Reflections.getMethod(Person.class, "getName");
+		assertThat(MemberHandles.compileGetter(getName)).isNotNull();
+		assertThat(MemberHandles.compileGetter(getName)).isSameAs(MemberHandles.compileGetter(getName));
+		Method setName = Reflections.getMethod(Person.class, "setName", String.class);
+		assertThat(MemberHandles.compileSetter(setName)).isNotNull();
+		assertThat(MemberHandles.compileSetter(setName)).isSameAs(MemberHandles.compileSetter(setName));
+	}
+	
 	@Test
 	public void testToMutator() {
 		AccessorByMethod<Toto, Integer> testInstance = new AccessorByMethod<>(Reflections.findMethod(Toto.class, "getA"));
@@ -61,4 +184,20 @@ public class AccessorByMethodTest {
 		}
 	}
 	
+	public static class PublicToto {
+		private int a;
+		
+		public int getA() {
+			return a;
+		}
+		
+		public int getFailure() {
+			throw new NullPointerException("failure from getter");
+		}
+		
+		public int getAt(int index) {
+			return a * index;
+		}
+	}
+	
 }
\ No newline at end of file
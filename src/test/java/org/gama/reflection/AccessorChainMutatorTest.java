@@ -13,7 +13,13 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import java.lang.reflect.Field;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.assertj.core.api.Assertions.*;
 
@@ -21,7 +27,7 @@ import static org.assertj.core.api.Assertions.*;
  * @author Guillaume Mary
  */
 class AccessorChainMutatorTest {
-
+	
 	private static class DataSet {
 		private final AccessorByField<City, String> cityNameAccessor;
 		private final AccessorByField<Address, City> addressCityAccessor;
@@ -33,7 +39,7 @@ class AccessorChainMutatorTest {
 		private final AccessorByMethod<String, Character> charAtAccessor;
 		private final AccessorByMethod<String, Character[]> toCharArrayAccessor;
 		private final ArrayAccessor<String> charArrayAccessor;
-
+		
 		private final MutatorByField<City, String> cityNameMutator;
 		private final MutatorByField<Address, City> addressCityMutator;
 		private final MutatorByField<Person, Address> personAddressMutator;
@@ -44,7 +50,7 @@ class AccessorChainMutatorTest {
 		private final MutatorByMethod<String, Character> charAtMutator;
 		private final MutatorByMethod<String, Character[]> toCharArrayMutator;
 		private final ArrayMutator<String> charArrayMutator;
-
+		
 		private DataSet() {
 			cityNameAccessor = Accessors.accessorByField(City.class, "name");
 			addressCityAccessor = Accessors.accessorByField(Address.class, "city");
@@ -56,7 +62,7 @@ class AccessorChainMutatorTest {
 			charAtAccessor = new AccessorByMethod<>(Reflections.findMethod(String.class, "charAt", int.class));
 			toCharArrayAccessor = new AccessorByMethod<>(Reflections.findMethod(String.class, "toCharArray"));
 			charArrayAccessor = new ArrayAccessor<>(2);
-
+			
 			cityNameMutator = Accessors.mutatorByField(City.class, "name");
 			addressCityMutator = Accessors.mutatorByField(Address.class, "city");
 			personAddressMutator = Accessors.mutatorByField(Person.class, "address");
@@ -69,7 +75,7 @@ class AccessorChainMutatorTest {
 			charArrayMutator = new ArrayMutator<>(2);
 		}
 	}
-
+	
 	static Object[][] testGetMutatorData() {
 		DataSet dataSet = new DataSet();
 		return new Object[][]{
@@ -81,10 +87,10 @@ class AccessorChainMutatorTest {
 				{ dataSet.phoneNumberAccessor, dataSet.phoneNumberMutator },
 				{ dataSet.phoneNumberMethodAccessor, dataSet.phoneNumberMutator },
 				{ dataSet.charArrayAccessor, dataSet.charArrayMutator }
-
+			
 		};
 	}
-
+	
 	static Object[][] testGetMutator_exception_data() {
 		DataSet dataSet = new DataSet();
 		return new Object[][]{
@@ -92,23 +98,23 @@ class AccessorChainMutatorTest {
 				{ dataSet.toCharArrayAccessor },    // toCharArray() has no mutator equivalent
 		};
 	}
-
+	
 	@ParameterizedTest
 	@MethodSource("testGetMutatorData")
 	void testGetMutator(IReversibleAccessor accessor, IMutator expected) {
 		assertThat(accessor.toMutator()).isEqualTo(expected);
 	}
-
+	
 	@ParameterizedTest
 	@MethodSource("testGetMutator_exception_data")
 	void testGetMutator_exception(IReversibleAccessor accessor) {
 		assertThatExceptionOfType(MemberNotFoundException.class).isThrownBy(accessor::toMutator);
 	}
-
+	
 	static List<IAccessor> list(IAccessor ... accessors) {
 		return Arrays.asList(accessors);
 	}
-
+	
 	static Object[][] setData() {
 		DataSet dataSet = new DataSet();
 		return new Object[][] {
@@ -126,7 +132,7 @@ class AccessorChainMutatorTest {
 						new char[] { '1', '2', '3' }, '0' },
 		};
 	}
-
+	
 	@ParameterizedTest
 	@MethodSource("setData")
 	void set(List<IAccessor> accessors, Object object, Object expected) {
@@ -135,7 +141,7 @@ class AccessorChainMutatorTest {
 		testInstance.set(object, expected);
 		assertThat(accessorChain.get(object)).isEqualTo(expected);
 	}
-
+	
 	@Test
 	void set_nullValueOnPath_throwsNullPointerException() {
 		DataSet dataSet = new DataSet();
@@ -149,7 +155,7 @@ class AccessorChainMutatorTest {
 				.extracting(Throwable::getCause, InstanceOfAssertFactories.THROWABLE)
                 .hasMessage("Cannot invoke [accessor for field o.g.r.m.Person.address] on null instance");
 	}
-
+	
 	@Test
 	void set_nullValueOnPath_withInitializer_objectsAreInstanciated() {
 		DataSet dataSet = new DataSet();
@@ -163,7 +169,7 @@ class AccessorChainMutatorTest {
 		testInstance.set(targetPerson, phone);
 		assertThat(targetPerson.getAddress().getPhones()).isEqualTo(Arrays.asList(phone));
 	}
-
+	
 	@Test
 	void set_nullValueOnPath_nullHandler() {
 		DataSet dataSet = new DataSet();
@@ -175,7 +181,143 @@ class AccessorChainMutatorTest {
 				.isInstanceOf(NullPointerException.class)
 				.hasMessage("Call of address.phones.get(2) on " + person + " returned null, because address.phones returned null");
 	}
-
+	
+	@Test
+	void set_nullValueOnPath_nullHandler_culpritIsTheOneOfCurrentCall() {
+		DataSet dataSet = new DataSet();
+		List<IAccessor> accessors = list(dataSet.personAddressAccessor, dataSet.addressPhonesAccessor, dataSet.phoneListAccessor);
+		AccessorChainMutator<Person, Phone, String> testInstance = new AccessorChainMutator<>(accessors, dataSet.phoneNumberMutator);
+		testInstance.setNullValueHandler(AccessorChain.RETURN_NULL);
+		Person personWithoutPhones = new Person(new Address(null, null));
+		assertThatThrownBy(() -> testInstance.set(personWithoutPhones, "123"))
+				.isInstanceOf(NullPointerException.class)
+				.hasMessage("Call of address.phones.get(2) on " + personWithoutPhones + " returned null, because address.phones returned null");
+		Person personWithoutAddress = new Person(null);
+		assertThatThrownBy(() -> testInstance.set(personWithoutAddress, "123"))
+				.isInstanceOf(NullPointerException.class)
+				.hasMessage("Call of address.phones.get(2) on " + personWithoutAddress + " returned null, because address returned null");
+		// a failing call doesn't impact next ones
+		Phone phone = new Phone();
+		testInstance.set(new Person(new Address(null, Arrays.asList(new Phone(), new Phone(), phone))), "123");
+		assertThat(phone.getNumber()).isEqualTo("123");
+	}
+	
+	@Test
+	void setAll() {
+		DataSet dataSet = new DataSet();
+		List<IAccessor> accessors = list(dataSet.personAddressAccessor, dataSet.addressCityAccessor);
+		AccessorChainMutator<Person, City, String> testInstance = new AccessorChainMutator<>(accessors, dataSet.cityNameMutator);
+		Person person1 = new Person(new Address(new City(null), null));
+		Person person2 = new Person(new Address(new City(null), null));
+		testInstance.setAll(Arrays.asList(person1, person2), new Object[] { "Toto", "Tata" });
+		assertThat(person1.getAddress().getCity().getName()).isEqualTo("Toto");
+		assertThat(person2.getAddress().getCity().getName()).isEqualTo("Tata");
+		
+		Person person3 = new Person(new Address(null, null));
+		assertThatThrownBy(() -> testInstance.setAll(Arrays.asList(person1, person3), new Object[] { "Titi", "Tutu" }))
+				.isInstanceOf(RuntimeException.class)
+				.hasMessage("Error while applying [accessor for field o.g.r.m.Person.address, accessor for field o.g.r.m.Address.city]"
+						+ " <- mutator for field o.g.r.m.City.name on instance of o.g.r.m.Person at index 1 with value Tutu");
+		assertThat(person1.getAddress().getCity().getName()).isEqualTo("Titi");
+		
+		testInstance.setNullValueHandler(AccessorChain.RETURN_NULL);
+		assertThatThrownBy(() -> testInstance.setAll(Arrays.asList(person1, person3), new Object[] { "Titi", "Tutu" }))
+				.isInstanceOf(NullPointerException.class)
+				.hasMessage("Call of address.city on " + person3 + " returned null, because address.city returned null");
+	}
+	
+	@Test
+	void setAll_exceptionIsWrappedOnce() {
+		DataSet dataSet = new DataSet();
+		List<IAccessor> accessors = list(dataSet.personAddressAccessor, dataSet.addressCityAccessor);
+		AccessorChainMutator testInstance = new AccessorChainMutator<>(accessors, dataSet.cityNameMutator);
+		Person person = new Person(new Address(new City(null), null));
+		// a value of wrong type makes the mutator fail, its exception must be converted as the mutator does but not wrapped by it
+		assertThatThrownBy(() -> testInstance.setAll(Arrays.asList(person), new Object[] { 42 }))
+				.hasMessage("Error while applying [accessor for field o.g.r.m.Person.address, accessor for field o.g.r.m.Address.city]"
+						+ " <- mutator for field o.g.r.m.City.name on instance of o.g.r.m.Person at index 0 with value 42")
+				.getCause()
+				.isExactlyInstanceOf(IllegalArgumentException.class)
+				.hasNoCause();
+	}
+	
+	@Test
+	void noThreadLocalState() {
+		// null-link reporting must only rely on local variables, so none of the classes of the chain should hold a ThreadLocal
+		for (Class<?> clazz : Arrays.asList(AccessorChainMutator.class, AccessorChain.class, FlattenedAccessorChain.class)) {
+			for (Class<?> current = clazz; current != null; current = current.getSuperclass()) {
+				for (Field field : current.getDeclaredFields()) {
+					assertThat(ThreadLocal.class.isAssignableFrom(field.getType()))
+							.as(field.toString())
+							.isFalse();
+				}
+			}
+		}
+	}
+	
+	@Test
+	void testEquals() {
+		List<IAccessor> accessors = Arrays.asList(Accessors.accessorByField(Address.class, "city"));
+		AccessorChainMutator<Address, City, String> testInstance1 = new AccessorChainMutator<>(accessors,
+				new MutatorByMethodReference<>(City::setName));
+		AccessorChainMutator<Address, City, String> testInstance2 = new AccessorChainMutator<>(accessors,
+				new MutatorByMethodReference<>(City::setName));
+		assertThat(testInstance1).isEqualTo(testInstance2);
+		assertThat(testInstance1.hashCode()).isEqualTo(testInstance2.hashCode());
+		// a chain with same accessors but no mutator is different, whatever the side of comparison is
+		AccessorChain<Address, City> chain = new AccessorChain<>(accessors);
+		assertThat(testInstance1).isNotEqualTo(chain);
+		assertThat(chain).isNotEqualTo(testInstance1);
+		assertThat(testInstance1).isNotEqualTo(new AccessorChainMutator<>(accessors, new MutatorByMethodReference<>(City::setCapital)));
+	}
+	
+	@Test
+	void set_nullValueOnPath_nullHandler_concurrentCalls_culpritIsTheOneOfEachCall() throws InterruptedException, ExecutionException {
+		DataSet dataSet = new DataSet();
+		List<IAccessor> accessors = list(dataSet.personAddressAccessor, dataSet.addressCityAccessor);
+		AccessorChainMutator<Person, City, String> testInstance = new AccessorChainMutator<>(accessors, dataSet.cityNameMutator);
+		testInstance.setNullValueHandler(AccessorChain.RETURN_NULL);
+		
+		int threadCount = 4;
+		ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+		try {
+			List<Future<List<String>>> results = new ArrayList<>();
+			for (int i = 0; i < threadCount; i++) {
+				results.add(executor.submit(() -> {
+					List<String> wrongMessages = new ArrayList<>();
+					for (int j = 0; j < 1000; j++) {
+						Person personWithoutAddress = new Person(null);
+						Person personWithoutCity = new Person(new Address(null, null));
+						String expectedWithoutAddress = "Call of address.city on " + personWithoutAddress + " returned null, because address returned null";
+						String expectedWithoutCity = "Call of address.city on " + personWithoutCity + " returned null, because address.city returned null";
+						try {
+							testInstance.set(personWithoutAddress, "x");
+							wrongMessages.add("no exception for " + personWithoutAddress);
+						} catch (NullPointerException e) {
+							if (!expectedWithoutAddress.equals(e.getMessage())) {
+								wrongMessages.add(e.getMessage());
+							}
+						}
+						try {
+							testInstance.set(personWithoutCity, "x");
+							wrongMessages.add("no exception for " + personWithoutCity);
+						} catch (NullPointerException e) {
+							if (!expectedWithoutCity.equals(e.getMessage())) {
+								wrongMessages.add(e.getMessage());
+							}
+						}
+					}
+					return wrongMessages;
+				}));
+			}
+			for (Future<List<String>> result : results) {
+				assertThat(result.get()).isEmpty();
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+	
 	static Object[][] testPathDescription() {
 		DataSet dataSet = new DataSet();
 		return new Object[][] {
@@ -202,7 +344,7 @@ class AccessorChainMutatorTest {
 						"address.phones.get(2).getNumber().substring(..)" },
 		};
 	}
-
+	
 	@ParameterizedTest
 	@MethodSource("testPathDescription")
 	void testPathDescription(List<IAccessor> accessors, String expectedResult) {
@@ -124,6 +124,149 @@ class AccessorChainTest {
 		assertThat(testInstance.get(object)).isNull();
 	}
 	
+	@ParameterizedTest
+	@MethodSource("get_data")
+	void flatten_get(List<IAccessor> accessors, Object object, Object expected) {
+		FlattenedAccessorChain<Object, Object> testInstance = new AccessorChain<>(accessors).flatten();
+		assertThat(testInstance.get(object)).isEqualTo(expected);
+	}
+	
+	@Test
+	void flatten_accessorIsAWrongOne_throwsSameExceptionAsChain() {
+		DataSet dataSet = new DataSet();
+		List<IAccessor> accessors = list(dataSet.personAddressAccessor, dataSet.addressPhonesAccessor, dataSet.phoneNumberAccessor);
+		Object object = new Person(new Address(null, Arrays.asList(new Phone("123"))));
+		FlattenedAccessorChain<Object, Object> testInstance = new AccessorChain<>(accessors).flatten();
+		assertThatThrownBy(() -> testInstance.get(object))
+				.isInstanceOf(RuntimeException.class)
+				.hasMessage("Error while applying [accessor for field o.g.r.m.Person.address, accessor for field o.g.r.m.Address.phones,"
+						+ " accessor for field o.g.r.m.Phone.number] on instance of o.g.r.m.Person")
+				.extracting(Throwable::getCause, InstanceOfAssertFactories.THROWABLE)
+				.hasMessage("Error while applying accessor for field o.g.r.m.Phone.number on instance of j.u.ArrayList")
+				.extracting(Throwable::getCause, InstanceOfAssertFactories.THROWABLE)
+				.hasMessage("Field o.g.r.m.Phone.number doesn't exist in j.u.ArrayList");
+	}
+	
+	@Test
+	void flatten_nullValueOnPath_honorsNullValueHandler() {
+		DataSet dataSet = new DataSet();
+		List<IAccessor> accessors = list(dataSet.personAddressAccessor, dataSet.addressPhonesAccessor, dataSet.phoneNumberAccessor);
+		Object object = new Person(new Address(null, null));
+		AccessorChain<Object, Object> chain = new AccessorChain<>(accessors);
+		FlattenedAccessorChain<Object, Object> testInstance = chain.flatten();
+		assertThatThrownBy(() -> testInstance.get(object))
+				.isInstanceOf(RuntimeException.class)
+				.hasMessage("Error while applying [accessor for field o.g.r.m.Person.address, accessor for field o.g.r.m.Address.phones,"
+						+ " accessor for field o.g.r.m.Phone.number] on instance of o.g.r.m.Person")
+				.extracting(Throwable::getCause, InstanceOfAssertFactories.THROWABLE)
+				.hasMessage("Cannot invoke [accessor for field o.g.r.m.Person.address, accessor for field o.g.r.m.Address.phones,"
+						+ " accessor for field o.g.r.m.Phone.number] on null instance");
+		
+		chain.setNullValueHandler(AccessorChain.RETURN_NULL);
+		// flattened chain is a snapshot
+		assertThatThrownBy(() -> testInstance.get(object)).isInstanceOf(RuntimeException.class);
+		assertThat(chain.flatten().get(object)).isNull();
+		
+		AccessorChain<Object, Object> initializingChain = new AccessorChain<>(list(dataSet.personAddressAccessor, dataSet.addressCityAccessor,
+				dataSet.cityNameAccessor));
+		initializingChain.setNullValueHandler(AccessorChain.INITIALIZE_VALUE);
+		Person person = new Person(null);
+		// every value on path is instanciated, last one included
+		assertThat(initializingChain.flatten().get(person)).isEqualTo("");
+		assertThat(person.getAddress().getCity().getName()).isEqualTo("");
+	}
+	
+	@Test
+	void flatten_forModel() {
+		DataSet dataSet = new DataSet();
+		FlattenedAccessorChain<Object, Object> testInstance = AccessorChain.forModel(list(dataSet.personAddressAccessor,
+				dataSet.addressCityAccessor, dataSet.cityNameAccessor), null).flatten();
+		assertThat(testInstance.get(new Person(null))).isNull();
+		Person pawn = new Person(null);
+		testInstance.toMutator().set(pawn, "toto");
+		assertThat(testInstance.get(pawn)).isEqualTo("toto");
+	}
+	
+	@Test
+	void flatten_equalsAndHashCode_followAccessorModifications() {
+		DataSet dataSet = new DataSet();
+		ListAccessor<List<Object>, Object> listAccessor = new ListAccessor<>(0);
+		FlattenedAccessorChain<Object, Object> testInstance = new AccessorChain<>(list(dataSet.addressPhonesAccessor, listAccessor)).flatten();
+		int hashCodeOnIndex0 = testInstance.hashCode();
+		listAccessor.setIndex(1);
+		FlattenedAccessorChain<Object, Object> other = new AccessorChain<>(list(dataSet.addressPhonesAccessor, new ListAccessor<>(1))).flatten();
+		assertThat(testInstance).isEqualTo(other);
+		assertThat(testInstance.hashCode())
+				.isNotEqualTo(hashCodeOnIndex0)
+				.isEqualTo(other.hashCode());
+	}
+	
+	@Test
+	void flatten_definitionAndTypesAreTheOnesOfChain() {
+		DataSet dataSet = new DataSet();
+		AccessorChain<Object, Object> chain = new AccessorChain<>(list(dataSet.personAddressAccessor, dataSet.addressCityAccessor,
+				dataSet.cityNameAccessor));
+		FlattenedAccessorChain<Object, Object> testInstance = chain.flatten();
+		assertThat(AccessorDefinition.giveDefinition(testInstance)).isEqualTo(AccessorDefinition.giveDefinition(chain));
+		assertThat(AccessorDefinition.toString(testInstance)).isEqualTo(AccessorDefinition.toString(chain));
+		assertThat(Accessors.giveReturnType(testInstance)).isEqualTo(String.class);
+		assertThat(Accessors.giveGenericReturnType(testInstance)).isEqualTo(String.class);
+		ValueAccessPointHashSet valueAccessPoints = new ValueAccessPointHashSet();
+		valueAccessPoints.add(testInstance);
+		assertThat(valueAccessPoints.contains(chain)).isTrue();
+	}
+	
+	@Test
+	void getAll() {
+		DataSet dataSet = new DataSet();
+		AccessorChain<Object, Object> testInstance = new AccessorChain<>(list(dataSet.personAddressAccessor, dataSet.addressCityAccessor,
+				dataSet.cityNameAccessor));
+		Object[] values = new Object[2];
+		testInstance.getAll(Arrays.asList(new Person(new Address(new City("Toto"), null)), new Person(new Address(new City("Tata"), null))), values);
+		assertThat(values).containsExactly("Toto", "Tata");
+		
+		assertThatThrownBy(() -> testInstance.getAll(Arrays.asList(new Person(new Address(new City("Toto"), null)), new Person(null)), values))
+				.isInstanceOf(RuntimeException.class)
+				.hasMessage("Error while applying [accessor for field o.g.r.m.Person.address, accessor for field o.g.r.m.Address.city,"
+						+ " accessor for field o.g.r.m.City.name] on instance of o.g.r.m.Person at index 1");
+	}
+	
+	@Test
+	void equalsAndHashCode_followChainModifications() {
+		DataSet dataSet = new DataSet();
+		AccessorChain<Object, Object> testInstance = new AccessorChain<>(list(dataSet.personAddressAccessor, dataSet.addressCityAccessor));
+		AccessorChain<Object, Object> other = new AccessorChain<>(list(dataSet.personAddressAccessor, dataSet.addressCityAccessor));
+		assertThat(testInstance).isEqualTo(other);
+		assertThat(testInstance.hashCode()).isEqualTo(other.hashCode());
+		
+		// adding an accessor changes cached hash code
+		testInstance.add(dataSet.cityNameAccessor);
+		assertThat(testInstance).isNotEqualTo(other);
+		other.add(dataSet.cityNameAccessor);
+		assertThat(testInstance).isEqualTo(other);
+		assertThat(testInstance.hashCode()).isEqualTo(other.hashCode());
+		
+		// changing index of a chained accessor also changes it
+		ListAccessor<List<Object>, Object> listAccessor = new ListAccessor<>(0);
+		AccessorChain<Object, Object> listChain = new AccessorChain<>(list(dataSet.addressPhonesAccessor, listAccessor));
+		// a chain containing the modified one sees the modification too
+		AccessorChain<Object, Object> chainOfListChain = new AccessorChain<>(list(dataSet.personAddressAccessor, listChain));
+		int hashCodeOnIndex0 = listChain.hashCode();
+		int hashCodeOfChainOnIndex0 = chainOfListChain.hashCode();
+		listAccessor.setIndex(1);
+		assertThat(listChain.hashCode()).isNotEqualTo(hashCodeOnIndex0);
+		assertThat(chainOfListChain.hashCode()).isNotEqualTo(hashCodeOfChainOnIndex0);
+		assertThat(listChain).isEqualTo(new AccessorChain<>(list(dataSet.addressPhonesAccessor, new ListAccessor<>(1))));
+		assertThat(listChain.hashCode()).isEqualTo(new AccessorChain<>(list(dataSet.addressPhonesAccessor, new ListAccessor<>(1))).hashCode());
+		
+		ArrayAccessor<Object> arrayAccessor = new ArrayAccessor<>(0);
+		AccessorChain<Object, Object> arrayChain = new AccessorChain<>(list(dataSet.addressPhonesAccessor, arrayAccessor));
+		int hashCodeOnArrayIndex0 = arrayChain.hashCode();
+		arrayAccessor.setIndex(1);
+		assertThat(arrayChain.hashCode()).isNotEqualTo(hashCodeOnArrayIndex0);
+		assertThat(arrayChain).isEqualTo(new AccessorChain<>(list(dataSet.addressPhonesAccessor, new ArrayAccessor<>(1))));
+	}
+	
 	@Test
 	void forModel_getWithSomeNullOnPath_returnsNull() {
 		DataSet dataSet = new DataSet();
@@ -161,6 +304,23 @@ class AccessorChainTest {
 		assertThat(pawn.getAddress().getPhones().get(0)).isEqualTo(newPhone);
 	}
 	
+	@Test
+	void forModel_setWithSomeNullOnPath_instanciatesTypeVariableValue() {
+		AccessorChain<Object, Object> testInstance = AccessorChain.forModel(list(Accessors.accessorByField(Container.class, "content"),
+				Accessors.propertyAccessor(City.class, "name")), null);
+		CityContainer pawn = new CityContainer();
+		testInstance.toMutator().set(pawn, "toto");
+		assertThat(((Container<City>) pawn).content.getName()).isEqualTo("toto");
+	}
+	
+	private static class Container<T> {
+		
+		private T content;
+	}
+	
+	private static class CityContainer extends Container<City> {
+	}
+	
 	private static class MyList<E> extends ArrayList<E> {
 		
 		MyList() {
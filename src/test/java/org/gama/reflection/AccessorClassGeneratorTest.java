@@ -0,0 +1,111 @@
+package org.gama.reflection;
+
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import org.gama.lang.Reflections;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * @author Guillaume Mary
+ */
+class AccessorClassGeneratorTest {
+	
+	@BeforeAll
+	static void checkJvm() {
+		assumeTrue(AccessorClassGenerator.isSupported(), "class generation requires Java 15+");
+	}
+	
+	@Test
+	void generateGetter_privateField() {
+		Function<Object, Object> testInstance = AccessorClassGenerator.generateGetter(Reflections.getField(Toto.class, "name"));
+		assertThat(testInstance).isNotNull();
+		Toto toto = new Toto();
+		toto.name = "Hello";
+		assertThat(testInstance.apply(toto)).isEqualTo("Hello");
+		// generated class is hosted by field declaring class
+		assertThat(testInstance.getClass().getName()).startsWith(Toto.class.getName());
+	}
+	
+	@Test
+	void generateGetter_isShared() {
+		assertThat(AccessorClassGenerator.generateGetter(Reflections.getField(Toto.class, "name")))
+				.isSameAs(AccessorClassGenerator.generateGetter(Reflections.getField(Toto.class, "name")));
+	}
+	
+	@Test
+	void generateSetter_privatePrimitiveField() {
+		BiConsumer<Object, Object> testInstance = AccessorClassGenerator.generateSetter(Reflections.getField(Toto.class, "count"));
+		assertThat(testInstance).isNotNull();
+		Toto toto = new Toto();
+		testInstance.accept(toto, 42L);
+		assertThat(toto.count).isEqualTo(42L);
+	}
+	
+	@Test
+	void generateGetter_privateMethod_primitiveIsBoxed() {
+		Function<Object, Object> testInstance = AccessorClassGenerator.generateGetter(Reflections.getMethod(Toto.class, "getCount"));
+		Toto toto = new Toto();
+		toto.count = 17;
+		assertThat(testInstance.apply(toto)).isEqualTo(17L);
+	}
+	
+	@Test
+	void generateSetter_fluentMethod_returnedValueIsIgnored() {
+		BiConsumer<Object, Object> testInstance = AccessorClassGenerator.generateSetter(Reflections.getMethod(Toto.class, "setCount", long.class));
+		Toto toto = new Toto();
+		testInstance.accept(toto, 42L);
+		assertThat(toto.count).isEqualTo(42L);
+	}
+	
+	@Test
+	void generateGetter_interfaceMethod() {
+		Function<Object, Object> testInstance = AccessorClassGenerator.generateGetter(Reflections.getMethod(CharSequence.class, "length"));
+		// CharSequence is in a module that is not opened to us : generation is not possible
+		assertThat(testInstance).isNull();
+		
+		testInstance = AccessorClassGenerator.generateGetter(Reflections.getMethod(Named.class, "getName"));
+		assertThat(testInstance.apply((Named) () -> "Hello")).isEqualTo("Hello");
+	}
+	
+	@Test
+	void generate_unsupportedMembers_returnsNull() {
+		assertThat(AccessorClassGenerator.generateGetter(Reflections.getField(Toto.class, "CONSTANT"))).isNull();
+		assertThat(AccessorClassGenerator.generateSetter(Reflections.getField(Toto.class, "CONSTANT"))).isNull();
+		assertThat(AccessorClassGenerator.generateSetter(Reflections.getMethod(Toto.class, "setPrivateType", PrivateType.class))).isNull();
+	}
+	
+	interface Named {
+		
+		String getName();
+	}
+	
+	private static class Toto {
+		
+		private static final String CONSTANT = "";
+		
+		private String name;
+		
+		private long count;
+		
+		private long getCount() {
+			return count;
+		}
+		
+		private Toto setCount(long count) {
+			this.count = count;
+			return this;
+		}
+		
+		private void setPrivateType(PrivateType privateType) {
+		}
+	}
+	
+	private static class PrivateType {
+		
+	}
+}
@@ -54,6 +54,41 @@ class AccessorDefinitionTest {
 				.hasMessage("Don't know how find out member definition for null");
 	}
 	
+	@Test
+	void giveDefinition_isMemoizedByMemberAccessors() {
+		AccessorByField<Person, String> accessor = accessorByField(Person.class, "name");
+		assertThat(giveDefinition(accessor)).isSameAs(giveDefinition(accessor));
+		// PropertyAccessor gives the one of its accessor
+		assertThat(giveDefinition(new PropertyAccessor<>(accessor, mutatorByField(Person.class, "name")))).isSameAs(giveDefinition(accessor));
+		
+		// chains aren't memoized since they can be modified
+		AccessorChain<Person, Object> chain = new AccessorChain<>();
+		chain.add(new AccessorByMethodReference<>(Person::getAddress));
+		assertThat(giveDefinition(chain).getName()).isEqualTo("address");
+		chain.add(new AccessorByMethodReference<>(Address::getCity));
+		assertThat(giveDefinition(chain).getName()).isEqualTo("address.city");
+	}
+	
+	@Test
+	void compareTo() {
+		AccessorDefinition vehicleName = new AccessorDefinition(Vehicle.class, "name", String.class);
+		assertThat(vehicleName.compareTo(new AccessorDefinition(Car.class, "name", String.class))).isEqualTo(0);
+		assertThat(new AccessorDefinition(Car.class, "name", String.class).compareTo(vehicleName)).isEqualTo(0);
+		assertThat(vehicleName.compareTo(new AccessorDefinition(Person.class, "name", String.class))).isNotEqualTo(0);
+		assertThat(vehicleName.compareTo(new AccessorDefinition(Car.class, "wheels", String.class))).isNotEqualTo(0);
+		// equals() and hashCode() are consistent with compareTo()
+		assertThat(vehicleName).isEqualTo(new AccessorDefinition(Car.class, "name", String.class));
+		assertThat(vehicleName.hashCode()).isEqualTo(new AccessorDefinition(Car.class, "name", String.class).hashCode());
+	}
+	
+	static class Vehicle {
+		
+	}
+	
+	static class Car extends Vehicle {
+		
+	}
+	
 	static Object[][] testToString() {
 		return new Object[][] {
 				{ accessorByField(Person.class, "name"), "o.g.r.m.Person.name" },
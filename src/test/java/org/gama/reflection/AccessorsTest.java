@@ -4,11 +4,17 @@ import org.gama.lang.Reflections;
 import org.gama.lang.Reflections.MemberNotFoundException;
 import org.gama.lang.StringAppender;
 import org.gama.lang.collection.Arrays;
+import org.gama.reflection.model.Address;
 import org.gama.reflection.model.City;
+import org.gama.reflection.model.Phone;
 import org.junit.jupiter.api.Test;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.TypeVariable;
+import java.util.List;
+import java.util.function.Consumer;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -47,6 +53,70 @@ class AccessorsTest {
 		assertThat(Accessors.giveReturnType(new PropertyAccessor(accessorByMethodReference(City::getName), mutatorByMethodReference(City::setName)))).isEqualTo(String.class);
 	}
 	
+	@Test
+	void giveGenericReturnType() throws NoSuchFieldException {
+		assertThat(Accessors.giveGenericReturnType(accessorByField(Address.class, "phones")))
+				.isEqualTo(Address.class.getDeclaredField("phones").getGenericType());
+		assertThat(Accessors.giveGenericReturnType(accessorByMethodReference(City::getName))).isEqualTo(String.class);
+		// type variable is kept when no owner is given
+		assertThat(Accessors.giveGenericReturnType(accessorByField(Container.class, "content"))).isInstanceOf(TypeVariable.class);
+		// type variable is resolved against owner class hierarchy
+		assertThat(Accessors.giveGenericReturnType(accessorByField(Container.class, "content"), CityContainer.class)).isEqualTo(City.class);
+		assertThat(Accessors.giveGenericReturnType(accessorByMethod(Container.class, "contents"), CityContainer.class))
+				.isInstanceOf(ParameterizedType.class)
+				.extracting(type -> ((ParameterizedType) type).getActualTypeArguments()[0]).isEqualTo(City.class);
+		// including in wildcard bounds, giving same type as a JDK one
+		assertThat(Accessors.giveGenericReturnType(accessorByMethod(Container.class, "covariantContents"), CityContainer.class))
+				.isEqualTo(Reflections.getMethod(CityContainer.class, "getCityContents").getGenericReturnType())
+				.hasSameHashCodeAs(Reflections.getMethod(CityContainer.class, "getCityContents").getGenericReturnType());
+		assertThat(Accessors.giveGenericReturnType(accessorByMethod(Container.class, "contentConsumer"), CityContainer.class))
+				.isEqualTo(Reflections.getMethod(CityContainer.class, "getCityConsumer").getGenericReturnType());
+		// chain links are resolved against previous link type
+		assertThat(Accessors.giveGenericReturnType(new AccessorChain<>(accessorByMethodReference(Address::getPhones), new ListAccessor<>(0))))
+				.isEqualTo(Phone.class);
+		assertThat(Accessors.giveGenericReturnType(new AccessorChain<>(accessorByField(ContainerHolder.class, "holder"),
+				accessorByField(Container.class, "content")))).isEqualTo(Integer.class);
+	}
+	
+	@Test
+	void giveGenericInputType() {
+		assertThat(Accessors.giveGenericInputType(mutatorByField(Container.class, "content"), CityContainer.class)).isEqualTo(City.class);
+		assertThat(Accessors.giveGenericInputType(mutatorByMethodReference(City::setName))).isEqualTo(String.class);
+		assertThat(Accessors.giveGenericInputType(new AccessorChainMutator<>(Arrays.asList(accessorByField(ContainerHolder.class, "holder")),
+				mutatorByField(Container.class, "content")))).isEqualTo(Integer.class);
+	}
+	
+	@Test
+	void canonicalInstances() {
+		assertThat(Accessors.accessorByField(City.class, "name")).isNotSameAs(Accessors.accessorByField(City.class, "name"));
+		Accessors.setCanonicalInstances(true);
+		try {
+			assertThat(Accessors.accessorByField(City.class, "name")).isSameAs(Accessors.accessorByField(City.class, "name"));
+			assertThat(Accessors.mutatorByField(City.class, "name")).isSameAs(Accessors.mutatorByField(City.class, "name"));
+			assertThat(Accessors.accessorByMethod(City.class, "name")).isSameAs(Accessors.accessorByMethod(City.class, "name"));
+			assertThat(Accessors.mutatorByMethod(City.class, "name")).isSameAs(Accessors.mutatorByMethod(City.class, "name"));
+			assertThat(Accessors.propertyAccessor(City.class, "name").getAccessor()).isSameAs(Accessors.accessorByMethod(City.class, "name"));
+			// accessor and mutator of same member are distinct
+			assertThat((Object) Accessors.accessorByField(City.class, "name")).isNotSameAs(Accessors.mutatorByField(City.class, "name"));
+			// shared instances can't be modified
+			assertThatThrownBy(() -> Accessors.accessorByMethod(City.class, "name").setParameter(0, "x"))
+					.isInstanceOf(UnsupportedOperationException.class)
+					.hasMessage("Parameters of shared o.g.r.m.City.getName() can't be modified, use a dedicated instance instead");
+			
+			// instances are shared per access mode
+			AccessorByField<City, String> accessorByField = Accessors.accessorByField(City.class, "name");
+			Accessors.setDefaultMemberAccessMode(MemberAccessMode.REFLECTION);
+			try {
+				assertThat(Accessors.accessorByField(City.class, "name")).isNotSameAs(accessorByField);
+				assertThat(Accessors.accessorByField(City.class, "name")).isSameAs(Accessors.accessorByField(City.class, "name"));
+			} finally {
+				Accessors.setDefaultMemberAccessMode(MemberAccessMode.METHOD_HANDLE);
+			}
+		} finally {
+			Accessors.setCanonicalInstances(false);
+		}
+	}
+	
 	@Test
 	void mutator() throws NoSuchFieldException {
 		Field appender = StringAppender.class.getDeclaredField("appender");
@@ -77,7 +147,7 @@ class AccessorsTest {
 		Method appender = Reflections.getMethod(StringAppender.class, "getAppender");
 		assertThat(Accessors.accessor(StringAppender.class, "appender", StringBuilder.class).getGetter()).isEqualTo(appender);
 		assertThat(Accessors.accessor(StringAppender.class, "appender", CharSequence.class).getGetter()).isEqualTo(appender);
-
+		
 		assertThatThrownBy(() -> Accessors.mutator(StringAppender.class, "appender", String.class).getSetter())
 				.isInstanceOf(MemberNotFoundException.class)
 				.hasMessage("Member type doesn't match expected one for field o.g.l.StringAppender.appender:"
@@ -89,7 +159,7 @@ class AccessorsTest {
 		assertThat(Accessors.accessor(Toto.class, "propertyForBoxing", Long.class).getGetter()).isEqualTo(Reflections.findField(Toto.class, "propertyForBoxing"));
 		assertThat(Accessors.accessor(Toto.class, "propertyForTypeCompatibility", CharSequence.class).getGetter()).isEqualTo(Reflections.findField(Toto.class, "propertyForTypeCompatibility"));
 	}
-		
+	
 	@Test
 	void accessor_withMethodReferenceSetter() {
 		assertThat(Accessors.accessor(Toto::getProperty).getAccessor().getClass()).isEqualTo(AccessorByMethodReference.class);
@@ -108,6 +178,56 @@ class AccessorsTest {
 				.hasMessage("Method setNoMatchingField() on o.g.r.AccessorsTest$Toto was not found");
 	}
 	
+	@Test
+	void primitiveAccessorAndMutator() {
+		City city = new City();
+		// by setter
+		IntMutator<City> citizenCountMutator = intMutator(City.class, "citizenCount");
+		citizenCountMutator.setInt(city, 42);
+		// by field because City has no getter for citizenCount
+		IntAccessor<City> citizenCountAccessor = intAccessor(City.class, "citizenCount");
+		assertThat(citizenCountAccessor.getInt(city)).isEqualTo(42);
+		assertThat(citizenCountMutator).isInstanceOf(MutatorByMethod.class);
+		assertThat(citizenCountAccessor).isInstanceOf(AccessorByField.class);
+		
+		Toto toto = new Toto();
+		longMutator(Toto.class, "propertyForBoxing").setLong(toto, 17L);
+		assertThat(longAccessor(Toto.class, "propertyForBoxing").getLong(toto)).isEqualTo(17L);
+	}
+	
+	protected static class Container<T> {
+		
+		private T content;
+		
+		public List<T> getContents() {
+			return null;
+		}
+		
+		public List<? extends T> getCovariantContents() {
+			return null;
+		}
+		
+		public Consumer<? super T> getContentConsumer() {
+			return null;
+		}
+	}
+	
+	protected static class CityContainer extends Container<City> {
+		
+		public List<? extends City> getCityContents() {
+			return null;
+		}
+		
+		public Consumer<? super City> getCityConsumer() {
+			return null;
+		}
+	}
+	
+	protected static class ContainerHolder {
+		
+		private Container<Integer> holder;
+	}
+	
 	protected static class Toto {
 		
 		private Long property;
@@ -1,9 +1,11 @@
 package org.gama.reflection;
 
+import org.gama.lang.Reflections;
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 /**
  * @author Guillaume Mary
@@ -31,4 +33,35 @@ public class ArrayAccessorTest {
 		testInstance.setIndex(-1);
 		assertThatExceptionOfType(ArrayIndexOutOfBoundsException.class).isThrownBy(() -> testInstance.get(sample));
 	}
+	
+	@Test
+	public void testGet_primitiveArrays() {
+		ArrayAccessor<Object> testInstance = new ArrayAccessor<>(1);
+		assertThat(testInstance.get((Object) new Object[] { "a", "b" })).isEqualTo("b");
+		assertThat(testInstance.get((Object) new int[] { 1, 2 })).isEqualTo(2);
+		assertThat(testInstance.get((Object) new long[] { 1, 2 })).isEqualTo(2L);
+		assertThat(testInstance.get((Object) new double[] { 1, 2 })).isEqualTo(2d);
+		assertThat(testInstance.get((Object) new byte[] { 1, 2 })).isEqualTo((byte) 2);
+		assertThat(testInstance.get((Object) new char[] { 'a', 'b' })).isEqualTo('b');
+		assertThat(testInstance.get((Object) new boolean[] { true, false })).isEqualTo(false);
+	}
+	
+	@Test
+	public void testGetPrimitive() {
+		ArrayAccessor<Object> testInstance = new ArrayAccessor<>(1);
+		assertThat(testInstance.getInt(new int[] { 1, 2 })).isEqualTo(2);
+		assertThat(testInstance.getLong(new long[] { 1, 2 })).isEqualTo(2L);
+		assertThat(testInstance.getDouble(new double[] { 1, 2 })).isEqualTo(2d);
+		assertThat(testInstance.getByte(new byte[] { 1, 2 })).isEqualTo((byte) 2);
+		assertThat(testInstance.getChar(new char[] { 'a', 'b' })).isEqualTo('b');
+		// widening is supported as with Array.getInt(..)
+		assertThat(testInstance.getInt(new char[] { 'a', 'b' })).isEqualTo(98);
+		assertThat(testInstance.getDouble(new int[] { 1, 2 })).isEqualTo(2d);
+		// narrowing is not
+		assertThatThrownBy(() -> testInstance.getInt(new long[] { 1, 2 }))
+				.hasMessage("Error while applying array accessor for index 1 on instance of " + Reflections.toString(long[].class))
+				.getCause()
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage("array accessor for index 1 can't convert long element to requested type");
+	}
 }
\ No newline at end of file
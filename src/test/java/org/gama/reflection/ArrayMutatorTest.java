@@ -1,9 +1,11 @@
 package org.gama.reflection;
 
+import org.gama.lang.Reflections;
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 /**
  * @author Guillaume Mary
@@ -34,4 +36,54 @@ public class ArrayMutatorTest {
 		testInstance.setIndex(-1);
 		assertThatExceptionOfType(ArrayIndexOutOfBoundsException.class).isThrownBy(() -> testInstance.set(sample, "x"));
 	}
+	
+	@Test
+	public void testSet_primitiveArrays() {
+		ArrayMutator<Object> testInstance = new ArrayMutator<>(1);
+		int[] ints = new int[2];
+		testInstance.set(ints, 42);
+		assertThat(ints).containsExactly(0, 42);
+		long[] longs = new long[2];
+		testInstance.set(longs, 42L);
+		// widening is supported as with Array.set(..)
+		testInstance.set(longs, 17);
+		assertThat(longs).containsExactly(0, 17);
+		char[] chars = new char[2];
+		testInstance.set(chars, 'a');
+		assertThat(chars).containsExactly((char) 0, 'a');
+		
+		assertThatThrownBy(() -> testInstance.set((Object) new String[2], 42))
+				.isInstanceOf(RuntimeException.class)
+				.hasMessage("Error while applying array mutator on index 1 on instance of j.l.String[] with value 42")
+				.hasCauseInstanceOf(IllegalArgumentException.class);
+	}
+	
+	@Test
+	public void testSetPrimitive() {
+		ArrayMutator<Object> testInstance = new ArrayMutator<>(1);
+		int[] ints = new int[2];
+		testInstance.setInt(ints, 42);
+		assertThat(ints).containsExactly(0, 42);
+		double[] doubles = new double[2];
+		testInstance.setDouble(doubles, 4.2);
+		assertThat(doubles).containsExactly(0, 4.2);
+		// widening is supported as with Array.setInt(..)
+		testInstance.setInt(doubles, 17);
+		assertThat(doubles).containsExactly(0, 17);
+		byte[] bytes = new byte[2];
+		testInstance.setByte(bytes, (byte) 42);
+		assertThat(bytes).containsExactly(0, 42);
+		// narrowing is not
+		assertThatThrownBy(() -> testInstance.setLong(ints, 17L))
+				.hasMessage("Error while applying array mutator on index 1 on instance of " + Reflections.toString(int[].class) + " with value 17")
+				.getCause()
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage("array mutator on index 1 expects int as element, but " + Reflections.toString(Long.class) + " was given");
+		// a wrong value given to the generic setter is reported the same way
+		assertThatThrownBy(() -> new ArrayMutator<>(0).set(new int[1], "x"))
+				.hasMessage("Error while applying array mutator on index 0 on instance of " + Reflections.toString(int[].class) + " with value x")
+				.getCause()
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage("array mutator on index 0 expects int as element, but " + Reflections.toString(String.class) + " was given");
+	}
 }
\ No newline at end of file
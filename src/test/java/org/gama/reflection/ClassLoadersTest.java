@@ -0,0 +1,25 @@
+package org.gama.reflection;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Guillaume Mary
+ */
+class ClassLoadersTest {
+	
+	@Test
+	void testIsLoadedBy_isParentOrSame() {
+		ClassLoader testClassLoader = getClass().getClassLoader();
+		ClassLoader childClassLoader = new ClassLoader(testClassLoader) {};
+		assertThat(ClassLoaders.isLoadedBy(getClass(), testClassLoader)).isTrue();
+		// classes of parent ClassLoader are not concerned by release of child one
+		assertThat(ClassLoaders.isLoadedBy(getClass(), childClassLoader)).isFalse();
+		assertThat(ClassLoaders.isLoadedBy(String.class, testClassLoader)).isFalse();
+		assertThat(ClassLoaders.isParentOrSame(testClassLoader, childClassLoader)).isTrue();
+		assertThat(ClassLoaders.isParentOrSame(childClassLoader, testClassLoader)).isFalse();
+		assertThat(ClassLoaders.isParentOrSame(null, childClassLoader)).isTrue();
+	}
+	
+}
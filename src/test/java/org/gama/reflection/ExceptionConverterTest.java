@@ -79,15 +79,99 @@ public class ExceptionConverterTest {
 				.hasMessage("o.g.r.ExceptionConverterTest$Toto.setA(j.l.Integer) expects j.l.Integer as argument, but j.l.String was given");
 	}
 	
+	@Test
+	public void testConvertException_exceptionWithoutMessage_isConvertedAccordingToTarget() {
+		Method methodSetA = Reflections.getMethod(Toto.class, "setA", Integer.class);
+		MutatorByMethod<Toto, Object> mutatorByMethod = new MutatorByMethod<>(methodSetA);
+		
+		// JDK may throw exceptions without message (generated method accessors for instance), which doesn't prevent conversion
+		assertThat(ExceptionConverter.INSTANCE.convertException(new IllegalArgumentException(), new Tata(), mutatorByMethod, 42))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessageStartingWith("object is not an instance of declaring class");
+		assertThat(ExceptionConverter.INSTANCE.convertException(new IllegalArgumentException(), new Toto(), mutatorByMethod, "42"))
+				.hasMessage("o.g.r.ExceptionConverterTest$Toto.setA(j.l.Integer) expects j.l.Integer as argument, but j.l.String was given");
+	}
+	
+	@Test
+	public void testConvertException_fastFail_exceptionIsNotConvertedAndHasNoStackTrace() {
+		Field field_a = Reflections.findField(Toto.class, "a");
+		Reflections.ensureAccessible(field_a);
+		MutatorByField<Toto, Object> mutatorByField = new MutatorByField<>(field_a);
+		
+		Accessors.setFastFail(true);
+		try {
+			assertThatThrownBy(() -> mutatorByField.set(new Toto(), 0L))
+					.isInstanceOf(RuntimeException.class)
+					.hasMessage("Error while applying mutator for field o.g.r.ExceptionConverterTest$Toto.a on instance of o.g.r.ExceptionConverterTest$Toto with value 0")
+					.satisfies(e -> assertThat(e.getStackTrace()).isEmpty())
+					.extracting(Throwable::getCause, THROWABLE)
+					// raw JDK exception
+					.isInstanceOf(IllegalArgumentException.class)
+					.hasMessageStartingWith("Can not set");
+		} finally {
+			Accessors.setFastFail(false);
+		}
+	}
+	
+	@Test
+	public void testConvertException_primitiveWidening_keepsJdkMessage() {
+		Field field_c = Reflections.findField(Toto.class, "c");
+		AccessorByField<Toto, Long> accessorByField = new AccessorByField<>(field_c);
+		MutatorByField<Toto, Long> mutatorByField = new MutatorByField<>(Reflections.findField(Toto.class, "b"));
+		
+		// long can't be narrowed to int : JDK message is kept because it mentions both types
+		assertThatThrownBy(() -> accessorByField.getInt(new Toto()))
+				.isInstanceOf(RuntimeException.class)
+				.hasMessage("Error while applying accessor for field o.g.r.ExceptionConverterTest$Toto.c on instance of o.g.r.ExceptionConverterTest$Toto")
+				.extracting(Throwable::getCause, THROWABLE)
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessageContaining("long")
+				.hasMessageNotContaining("is not compatible with");
+		assertThatThrownBy(() -> mutatorByField.setLong(new Toto(), 42L))
+				.isInstanceOf(RuntimeException.class)
+				.hasMessage("Error while applying mutator for field o.g.r.ExceptionConverterTest$Toto.b on instance of o.g.r.ExceptionConverterTest$Toto with value 42")
+				.extracting(Throwable::getCause, THROWABLE)
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessageContaining("int")
+				.hasMessageNotContaining("is not compatible with");
+	}
+	
+	@Test
+	public void testConvertException_fastFail_invocationTargetExceptionIsUnwrapped() {
+		AccessorByMethod<Toto, Integer> accessorByMethod = new AccessorByMethod<>(Reflections.getMethod(Toto.class, "getFailure"));
+		
+		Accessors.setFastFail(true);
+		try {
+			assertThatThrownBy(() -> accessorByMethod.get(new Toto()))
+					.isInstanceOf(RuntimeException.class)
+					.extracting(Throwable::getCause, THROWABLE)
+					.isInstanceOf(UnsupportedOperationException.class)
+					.hasMessage("failure");
+		} finally {
+			Accessors.setFastFail(false);
+		}
+		// same exception as in normal mode
+		assertThatThrownBy(() -> accessorByMethod.get(new Toto()))
+				.extracting(Throwable::getCause, THROWABLE)
+				.isInstanceOf(UnsupportedOperationException.class)
+				.hasMessage("failure");
+	}
+	
 	private static class Toto {
 		
 		private Integer a;
 		
 		private int b;
 		
+		private long c;
+		
 		public void setA(Integer a) {
 			this.a = a;
 		}
+		
+		public Integer getFailure() {
+			throw new UnsupportedOperationException("failure");
+		}
 	}
 	
 	private static class Tata {
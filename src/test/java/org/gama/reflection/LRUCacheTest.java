@@ -0,0 +1,102 @@
+package org.gama.reflection;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.gama.lang.Reflections;
+import org.gama.lang.collection.Arrays;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Guillaume Mary
+ */
+class LRUCacheTest {
+	
+	@Test
+	void testPut_overflowingEntry_eldestOneIsRemoved() {
+		LRUCache<String, Executable> testInstance = new LRUCache<>(3);
+		Constructor<String> dummyExecutable = Reflections.getDefaultConstructor(String.class);
+		testInstance.put("b", dummyExecutable);
+		testInstance.put("a", dummyExecutable);
+		testInstance.put("c", dummyExecutable);
+		assertThat(testInstance.keySet()).isEqualTo(Arrays.asSet("b", "a", "c"));
+		// adding an overflowing entry makes the very first one to be removed (LRU principle)
+		testInstance.put("d", dummyExecutable);
+		assertThat(testInstance.keySet()).isEqualTo(Arrays.asSet("a", "c", "d"));
+		// adding an already existing one as no influence on the map
+		testInstance.put("d", dummyExecutable);
+		assertThat(testInstance.keySet()).isEqualTo(Arrays.asSet("a", "c", "d"));
+	}
+	
+	@Test
+	void testGet_accessedEntriesAreKept() {
+		LRUCache<String, Executable> testInstance = new LRUCache<>(3);
+		Constructor<String> dummyExecutable = Reflections.getDefaultConstructor(String.class);
+		testInstance.put("b", dummyExecutable);
+		testInstance.put("a", dummyExecutable);
+		testInstance.put("c", dummyExecutable);
+		// accessing "b" makes it more recent than "a"
+		assertThat(testInstance.get("b")).isSameAs(dummyExecutable);
+		testInstance.computeIfAbsent("d", k -> dummyExecutable);
+		assertThat(testInstance.keySet()).isEqualTo(Arrays.asSet("b", "c", "d"));
+		// already present entry is not computed again
+		testInstance.computeIfAbsent("d", k -> { throw new IllegalStateException(); });
+		assertThat(testInstance.keySet()).isEqualTo(Arrays.asSet("b", "c", "d"));
+	}
+	
+	@Test
+	void testRemoveIf() {
+		LRUCache<String, Executable> testInstance = new LRUCache<>(3);
+		Constructor<String> stringConstructor = Reflections.getDefaultConstructor(String.class);
+		Constructor<Object> objectConstructor = Reflections.getDefaultConstructor(Object.class);
+		testInstance.put("a", stringConstructor);
+		testInstance.put("b", objectConstructor);
+		testInstance.removeIf(executable -> executable.getDeclaringClass() == String.class);
+		assertThat(testInstance.keySet()).isEqualTo(Arrays.asSet("b"));
+	}
+	
+	@Test
+	void testPut_bigCache_sizeIsBoundedAndAccessedEntriesAreKept() {
+		// big enough to be split into segments
+		LRUCache<String, Executable> testInstance = new LRUCache<>(4096);
+		Constructor<String> dummyExecutable = Reflections.getDefaultConstructor(String.class);
+		testInstance.put("kept", dummyExecutable);
+		for (int i = 0; i < 10000; i++) {
+			testInstance.put(String.valueOf(i), dummyExecutable);
+			testInstance.get("kept");
+		}
+		assertThat(testInstance.size()).isLessThanOrEqualTo(4096);
+		assertThat(testInstance.get("kept")).isSameAs(dummyExecutable);
+		// eldest entries were evicted
+		assertThat(testInstance.get("0")).isNull();
+	}
+	
+	@Test
+	void testComputeIfAbsent_concurrentAccess() throws InterruptedException {
+		LRUCache<String, Executable> testInstance = new LRUCache<>(10);
+		Constructor<String> dummyExecutable = Reflections.getDefaultConstructor(String.class);
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			List<Callable<Executable>> tasks = new ArrayList<>();
+			for (int i = 0; i < 1000; i++) {
+				String key = String.valueOf(i % 50);
+				tasks.add(() -> testInstance.computeIfAbsent(key, k -> dummyExecutable));
+			}
+			for (Future<Executable> result : executor.invokeAll(tasks)) {
+				assertThat(result).isDone();
+			}
+		} finally {
+			executor.shutdown();
+		}
+		assertThat(testInstance.size()).isLessThanOrEqualTo(10);
+	}
+	
+}
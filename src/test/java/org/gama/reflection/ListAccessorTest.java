@@ -27,6 +27,12 @@ public class ListAccessorTest {
 		assertThat(testInstance.get(sample)).isEqualTo("c");
 	}
 	
+	@Test
+	public void testGetInt() {
+		ListAccessor<List<Integer>, Integer> testInstance = new ListAccessor<>(1);
+		assertThat(testInstance.getInt(Arrays.asList(17, 42))).isEqualTo(42);
+	}
+	
 	@Test
 	public void testGet_ArrayIndexOutOfBoundsException() {
 		ListAccessor<List<String>, String> testInstance = new ListAccessor<>();
@@ -0,0 +1,102 @@
+package org.gama.reflection;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import org.gama.lang.Reflections;
+import org.gama.reflection.model.City;
+import org.gama.reflection.model.Person;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Guillaume Mary
+ */
+class MetadataCacheTest {
+	
+	@Test
+	void save_load() throws IOException {
+		Path file = Files.createTempFile(getClass().getSimpleName(), ".cache");
+		try {
+			MetadataCache testInstance = MetadataCache.load(file);
+			Method getName = Reflections.getMethod(City.class, "getName");
+			assertThat(testInstance.findMethod(City.class, "getter:name")).isNull();
+			testInstance.putMethod(City.class, "getter:name", getName);
+			testInstance.putMethod(City.class, "getter:xx", null);
+			testInstance.putField(Person.class, "field:name", Reflections.getField(Person.class, "name"));
+			testInstance.save();
+			
+			MetadataCache reloadedInstance = MetadataCache.load(file);
+			assertThat(reloadedInstance.findMethod(City.class, "getter:name")).isEqualTo(Optional.of(getName));
+			assertThat(reloadedInstance.findMethod(City.class, "getter:xx")).isEqualTo(Optional.empty());
+			assertThat(reloadedInstance.findField(Person.class, "field:name")).isEqualTo(Optional.of(Reflections.getField(Person.class, "name")));
+			assertThat(reloadedInstance.findField(Person.class, "field:xx")).isNull();
+			
+			// saving again keeps entries of classes that were not looked up
+			MetadataCache.load(file).save();
+			assertThat(MetadataCache.load(file).findMethod(City.class, "getter:name")).isEqualTo(Optional.of(getName));
+		} finally {
+			Files.delete(file);
+		}
+	}
+	
+	@Test
+	void load_entriesWithDifferentChecksumAreIgnored() throws IOException {
+		Path file = Files.createTempFile(getClass().getSimpleName(), ".cache");
+		try {
+			Files.write(file, ("#org.gama.reflection.MetadataCache 2\n"
+					+ MetadataCache.giveKey(City.class) + "\t0\tgetter:name=" + City.class.getName() + "#getName()Ljava/lang/String;\n")
+					.getBytes(StandardCharsets.UTF_8));
+			MetadataCache testInstance = MetadataCache.load(file);
+			assertThat(testInstance.findMethod(City.class, "getter:name")).isNull();
+		} finally {
+			Files.delete(file);
+		}
+	}
+	
+	@Test
+	void load_entriesOfClassesFromAnotherCodeSourceAreIgnored() throws IOException {
+		Path file = Files.createTempFile(getClass().getSimpleName(), ".cache");
+		try {
+			MetadataCache testInstance = MetadataCache.load(file);
+			testInstance.putMethod(City.class, "getter:name", Reflections.getMethod(City.class, "getName"));
+			testInstance.save();
+			String location = City.class.getProtectionDomain().getCodeSource().getLocation().toString();
+			assertThat(MetadataCache.giveKey(City.class)).isEqualTo(City.class.getName() + "@" + location);
+			
+			// same class name, same checksum, but loaded from another place
+			String content = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+			Files.write(file, content.replace(location, "file:/elsewhere/").getBytes(StandardCharsets.UTF_8));
+			assertThat(MetadataCache.load(file).findMethod(City.class, "getter:name")).isNull();
+		} finally {
+			Files.delete(file);
+		}
+	}
+	
+	@Test
+	void accessors_consultCache() throws IOException {
+		Path file = Files.createTempFile(getClass().getSimpleName(), ".cache");
+		MetadataCache testInstance = MetadataCache.load(file);
+		Accessors.setMetadataCache(testInstance);
+		try {
+			// a class which properties were never looked up
+			class Dummy {
+				private String name;
+				
+				public String getName() {
+					return name;
+				}
+			}
+			assertThat(Accessors.accessorByMethod(Dummy.class, "name").getGetter()).isEqualTo(Reflections.getMethod(Dummy.class, "getName"));
+			assertThat(testInstance.findMethod(Dummy.class, "getter:name")).isEqualTo(Optional.of(Reflections.getMethod(Dummy.class, "getName")));
+		} finally {
+			Accessors.setMetadataCache(null);
+			Files.delete(file);
+		}
+	}
+}
@@ -1,6 +1,5 @@
 package org.gama.reflection;
 
-import java.lang.reflect.Constructor;
 import java.text.Collator;
 import java.util.Comparator;
 import java.util.HashMap;
@@ -25,7 +24,6 @@ import org.gama.lang.collection.Arrays;
 import org.gama.lang.function.Predicates;
 import org.gama.lang.function.SerializableTriConsumer;
 import org.gama.lang.function.SerializableTriFunction;
-import org.gama.reflection.MethodReferenceCapturer.LRUCache;
 import org.gama.reflection.MethodReferenceCapturer.MethodDefinition;
 import org.gama.reflection.jailed.PackagePrivateInheritedClass;
 import org.junit.jupiter.api.Test;
@@ -113,7 +111,7 @@ class MethodReferenceCapturerTest {
 		MethodReferenceCapturer testInstance = new MethodReferenceCapturer();
 		assertThat(testInstance.findMethod((SerializableConsumer<Tata>) Tata::doSomething)).isEqualTo(Tata.class.getMethod("doSomething"));
 	}
-
+	
 	private class Tata {
 		public void doSomething() {
 			
@@ -182,9 +180,25 @@ class MethodReferenceCapturerTest {
 						methodDefinition(String.class, "codePointCount", new Class[] { int.class, int.class }, int.class) },
 				{ giveArgumentTypes(MethodReferences.buildSerializedLambda((SerializableTriConsumer<StringAppender, Object[], Object>) StringAppender::ccat)),
 						methodDefinition(StringAppender.class, "ccat", new Class[] { Object[].class, Object.class }, StringAppender.class) },
+				{ giveArgumentTypes(MethodReferences.buildSerializedLambda((SerializableBiFunction<Long, Long, Long>) Math::max)),
+						methodDefinition(Math.class, "max", new Class[] { long.class, long.class }, long.class) },
+				{ giveArgumentTypes(MethodReferences.buildSerializedLambda((SerializableBiFunction<String[][], Double, long[][]>) MethodReferenceCapturerTest::multiDimensionalArrays)),
+						methodDefinition(MethodReferenceCapturerTest.class, "multiDimensionalArrays", new Class[] { String[][].class, double.class }, long[][].class) },
 		};
 	}
 	
+	private static long[][] multiDimensionalArrays(String[][] strings, double d) {
+		return new long[0][0];
+	}
+	
+	@Test
+	void giveArgumentTypes_sameDescriptor_argumentTypesAreNotShared() {
+		MethodDefinition methodDefinition1 = giveArgumentTypes(MethodReferences.buildSerializedLambda(Collator::setStrength));
+		MethodDefinition methodDefinition2 = giveArgumentTypes(MethodReferences.buildSerializedLambda(Collator::setDecomposition));
+		assertThat(methodDefinition1.getArgumentTypes()).isEqualTo(methodDefinition2.getArgumentTypes());
+		assertThat(methodDefinition1.getArgumentTypes()).isNotSameAs(methodDefinition2.getArgumentTypes());
+	}
+	
 	
 	@ParameterizedTest
 	@MethodSource
@@ -216,22 +230,6 @@ class MethodReferenceCapturerTest {
 				.isEqualTo(expected);
 	}
 	
-	@Test
-	void testLRUCache() {
-		LRUCache testInstance = new LRUCache(3);
-		Constructor<String> dummyExecutable = Reflections.getDefaultConstructor(String.class);
-		testInstance.put("b", dummyExecutable);
-		testInstance.put("a", dummyExecutable);
-		testInstance.put("c", dummyExecutable);
-		assertThat(testInstance.keySet()).isEqualTo(Arrays.asSet("b", "a", "c"));
-		// adding an overflowing entry makes the very first one to be removed (LRU principle)
-		testInstance.put("d", dummyExecutable);
-		assertThat(testInstance.keySet()).isEqualTo(Arrays.asSet("a", "c", "d"));
-		// adding an already existing one as no influence on the map
-		testInstance.put("d", dummyExecutable);
-		assertThat(testInstance.keySet()).isEqualTo(Arrays.asSet("a", "c", "d"));
-	}
-	
 	@Test
 	void testToMethodReferenceString() throws NoSuchMethodException {
 		assertThat(MethodReferences.toMethodReferenceString(String.class.getMethod("concat", String.class))).isEqualTo("String::concat");
@@ -1,5 +1,6 @@
 package org.gama.reflection;
 
+import java.lang.reflect.Proxy;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
@@ -21,6 +22,8 @@ import org.gama.lang.trace.ModifiableInt;
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 /**
  * @author Guillaume Mary
@@ -245,6 +248,107 @@ class MethodReferenceDispatcherTest {
 		assertThat(testInstance.executeBatch()).isEqualTo(new int[]{42, 666});
 	}
 	
+	@Test
+	public void testUseGeneratedClass() {
+		assumeTrue(AccessorClassGenerator.isSupported(), "class generation requires Java 15+");
+		
+		Holder<String> nameHolder = new Holder<>();
+		ModifiableInt modifiableInt = new ModifiableInt();
+		DummyBuilder testInstance = new MethodReferenceDispatcher()
+				.redirect(DummyBuilder::withName, nameHolder::set)
+				.redirect(DummyBuilder::withAge, (Consumer<Integer>) modifiableInt::increment)
+				.redirect(DummyBuilder::getAge, modifiableInt::getValue)
+				.useGeneratedClass()
+				.build(DummyBuilder.class);
+		assertThat(Proxy.isProxyClass(testInstance.getClass())).isFalse();
+		
+		// fluent methods return the dispatcher
+		assertThat(testInstance.withName("Toto").withAge(42)).isSameAs(testInstance);
+		assertThat(nameHolder.get()).isEqualTo("Toto");
+		assertThat(testInstance.getAge()).isEqualTo(42);
+		assertThat(testInstance.toString()).isEqualTo("Dispatcher to null");
+		// non intercepted method without fallback
+		assertThatThrownBy(testInstance::build)
+				.isInstanceOf(IllegalArgumentException.class);
+		
+		// class is shared by dispatchers with same redirections
+		DummyBuilder otherInstance = new MethodReferenceDispatcher()
+				.redirect(DummyBuilder::withName, nameHolder::set)
+				.redirect(DummyBuilder::withAge, (Consumer<Integer>) modifiableInt::increment)
+				.redirect(DummyBuilder::getAge, () -> 17)
+				.useGeneratedClass()
+				.build(DummyBuilder.class);
+		assertThat(otherInstance.getClass()).isSameAs(testInstance.getClass());
+		assertThat(otherInstance.getAge()).isEqualTo(17);
+	}
+	
+	@Test
+	public void testUseGeneratedClass_fallback() {
+		assumeTrue(AccessorClassGenerator.isSupported(), "class generation requires Java 15+");
+		
+		ModifiableInt modifiableInt = new ModifiableInt();
+		ExtendedRunnable testInstance = new MethodReferenceDispatcher()
+				.redirect(ExtendedRunnable::run, modifiableInt::increment)
+				.fallbackOn(new ExtendedRunnable() {
+					@Override
+					public void doRun() {
+						modifiableInt.increment(666);
+					}
+					
+					@Override
+					public void run() {
+						modifiableInt.increment(42);
+					}
+				})
+				.useGeneratedClass()
+				.build(ExtendedRunnable.class);
+		assertThat(Proxy.isProxyClass(testInstance.getClass())).isFalse();
+		testInstance.run();
+		assertThat(modifiableInt.getValue()).isEqualTo(1);
+		testInstance.doRun();
+		assertThat(modifiableInt.getValue()).isEqualTo(667);
+	}
+	
+	@Test
+	public void testUseGeneratedClass_jdkInterface() throws SQLException {
+		assumeTrue(AccessorClassGenerator.isSupported(), "class generation requires Java 15+");
+		
+		Map<Integer, Object> valuesCaptor = new HashMap<>();
+		PreparedStatement testInstance = new MethodReferenceDispatcher()
+				.redirectThrower(PreparedStatement::setString, valuesCaptor::put)
+				.redirectThrower(PreparedStatement::setLong, valuesCaptor::put)
+				.redirectThrower(PreparedStatement::executeBatch, () -> new int[] { 42, 666 })
+				.fallbackOn("Hello world !")
+				.useGeneratedClass()
+				.build(PreparedStatement.class);
+		assertThat(Proxy.isProxyClass(testInstance.getClass())).isFalse();
+		
+		testInstance.setString(0, "Hello");
+		testInstance.setLong(1, 42);
+		assertThat(valuesCaptor).isEqualTo(Maps.asHashMap(0, (Object) "Hello").add(1, 42L));
+		assertThat(testInstance.executeBatch()).isEqualTo(new int[] { 42, 666 });
+		assertThat(testInstance.toString()).isEqualTo("Dispatcher to Hello world !");
+		
+		Stream stream = new MethodReferenceDispatcher()
+				.redirect((SerializableBiFunction<Stream, Long, Stream>) Stream::limit, (Function<Long, Stream>) Stream::of)
+				.fallbackOn(Stream.of(1, null, 2))
+				.useGeneratedClass()
+				.build(Stream.class);
+		assertThat(stream.limit(42).toArray()).isEqualTo(new Object[] { 42L });
+		assertThat(Iterables.copy(stream.filter(Objects::nonNull).iterator())).isEqualTo(Arrays.asList(1, 2));
+	}
+	
+	public interface DummyBuilder {
+		
+		DummyBuilder withName(String name);
+		
+		DummyBuilder withAge(int age);
+		
+		int getAge();
+		
+		Object build();
+	}
+	
 	public interface ExtendedRunnable extends Runnable {
 		void doRun();
 	}
@@ -4,6 +4,7 @@ import java.lang.invoke.SerializedLambda;
 import java.lang.reflect.Method;
 import java.text.Collator;
 
+import org.danekja.java.util.function.serializable.SerializableFunction;
 import org.gama.lang.Reflections;
 import org.gama.lang.Strings;
 import org.junit.jupiter.api.Test;
@@ -35,6 +36,24 @@ public class MethodReferencesTest {
 		assertThat(method).isEqualTo(Reflections.getMethod(Integer.class, "shortValue"));
 	}
 	
+	@Test
+	public void testBuildSerializedLambda_isMemoizedPerLambdaClass() {
+		SerializableFunction<Object, String> toString = Object::toString;
+		assertThat(buildSerializedLambda(toString)).isSameAs(buildSerializedLambda(toString));
+		
+		// capturing lambdas have their own SerializedLambda because captured arguments differ
+		String hello = "Hello";
+		String world = "World";
+		SerializedLambda helloConcat = buildSerializedLambda(capture(hello));
+		SerializedLambda worldConcat = buildSerializedLambda(capture(world));
+		assertThat(helloConcat.getCapturedArg(0)).isEqualTo("Hello");
+		assertThat(worldConcat.getCapturedArg(0)).isEqualTo("World");
+	}
+	
+	private static SerializableFunction<String, String> capture(String prefix) {
+		return prefix::concat;
+	}
+	
 	@Test
 	public void testBuildSerializedLambda_setter() throws ReflectiveOperationException {
 		SerializedLambda serializedLambda = buildSerializedLambda(DummyClassWithSetter::setX);
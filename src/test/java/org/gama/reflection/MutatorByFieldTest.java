@@ -1,9 +1,17 @@
 package org.gama.reflection;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.gama.lang.Reflections;
+import org.gama.lang.collection.Arrays;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.InstanceOfAssertFactories.THROWABLE;
 
 /**
  * @author Guillaume Mary
@@ -18,8 +26,107 @@ public class MutatorByFieldTest {
 		assertThat(toto.a).isEqualTo(42);
 	}
 	
+	@ParameterizedTest
+	@EnumSource(MemberAccessMode.class)
+	public void testSet_accessMode(MemberAccessMode accessMode) {
+		MutatorByField<Toto, Object> testInstance = new MutatorByField<>(Reflections.findField(Toto.class, "a"), accessMode);
+		Toto toto = new Toto();
+		testInstance.set(toto, 42);
+		assertThat(toto.a).isEqualTo(42);
+		// primitive widening is supported as with Field.set(..)
+		testInstance.set(toto, (short) 17);
+		assertThat(toto.a).isEqualTo(17);
+	}
+	
+	@ParameterizedTest
+	@EnumSource(MemberAccessMode.class)
+	public void testSet_wrongValueType_throwsSameExceptionWhateverAccessMode(MemberAccessMode accessMode) {
+		MutatorByField<Toto, Object> testInstance = new MutatorByField<>(Reflections.findField(Toto.class, "a"), accessMode);
+		Toto toto = new Toto();
+		assertThatThrownBy(() -> testInstance.set(toto, "42"))
+				.isInstanceOf(RuntimeException.class)
+				.hasMessage("Error while applying mutator for field o.g.r.MutatorByFieldTest$Toto.a on instance of o.g.r.MutatorByFieldTest$Toto with value 42")
+				.extracting(Throwable::getCause, THROWABLE)
+				.hasMessage("Field o.g.r.MutatorByFieldTest$Toto.a of type int is not compatible with j.l.String");
+	}
+	
+	@Test
+	public void testSetPrimitive() {
+		MutatorByField<Toto, Integer> testInstance = new MutatorByField<>(Reflections.findField(Toto.class, "a"));
+		Toto toto = new Toto();
+		testInstance.setInt(toto, 42);
+		assertThat(toto.a).isEqualTo(42);
+		// long can't be narrowed to int
+		assertThatThrownBy(() -> testInstance.setLong(toto, 17L))
+				.isInstanceOf(RuntimeException.class)
+				.hasMessage("Error while applying mutator for field o.g.r.MutatorByFieldTest$Toto.a on instance of o.g.r.MutatorByFieldTest$Toto with value 17");
+		assertThat(toto.a).isEqualTo(42);
+	}
+	
+	@ParameterizedTest
+	@EnumSource(MemberAccessMode.class)
+	public void testSetPrimitive_accessMode(MemberAccessMode accessMode) {
+		MutatorByField<Toto, Long> testInstance = new MutatorByField<>(Reflections.findField(Toto.class, "l"), accessMode);
+		Toto toto = new Toto();
+		// int is widened as with Field.setInt(..)
+		testInstance.setInt(toto, 42);
+		assertThat(toto.l).isEqualTo(42L);
+		testInstance.setAllLong(Arrays.asList(toto), new long[] { 17L });
+		assertThat(toto.l).isEqualTo(17L);
+		// double can't be narrowed to long
+		assertThatThrownBy(() -> testInstance.setDouble(toto, 4.2d))
+				.isInstanceOf(RuntimeException.class)
+				.hasMessage("Error while applying mutator for field o.g.r.MutatorByFieldTest$Toto.l on instance of o.g.r.MutatorByFieldTest$Toto with value 4.2");
+		assertThat(toto.l).isEqualTo(17L);
+	}
+	
+	@Test
+	public void testSetPrimitive_compiledSetter_isUsed() {
+		List<Object> setValues = new ArrayList<>();
+		MutatorByField<Toto, Long> testInstance = new MutatorByField<>(Reflections.findField(Toto.class, "l"), (toto, value) -> setValues.add(value));
+		Toto toto = new Toto();
+		testInstance.setInt(toto, 42);
+		testInstance.setAllLong(Arrays.asList(toto), new long[] { 17L });
+		// compiled setter receives widened values, and field is untouched since reflection is not used
+		assertThat(setValues).containsExactly(42L, 17L);
+		assertThat(toto.l).isEqualTo(0L);
+	}
+	
+	@Test
+	public void testSetAll() {
+		MutatorByField<Toto, Integer> testInstance = new MutatorByField<>(Reflections.findField(Toto.class, "a"));
+		Toto toto1 = new Toto();
+		Toto toto2 = new Toto();
+		testInstance.setAll(Arrays.asList(toto1, toto2), new Object[] { 42, 17 });
+		assertThat(toto1.a).isEqualTo(42);
+		assertThat(toto2.a).isEqualTo(17);
+		testInstance.setAllInt(Arrays.asList(toto1, toto2), new int[] { 1, 2 });
+		assertThat(toto1.a).isEqualTo(1);
+		assertThat(toto2.a).isEqualTo(2);
+	}
+	
+	@Test
+	public void testSetAll_failureReportsIndex() {
+		MutatorByField<Toto, Object> testInstance = new MutatorByField<>(Reflections.findField(Toto.class, "a"));
+		Toto toto1 = new Toto();
+		Toto toto2 = new Toto();
+		assertThatThrownBy(() -> testInstance.setAll(Arrays.asList(toto1, toto2), new Object[] { 42, "17" }))
+				.isInstanceOf(RuntimeException.class)
+				.hasMessage("Error while applying mutator for field o.g.r.MutatorByFieldTest$Toto.a on instance of o.g.r.MutatorByFieldTest$Toto"
+						+ " at index 1 with value 17")
+				.extracting(Throwable::getCause, THROWABLE)
+				.hasMessage("Field o.g.r.MutatorByFieldTest$Toto.a of type int is not compatible with j.l.String");
+		// beans before culprit are modified
+		assertThat(toto1.a).isEqualTo(42);
+		assertThatThrownBy(() -> testInstance.setAllLong(Arrays.asList(toto1, toto2), new long[] { 4L, 2L }))
+				.isInstanceOf(RuntimeException.class)
+				.hasMessage("Error while applying mutator for field o.g.r.MutatorByFieldTest$Toto.a on instance of o.g.r.MutatorByFieldTest$Toto"
+						+ " at index 0 with value 4");
+	}
+	
 	private static class Toto {
 		private int a;
+		private long l;
 	}
 	
-}
\ No newline at end of file
+}
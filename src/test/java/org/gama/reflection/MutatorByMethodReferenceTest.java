@@ -22,13 +22,24 @@ public class MutatorByMethodReferenceTest {
 		testInstance.set(target, 1);
 		assertThat(target.toString()).isEqualTo("1");
 	}
-
+	
+	@Test
+	public void testSetAll() {
+		MutatorByMethodReference<StringBuilder, Integer> testInstance = new MutatorByMethodReference<>(StringBuilder::append);
+		StringBuilder target1 = new StringBuilder();
+		StringBuilder target2 = new StringBuilder();
+		testInstance.setAll(java.util.Arrays.asList(target1, target2), new Object[] { 1, 2 });
+		assertThat(target1.toString()).isEqualTo("1");
+		assertThat(target2.toString()).isEqualTo("2");
+	}
+	
 	@Test
 	public void testEquals() {
 		// usual case : 2 instances with same method reference should be equal
 		MutatorByMethodReference<DummySet, Object> testInstance1 = new MutatorByMethodReference<>(DummySet::contains);
 		MutatorByMethodReference<DummySet, Object> testInstance2 = new MutatorByMethodReference<>(DummySet::contains);
 		assertThat(testInstance2).isEqualTo(testInstance1);
+		assertThat(testInstance2.hashCode()).isEqualTo(testInstance1.hashCode());
 		
 		// still equals to AbstractCollection::contains because DummySet::contains is not implemented and points to AbstractCollection::contains
 		MutatorByMethodReference<DummySet, Object> testInstance3 = new MutatorByMethodReference<>(AbstractCollection::contains);
@@ -37,7 +48,7 @@ public class MutatorByMethodReferenceTest {
 		// (with a different hashCode implementation I had a strange behavior on which generic type influenced serilization !)
 		MutatorByMethodReference<AbstractSet, Object> testInstance4 = new MutatorByMethodReference<>(AbstractCollection::contains);
 		assertThat(testInstance4).isEqualTo(testInstance1);
-
+		
 		// A totally different method reference shouldn't be equal 
 		MutatorByMethodReference<StringBuilder, CharSequence> testInstance5 = new MutatorByMethodReference<>(StringBuilder::append);
 		assertThat(testInstance5).isNotEqualTo(testInstance1);
@@ -66,13 +77,13 @@ public class MutatorByMethodReferenceTest {
 	void getPropertyType() {
 		MutatorByMethodReference<DummySet, Object> testInstance1 = new MutatorByMethodReference<>(DummySet::contains);
 		assertThat(testInstance1.getPropertyType()).isEqualTo(Object.class);
-
+		
 		MutatorByMethodReference<DummySet, Object> testInstance2 = new MutatorByMethodReference<>(AbstractCollection::contains);
 		assertThat(testInstance2.getPropertyType()).isEqualTo(Object.class);
-
+		
 		MutatorByMethodReference<AbstractSet, Object> testInstance3 = new MutatorByMethodReference<>(AbstractCollection::contains);
 		assertThat(testInstance3.getPropertyType()).isEqualTo(Object.class);
-
+		
 		MutatorByMethodReference<StringBuilder, CharSequence> testInstance4 = new MutatorByMethodReference<>(StringBuilder::append);
 		assertThat(testInstance4.getPropertyType()).isEqualTo(CharSequence.class);
 	}
@@ -1,7 +1,10 @@
 package org.gama.reflection;
 
 import org.gama.lang.Reflections;
+import org.gama.lang.collection.Arrays;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -37,6 +40,68 @@ public class MutatorByMethodTest {
 				.hasMessage("o.g.r.MutatorByMethodTest$Toto.setA(int) expects int as argument, but j.l.String was given");
 	}
 	
+	@ParameterizedTest
+	@EnumSource(MemberAccessMode.class)
+	public void testSet_accessMode(MemberAccessMode accessMode) {
+		MutatorByMethod<PublicToto, Object> testInstance = new MutatorByMethod<>(Reflections.findMethod(PublicToto.class, "setA", long.class), accessMode);
+		PublicToto toto = new PublicToto();
+		testInstance.set(toto, 42L);
+		assertThat(toto.a).isEqualTo(42);
+		// primitive widening is supported as with Method.invoke(..)
+		testInstance.set(toto, 17);
+		assertThat(toto.a).isEqualTo(17);
+	}
+	
+	@ParameterizedTest
+	@EnumSource(MemberAccessMode.class)
+	public void testSet_withWrongArgument_exceptionIsTheSameWhateverAccessMode(MemberAccessMode accessMode) {
+		MutatorByMethod<PublicToto, Object> testInstance = new MutatorByMethod<>(Reflections.findMethod(PublicToto.class, "setA", long.class), accessMode);
+		PublicToto toto = new PublicToto();
+		assertThatThrownBy(() -> testInstance.set(toto, "42"))
+				.isInstanceOf(RuntimeException.class)
+				.hasMessage("Error while applying o.g.r.MutatorByMethodTest$PublicToto.setA(long) on instance of o.g.r.MutatorByMethodTest$PublicToto with value 42")
+				.extracting(Throwable::getCause, THROWABLE)
+				.hasMessage("o.g.r.MutatorByMethodTest$PublicToto.setA(long) expects long as argument, but j.l.String was given");
+	}
+	
+	@ParameterizedTest
+	@EnumSource(MemberAccessMode.class)
+	public void testSetPrimitive(MemberAccessMode accessMode) {
+		MutatorByMethod<PublicToto, Long> testInstance = new MutatorByMethod<>(Reflections.findMethod(PublicToto.class, "setA", long.class), accessMode);
+		PublicToto toto = new PublicToto();
+		testInstance.setLong(toto, 42L);
+		assertThat(toto.a).isEqualTo(42);
+		// int is widened to long
+		testInstance.setInt(toto, 17);
+		assertThat(toto.a).isEqualTo(17);
+		// double can't be narrowed to long
+		assertThatThrownBy(() -> testInstance.setDouble(toto, 4.2))
+				.isInstanceOf(RuntimeException.class)
+				.hasMessage("Error while applying o.g.r.MutatorByMethodTest$PublicToto.setA(long) on instance of o.g.r.MutatorByMethodTest$PublicToto with value 4.2");
+	}
+	
+	@ParameterizedTest
+	@EnumSource(MemberAccessMode.class)
+	public void testSetAll(MemberAccessMode accessMode) {
+		MutatorByMethod<PublicToto, Object> testInstance = new MutatorByMethod<>(Reflections.findMethod(PublicToto.class, "setA", long.class), accessMode);
+		PublicToto toto1 = new PublicToto();
+		PublicToto toto2 = new PublicToto();
+		testInstance.setAll(Arrays.asList(toto1, toto2), new Object[] { 42L, 17L });
+		assertThat(toto1.a).isEqualTo(42);
+		assertThat(toto2.a).isEqualTo(17);
+		// int is widened to long
+		testInstance.setAllInt(Arrays.asList(toto1, toto2), new int[] { 1, 2 });
+		assertThat(toto1.a).isEqualTo(1);
+		assertThat(toto2.a).isEqualTo(2);
+		assertThatThrownBy(() -> testInstance.setAll(Arrays.asList(toto1, toto2), new Object[] { 42L, "17" }))
+				.isInstanceOf(RuntimeException.class)
+				.hasMessage("Error while applying o.g.r.MutatorByMethodTest$PublicToto.setA(long) on instance of o.g.r.MutatorByMethodTest$PublicToto"
+						+ " at index 1 with value 17");
+		assertThatThrownBy(() -> testInstance.setAllDouble(Arrays.asList(toto1, toto2), new double[] { 4.2 }))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage("Array of length 1 can't match 2 beans");
+	}
+	
 	@Test
 	public void testToMutator() {
 		MutatorByMethod<Toto, Integer> testInstance = new MutatorByMethod<>(Reflections.findMethod(Toto.class, "setA", int.class));
@@ -73,4 +138,12 @@ public class MutatorByMethodTest {
 		}
 	}
 	
+	public static class PublicToto {
+		private long a;
+		
+		public void setA(long a) {
+			this.a = a;
+		}
+	}
+	
 }
\ No newline at end of file
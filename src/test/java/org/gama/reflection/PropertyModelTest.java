@@ -0,0 +1,49 @@
+package org.gama.reflection;
+
+import org.gama.lang.Reflections;
+import org.gama.reflection.model.City;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Guillaume Mary
+ */
+class PropertyModelTest {
+	
+	@Test
+	void of_isSharedPerClass() {
+		assertThat(PropertyModel.of(City.class)).isSameAs(PropertyModel.of(City.class));
+		assertThat(PropertyModel.of(City.class)).isNotSameAs(PropertyModel.of(String.class));
+	}
+	
+	@Test
+	void findGetter() {
+		PropertyModel testInstance = PropertyModel.of(City.class);
+		assertThat(testInstance.findGetter("name")).isEqualTo(Reflections.getMethod(City.class, "getName"));
+		assertThat(testInstance.findGetter("capital")).isEqualTo(Reflections.getMethod(City.class, "isCapital"));
+		assertThat(testInstance.findGetter("xx")).isNull();
+		// second calls give same result
+		assertThat(testInstance.findGetter("name")).isSameAs(testInstance.findGetter("name"));
+		assertThat(testInstance.findGetter("xx")).isNull();
+	}
+	
+	@Test
+	void findField() {
+		PropertyModel testInstance = PropertyModel.of(City.class);
+		assertThat(testInstance.findField("name")).isEqualTo(Reflections.findField(City.class, "name"));
+		assertThat(testInstance.findField("name")).isSameAs(testInstance.findField("name"));
+		assertThat(testInstance.findField("xx")).isNull();
+		assertThat(testInstance.findField("xx")).isNull();
+	}
+	
+	@Test
+	void findSetter() {
+		PropertyModel testInstance = PropertyModel.of(City.class);
+		assertThat(testInstance.findSetter("citizenCount", int.class)).isEqualTo(Reflections.getMethod(City.class, "setCitizenCount", int.class));
+		assertThat(testInstance.findSetter("citizenCount", int.class)).isSameAs(testInstance.findSetter("citizenCount", int.class));
+		// setter is looked up by its argument type
+		assertThat(testInstance.findSetter("citizenCount", String.class)).isNull();
+		assertThat(testInstance.findSetter("xx", int.class)).isNull();
+	}
+}
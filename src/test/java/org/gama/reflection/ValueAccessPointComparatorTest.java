@@ -1,7 +1,12 @@
 package org.gama.reflection;
 
+import java.util.HashMap;
+import java.util.Map;
+
+import org.gama.reflection.model.Address;
 import org.gama.reflection.model.City;
 import org.gama.reflection.model.Person;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 
@@ -64,6 +69,10 @@ class ValueAccessPointComparatorTest {
 				{ accessorByMethod(Person.class, "lastName"), new MutatorByMethodReference<>(Person::setLastName), true},
 				{ mutatorByMethod(Person.class, "lastName"), new MutatorByMethodReference<>(Person::setLastName), true},
 				{ accessorByMethod(Person.class, "lastName"), propertyAccessor, true},
+				
+				// members of classes of same hierarchy
+				{ accessorByField(Vehicle.class, "name"), new AccessorByMethodReference<>(Car::getName), true},
+				{ new AccessorByMethod<>(Car.class, "getName"), mutatorByField(Vehicle.class, "name"), true},
 			
 		};
 	}
@@ -76,4 +85,40 @@ class ValueAccessPointComparatorTest {
 		testInstance.add(accessor2);
 		assertThat(testInstance.contains(accessor1)).isEqualTo(expectedEquality);
 	}
+	
+	@ParameterizedTest
+	@MethodSource("testValueAccessPointComparator")
+	void testValueAccessPointComparator_sharedCache(ValueAccessPoint accessor1, ValueAccessPoint accessor2, boolean expectedEquality) {
+		ValueAccessPointSet testInstance = new ValueAccessPointSet(new ValueAccessPointComparator(true));
+		testInstance.add(accessor2);
+		assertThat(testInstance.contains(accessor1)).isEqualTo(expectedEquality);
+	}
+	
+	@Test
+	void compare_chainsAreNotCached() {
+		Map<ValueAccessPoint, AccessorDefinition> cache = new HashMap<>();
+		ValueAccessPointComparator testInstance = new ValueAccessPointComparator(cache);
+		AccessorByMethodReference<Person, String> nameAccessor = new AccessorByMethodReference<>(Person::getName);
+		AccessorChain<Person, City> chain = new AccessorChain<>(new AccessorByMethodReference<>(Person::getAddress));
+		assertThat(testInstance.compare(chain, new AccessorByMethodReference<>(Person::getAddress))).isEqualTo(0);
+		// chain definition follows its modifications
+		chain.add(new AccessorByMethodReference<>(Address::getCity));
+		assertThat(testInstance.compare(chain, new AccessorByMethodReference<>(Person::getAddress))).isNotEqualTo(0);
+		assertThat(testInstance.compare(chain, nameAccessor)).isNotEqualTo(0);
+		// definition of accessors is kept by themselves, and chains may change, so nothing is cached
+		assertThat(cache).isEmpty();
+	}
+	
+	public static class Vehicle {
+		
+		private String name;
+		
+		public String getName() {
+			return name;
+		}
+	}
+	
+	public static class Car extends Vehicle {
+		
+	}
 }
\ No newline at end of file
@@ -0,0 +1,69 @@
+package org.gama.reflection;
+
+import java.util.Map.Entry;
+
+import org.gama.reflection.model.Address;
+import org.gama.reflection.model.City;
+import org.gama.reflection.model.Person;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.gama.reflection.Accessors.accessorByField;
+import static org.gama.reflection.Accessors.accessorByMethod;
+import static org.gama.reflection.Accessors.mutatorByField;
+
+/**
+ * @author Guillaume Mary
+ */
+class ValueAccessPointHashMapTest {
+	
+	@ParameterizedTest
+	@MethodSource("org.gama.reflection.ValueAccessPointComparatorTest#testValueAccessPointComparator")
+	void valueAccessPointHashSet_hasSameSemanticAsComparator(ValueAccessPoint accessor1, ValueAccessPoint accessor2, boolean expectedEquality) {
+		ValueAccessPointHashSet testInstance = new ValueAccessPointHashSet();
+		testInstance.add(accessor2);
+		assertThat(testInstance.contains(accessor1)).isEqualTo(expectedEquality);
+		assertThat(testInstance.add(accessor1)).isEqualTo(!expectedEquality);
+	}
+	
+	@Test
+	void valueAccessPointHashMap() {
+		AccessorByField<Person, String> nameAccessor = accessorByField(Person.class, "name");
+		ValueAccessPointHashMap<String> testInstance = new ValueAccessPointHashMap<>();
+		assertThat(testInstance.put(nameAccessor, "a")).isNull();
+		assertThat(testInstance.put(new MutatorByMethodReference<>(Person::setName), "b")).isEqualTo("a");
+		assertThat(testInstance.put(new AccessorByMethodReference<>(Person::getLastName), "c")).isNull();
+		assertThat(testInstance).hasSize(2);
+		assertThat(testInstance.get(new AccessorByMethod<>(Person.class, "getName"))).isEqualTo("b");
+		assertThat(testInstance.containsKey(mutatorByField(Person.class, "lastName"))).isTrue();
+		assertThat(testInstance.get(accessorByField(City.class, "name"))).isNull();
+		assertThat(testInstance.get("name")).isNull();
+		// first key is kept
+		assertThat(testInstance.keySet()).contains(nameAccessor);
+		assertThat(testInstance.entrySet()).extracting(Entry::getKey).containsOnlyOnce(nameAccessor);
+		
+		assertThat(testInstance.remove(new AccessorByMethodReference<>(Person::getName))).isEqualTo("b");
+		assertThat(testInstance).hasSize(1);
+		testInstance.keySet().clear();
+		assertThat(testInstance).isEmpty();
+	}
+	
+	@Test
+	void valueAccessPointHashMap_chainKeyModifiedAfterInsertion() {
+		ValueAccessPointHashMap<String> testInstance = new ValueAccessPointHashMap<>();
+		AccessorChain<Person, City> chain = new AccessorChain<>(accessorByField(Person.class, "address"));
+		testInstance.put(chain, "a");
+		chain.add(accessorByField(Address.class, "city"));
+		// entry stays bound to the property the key accessed at insertion time, whereas lookups use current definition of given keys
+		assertThat(testInstance.get(new AccessorChain<>(accessorByMethod(Person.class, "address")))).isEqualTo("a");
+		assertThat(testInstance.get(chain)).isNull();
+		assertThat(testInstance.get(new AccessorChain<>(accessorByMethod(Person.class, "address"), accessorByMethod(Address.class, "city"))))
+				.isNull();
+		testInstance.put(chain, "b");
+		assertThat(testInstance.get(new AccessorChain<>(accessorByMethod(Person.class, "address"), accessorByMethod(Address.class, "city"))))
+				.isEqualTo("b");
+		assertThat(testInstance).hasSize(2);
+	}
+}
@@ -0,0 +1,88 @@
+package org.gama.reflection;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.gama.reflection.WarmUp.Phase;
+import org.gama.reflection.WarmUp.Report;
+import org.gama.reflection.model.Address;
+import org.gama.reflection.model.City;
+import org.gama.reflection.model.Person;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Guillaume Mary
+ */
+class WarmUpTest {
+	
+	@Test
+	void run() {
+		Person person = new Person(new Address(new City("Grenoble"), null));
+		person.setName("Toto");
+		ForkJoinPool pool = new ForkJoinPool(2);
+		try {
+			Report report = new WarmUp()
+					.classes(City.class)
+					.getter(Person::getName)
+					.getter(Person::getAddress)
+					.setter(Person::setLastName)
+					.exercise(100, person)
+					.run(pool);
+			assertThat(report.getDuration(Phase.PROPERTIES)).isNotNull();
+			assertThat(report.getDuration(Phase.METHOD_REFERENCES)).isNotNull();
+			assertThat(report.getDuration(Phase.EXERCISE)).isNotNull();
+			assertThat(report.getTotalDuration()).isGreaterThanOrEqualTo(report.getDuration(Phase.PROPERTIES));
+			assertThat(report.toString()).startsWith("WarmUp[PROPERTIES=");
+		} finally {
+			pool.shutdown();
+		}
+		// exercise didn't modify sample
+		assertThat(person.getName()).isEqualTo("Toto");
+		assertThat(person.getAddress().getCity().getName()).isEqualTo("Grenoble");
+	}
+	
+	@Test
+	void run_exerciseIsReadOnlyByDefault() {
+		Counter counter = new Counter();
+		new WarmUp().exercise(10, counter).run();
+		assertThat(Counter.SET_COUNT.get()).isZero();
+		
+		new WarmUp().exercise(10, counter).exerciseMutators().run();
+		assertThat(Counter.SET_COUNT.get()).isEqualTo(10);
+	}
+	
+	@Test
+	void run_exercisedInstancesAreSharedOnes() {
+		new WarmUp().classes(City.class).run();
+		Accessors.setCanonicalInstances(true);
+		try {
+			PropertyAccessor<City, String> expected = Accessors.canonicalPropertyAccessor(City.class, "name");
+			PropertyAccessor<City, String> propertyAccessor = Accessors.propertyAccessor(City.class, "name");
+			assertThat(propertyAccessor.getAccessor()).isSameAs(expected.getAccessor());
+			assertThat(propertyAccessor.getMutator()).isSameAs(expected.getMutator());
+		} finally {
+			Accessors.setCanonicalInstances(false);
+		}
+		// instances given without canonical option are not shared ones
+		assertThat(Accessors.propertyAccessor(City.class, "name").getAccessor())
+				.isNotSameAs(Accessors.canonicalPropertyAccessor(City.class, "name").getAccessor());
+	}
+	
+	public static class Counter {
+		
+		private static final AtomicInteger SET_COUNT = new AtomicInteger();
+		
+		private String name = "counter";
+		
+		public String getName() {
+			return name;
+		}
+		
+		public void setName(String name) {
+			SET_COUNT.incrementAndGet();
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,187 @@
+package org.gama.reflection.processor;
+
+import javax.annotation.Nullable;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaCompiler.CompilationTask;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.danekja.java.util.function.serializable.SerializableFunction;
+import org.gama.lang.Reflections;
+import org.gama.reflection.AccessorByField;
+import org.gama.reflection.AccessorByMethod;
+import org.gama.reflection.Accessors;
+import org.gama.reflection.GeneratedAccessors;
+import org.gama.reflection.MutatorByField;
+import org.gama.reflection.MutatorByMethod;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * @author Guillaume Mary
+ */
+class GenerateAccessorsProcessorTest {
+	
+	private static final Pattern TYPE_NAME = Pattern.compile("(?:class|interface) (\\w+)");
+	
+	/** Directory of sources and compiled classes, deleted after each test */
+	private Path tempDir;
+	
+	private static final String PARENT_SOURCE = "package sample;\n"
+			+ "public class Parent<T> {\n"
+			+ "	private T value;\n"
+			+ "	public T getValue() { return value; }\n"
+			+ "	public void setValue(T value) { this.value = value; }\n"
+			+ "}\n";
+	
+	private static final String BEAN_SOURCE = "package sample;\n"
+			+ "@org.gama.reflection.GenerateAccessors\n"
+			+ "public class Toto extends Parent<String> {\n"
+			+ "	String name;\n"
+			+ "	private int age;\n"
+			+ "	private boolean active;\n"
+			+ "	private long secret;\n"
+			+ "	public int getAge() { return age; }\n"
+			+ "	public void setAge(int age) { this.age = age; }\n"
+			+ "	boolean isActive() { return active; }\n"
+			+ "	private long getSecret() { return secret; }\n"
+			+ "}\n";
+	
+	@AfterEach
+	void deleteTempDir() throws IOException {
+		if (tempDir != null) {
+			// NB: deepest paths first so that directories are empty when deleted
+			try (Stream<Path> paths = Files.walk(tempDir)) {
+				paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+			}
+		}
+	}
+	
+	@Test
+	void generatedAccessorsAreUsedByAccessors() throws Exception {
+		DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+		ClassLoader classLoader = compile(diagnostics, PARENT_SOURCE, BEAN_SOURCE);
+		assertThat(classLoader).as(diagnostics.getDiagnostics().toString()).isNotNull();
+		Class totoClass = classLoader.loadClass("sample.Toto");
+		GeneratedAccessors generatedAccessors = (GeneratedAccessors) classLoader.loadClass("sample.Toto" + GeneratedAccessors.CLASS_NAME_SUFFIX)
+				.newInstance();
+		Object toto = totoClass.newInstance();
+		
+		AccessorByMethod ageAccessor = Accessors.accessorByMethod(totoClass, "age");
+		MutatorByMethod ageMutator = Accessors.mutatorByMethod(totoClass, "age");
+		ageMutator.set(toto, 42);
+		assertThat(ageAccessor.get(toto)).isEqualTo(42);
+		assertThat(generatedAccessors.giveAccessorByMethod("age")).isEqualTo(ageAccessor);
+		assertThat(generatedAccessors.giveMutatorByMethod("age")).isEqualTo(ageMutator);
+		// generated instances are equal to reflective ones
+		assertThat(ageAccessor).isEqualTo(new AccessorByMethod<>(Reflections.getMethod(totoClass, "getAge")));
+		assertThat(ageMutator).isEqualTo(new MutatorByMethod<>(Reflections.getMethod(totoClass, "setAge", int.class)));
+		
+		// inherited generic property
+		MutatorByMethod valueMutator = Accessors.mutatorByMethod(totoClass, "value");
+		valueMutator.set(toto, "Hello");
+		assertThat(Accessors.accessorByMethod(totoClass, "value").get(toto)).isEqualTo("Hello");
+		assertThat(generatedAccessors.giveMutatorByMethod("value")).isEqualTo(valueMutator);
+		
+		// field without getter
+		MutatorByField nameMutator = Accessors.mutatorByField(totoClass, "name");
+		nameMutator.set(toto, "Toto");
+		AccessorByField nameAccessor = Accessors.accessorByField(totoClass, "name");
+		assertThat(nameAccessor.get(toto)).isEqualTo("Toto");
+		assertThat(generatedAccessors.giveAccessorByField("name")).isEqualTo(nameAccessor);
+		assertThat(Accessors.accessor(totoClass, "name")).isEqualTo(nameAccessor);
+		
+		// boolean getter
+		assertThat(Accessors.accessorByMethod(totoClass, "active").get(toto)).isEqualTo(false);
+		assertThat(generatedAccessors.giveAccessorByMethod("active")).isNotNull();
+		
+		// private members are left to reflection
+		assertThat(generatedAccessors.giveAccessorByMethod("secret")).isNull();
+		assertThat(generatedAccessors.giveAccessorByField("age")).isNull();
+		assertThat(Accessors.accessorByField(totoClass, "age").get(toto)).isEqualTo(42);
+	}
+	
+	@Test
+	void generatedAccessors_erroneousCallsFallbackOnReflection() throws Exception {
+		ClassLoader classLoader = compile(new DiagnosticCollector<>(), PARENT_SOURCE, BEAN_SOURCE);
+		Class totoClass = classLoader.loadClass("sample.Toto");
+		Object toto = totoClass.newInstance();
+		MutatorByMethod ageMutator = Accessors.mutatorByMethod(totoClass, "age");
+		// widening is supported as with reflection
+		ageMutator.set(toto, (short) 17);
+		assertThat(Accessors.accessorByMethod(totoClass, "age").get(toto)).isEqualTo(17);
+	}
+	
+	@Test
+	void annotationOnInterface_raisesError() throws IOException {
+		DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+		ClassLoader classLoader = compile(diagnostics, "package sample;\n"
+				+ "@org.gama.reflection.GenerateAccessors\n"
+				+ "public interface Tata {\n"
+				+ "}\n");
+		assertThat(classLoader).isNull();
+		assertThat(diagnostics.getDiagnostics())
+				.extracting(Diagnostic::getKind, d -> d.getMessage(null))
+				.contains(tuple(Diagnostic.Kind.ERROR, "@GenerateAccessors only applies to classes"));
+	}
+	
+	/**
+	 * Compiles given sources with {@link GenerateAccessorsProcessor}
+	 * 
+	 * @return a {@link ClassLoader} giving access to compiled classes, null if compilation failed
+	 */
+	@Nullable
+	private ClassLoader compile(DiagnosticCollector<JavaFileObject> diagnostics, String ... sources) throws IOException {
+		tempDir = Files.createTempDirectory(getClass().getSimpleName());
+		Path sourceDir = Files.createDirectories(tempDir.resolve("src/sample"));
+		Path classesDir = Files.createDirectories(tempDir.resolve("classes"));
+		List<File> sourceFiles = Stream.of(sources).map(source -> {
+			Matcher typeNameMatcher = TYPE_NAME.matcher(source);
+			typeNameMatcher.find();
+			Path sourceFile = sourceDir.resolve(typeNameMatcher.group(1) + ".java");
+			try {
+				Files.write(sourceFile, source.getBytes());
+			} catch (IOException e) {
+				throw new RuntimeException(e);
+			}
+			return sourceFile.toFile();
+		}).collect(Collectors.toList());
+		
+		// classpath is built from classes used by sources and generated code since surefire may hide it
+		String classpath = Stream.of(GeneratedAccessors.class, Reflections.class, Nullable.class, SerializableFunction.class)
+				.map(clazz -> clazz.getProtectionDomain().getCodeSource().getLocation().getPath())
+				.collect(Collectors.joining(File.pathSeparator));
+		JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+		try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null, null)) {
+			CompilationTask task = compiler.getTask(null, fileManager, diagnostics,
+					Arrays.asList("-classpath", classpath, "-d", classesDir.toString(), "-s", classesDir.toString()),
+					null, fileManager.getJavaFileObjectsFromFiles(sourceFiles));
+			task.setProcessors(Collections.singletonList(new GenerateAccessorsProcessor()));
+			if (!task.call()) {
+				return null;
+			}
+		}
+		return new URLClassLoader(new URL[] { classesDir.toUri().toURL() }, getClass().getClassLoader());
+	}
+}